@@ -0,0 +1,106 @@
+package com.aol.cyclops.control;
+
+import static com.aol.cyclops.control.Matchable.otherwise;
+import static com.aol.cyclops.control.Matchable.then;
+import static com.aol.cyclops.control.Matchable.when;
+import static com.aol.cyclops.util.function.Predicates.greaterThan;
+import static com.aol.cyclops.util.function.Predicates.has;
+import static com.aol.cyclops.util.function.Predicates.in;
+import static com.aol.cyclops.util.function.Predicates.instanceOf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.internal.matcher2.Extractors;
+
+/**
+ * Matchable dispatch cost for value, type, case class and multi-case matches, and case class decomposition, with an if
+ * / else chain as a baseline
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchableBenchmark {
+
+    static class A {
+    }
+
+    static class B {
+    }
+
+    public static class Event {
+        private final String type;
+        private final int count;
+        private final long timestamp;
+
+        public Event(String type, int count, long timestamp) {
+            this.type = type;
+            this.count = count;
+            this.timestamp = timestamp;
+        }
+    }
+
+    public int value = 7;
+    public Object typed = new B();
+    public Event event = new Event(
+                                   "click", 3, 1000l);
+
+    @Benchmark
+    public String matchValue() {
+        return Matchable.of(value)
+                        .matches(c -> c.is(when(in(1, 2, 3)), then("small"))
+                                       .is(when(greaterThan(5)), then("large")),
+                                 otherwise("medium"))
+                        .get();
+    }
+
+    @Benchmark
+    public String matchType() {
+        return Matchable.of(typed)
+                        .matches(c -> c.is(when(instanceOf(A.class)), then("a"))
+                                       .is(when(instanceOf(B.class)), then("b")),
+                                 otherwise("none"))
+                        .get();
+    }
+
+    @Benchmark
+    public Object decomposeCaseClass() {
+        return Extractors.decomposeCoerced()
+                         .apply(event);
+    }
+
+    @Benchmark
+    public String matchCaseClass() {
+        return Matchable.of(event)
+                        .matches(c -> c.is(when(has("view")), then("view"))
+                                       .is(when(has("click", 3)), then("click")),
+                                 otherwise("other"))
+                        .get();
+    }
+
+    @Benchmark
+    public String ifElseBaseline() {
+        final int v = value;
+        if (v == 1 || v == 2 || v == 3)
+            return "small";
+        if (v > 5)
+            return "large";
+        return "medium";
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.aol.cyclops.control;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ReactiveSeq operator chains compared against the equivalent plain java.util.stream pipeline
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveSeqBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private List<Integer> data;
+
+    @Setup
+    public void setup() {
+        data = IntStream.range(0, size)
+                        .boxed()
+                        .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> mapFilterReactiveSeq() {
+        return ReactiveSeq.fromList(data)
+                          .map(i -> i * 2)
+                          .filter(i -> i % 3 == 0)
+                          .map(i -> "" + i)
+                          .toList();
+    }
+
+    @Benchmark
+    public List<String> mapFilterJdkStream() {
+        return data.stream()
+                   .map(i -> i * 2)
+                   .filter(i -> i % 3 == 0)
+                   .map(i -> "" + i)
+                   .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long tenStageReactiveSeq() {
+        return ReactiveSeq.fromList(data)
+                          .map(i -> i + 1)
+                          .filter(i -> i % 7 != 0)
+                          .map(i -> i * 3)
+                          .peek(i -> {
+                          })
+                          .filter(i -> i % 5 != 0)
+                          .map(i -> i - 2)
+                          .recover(e -> -1)
+                          .map(i -> i / 2)
+                          .filter(i -> i > 0)
+                          .map(i -> i + 11)
+                          .count();
+    }
+
+    @Benchmark
+    public long tenStageJdkStream() {
+        return data.stream()
+                   .map(i -> i + 1)
+                   .filter(i -> i % 7 != 0)
+                   .map(i -> i * 3)
+                   .peek(i -> {
+                   })
+                   .filter(i -> i % 5 != 0)
+                   .map(i -> i - 2)
+                   .map(i -> i / 2)
+                   .filter(i -> i > 0)
+                   .map(i -> i + 11)
+                   .count();
+    }
+
+    @Benchmark
+    public long flatMapReactiveSeq() {
+        return ReactiveSeq.fromList(data)
+                          .flatMap(i -> Stream.of(i, i + 1))
+                          .count();
+    }
+
+    @Benchmark
+    public long flatMapJdkStream() {
+        return data.stream()
+                   .flatMap(i -> Stream.of(i, i + 1))
+                   .count();
+    }
+
+    @Benchmark
+    public List<Integer> limitSkipReactiveSeq() {
+        return ReactiveSeq.fromList(data)
+                          .skip(size / 4)
+                          .limit(size / 2)
+                          .toList();
+    }
+
+    @Benchmark
+    public List<Integer> limitSkipJdkStream() {
+        return data.stream()
+                   .skip(size / 4)
+                   .limit(size / 2)
+                   .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long zipReactiveSeq() {
+        return ReactiveSeq.fromList(data)
+                          .zip(ReactiveSeq.fromList(data))
+                          .count();
+    }
+
+    @Benchmark
+    public long duplicateReactiveSeq() {
+        final Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.fromList(data)
+                                                                                      .duplicateSequence();
+        return copies.v1.count() + copies.v2.count();
+    }
+
+    @Benchmark
+    public long partitionReactiveSeq() {
+        final Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> parts = ReactiveSeq.fromList(data)
+                                                                                    .partitionSequence(i -> i % 2 == 0);
+        return parts.v1.count() + parts.v2.count();
+    }
+
+    @Benchmark
+    public long quadruplicateReactiveSeq() {
+        final Tuple4<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = ReactiveSeq.fromList(data)
+                                                                                                                                  .quadruplicate();
+        return copies.v1.count() + copies.v2.count() + copies.v3.count() + copies.v4.count();
+    }
+
+    @Benchmark
+    public long scanLeftReactiveSeq() {
+        return ReactiveSeq.fromList(data)
+                          .scanLeft(0, (a, b) -> a + b)
+                          .count();
+    }
+
+}
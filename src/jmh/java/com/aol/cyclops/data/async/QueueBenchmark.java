@@ -0,0 +1,146 @@
+package com.aol.cyclops.data.async;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.async.wait.ExponentialBackofWaitStrategy;
+import com.aol.cyclops.data.async.wait.NoWaitRetry;
+import com.aol.cyclops.data.async.wait.SpinWait;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.data.async.wait.YieldWait;
+
+/**
+ * Single producer / single consumer hand-off throughput for each QueueFactories variant and WaitStrategy.
+ * Each invocation transfers {@link #BATCH} elements from a producer thread to the benchmark thread.
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    static final int BATCH = 1000;
+
+    static final MappedFileQueue.Serializer<Integer> INTS = new MappedFileQueue.Serializer<Integer>() {
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    @Param({ "boundedQueue", "unboundedQueue", "unboundedNonBlockingQueue", "boundedNonBlockingQueue",
+            "singleWriterboundedNonBlockingQueue", "mappedFileQueue" })
+    public String factory;
+
+    @Param({ "noWaitRetry", "spinWait", "yieldWait", "exponentialBackoff" })
+    public String waitStrategy;
+
+    private Queue<Integer> queue;
+    private ExecutorService producer;
+    private Path directory;
+
+    @Setup
+    public void setup() {
+        queue = factory().build();
+        producer = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        queue.closeAndClear();
+        producer.shutdownNow();
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder())
+                     .forEach(path -> path.toFile()
+                                          .delete());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int handOff() {
+        producer.execute(() -> {
+            for (int i = 0; i < BATCH; i++)
+                queue.offer(i);
+        });
+        int sum = 0;
+        for (int i = 0; i < BATCH; i++)
+            sum += queue.get();
+        return sum;
+    }
+
+    private QueueFactory<Integer> factory() {
+        switch (factory) {
+        case "boundedQueue":
+            return QueueFactories.boundedQueue(BATCH);
+        case "unboundedQueue":
+            return QueueFactories.unboundedQueue();
+        case "unboundedNonBlockingQueue":
+            return QueueFactories.unboundedNonBlockingQueue(waitStrategy(waitStrategy));
+        case "boundedNonBlockingQueue":
+            return QueueFactories.boundedNonBlockingQueue(BATCH, waitStrategy(waitStrategy));
+        case "singleWriterboundedNonBlockingQueue":
+            return QueueFactories.singleWriterboundedNonBlockingQueue(BATCH, waitStrategy(waitStrategy));
+        case "mappedFileQueue":
+            try {
+                directory = Files.createTempDirectory("queue-benchmark");
+                return QueueFactories.mappedFileQueue(directory, INTS, 1024 * 1024,
+                                                      waitStrategy(waitStrategy));
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                                               e);
+            }
+        }
+        throw new IllegalArgumentException(
+                                           "Unknown QueueFactory " + factory);
+    }
+
+    static <T> WaitStrategy<T> waitStrategy(String name) {
+        switch (name) {
+        case "noWaitRetry":
+            return new NoWaitRetry<>();
+        case "spinWait":
+            return new SpinWait<>();
+        case "yieldWait":
+            return new YieldWait<>();
+        case "exponentialBackoff":
+            return new ExponentialBackofWaitStrategy<>();
+        }
+        throw new IllegalArgumentException(
+                                           "Unknown WaitStrategy " + name);
+    }
+}
@@ -0,0 +1,93 @@
+package com.aol.cyclops.data.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Broadcast throughput of a Topic to a number of subscribing Streams, comparing the Queue per subscriber
+ * distribution against the shared BroadcastRingBuffer.
+ * Each invocation publishes {@link #BATCH} elements and waits until every subscriber has received them.
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopicBenchmark {
+
+    static final int BATCH = 1000;
+
+    @Param({ "queue", "ring" })
+    public String backing;
+
+    @Param({ "yieldWait", "spinWait" })
+    public String waitStrategy;
+
+    @Param({ "1", "4" })
+    public int subscribers;
+
+    private Topic<Integer> topic;
+    private ExecutorService consumers;
+    private AtomicLongArray received;
+    private long expected;
+
+    @Setup
+    public void setup() {
+        topic = "ring".equals(backing)
+                ? new Topic<>(
+                              QueueFactories.<Integer> broadcastRingBuffer(BATCH * 4,
+                                                                           QueueBenchmark.waitStrategy(waitStrategy)))
+                : new Topic<>(
+                              QueueFactories.<Integer> unboundedNonBlockingQueue(QueueBenchmark.waitStrategy(waitStrategy))
+                                            .build());
+        consumers = Executors.newFixedThreadPool(subscribers);
+        received = new AtomicLongArray(
+                                       subscribers);
+        expected = 0;
+        for (int i = 0; i < subscribers; i++) {
+            final int index = i;
+            final java.util.stream.Stream<Integer> stream = topic.stream();
+            consumers.execute(() -> stream.forEach(next -> received.lazySet(index, received.get(index) + 1)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        topic.close();
+        consumers.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long broadcast() {
+        for (int i = 0; i < BATCH; i++)
+            topic.offer(i);
+        expected += BATCH;
+        for (int i = 0; i < subscribers; i++) {
+            while (received.get(i) < expected)
+                Thread.yield();
+        }
+        return expected;
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.aol.cyclops.data.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+/**
+ * Eager and lazy (fused) transformation chains over ListX and PVectorX, with a hand written ArrayList loop as a baseline
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionXBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private ListX<Integer> list;
+    private PVectorX<Integer> vector;
+
+    @Setup
+    public void setup() {
+        list = ListX.range(0, size);
+        vector = PVectorX.range(0, size);
+    }
+
+    @Benchmark
+    public ListX<Integer> listXChain() {
+        return list.map(i -> i + 1)
+                   .filter(i -> i % 2 == 0)
+                   .map(i -> i * 3);
+    }
+
+    @Benchmark
+    public ListX<Integer> listXLazyChain() {
+        return list.lazy()
+                   .map(i -> i + 1)
+                   .filter(i -> i % 2 == 0)
+                   .map(i -> i * 3)
+                   .get();
+    }
+
+    @Benchmark
+    public ListX<Integer> listXChainLimit() {
+        return list.map(i -> i + 1)
+                   .filter(i -> i % 2 == 0)
+                   .map(i -> i * 3)
+                   .limit(10);
+    }
+
+    @Benchmark
+    public ListX<Integer> listXLazyChainLimit() {
+        return list.lazy()
+                   .map(i -> i + 1)
+                   .filter(i -> i % 2 == 0)
+                   .map(i -> i * 3)
+                   .limit(10)
+                   .get();
+    }
+
+    @Benchmark
+    public PVectorX<Integer> pVectorXChain() {
+        return vector.map(i -> i + 1)
+                     .filter(i -> i % 2 == 0)
+                     .map(i -> i * 3);
+    }
+
+    @Benchmark
+    public PVectorX<Integer> pVectorXLazyChain() {
+        return vector.lazy()
+                     .map(i -> i + 1)
+                     .filter(i -> i % 2 == 0)
+                     .map(i -> i * 3)
+                     .get();
+    }
+
+    @Benchmark
+    public PVectorX<Integer> pVectorXPlus() {
+        PVectorX<Integer> result = PVectorX.empty();
+        for (int i = 0; i < size; i++)
+            result = result.plus(i);
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListBaseline() {
+        final List<Integer> result = new ArrayList<>();
+        for (Integer next : list) {
+            final int incremented = next + 1;
+            if (incremented % 2 == 0)
+                result.add(incremented * 3);
+        }
+        return result;
+    }
+
+}
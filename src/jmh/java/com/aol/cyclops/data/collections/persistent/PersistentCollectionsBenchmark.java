@@ -0,0 +1,136 @@
+package com.aol.cyclops.data.collections.persistent;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+/**
+ * pcollections' TreePVector / HashTreePMap compared with the RRB vector and CHAMP map backends
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentCollectionsBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int size;
+
+    private PVector<Integer> treeVector;
+    private PVector<Integer> rrbVector;
+    private PMap<Integer, Integer> hashTreeMap;
+    private PMap<Integer, Integer> champMap;
+
+    @Setup
+    public void setup() {
+        RRBPVector.Builder<Integer> vectorBuilder = RRBPVector.builder();
+        ChampPMap.Builder<Integer, Integer> mapBuilder = ChampPMap.builder();
+        PVector<Integer> tree = TreePVector.empty();
+        PMap<Integer, Integer> hashTree = HashTreePMap.empty();
+        for (int i = 0; i < size; i++) {
+            vectorBuilder.add(i);
+            mapBuilder.put(i, i);
+            tree = tree.plus(i);
+            hashTree = hashTree.plus(i, i);
+        }
+        treeVector = tree;
+        rrbVector = vectorBuilder.build();
+        hashTreeMap = hashTree;
+        champMap = mapBuilder.build();
+    }
+
+    @Benchmark
+    public void treePVectorGet(Blackhole bh) {
+        for (int i = 0; i < size; i++)
+            bh.consume(treeVector.get(i));
+    }
+
+    @Benchmark
+    public void rrbPVectorGet(Blackhole bh) {
+        for (int i = 0; i < size; i++)
+            bh.consume(rrbVector.get(i));
+    }
+
+    @Benchmark
+    public PVector<Integer> treePVectorPlus() {
+        PVector<Integer> result = TreePVector.empty();
+        for (int i = 0; i < size; i++)
+            result = result.plus(i);
+        return result;
+    }
+
+    @Benchmark
+    public PVector<Integer> rrbPVectorPlus() {
+        PVector<Integer> result = RRBPVector.empty();
+        for (int i = 0; i < size; i++)
+            result = result.plus(i);
+        return result;
+    }
+
+    @Benchmark
+    public PVector<Integer> rrbPVectorBuilder() {
+        RRBPVector.Builder<Integer> builder = RRBPVector.builder();
+        for (int i = 0; i < size; i++)
+            builder.add(i);
+        return builder.build();
+    }
+
+    @Benchmark
+    public PVector<Integer> treePVectorConcat() {
+        return treeVector.plusAll(treeVector);
+    }
+
+    @Benchmark
+    public PVector<Integer> rrbPVectorConcat() {
+        return rrbVector.plusAll(rrbVector);
+    }
+
+    @Benchmark
+    public void hashTreePMapGet(Blackhole bh) {
+        for (int i = 0; i < size; i++)
+            bh.consume(hashTreeMap.get(i));
+    }
+
+    @Benchmark
+    public void champPMapGet(Blackhole bh) {
+        for (int i = 0; i < size; i++)
+            bh.consume(champMap.get(i));
+    }
+
+    @Benchmark
+    public PMap<Integer, Integer> hashTreePMapPlus() {
+        PMap<Integer, Integer> result = HashTreePMap.empty();
+        for (int i = 0; i < size; i++)
+            result = result.plus(i, i);
+        return result;
+    }
+
+    @Benchmark
+    public PMap<Integer, Integer> champPMapPlus() {
+        PMap<Integer, Integer> result = ChampPMap.empty();
+        for (int i = 0; i < size; i++)
+            result = result.plus(i, i);
+        return result;
+    }
+
+}
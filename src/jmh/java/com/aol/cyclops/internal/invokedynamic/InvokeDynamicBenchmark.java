@@ -0,0 +1,88 @@
+package com.aol.cyclops.internal.invokedynamic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.AnyM;
+
+/**
+ * Dynamic dispatch cost for monad types cyclops has no Comprehender for, via AnyM and InvokeDynamic directly, with a
+ * direct call as a baseline
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokeDynamicBenchmark {
+
+    public static class Box<T> {
+        private final T value;
+
+        public Box(T value) {
+            this.value = value;
+        }
+
+        public static <T> Box<T> of(T value) {
+            return new Box<>(
+                             value);
+        }
+
+        public <R> Box<R> map(Function<? super T, ? extends R> fn) {
+            return new Box<>(
+                             fn.apply(value));
+        }
+
+        public <R> Box<R> flatMap(Function<? super T, ? extends Box<R>> fn) {
+            return fn.apply(value);
+        }
+
+        public T get() {
+            return value;
+        }
+    }
+
+    private final Box<Integer> box = Box.of(10);
+    private final Function<Integer, Integer> add = i -> i + 1;
+    private final InvokeDynamic dynamic = new InvokeDynamic();
+
+    @Benchmark
+    public Box<Integer> anyMMap() {
+        return AnyM.<Integer> ofValue(box)
+                   .map(add)
+                   .unwrap();
+    }
+
+    @Benchmark
+    public Box<Integer> anyMFlatMap() {
+        return AnyM.<Integer> ofValue(box)
+                   .flatMap(i -> AnyM.ofValue(Box.of(i + 1)))
+                   .unwrap();
+    }
+
+    @Benchmark
+    public Object invokeDynamicMap() {
+        return dynamic.execute("map", box, add)
+                      .get();
+    }
+
+    @Benchmark
+    public Box<Integer> directBaseline() {
+        return box.map(add);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.aol.cyclops.internal.matcher2;
+
+import static com.aol.cyclops.util.function.Predicates.eq;
+import static com.aol.cyclops.util.function.Predicates.instanceOf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.Maybe;
+
+/**
+ * Visitor style matching over a class hierarchy (one type guarded case per subtype) and over String constants (one
+ * equality guarded case per value), sequential Cases against compiled Cases, matching the last case
+ *
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CasesBenchmark {
+
+    public static class Event {
+    }
+
+    public static class E0 extends Event {
+    }
+
+    public static class E1 extends Event {
+    }
+
+    public static class E2 extends Event {
+    }
+
+    public static class E3 extends Event {
+    }
+
+    public static class E4 extends Event {
+    }
+
+    public static class E5 extends Event {
+    }
+
+    public static class E6 extends Event {
+    }
+
+    public static class E7 extends Event {
+    }
+
+    private static final Class<?>[] TYPES = { E0.class, E1.class, E2.class, E3.class, E4.class, E5.class, E6.class,
+                                              E7.class };
+
+    @Param({ "8", "40" })
+    public int size;
+
+    private Cases<Object, Integer> types;
+    private CompiledCases<Object, Integer> compiledTypes;
+    private Cases<Object, Integer> values;
+    private CompiledCases<Object, Integer> compiledValues;
+    private Object lastType;
+    private Object lastValue;
+
+    @Setup
+    public void setup() {
+        List<Case<Object, Integer>> typeCases = new ArrayList<>();
+        List<Case<Object, Integer>> valueCases = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            //the first size - TYPES.length cases never match, so the last subtype is always last in the list
+            Class<?> type = i < size - TYPES.length ? String.class : TYPES[i - (size - TYPES.length)];
+            typeCases.add(Case.of(instanceOf(type), e -> index));
+            valueCases.add(Case.of(eq("event" + i), e -> index));
+        }
+        types = Cases.ofList(typeCases);
+        compiledTypes = types.compile();
+        values = Cases.ofList(valueCases);
+        compiledValues = values.compile();
+        lastType = new E7();
+        lastValue = "event" + (size - 1);
+    }
+
+    @Benchmark
+    public Maybe<Integer> typeSequential() {
+        return types.match(lastType);
+    }
+
+    @Benchmark
+    public Maybe<Integer> typeCompiled() {
+        return compiledTypes.match(lastType);
+    }
+
+    @Benchmark
+    public Maybe<Integer> valueSequential() {
+        return values.match(lastValue);
+    }
+
+    @Benchmark
+    public Maybe<Integer> valueCompiled() {
+        return compiledValues.match(lastValue);
+    }
+
+}
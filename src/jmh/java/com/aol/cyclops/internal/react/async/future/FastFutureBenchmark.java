@@ -0,0 +1,81 @@
+package com.aol.cyclops.internal.react.async.future;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.LazyReact;
+
+/**
+ * FastFuture completion and join latency, and a short LazyReact pipeline with FastFuture object pooling on and off.
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastFutureBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean objectPooling;
+
+    private ExecutorService completer;
+    private LazyReact react;
+
+    @Setup
+    public void setup() {
+        completer = Executors.newSingleThreadExecutor();
+        react = objectPooling ? LazyReact.sequentialCurrentBuilder()
+                                         .objectPoolingOn()
+                : LazyReact.sequentialCurrentBuilder()
+                           .objectPoolingOff();
+    }
+
+    @TearDown
+    public void tearDown() {
+        completer.shutdownNow();
+    }
+
+    @Benchmark
+    public Object sameThreadSetAndJoin() {
+        final FastFuture<Integer> f = new FastFuture<>(
+                                                       FinalPipeline.empty(), 0);
+        f.set(1);
+        return f.join();
+    }
+
+    @Benchmark
+    public Object crossThreadJoin() {
+        final FastFuture<Integer> f = new FastFuture<>(
+                                                       FinalPipeline.empty(), 0);
+        completer.execute(() -> f.set(1));
+        return f.join();
+    }
+
+    @Benchmark
+    public Object pipeline() {
+        return react.range(0, 100)
+                    .map(i -> i + 1)
+                    .filter(i -> i % 2 == 0)
+                    .map(i -> i * 3)
+                    .toList();
+    }
+
+}
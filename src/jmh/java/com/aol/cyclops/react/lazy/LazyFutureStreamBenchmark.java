@@ -0,0 +1,111 @@
+package com.aol.cyclops.react.lazy;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.LazyReact;
+
+/**
+ * LazyFutureStream map / flatMap / zip, key affine (groupedParallel) and (non-delaying) time based operator throughput on the sequential and parallel LazyReact builders,
+ * with object pooling of FastFutures on and off.
+ * 
+ * @author johnmcclean
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyFutureStreamBenchmark {
+
+    @Param({ "sequential", "parallel" })
+    public String builder;
+
+    @Param({ "false", "true" })
+    public boolean objectPooling;
+
+    @Param({ "1000" })
+    public int size;
+
+    private LazyReact react;
+
+    @Setup
+    public void setup() {
+        final LazyReact base = "sequential".equals(builder) ? LazyReact.sequentialBuilder() : LazyReact.parallelBuilder();
+        react = objectPooling ? base.objectPoolingOn() : base.objectPoolingOff();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (react.getExecutor() instanceof ExecutorService && "sequential".equals(builder))
+            ((ExecutorService) react.getExecutor()).shutdown();
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return react.range(0, size)
+                    .map(i -> i + 1)
+                    .map(i -> i * 2)
+                    .toList();
+    }
+
+    @Benchmark
+    public List<Integer> flatMap() {
+        return react.range(0, size)
+                    .flatMap(i -> Stream.of(i, i + 1))
+                    .toList();
+    }
+
+    @Benchmark
+    public long zip() {
+        return react.range(0, size)
+                    .zip(react.range(0, size))
+                    .count();
+    }
+
+    @Benchmark
+    public List<Integer> groupedParallel() {
+        return react.range(0, size)
+                    .groupedParallel(i -> i % 8, 8, i -> i + 1)
+                    .toList();
+    }
+
+    @Benchmark
+    public List<Integer> debounce() {
+        return react.range(0, size)
+                    .debounce(1, TimeUnit.NANOSECONDS)
+                    .toList();
+    }
+
+    @Benchmark
+    public List<Integer> xPer() {
+        return react.range(0, size)
+                    .xPer(size, 1, TimeUnit.SECONDS)
+                    .toList();
+    }
+
+    @Benchmark
+    public long groupedByTime() {
+        return react.range(0, size)
+                    .groupedByTime(1, TimeUnit.SECONDS)
+                    .count();
+    }
+
+}
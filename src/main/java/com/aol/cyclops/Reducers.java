@@ -24,6 +24,9 @@ import com.aol.cyclops.data.collections.extensions.persistent.PQueueX;
 import com.aol.cyclops.data.collections.extensions.persistent.PSetX;
 import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.data.collections.persistent.ChampPMap;
+import com.aol.cyclops.data.collections.persistent.ChampPSet;
+import com.aol.cyclops.data.collections.persistent.RRBPVector;
 import com.aol.cyclops.types.mixins.TupleWrapper;
 
 //@UtilityClass
@@ -49,6 +52,15 @@ public class Reducers {
         return Reducer.<PSetX<T>> of(PSetX.empty(), (PSetX<T> a) -> b -> a.plusAll(b), (T x) -> PSetX.singleton(x));
     }
 
+    /**
+     * @param backend Reducer for the PSet implementation to build on, e.g. Reducers.toChampPSet()
+     * @return Reducer to a PSetX on the supplied backend
+     */
+    public static <T> Reducer<PSetX<T>> toPSetX(Reducer<PSet<T>> backend) {
+        return Reducer.<PSetX<T>> of(PSetX.empty(backend), (PSetX<T> a) -> b -> a.plusAll(b), (T x) -> PSetX.<T> empty(backend)
+                                                                                                              .plus(x));
+    }
+
     public static <T> Reducer<PStackX<T>> toPStackX() {
         return Reducer.<PStackX<T>> of(PStackX.empty(), (PStackX<T> a) -> b -> a.plusAll(b), (T x) -> PStackX.singleton(x));
     }
@@ -57,6 +69,22 @@ public class Reducers {
         return Reducer.<PVectorX<T>> of(PVectorX.empty(), (PVectorX<T> a) -> b -> a.plusAll(b), (T x) -> PVectorX.singleton(x));
     }
 
+    /**
+     * <pre>
+     * {@code
+     *  PVectorX<Integer> vector = Reducers.<Integer>toPVectorX(Reducers.toRRBPVector())
+     *                                     .mapReduce(Stream.of(1,2,3));
+     * }
+     * </pre>
+     *
+     * @param backend Reducer for the PVector implementation to build on, e.g. Reducers.toRRBPVector()
+     * @return Reducer to a PVectorX on the supplied backend
+     */
+    public static <T> Reducer<PVectorX<T>> toPVectorX(Reducer<PVector<T>> backend) {
+        return Reducer.<PVectorX<T>> of(PVectorX.empty(backend), (PVectorX<T> a) -> b -> a.plusAll(b), (T x) -> PVectorX.<T> empty(backend)
+                                                                                                                         .plus(x));
+    }
+
     public static <T> Reducer<PBagX<T>> toPBagX() {
         return Reducer.<PBagX<T>> of(PBagX.empty(), (PBagX<T> a) -> b -> a.plusAll(b), (T x) -> PBagX.singleton(x));
     }
@@ -83,10 +111,24 @@ public class Reducers {
         return Reducer.<PSet<T>> of(HashTreePSet.empty(), (PSet<T> a) -> b -> a.plusAll(b), (T x) -> HashTreePSet.singleton(x));
     }
 
+    /**
+     * @return Reducer to a ChampPSet (a compressed hash-array mapped prefix tree)
+     */
+    public static <T> Reducer<PSet<T>> toChampPSet() {
+        return Reducer.<PSet<T>> of(ChampPSet.empty(), (PSet<T> a) -> b -> a.plusAll(b), (T x) -> ChampPSet.singleton(x));
+    }
+
     public static <T> Reducer<PVector<T>> toPVector() {
         return Reducer.<PVector<T>> of(TreePVector.empty(), (PVector<T> a) -> b -> a.plusAll(b), (T x) -> TreePVector.singleton(x));
     }
 
+    /**
+     * @return Reducer to an RRBPVector (a 32-way relaxed radix balanced tree), combining RRBPVectors by concatenation
+     */
+    public static <T> Reducer<PVector<T>> toRRBPVector() {
+        return Reducer.<PVector<T>> of(RRBPVector.empty(), (PVector<T> a) -> b -> a.plusAll(b), (T x) -> RRBPVector.singleton(x));
+    }
+
     public static <T> Reducer<PStack<T>> toPStack() {
         return Reducer.<PStack<T>> of(ConsPStack.empty(), (PStack<T> a) -> b -> a.plusAll(a.size(), b), (T x) -> ConsPStack.singleton(x));
     }
@@ -102,6 +144,16 @@ public class Reducers {
         });
     }
 
+    /**
+     * @return Reducer to a ChampPMap (a compressed hash-array mapped prefix tree)
+     */
+    public static <K, V> Reducer<PMap<K, V>> toChampPMap() {
+        return Reducer.<PMap<K, V>> of(ChampPMap.empty(), (PMap<K, V> a) -> b -> a.plusAll(b), (in) -> {
+            List w = ((TupleWrapper) () -> in).values();
+            return ChampPMap.singleton((K) w.get(0), (V) w.get(1));
+        });
+    }
+
     public static <K, V> Reducer<PMapX<K, V>> toPMapX() {
         return Reducer.<PMapX<K, V>> of(PMapX.empty(), (PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             List w = ((TupleWrapper) () -> in).values();
@@ -109,6 +161,18 @@ public class Reducers {
         });
     }
 
+    /**
+     * @param backend Reducer for the PMap implementation to build on, e.g. Reducers.toChampPMap()
+     * @return Reducer to a PMapX on the supplied backend
+     */
+    public static <K, V> Reducer<PMapX<K, V>> toPMapX(Reducer<PMap<K, V>> backend) {
+        return Reducer.<PMapX<K, V>> of(PMapX.empty(backend), (PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+            List w = ((TupleWrapper) () -> in).values();
+            return PMapX.<K, V> empty(backend)
+                        .plus((K) w.get(0), (V) w.get(1));
+        });
+    }
+
     public static Monoid<String> toString(String joiner) {
         return Monoid.of("", (a, b) -> a + joiner + b);
     }
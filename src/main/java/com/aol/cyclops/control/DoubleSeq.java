@@ -0,0 +1,310 @@
+package com.aol.cyclops.control;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import com.aol.cyclops.internal.stream.DoubleSeqImpl;
+
+/**
+ * A primitive double specialisation of ReactiveSeq. Operators and reductions run directly on doubles, values
+ * are only boxed when converted to a ReactiveSeq via {@link #boxed()} or {@link #mapToObj(DoubleFunction)}.
+ *
+ * <pre>
+ * {@code
+ *    DoubleSeq.of(latencies)
+ *          .scanLeft(0, (a, b) -> a + b)
+ *          .limitWhile(i -> i < 500)
+ *          .percentile(99);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface DoubleSeq extends DoubleStream {
+
+    /**
+     * Function that accepts a double and its (zero based) position in the Sequence
+     *
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedDoubleFunction<R> {
+        R apply(double value, long index);
+    }
+
+    /**
+     * Create a sliding view over this Sequence
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1,2,3,4,5,6).sliding(2).toList()
+     *  //[[1,2],[2,3],[3,4],[4,5],[5,6]]
+     * }</pre>
+     *
+     * @param windowSize Size of sliding window
+     * @return ReactiveSeq of double[] windows
+     */
+    default ReactiveSeq<double[]> sliding(int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Create a sliding view over this Sequence
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1,2,3,4,5,6).sliding(3,2).toList()
+     *  //[[1,2,3],[3,4,5],[5,6]]
+     * }</pre>
+     *
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window forward by
+     * @return ReactiveSeq of double[] windows
+     */
+    ReactiveSeq<double[]> sliding(int windowSize, int increment);
+
+    /**
+     * Group elements in a Stream, the last group may be smaller than groupSize
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1,2,3,4,5,6).grouped(4).toList()
+     *  //[[1,2,3,4],[5,6]]
+     * }</pre>
+     *
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of double[] groups
+     */
+    ReactiveSeq<double[]> grouped(int groupSize);
+
+    /**
+     * Batch elements in a Stream by size (alias for {@link #grouped(int)})
+     *
+     * @param size Size of each batch
+     * @return ReactiveSeq of double[] batches
+     */
+    default ReactiveSeq<double[]> batchBySize(int size) {
+        return grouped(size);
+    }
+
+    /**
+     * Scan left, emitting the identity and then each intermediate result
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray()
+     *  //[0,1,3,6]
+     * }</pre>
+     *
+     * @param identity Initial value
+     * @param function Accumulating function
+     * @return DoubleSeq of running results
+     */
+    DoubleSeq scanLeft(double identity, DoubleBinaryOperator function);
+
+    /**
+     * Zip each element with its (zero based) index, without boxing either
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(10,20).zipWithIndex((v,i)->v+":"+i).toList()
+     *  //["10:0","20:1"]
+     * }</pre>
+     *
+     * @param zipper Function that combines an element and its index
+     * @return ReactiveSeq of combined values
+     */
+    <R> ReactiveSeq<R> zipWithIndex(IndexedDoubleFunction<? extends R> zipper);
+
+    /**
+     * Take elements from the Sequence while the predicate holds
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(4,3,6,7).sorted().limitWhile(i->i<6).toArray()
+     *  //[3,4]
+     * }</pre>
+     *
+     * @param predicate Limit while predicate is true
+     * @return DoubleSeq with limit applied
+     */
+    DoubleSeq limitWhile(DoublePredicate predicate);
+
+    /**
+     * Take elements from the Sequence until the predicate holds
+     *
+     * @param predicate Limit until predicate is true
+     * @return DoubleSeq with limit applied
+     */
+    default DoubleSeq limitUntil(DoublePredicate predicate) {
+        return limitWhile(predicate.negate());
+    }
+
+    /**
+     * Drop elements from the Sequence while the predicate holds
+     *
+     * @param predicate Skip while predicate is true
+     * @return DoubleSeq with skip applied
+     */
+    DoubleSeq skipWhile(DoublePredicate predicate);
+
+    /**
+     * Drop elements from the Sequence until the predicate holds
+     *
+     * @param predicate Skip until predicate is true
+     * @return DoubleSeq with skip applied
+     */
+    default DoubleSeq skipUntil(DoublePredicate predicate) {
+        return skipWhile(predicate.negate());
+    }
+
+    /**
+     * @return Arithmetic mean of the elements, empty if the Sequence is empty
+     */
+    default OptionalDouble avg() {
+        return average();
+    }
+
+    /**
+     * Nearest rank percentile
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1.5,2.5,3.5,4.5).percentile(50)
+     *  //OptionalDouble[2.5]
+     * }</pre>
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Element at the supplied percentile, empty if the Sequence is empty
+     */
+    OptionalDouble percentile(double percentile);
+
+    /**
+     * @return Median of the elements (mean of the two middle elements for an even number of elements), empty if the Sequence is empty
+     */
+    OptionalDouble median();
+
+    /*
+     * Convert to a ReactiveSeq, boxing each element
+     * @see java.util.stream.DoubleStream#boxed()
+     */
+    @Override
+    ReactiveSeq<Double> boxed();
+
+    /*
+     * @see java.util.stream.DoubleStream#mapToObj(java.util.function.DoubleFunction)
+     */
+    @Override
+    <U> ReactiveSeq<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    /*
+     * @see java.util.stream.DoubleStream#mapToInt(java.util.function.DoubleToIntFunction)
+     */
+    @Override
+    IntSeq mapToInt(DoubleToIntFunction mapper);
+
+    /*
+     * @see java.util.stream.DoubleStream#mapToLong(java.util.function.DoubleToLongFunction)
+     */
+    @Override
+    LongSeq mapToLong(DoubleToLongFunction mapper);
+
+    @Override
+    DoubleSeq filter(DoublePredicate predicate);
+
+    @Override
+    DoubleSeq map(DoubleUnaryOperator mapper);
+
+    @Override
+    DoubleSeq flatMap(DoubleFunction<? extends DoubleStream> mapper);
+
+    @Override
+    DoubleSeq distinct();
+
+    @Override
+    DoubleSeq sorted();
+
+    @Override
+    DoubleSeq peek(DoubleConsumer action);
+
+    @Override
+    DoubleSeq limit(long maxSize);
+
+    @Override
+    DoubleSeq skip(long n);
+
+    @Override
+    DoubleSeq sequential();
+
+    @Override
+    DoubleSeq parallel();
+
+    @Override
+    DoubleSeq unordered();
+
+    @Override
+    DoubleSeq onClose(Runnable closeHandler);
+
+    /**
+     * Construct a DoubleSeq from the supplied values
+     *
+     * @param values doubles to populate the Sequence with
+     * @return DoubleSeq of values
+     */
+    public static DoubleSeq of(double... values) {
+        return new DoubleSeqImpl(
+                                 DoubleStream.of(values));
+    }
+
+    /**
+     * @return An empty DoubleSeq
+     */
+    public static DoubleSeq empty() {
+        return new DoubleSeqImpl(
+                                 DoubleStream.empty());
+    }
+
+    /**
+     * @see DoubleStream#iterate(double, DoubleUnaryOperator)
+     * @param seed Initial element
+     * @param f Function applied to the previous element to produce the next
+     * @return Infinite DoubleSeq
+     */
+    public static DoubleSeq iterate(double seed, DoubleUnaryOperator f) {
+        return new DoubleSeqImpl(
+                                 DoubleStream.iterate(seed, f));
+    }
+
+    /**
+     * @see DoubleStream#generate(DoubleSupplier)
+     * @param s Supplier of elements
+     * @return Infinite DoubleSeq
+     */
+    public static DoubleSeq generate(DoubleSupplier s) {
+        return new DoubleSeqImpl(
+                                 DoubleStream.generate(s));
+    }
+
+    /**
+     * Construct a DoubleSeq from a DoubleStream
+     *
+     * @param stream DoubleStream to construct Sequence from
+     * @return DoubleSeq
+     */
+    public static DoubleSeq fromDoubleStream(DoubleStream stream) {
+        Objects.requireNonNull(stream);
+        if (stream instanceof DoubleSeq)
+            return (DoubleSeq) stream;
+        return new DoubleSeqImpl(
+                                 stream);
+    }
+}
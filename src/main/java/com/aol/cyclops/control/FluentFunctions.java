@@ -23,6 +23,7 @@ import com.aol.cyclops.control.FluentFunctions.FluentFunction;
 import com.aol.cyclops.control.Matchable.CheckValue1;
 import com.aol.cyclops.data.MutableInt;
 import com.aol.cyclops.internal.invokedynamic.CheckedTriFunction;
+import com.aol.cyclops.react.RetryPolicy;
 import com.aol.cyclops.util.ExceptionSoftener;
 import com.aol.cyclops.util.function.Cacheable;
 import com.aol.cyclops.util.function.Curry;
@@ -415,6 +416,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * Retry this Supplier according to the supplied RetryPolicy. Re-attempts are scheduled on a timer, rather than by sleeping, so
+         * no thread is held while waiting to retry.
+         *
+         * @param policy RetryPolicy that determines when to re-attempt
+         * @return FluentSupplier that returns a FutureW, which completes with the first successful result or the last failure
+         */
+        public FluentSupplier<FutureW<R>> retry(RetryPolicy policy) {
+            return FluentFunctions.of(() -> FutureW.of(policy.execute(fn)));
+        }
+
         public <R1> FluentSupplier<R1> matches(Function<CheckValue1<R, R1>, CheckValue1<R, R1>> case1, Supplier<? extends R1> otherwise) {
             return FluentFunctions.of(() -> Matchable.of(fn.get())
                                                      .matches(case1, otherwise)
@@ -593,6 +605,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * Retry this Function according to the supplied RetryPolicy. Re-attempts are scheduled on a timer, rather than by sleeping, so
+         * no thread is held while waiting to retry.
+         *
+         * @param policy RetryPolicy that determines when to re-attempt
+         * @return FluentFunction that returns a FutureW, which completes with the first successful result or the last failure
+         */
+        public FluentFunction<T, FutureW<R>> retry(RetryPolicy policy) {
+            return FluentFunctions.of(t -> FutureW.of(policy.execute(() -> fn.apply(t))));
+        }
+
         public <R1> FluentFunction<T, R1> matches(Function<CheckValue1<R, R1>, CheckValue1<R, R1>> case1, Supplier<? extends R1> otherwise) {
 
             return FluentFunctions.of(t -> Matchable.of(fn.apply(t))
@@ -820,6 +843,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * Retry this BiFunction according to the supplied RetryPolicy. Re-attempts are scheduled on a timer, rather than by sleeping, so
+         * no thread is held while waiting to retry.
+         *
+         * @param policy RetryPolicy that determines when to re-attempt
+         * @return FluentBiFunction that returns a FutureW, which completes with the first successful result or the last failure
+         */
+        public FluentBiFunction<T1, T2, FutureW<R>> retry(RetryPolicy policy) {
+            return FluentFunctions.of((t1, t2) -> FutureW.of(policy.execute(() -> fn.apply(t1, t2))));
+        }
+
         public <R1> FluentBiFunction<T1, T2, R1> matches(Function<CheckValue1<R, R1>, CheckValue1<R, R1>> case1, Supplier<? extends R1> otherwise) {
             return FluentFunctions.of((t1, t2) -> Matchable.of(fn.apply(t1, t2))
                                                            .matches(case1, otherwise)
@@ -1016,6 +1050,17 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * Retry this TriFunction according to the supplied RetryPolicy. Re-attempts are scheduled on a timer, rather than by sleeping, so
+         * no thread is held while waiting to retry.
+         *
+         * @param policy RetryPolicy that determines when to re-attempt
+         * @return FluentTriFunction that returns a FutureW, which completes with the first successful result or the last failure
+         */
+        public FluentTriFunction<T1, T2, T3, FutureW<R>> retry(RetryPolicy policy) {
+            return FluentFunctions.of((t1, t2, t3) -> FutureW.of(policy.execute(() -> fn.apply(t1, t2, t3))));
+        }
+
         public <R1> FluentTriFunction<T1, T2, T3, R1> matches(Function<CheckValue1<R, R1>, CheckValue1<R, R1>> case1,
                 Supplier<? extends R1> otherwise) {
             return FluentFunctions.of((t1, t2, t3) -> Matchable.of(fn.apply(t1, t2, t3))
@@ -6,6 +6,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -32,6 +33,7 @@ import com.aol.cyclops.types.Value;
 import com.aol.cyclops.types.applicative.ApplicativeFunctor;
 import com.aol.cyclops.types.stream.reactive.ValueSubscriber;
 import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.scheduling.cron.CompiledCron;
 
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -104,17 +106,15 @@ public class FutureW<T> implements ConvertableFunctor<T>, ApplicativeFunctor<T>,
     public static <T> FutureW<T> schedule(String cron, ScheduledExecutorService ex, Supplier<T> t) {
         CompletableFuture<T> future = new CompletableFuture<>();
         FutureW<T> wrapped = FutureW.of(future);
-        ReactiveSeq.generate(() -> {
-            try {
-                future.complete(t.get());
-            } catch (Throwable t1) {
-                future.completeExceptionally(t1);
-            }
-            return 1;
-
-        })
-                   .limit(1)
-                   .schedule(cron, ex);
+        CompiledCron compiled = ExceptionSoftener.softenSupplier(() -> CompiledCron.compile(cron))
+                                                 .get();
+        long now = System.currentTimeMillis();
+        long fireAt = compiled.nextFireAfter(now);
+        if (fireAt == -1)
+            future.completeExceptionally(new IllegalArgumentException(
+                                                                      "Cron expression " + cron + " has no future fire time"));
+        else
+            ex.schedule(() -> complete(future, t), fireAt - now, TimeUnit.MILLISECONDS);
 
         return wrapped;
     }
@@ -122,22 +122,19 @@ public class FutureW<T> implements ConvertableFunctor<T>, ApplicativeFunctor<T>,
     public static <T> FutureW<T> schedule(long delay, ScheduledExecutorService ex, Supplier<T> t) {
         CompletableFuture<T> future = new CompletableFuture<>();
         FutureW<T> wrapped = FutureW.of(future);
-
-        ReactiveSeq.generate(() -> {
-            try {
-                future.complete(t.get());
-            } catch (Throwable t1) {
-                future.completeExceptionally(t1);
-            }
-            return 1;
-
-        })
-                   .limit(1)
-                   .scheduleFixedDelay(delay, ex);
+        ex.schedule(() -> complete(future, t), delay, TimeUnit.MILLISECONDS);
 
         return wrapped;
     }
 
+    private static <T> void complete(CompletableFuture<T> future, Supplier<T> t) {
+        try {
+            future.complete(t.get());
+        } catch (Throwable t1) {
+            future.completeExceptionally(t1);
+        }
+    }
+
     public static <T> FutureW<ListX<T>> sequence(CollectionX<FutureW<T>> fts) {
         return sequence(fts.stream()).map(s -> s.toListX());
 
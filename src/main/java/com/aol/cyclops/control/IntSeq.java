@@ -0,0 +1,339 @@
+package com.aol.cyclops.control;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.internal.stream.IntSeqImpl;
+import com.aol.cyclops.internal.stream.spliterators.ReversingRangeIntSpliterator;
+
+/**
+ * A primitive int specialisation of ReactiveSeq. Operators and reductions run directly on ints, values
+ * are only boxed when converted to a ReactiveSeq via {@link #boxed()} or {@link #mapToObj(IntFunction)}.
+ *
+ * <pre>
+ * {@code
+ *    IntSeq.range(0, 1000)
+ *          .scanLeft(0, (a, b) -> a + b)
+ *          .limitWhile(i -> i < 500)
+ *          .percentile(99);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface IntSeq extends IntStream {
+
+    /**
+     * Function that accepts an int and its (zero based) position in the Sequence
+     *
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedIntFunction<R> {
+        R apply(int value, long index);
+    }
+
+    /**
+     * Create a sliding view over this Sequence
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(1,2,3,4,5,6).sliding(2).toList()
+     *  //[[1,2],[2,3],[3,4],[4,5],[5,6]]
+     * }</pre>
+     *
+     * @param windowSize Size of sliding window
+     * @return ReactiveSeq of int[] windows
+     */
+    default ReactiveSeq<int[]> sliding(int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Create a sliding view over this Sequence
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(1,2,3,4,5,6).sliding(3,2).toList()
+     *  //[[1,2,3],[3,4,5],[5,6]]
+     * }</pre>
+     *
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window forward by
+     * @return ReactiveSeq of int[] windows
+     */
+    ReactiveSeq<int[]> sliding(int windowSize, int increment);
+
+    /**
+     * Group elements in a Stream, the last group may be smaller than groupSize
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(1,2,3,4,5,6).grouped(4).toList()
+     *  //[[1,2,3,4],[5,6]]
+     * }</pre>
+     *
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of int[] groups
+     */
+    ReactiveSeq<int[]> grouped(int groupSize);
+
+    /**
+     * Batch elements in a Stream by size (alias for {@link #grouped(int)})
+     *
+     * @param size Size of each batch
+     * @return ReactiveSeq of int[] batches
+     */
+    default ReactiveSeq<int[]> batchBySize(int size) {
+        return grouped(size);
+    }
+
+    /**
+     * Scan left, emitting the identity and then each intermediate result
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray()
+     *  //[0,1,3,6]
+     * }</pre>
+     *
+     * @param identity Initial value
+     * @param function Accumulating function
+     * @return IntSeq of running results
+     */
+    IntSeq scanLeft(int identity, IntBinaryOperator function);
+
+    /**
+     * Zip each element with its (zero based) index, without boxing either
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(10,20).zipWithIndex((v,i)->v+":"+i).toList()
+     *  //["10:0","20:1"]
+     * }</pre>
+     *
+     * @param zipper Function that combines an element and its index
+     * @return ReactiveSeq of combined values
+     */
+    <R> ReactiveSeq<R> zipWithIndex(IndexedIntFunction<? extends R> zipper);
+
+    /**
+     * Take elements from the Sequence while the predicate holds
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(4,3,6,7).sorted().limitWhile(i->i<6).toArray()
+     *  //[3,4]
+     * }</pre>
+     *
+     * @param predicate Limit while predicate is true
+     * @return IntSeq with limit applied
+     */
+    IntSeq limitWhile(IntPredicate predicate);
+
+    /**
+     * Take elements from the Sequence until the predicate holds
+     *
+     * @param predicate Limit until predicate is true
+     * @return IntSeq with limit applied
+     */
+    default IntSeq limitUntil(IntPredicate predicate) {
+        return limitWhile(predicate.negate());
+    }
+
+    /**
+     * Drop elements from the Sequence while the predicate holds
+     *
+     * @param predicate Skip while predicate is true
+     * @return IntSeq with skip applied
+     */
+    IntSeq skipWhile(IntPredicate predicate);
+
+    /**
+     * Drop elements from the Sequence until the predicate holds
+     *
+     * @param predicate Skip until predicate is true
+     * @return IntSeq with skip applied
+     */
+    default IntSeq skipUntil(IntPredicate predicate) {
+        return skipWhile(predicate.negate());
+    }
+
+    /**
+     * @return Arithmetic mean of the elements, empty if the Sequence is empty
+     */
+    default OptionalDouble avg() {
+        return average();
+    }
+
+    /**
+     * Nearest rank percentile
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.range(1,101).percentile(90)
+     *  //OptionalInt[90]
+     * }</pre>
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Element at the supplied percentile, empty if the Sequence is empty
+     */
+    OptionalInt percentile(double percentile);
+
+    /**
+     * @return Median of the elements (mean of the two middle elements for an even number of elements), empty if the Sequence is empty
+     */
+    OptionalDouble median();
+
+    /*
+     * Convert to a ReactiveSeq, boxing each element
+     * @see java.util.stream.IntStream#boxed()
+     */
+    @Override
+    ReactiveSeq<Integer> boxed();
+
+    /*
+     * @see java.util.stream.IntStream#mapToObj(java.util.function.IntFunction)
+     */
+    @Override
+    <U> ReactiveSeq<U> mapToObj(IntFunction<? extends U> mapper);
+
+    /*
+     * @see java.util.stream.IntStream#mapToLong(java.util.function.IntToLongFunction)
+     */
+    @Override
+    LongSeq mapToLong(IntToLongFunction mapper);
+
+    /*
+     * @see java.util.stream.IntStream#mapToDouble(java.util.function.IntToDoubleFunction)
+     */
+    @Override
+    DoubleSeq mapToDouble(IntToDoubleFunction mapper);
+
+    /*
+     * @see java.util.stream.IntStream#asLongStream()
+     */
+    @Override
+    LongSeq asLongStream();
+
+    /*
+     * @see java.util.stream.IntStream#asDoubleStream()
+     */
+    @Override
+    DoubleSeq asDoubleStream();
+
+    @Override
+    IntSeq filter(IntPredicate predicate);
+
+    @Override
+    IntSeq map(IntUnaryOperator mapper);
+
+    @Override
+    IntSeq flatMap(IntFunction<? extends IntStream> mapper);
+
+    @Override
+    IntSeq distinct();
+
+    @Override
+    IntSeq sorted();
+
+    @Override
+    IntSeq peek(IntConsumer action);
+
+    @Override
+    IntSeq limit(long maxSize);
+
+    @Override
+    IntSeq skip(long n);
+
+    @Override
+    IntSeq sequential();
+
+    @Override
+    IntSeq parallel();
+
+    @Override
+    IntSeq unordered();
+
+    @Override
+    IntSeq onClose(Runnable closeHandler);
+
+    /**
+     * Construct an IntSeq from the supplied values
+     *
+     * @param values ints to populate the Sequence with
+     * @return IntSeq of values
+     */
+    public static IntSeq of(int... values) {
+        return new IntSeqImpl(
+                              IntStream.of(values));
+    }
+
+    /**
+     * @return An empty IntSeq
+     */
+    public static IntSeq empty() {
+        return new IntSeqImpl(
+                              IntStream.empty());
+    }
+
+    /**
+     * Create a Sequence that produces the ints between start (inclusive) and end (exclusive)
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range IntSeq
+     */
+    public static IntSeq range(int start, int end) {
+        return new IntSeqImpl(
+                              StreamSupport.intStream(new ReversingRangeIntSpliterator(
+                                                                                       start, end, false),
+                                                      false));
+    }
+
+    /**
+     * @see IntStream#iterate(int, IntUnaryOperator)
+     * @param seed Initial element
+     * @param f Function applied to the previous element to produce the next
+     * @return Infinite IntSeq
+     */
+    public static IntSeq iterate(int seed, IntUnaryOperator f) {
+        return new IntSeqImpl(
+                              IntStream.iterate(seed, f));
+    }
+
+    /**
+     * @see IntStream#generate(IntSupplier)
+     * @param s Supplier of elements
+     * @return Infinite IntSeq
+     */
+    public static IntSeq generate(IntSupplier s) {
+        return new IntSeqImpl(
+                              IntStream.generate(s));
+    }
+
+    /**
+     * Construct an IntSeq from an IntStream
+     *
+     * @param stream IntStream to construct Sequence from
+     * @return IntSeq
+     */
+    public static IntSeq fromIntStream(IntStream stream) {
+        Objects.requireNonNull(stream);
+        if (stream instanceof IntSeq)
+            return (IntSeq) stream;
+        return new IntSeqImpl(
+                              stream);
+    }
+}
@@ -82,7 +82,14 @@ public class LazyReact implements ReactBuilder {
      * Turn automatic caching of values on for the FutureStream to be generated
      * by this Stream builder
      * 
-     * @param memoizeCache Cacheable instance that controls memoization (Caching)
+     * <pre>
+     * {@code 
+     *  new LazyReact().autoMemoizeOn(MemoizeCache.tinyLfu(10_000)
+     *                                            .withExpireAfterWrite(1, TimeUnit.MINUTES))
+     * }
+     * </pre>
+     * 
+     * @param memoizeCache Cacheable instance that controls memoization (Caching), see {@link com.aol.cyclops.util.function.MemoizeCache} for a bounded, evicting implementation
      * @return LazyReact Stream builder
      */
     public LazyReact autoMemoizeOn(final Cacheable memoizeCache) {
@@ -0,0 +1,333 @@
+package com.aol.cyclops.control;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.internal.stream.LongSeqImpl;
+import com.aol.cyclops.internal.stream.spliterators.ReversingRangeLongSpliterator;
+
+/**
+ * A primitive long specialisation of ReactiveSeq. Operators and reductions run directly on longs, values
+ * are only boxed when converted to a ReactiveSeq via {@link #boxed()} or {@link #mapToObj(LongFunction)}.
+ *
+ * <pre>
+ * {@code
+ *    LongSeq.range(0, 1000)
+ *          .scanLeft(0, (a, b) -> a + b)
+ *          .limitWhile(i -> i < 500)
+ *          .percentile(99);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public interface LongSeq extends LongStream {
+
+    /**
+     * Function that accepts a long and its (zero based) position in the Sequence
+     *
+     * @param <R> Return type
+     */
+    @FunctionalInterface
+    public static interface IndexedLongFunction<R> {
+        R apply(long value, long index);
+    }
+
+    /**
+     * Create a sliding view over this Sequence
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(1,2,3,4,5,6).sliding(2).toList()
+     *  //[[1,2],[2,3],[3,4],[4,5],[5,6]]
+     * }</pre>
+     *
+     * @param windowSize Size of sliding window
+     * @return ReactiveSeq of long[] windows
+     */
+    default ReactiveSeq<long[]> sliding(int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Create a sliding view over this Sequence
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(1,2,3,4,5,6).sliding(3,2).toList()
+     *  //[[1,2,3],[3,4,5],[5,6]]
+     * }</pre>
+     *
+     * @param windowSize Size of sliding window
+     * @param increment Number of elements to move the window forward by
+     * @return ReactiveSeq of long[] windows
+     */
+    ReactiveSeq<long[]> sliding(int windowSize, int increment);
+
+    /**
+     * Group elements in a Stream, the last group may be smaller than groupSize
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(1,2,3,4,5,6).grouped(4).toList()
+     *  //[[1,2,3,4],[5,6]]
+     * }</pre>
+     *
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of long[] groups
+     */
+    ReactiveSeq<long[]> grouped(int groupSize);
+
+    /**
+     * Batch elements in a Stream by size (alias for {@link #grouped(int)})
+     *
+     * @param size Size of each batch
+     * @return ReactiveSeq of long[] batches
+     */
+    default ReactiveSeq<long[]> batchBySize(int size) {
+        return grouped(size);
+    }
+
+    /**
+     * Scan left, emitting the identity and then each intermediate result
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray()
+     *  //[0,1,3,6]
+     * }</pre>
+     *
+     * @param identity Initial value
+     * @param function Accumulating function
+     * @return LongSeq of running results
+     */
+    LongSeq scanLeft(long identity, LongBinaryOperator function);
+
+    /**
+     * Zip each element with its (zero based) index, without boxing either
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(10,20).zipWithIndex((v,i)->v+":"+i).toList()
+     *  //["10:0","20:1"]
+     * }</pre>
+     *
+     * @param zipper Function that combines an element and its index
+     * @return ReactiveSeq of combined values
+     */
+    <R> ReactiveSeq<R> zipWithIndex(IndexedLongFunction<? extends R> zipper);
+
+    /**
+     * Take elements from the Sequence while the predicate holds
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(4,3,6,7).sorted().limitWhile(i->i<6).toArray()
+     *  //[3,4]
+     * }</pre>
+     *
+     * @param predicate Limit while predicate is true
+     * @return LongSeq with limit applied
+     */
+    LongSeq limitWhile(LongPredicate predicate);
+
+    /**
+     * Take elements from the Sequence until the predicate holds
+     *
+     * @param predicate Limit until predicate is true
+     * @return LongSeq with limit applied
+     */
+    default LongSeq limitUntil(LongPredicate predicate) {
+        return limitWhile(predicate.negate());
+    }
+
+    /**
+     * Drop elements from the Sequence while the predicate holds
+     *
+     * @param predicate Skip while predicate is true
+     * @return LongSeq with skip applied
+     */
+    LongSeq skipWhile(LongPredicate predicate);
+
+    /**
+     * Drop elements from the Sequence until the predicate holds
+     *
+     * @param predicate Skip until predicate is true
+     * @return LongSeq with skip applied
+     */
+    default LongSeq skipUntil(LongPredicate predicate) {
+        return skipWhile(predicate.negate());
+    }
+
+    /**
+     * @return Arithmetic mean of the elements, empty if the Sequence is empty
+     */
+    default OptionalDouble avg() {
+        return average();
+    }
+
+    /**
+     * Nearest rank percentile
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.range(1,101).percentile(90)
+     *  //OptionalLong[90]
+     * }</pre>
+     *
+     * @param percentile Percentile between 0 and 100
+     * @return Element at the supplied percentile, empty if the Sequence is empty
+     */
+    OptionalLong percentile(double percentile);
+
+    /**
+     * @return Median of the elements (mean of the two middle elements for an even number of elements), empty if the Sequence is empty
+     */
+    OptionalDouble median();
+
+    /*
+     * Convert to a ReactiveSeq, boxing each element
+     * @see java.util.stream.LongStream#boxed()
+     */
+    @Override
+    ReactiveSeq<Long> boxed();
+
+    /*
+     * @see java.util.stream.LongStream#mapToObj(java.util.function.LongFunction)
+     */
+    @Override
+    <U> ReactiveSeq<U> mapToObj(LongFunction<? extends U> mapper);
+
+    /*
+     * @see java.util.stream.LongStream#mapToInt(java.util.function.LongToIntFunction)
+     */
+    @Override
+    IntSeq mapToInt(LongToIntFunction mapper);
+
+    /*
+     * @see java.util.stream.LongStream#mapToDouble(java.util.function.LongToDoubleFunction)
+     */
+    @Override
+    DoubleSeq mapToDouble(LongToDoubleFunction mapper);
+
+    /*
+     * @see java.util.stream.LongStream#asDoubleStream()
+     */
+    @Override
+    DoubleSeq asDoubleStream();
+
+    @Override
+    LongSeq filter(LongPredicate predicate);
+
+    @Override
+    LongSeq map(LongUnaryOperator mapper);
+
+    @Override
+    LongSeq flatMap(LongFunction<? extends LongStream> mapper);
+
+    @Override
+    LongSeq distinct();
+
+    @Override
+    LongSeq sorted();
+
+    @Override
+    LongSeq peek(LongConsumer action);
+
+    @Override
+    LongSeq limit(long maxSize);
+
+    @Override
+    LongSeq skip(long n);
+
+    @Override
+    LongSeq sequential();
+
+    @Override
+    LongSeq parallel();
+
+    @Override
+    LongSeq unordered();
+
+    @Override
+    LongSeq onClose(Runnable closeHandler);
+
+    /**
+     * Construct a LongSeq from the supplied values
+     *
+     * @param values longs to populate the Sequence with
+     * @return LongSeq of values
+     */
+    public static LongSeq of(long... values) {
+        return new LongSeqImpl(
+                               LongStream.of(values));
+    }
+
+    /**
+     * @return An empty LongSeq
+     */
+    public static LongSeq empty() {
+        return new LongSeqImpl(
+                               LongStream.empty());
+    }
+
+    /**
+     * Create a Sequence that produces the longs between start (inclusive) and end (exclusive)
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range LongSeq
+     */
+    public static LongSeq range(long start, long end) {
+        return new LongSeqImpl(
+                               StreamSupport.longStream(new ReversingRangeLongSpliterator(
+                                                                                          start, end, false),
+                                                      false));
+    }
+
+    /**
+     * @see LongStream#iterate(long, LongUnaryOperator)
+     * @param seed Initial element
+     * @param f Function applied to the previous element to produce the next
+     * @return Infinite LongSeq
+     */
+    public static LongSeq iterate(long seed, LongUnaryOperator f) {
+        return new LongSeqImpl(
+                               LongStream.iterate(seed, f));
+    }
+
+    /**
+     * @see LongStream#generate(LongSupplier)
+     * @param s Supplier of elements
+     * @return Infinite LongSeq
+     */
+    public static LongSeq generate(LongSupplier s) {
+        return new LongSeqImpl(
+                               LongStream.generate(s));
+    }
+
+    /**
+     * Construct a LongSeq from a LongStream
+     *
+     * @param stream LongStream to construct Sequence from
+     * @return LongSeq
+     */
+    public static LongSeq fromLongStream(LongStream stream) {
+        Objects.requireNonNull(stream);
+        if (stream instanceof LongSeq)
+            return (LongSeq) stream;
+        return new LongSeqImpl(
+                               stream);
+    }
+}
@@ -74,6 +74,7 @@ import com.aol.cyclops.types.stream.future.FutureOperations;
 import com.aol.cyclops.types.stream.reactive.ReactiveStreamsTerminalOperations;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer;
 
 import lombok.val;
 
@@ -2312,6 +2313,7 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
      * @param end
      *            Number for range to end at
      * @return Range ReactiveSeq
+     * @see IntSeq#range(int, int) for an unboxed equivalent
      */
     public static ReactiveSeq<Integer> range(int start, int end) {
         ReversingRangeIntSpliterator range = new ReversingRangeIntSpliterator(
@@ -2329,6 +2331,7 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
      * @param end
      *            Number for range to end at
      * @return Range ReactiveSeq
+     * @see LongSeq#range(long, long) for an unboxed equivalent
      */
     public static ReactiveSeq<Long> rangeLong(long start, long end) {
         ReversingRangeLongSpliterator range = new ReversingRangeLongSpliterator(
@@ -2357,6 +2360,7 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
      * @param stream
      *            Stream to construct Sequence from
      * @return
+     * @see IntSeq#fromIntStream(IntStream) to operate on the elements without boxing
      */
     public static ReactiveSeq<Integer> fromIntStream(IntStream stream) {
         Objects.requireNonNull(stream);
@@ -2370,6 +2374,7 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
      * @param stream
      *            Stream to construct Sequence from
      * @return
+     * @see LongSeq#fromLongStream(LongStream) to operate on the elements without boxing
      */
     public static ReactiveSeq<Long> fromLongStream(LongStream stream) {
         Objects.requireNonNull(stream);
@@ -2382,6 +2387,7 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
      * @param stream
      *            Stream to construct Sequence from
      * @return
+     * @see DoubleSeq#fromDoubleStream(DoubleStream) to operate on the elements without boxing
      */
     public static ReactiveSeq<Double> fromDoubleStream(DoubleStream stream) {
         Objects.requireNonNull(stream);
@@ -3162,6 +3168,51 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
      */
     HotStream<T> scheduleFixedRate(long rate, ScheduledExecutorService ex);
 
+    /**
+     * Execute this Stream on a cron schedule, driven by the shared {@link HashedWheelTimer}
+     * 
+     * <pre>
+     * {@code
+     *  //run at 8PM every night
+     *  ReactiveSeq.generate(()->"next job:"+formatDate(new Date()))
+     *            .map(this::processJob)
+     *            .schedule("0 0 20 * * ?")
+     *            .connect()
+     *            .forEach(this::logToDB);
+     * }
+     * </pre>
+     * 
+     * @param cron
+     *            Expression that determines when each job will run
+     * @return Connectable HotStream of output from scheduled Stream
+     */
+    default HotStream<T> schedule(String cron) {
+        return StreamUtils.schedule(this, cron, HashedWheelTimer.shared());
+    }
+
+    /**
+     * Execute this Stream with a fixed delay between elements, driven by the shared {@link HashedWheelTimer}
+     * 
+     * @param delay
+     *            Between last element completes passing through the Stream
+     *            until the next one starts
+     * @return Connectable HotStream of output from scheduled Stream
+     */
+    default HotStream<T> scheduleFixedDelay(long delay) {
+        return StreamUtils.scheduleFixedDelay(this, delay, HashedWheelTimer.shared());
+    }
+
+    /**
+     * Execute this Stream at a fixed rate, driven by the shared {@link HashedWheelTimer}
+     * 
+     * @param rate
+     *            Time in millis between job runs
+     * @return Connectable HotStream of output from scheduled Stream
+     */
+    default HotStream<T> scheduleFixedRate(long rate) {
+        return StreamUtils.scheduleFixedRate(this, rate, HashedWheelTimer.shared());
+    }
+
     /**
      * [equivalent to count]
      * 
@@ -3384,6 +3435,42 @@ public interface ReactiveSeq<T> extends Unwrapable, Stream<T>, OnEmptySwitch<T,
         return CyclopsCollectable.super.sum(function);
     }
 
+    /**
+     * Convert to a primitive IntSeq, subsequent operators run without boxing
+     * 
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of("a","bb","ccc").mapToIntSeq(String::length).percentile(50);
+     *  //OptionalInt[2]
+     * }</pre>
+     * 
+     * @param mapper Function to extract an int from each element
+     * @return IntSeq
+     */
+    default IntSeq mapToIntSeq(ToIntFunction<? super T> mapper) {
+        return IntSeq.fromIntStream(mapToInt(mapper));
+    }
+
+    /**
+     * Convert to a primitive LongSeq, subsequent operators run without boxing
+     * 
+     * @param mapper Function to extract a long from each element
+     * @return LongSeq
+     */
+    default LongSeq mapToLongSeq(ToLongFunction<? super T> mapper) {
+        return LongSeq.fromLongStream(mapToLong(mapper));
+    }
+
+    /**
+     * Convert to a primitive DoubleSeq, subsequent operators run without boxing
+     * 
+     * @param mapper Function to extract a double from each element
+     * @return DoubleSeq
+     */
+    default DoubleSeq mapToDoubleSeq(ToDoubleFunction<? super T> mapper) {
+        return DoubleSeq.fromDoubleStream(mapToDouble(mapper));
+    }
+
     /* (non-Javadoc)
      * @see com.aol.cyclops.types.stream.CyclopsCollectable#sumInt(java.util.function.ToIntFunction)
      */
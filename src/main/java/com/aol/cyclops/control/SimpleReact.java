@@ -23,6 +23,7 @@ import com.aol.cyclops.internal.react.SimpleReactStreamImpl;
 import com.aol.cyclops.internal.react.stream.ReactBuilder;
 import com.aol.cyclops.react.RetryBuilder;
 import com.aol.cyclops.react.ThreadPools;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
 import com.aol.cyclops.types.futurestream.SimpleReactStream;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.nurkiewicz.asyncretry.RetryExecutor;
@@ -54,6 +55,13 @@ public class SimpleReact implements ReactBuilder {
     private final RetryExecutor retrier;
 
     private final Boolean async;
+    /**
+     * Limits the number of incomplete tasks while a Stream is started, the thread starting the Stream waits once the limit is
+     * reached (null for no limit). Subsequent stages are not limited, as they do not start tasks until the futures of the
+     * first stage complete.
+     */
+    @Getter
+    private final MaxActive maxActive;
 
     public <U> SimpleReactStream<U> construct(Stream s) {
         return new SimpleReactStreamImpl<U>(
@@ -81,6 +89,7 @@ public class SimpleReact implements ReactBuilder {
 
         this.async = Optional.ofNullable(async)
                              .orElse(true);
+        this.maxActive = null;
     }
 
     /**
@@ -92,6 +101,7 @@ public class SimpleReact implements ReactBuilder {
         this.retrier = null;
 
         this.async = true;
+        this.maxActive = null;
     }
 
     public SimpleReact(Executor executor, RetryExecutor retrier) {
@@ -100,6 +110,7 @@ public class SimpleReact implements ReactBuilder {
         this.retrier = retrier;
 
         this.async = true;
+        this.maxActive = null;
     }
 
     public SimpleReact(Executor executor, RetryExecutor retrier, Executor queueCopier) {
@@ -108,6 +119,7 @@ public class SimpleReact implements ReactBuilder {
         this.retrier = retrier;
 
         this.async = true;
+        this.maxActive = null;
     }
 
     public SimpleReact withQueueCopyExecutor(Executor queueCopyExecutor) {
@@ -393,6 +405,10 @@ public class SimpleReact implements ReactBuilder {
     }
 
     public SimpleReact(Executor queueService, Executor executor, RetryExecutor retrier, Boolean async) {
+        this(queueService, executor, retrier, async, null);
+    }
+
+    public SimpleReact(Executor queueService, Executor executor, RetryExecutor retrier, Boolean async, MaxActive maxActive) {
         super();
         this.queueService = Optional.ofNullable(queueService)
                                     .orElse(ThreadPools.getQueueCopyExecutor());
@@ -401,6 +417,7 @@ public class SimpleReact implements ReactBuilder {
         this.retrier = retrier;
         this.async = Optional.ofNullable(async)
                              .orElse(true);
+        this.maxActive = maxActive;
     }
 
 }
\ No newline at end of file
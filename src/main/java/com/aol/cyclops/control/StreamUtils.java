@@ -4,6 +4,7 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -54,6 +55,7 @@ import com.aol.cyclops.internal.stream.PausableHotStreamImpl;
 import com.aol.cyclops.internal.stream.ReactiveSeqFutureOpterationsImpl;
 import com.aol.cyclops.internal.stream.ReactiveSeqImpl;
 import com.aol.cyclops.internal.stream.ReversedIterator;
+import com.aol.cyclops.internal.stream.SegmentedCopyBuffer;
 import com.aol.cyclops.internal.stream.SeqUtils;
 import com.aol.cyclops.internal.stream.operators.BatchBySizeOperator;
 import com.aol.cyclops.internal.stream.operators.BatchByTimeAndSizeOperator;
@@ -71,14 +73,16 @@ import com.aol.cyclops.internal.stream.operators.SkipWhileOperator;
 import com.aol.cyclops.internal.stream.operators.SkipWhileTimeOperator;
 import com.aol.cyclops.internal.stream.operators.WindowStatefullyWhileOperator;
 import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.aol.cyclops.internal.stream.spliterators.SlidingSpliterator;
 import com.aol.cyclops.types.stream.HeadAndTail;
 import com.aol.cyclops.types.stream.HotStream;
+import com.aol.cyclops.types.stream.LagPolicy;
 import com.aol.cyclops.types.stream.NonPausableHotStream;
 import com.aol.cyclops.types.stream.PausableHotStream;
 import com.aol.cyclops.types.stream.future.FutureOperations;
 import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer;
 
-import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.UtilityClass;
 
@@ -399,6 +403,55 @@ public class StreamUtils {
                                           stream).scheduleFixedRate(rate, ex);
     }
 
+    /**
+     * Execute this Stream on a cron schedule, driven by a HashedWheelTimer rather than a ScheduledExecutorService.
+     * The cron expression is compiled once, and many scheduled Streams can share a single timer thread.
+     * 
+     * <pre>
+     * {@code
+     *  //run at 8PM every night
+     *  StreamUtils.schedule(Stream.generate(()->"next job:"+formatDate(new Date()))
+     *            .map(this::processJob)
+     *            ,"0 0 20 * * ?",HashedWheelTimer.shared());
+     * }
+     * </pre>
+     * 
+     * @param stream the stream to schedule element processing on
+     * @param cron Expression that determines when each job will run
+     * @param timer HashedWheelTimer
+     * @return Connectable HotStream of output from scheduled Stream
+     */
+    public static <T> HotStream<T> schedule(final Stream<T> stream, final String cron, final HashedWheelTimer timer) {
+        return new NonPausableHotStream<>(
+                                          stream).schedule(cron, timer);
+    }
+
+    /**
+     * Execute this Stream with a fixed delay between elements, driven by a HashedWheelTimer
+     * 
+     * @param stream the stream to schedule element processing on
+     * @param delay Between last element completes passing through the Stream until the next one starts
+     * @param timer HashedWheelTimer
+     * @return Connectable HotStream of output from scheduled Stream
+     */
+    public static <T> HotStream<T> scheduleFixedDelay(final Stream<T> stream, final long delay, final HashedWheelTimer timer) {
+        return new NonPausableHotStream<>(
+                                          stream).scheduleFixedDelay(delay, timer);
+    }
+
+    /**
+     * Execute this Stream at a fixed rate, driven by a HashedWheelTimer
+     * 
+     * @param stream the stream to schedule element processing on
+     * @param rate Time in millis between job runs
+     * @param timer HashedWheelTimer
+     * @return Connectable HotStream of output from scheduled Stream
+     */
+    public static <T> HotStream<T> scheduleFixedRate(final Stream<T> stream, final long rate, final HashedWheelTimer timer) {
+        return new NonPausableHotStream<>(
+                                          stream).scheduleFixedRate(rate, timer);
+    }
+
     /**
      * Split at supplied location 
      * <pre>
@@ -411,7 +464,7 @@ public class StreamUtils {
      * </pre>
      */
     public final static <T> Tuple2<Stream<T>, Stream<T>> splitAt(final Stream<T> stream, final int where) {
-        final Tuple2<Stream<T>, Stream<T>> Tuple2 = duplicate(stream);
+        final Tuple2<Stream<T>, Stream<T>> Tuple2 = duplicatePos(stream, where);
         return new Tuple2(
                           Tuple2.v1.limit(where), Tuple2.v2.skip(where));
     }
@@ -470,6 +523,29 @@ public class StreamUtils {
                           StreamUtils.stream(Tuple2.v1()), StreamUtils.stream(Tuple2.v2()));
     }
 
+    /**
+     * Duplicate a Stream, bounding the number of elements buffered for the lagging copy. Copies may be consumed on different threads.
+     * <pre>
+     * {@code 
+     *  Tuple2<Stream<Integer>, Stream<Integer>> copies = StreamUtils.duplicate(Stream.of(1,2,3,4,5,6),1000,LagPolicy.BLOCK);
+     *  
+     *  CompletableFuture.runAsync(()->copies.v1.forEach(System.out::println));
+     *  copies.v2.forEach(System.out::println);
+     * }
+     * </pre>
+     * 
+     * @param stream Stream to duplicate
+     * @param maxLag Maximum number of elements the leading copy may get ahead of the lagging copy
+     * @param policy What to do when the leading copy reaches maxLag (BLOCK or FAIL)
+     * @return duplicated stream
+     */
+    public final static <T> Tuple2<Stream<T>, Stream<T>> duplicate(final Stream<T> stream, final long maxLag, final LagPolicy policy) {
+
+        final Tuple2<Iterator<T>, Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(), maxLag, policy);
+        return new Tuple2(
+                          StreamUtils.stream(Tuple2.v1()), StreamUtils.stream(Tuple2.v2()));
+    }
+
     private final static <T> Tuple2<Stream<T>, Stream<T>> duplicatePos(final Stream<T> stream, final int pos) {
 
         final Tuple2<Iterator<T>, Iterator<T>> Tuple2 = StreamUtils.toBufferingDuplicator(stream.iterator(), pos);
@@ -1228,7 +1304,13 @@ public class StreamUtils {
      * @return Stream with sliding view 
      */
     public final static <T> Stream<ListX<T>> sliding(final Stream<T> stream, final int windowSize, final int increment) {
-        final Iterator<T> it = stream.iterator();
+        final Spliterator<T> source = stream.spliterator();
+        final Optional<List<T>> indexed = windowSize > 0 && increment > 0 ? SlidingSpliterator.randomAccess(source) : Optional.empty();
+        if (indexed.isPresent())
+            return StreamSupport.stream(new SlidingSpliterator<T, ListX<T>>(
+                                                                            indexed.get(), windowSize, increment, ListX::empty),
+                                        false);
+        final Iterator<T> it = Spliterators.iterator(source);
         final Mutable<PStack<T>> list = Mutable.of(ConsPStack.empty());
         return StreamUtils.stream(new Iterator<ListX<T>>() {
 
@@ -1889,127 +1971,55 @@ public class StreamUtils {
         return toBufferingDuplicator(iterator, Long.MAX_VALUE);
     }
 
+    /**
+     * Create two Iterators over the supplied Iterator, the first of which will consume at most pos elements
+     * 
+     * @param iterator Iterator to duplicate
+     * @param pos Maximum number of elements the first copy will consume
+     * @return Two copies of the Iterator
+     */
     public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator, final long pos) {
-        final LinkedList<A> bufferTo = new LinkedList<A>();
-        final LinkedList<A> bufferFrom = new LinkedList<A>();
-        return new Tuple2(
-                          new DuplicatingIterator(
-                                                  bufferTo, bufferFrom, iterator, Long.MAX_VALUE, 0),
-                          new DuplicatingIterator(
-                                                  bufferFrom, bufferTo, iterator, pos, 0));
+        final List<Iterator<A>> copies = new SegmentedCopyBuffer<A>(
+                                                                    iterator, new long[] { pos, Long.MAX_VALUE }, Long.MAX_VALUE,
+                                                                    LagPolicy.FAIL).copies();
+        return new Tuple2<>(
+                            copies.get(0), copies.get(1));
     }
 
-    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies) {
-        final List<Iterator<A>> result = new ArrayList<>();
-        final List<CopyingIterator<A>> leaderboard = new LinkedList<>();
-        final LinkedList<A> buffer = new LinkedList<>();
-        for (int i = 0; i < copies; i++)
-            result.add(new CopyingIterator(
-                                           iterator, leaderboard, buffer, copies));
-        return ListX.fromIterable(result);
-    }
-
-    @AllArgsConstructor
-    static class DuplicatingIterator<T> implements Iterator<T> {
-
-        LinkedList<T> bufferTo;
-        LinkedList<T> bufferFrom;
-        Iterator<T> it;
-        long otherLimit = Long.MAX_VALUE;
-        long counter = 0;
-
-        @Override
-        public boolean hasNext() {
-            if (bufferFrom.size() > 0 || it.hasNext())
-                return true;
-            return false;
-        }
-
-        @Override
-        public T next() {
-            try {
-                if (bufferFrom.size() > 0)
-                    return bufferFrom.remove(0);
-                else {
-                    final T next = it.next();
-                    if (counter < otherLimit)
-                        bufferTo.add(next);
-                    return next;
-                }
-            } finally {
-                counter++;
-            }
-        }
-
+    /**
+     * Create two Iterators over the supplied Iterator, the leading copy may get at most maxLag elements ahead of the other
+     * 
+     * @param iterator Iterator to duplicate
+     * @param maxLag Maximum number of elements buffered for the lagging copy
+     * @param policy What to do when the leading copy reaches maxLag (BLOCK or FAIL)
+     * @return Two copies of the Iterator
+     */
+    public static final <A> Tuple2<Iterator<A>, Iterator<A>> toBufferingDuplicator(final Iterator<A> iterator, final long maxLag,
+            final LagPolicy policy) {
+        final List<Iterator<A>> copies = toBufferingCopier(iterator, 2, maxLag, policy);
+        return new Tuple2<>(
+                            copies.get(0), copies.get(1));
     }
 
-    static class CopyingIterator<T> implements Iterator<T> {
-
-        LinkedList<T> buffer;
-        Iterator<T> it;
-        List<CopyingIterator<T>> leaderboard = new LinkedList<>();
-        boolean added = false;
-        int total = 0;
-        int counter = 0;
-
-        @Override
-        public boolean hasNext() {
-
-            if (isLeader())
-                return it.hasNext();
-            if (isLast())
-                return buffer.size() > 0 || it.hasNext();
-            if (it.hasNext())
-                return true;
-            return counter < buffer.size();
-        }
-
-        private boolean isLeader() {
-            return leaderboard.size() == 0 || this == leaderboard.get(0);
-        }
-
-        private boolean isLast() {
-            return leaderboard.size() == total && this == leaderboard.get(leaderboard.size() - 1);
-        }
-
-        @Override
-        public T next() {
-
-            if (!added) {
-
-                this.leaderboard.add(this);
-                added = true;
-            }
-
-            if (isLeader()) {
-
-                return handleLeader();
-            }
-            if (isLast()) {
-
-                if (buffer.size() > 0)
-                    return buffer.poll();
-                return it.next();
-            }
-            if (counter < buffer.size())
-                return buffer.get(counter++);
-            return handleLeader(); //exceed buffer, now leading
-
-        }
-
-        private T handleLeader() {
-            final T next = it.next();
-            buffer.offer(next);
-            return next;
-        }
-
-        public CopyingIterator(final Iterator<T> it, final List<CopyingIterator<T>> leaderboard, final LinkedList<T> buffer, final int total) {
+    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies) {
+        return toBufferingCopier(iterator, copies, Long.MAX_VALUE, LagPolicy.FAIL);
+    }
 
-            this.it = it;
-            this.leaderboard = leaderboard;
-            this.buffer = buffer;
-            this.total = total;
-        }
+    /**
+     * Create the specified number of Iterators over the supplied Iterator, the leading copy may get at most maxLag elements ahead of the slowest
+     * 
+     * @param iterator Iterator to copy
+     * @param copies Number of copies
+     * @param maxLag Maximum number of elements buffered for the slowest copy
+     * @param policy What to do when the leading copy reaches maxLag (BLOCK or FAIL)
+     * @return Copies of the Iterator
+     */
+    public static final <A> ListX<Iterator<A>> toBufferingCopier(final Iterator<A> iterator, final int copies, final long maxLag,
+            final LagPolicy policy) {
+        final long[] limits = new long[copies];
+        Arrays.fill(limits, Long.MAX_VALUE);
+        return ListX.fromIterable(new SegmentedCopyBuffer<A>(
+                                                             iterator, limits, maxLag, policy).copies());
     }
 
     /**
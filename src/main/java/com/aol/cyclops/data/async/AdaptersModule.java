@@ -14,6 +14,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.agrona.concurrent.Pipe;
 import org.jooq.lambda.Seq;
 
 import com.aol.cyclops.data.async.Queue.ClosedQueueException;
@@ -88,10 +89,19 @@ public interface AdaptersModule {
     }
 
     @AllArgsConstructor
-    static class QueueToBlockingQueueWrapper implements BlockingQueue {
+    static class QueueToBlockingQueueWrapper implements BlockingQueue, AutoCloseable {
 
         java.util.Queue queue;
 
+        /*
+         * Releases the wrapped queue's resources, if it holds any (e.g. a MappedFileQueue)
+         */
+        @Override
+        public void close() throws Exception {
+            if (queue instanceof AutoCloseable)
+                ((AutoCloseable) queue).close();
+        }
+
         public void forEach(Consumer action) {
             queue.forEach(action);
         }
@@ -228,13 +238,20 @@ public interface AdaptersModule {
         @Override
         public int drainTo(Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(Collection c, int maxElements) {
-
-            return 0;
+            if (queue instanceof Pipe)
+                return ((Pipe) queue).drainTo(c, maxElements);
+            int drained = 0;
+            Object next;
+            while (drained < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                drained++;
+            }
+            return drained;
         }
 
     }
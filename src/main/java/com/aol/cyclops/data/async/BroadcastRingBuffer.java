@@ -0,0 +1,280 @@
+package com.aol.cyclops.data.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.async.AdaptersModule.ClosingSpliterator;
+import com.aol.cyclops.data.async.Queue.ClosedQueueException;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.react.async.subscription.AlwaysContinue;
+import com.aol.cyclops.react.async.subscription.Continueable;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * A pre-allocated, lock-free ring buffer that broadcasts every element to all connected Cursors (Disruptor style).
+ *
+ * Used as an alternative backing for a Topic - rather than copying each element into a Queue per subscriber, every
+ * subscriber reads from a single shared ring via its own Cursor. Producers are gated on the slowest connected Cursor,
+ * so no data is overwritten before every subscriber has read it.
+ *
+ * <pre>
+ * {@code
+ *    Topic<Integer> topic = new Topic<>(QueueFactories.broadcastRingBuffer(1024,new YieldWait<>()));
+ *    ReactiveSeq<Integer> s1 = topic.stream();
+ *    ReactiveSeq<Integer> s2 = topic.stream();
+ *
+ *    topic.offer(1);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the ring
+ */
+public class BroadcastRingBuffer<T> {
+
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+
+    private final WaitStrategy<T> consumerWait;
+    private final WaitStrategy<T> producerWait;
+
+    private final AtomicLong claimed = new AtomicLong(
+                                                      0);
+    private final AtomicReference<Cursor[]> cursors = new AtomicReference<>(
+                                                                            new Cursor[0]);
+    private volatile long gatingSequenceCache = 0;
+    private volatile boolean open = true;
+
+    /**
+     * Construct a RingBuffer
+     *
+     * @param size Minimum capacity of the ring (rounded up to the next power of 2)
+     * @param waitStrategy Strategy used by both producers (when the ring is full) and consumers (when no data is available)
+     */
+    public BroadcastRingBuffer(int size, WaitStrategy<T> waitStrategy) {
+        this(size, waitStrategy, waitStrategy);
+    }
+
+    /**
+     * Construct a RingBuffer
+     *
+     * @param size Minimum capacity of the ring (rounded up to the next power of 2)
+     * @param consumerWait Strategy used by Cursors when no data is available
+     * @param producerWait Strategy used by producers when the ring is full
+     */
+    public BroadcastRingBuffer(int size, WaitStrategy<T> consumerWait, WaitStrategy<T> producerWait) {
+        if (size < 1)
+            throw new IllegalArgumentException(
+                                               "RingBuffer size must be positive, was " + size);
+        final int capacity = Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+        this.slots = new Object[capacity];
+        this.published = new AtomicLongArray(
+                                             capacity);
+        for (int i = 0; i < capacity; i++)
+            published.set(i, -1);
+        this.mask = capacity - 1;
+        this.consumerWait = consumerWait;
+        this.producerWait = producerWait;
+    }
+
+    /**
+     * @return Number of slots in this ring
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Publish a single element to every connected Cursor. If the slowest Cursor is a full ring behind, the producer
+     * waits (via the producer WaitStrategy) until it catches up.
+     *
+     * @param data Data to publish
+     * @return true once published
+     */
+    public boolean offer(T data) {
+        if (!open)
+            throw new ClosedQueueException();
+        final long sequence = claimed.getAndIncrement();
+        final long wrapPoint = sequence - slots.length;
+        if (wrapPoint >= gatingSequenceCache) {
+            try {
+                while (!producerWait.offer(() -> wrapPoint < (gatingSequenceCache = minimumSequence(wrapPoint))))
+                    ;
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+        final int index = (int) sequence & mask;
+        slots[index] = data == null ? Queue.NILL : data;
+        published.lazySet(index, sequence);
+        return true;
+    }
+
+    /**
+     * Connect a new Cursor to this ring. The Cursor will receive all data published after it connected.
+     *
+     * @return Cursor for a single subscriber
+     */
+    public Cursor<T> connect() {
+        final Cursor<T> cursor = new Cursor<>(
+                                              this, claimed.get());
+        Cursor[] current;
+        Cursor[] updated;
+        do {
+            current = cursors.get();
+            updated = new Cursor[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = cursor;
+        } while (!cursors.compareAndSet(current, updated));
+
+        return cursor;
+    }
+
+    /**
+     * Disconnect a Cursor, so that it no longer gates producers
+     *
+     * @param cursor Cursor to remove
+     * @return true if the Cursor was connected
+     */
+    public boolean disconnect(Cursor<T> cursor) {
+        Cursor[] current;
+        Cursor[] updated;
+        do {
+            current = cursors.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == cursor)
+                    index = i;
+            }
+            if (index == -1)
+                return false;
+            updated = new Cursor[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        } while (!cursors.compareAndSet(current, updated));
+        return true;
+    }
+
+    /**
+     * @return Number of connected Cursors
+     */
+    public int connections() {
+        return cursors.get().length;
+    }
+
+    /**
+     * Close this ring, Cursors will complete once they have read all published data
+     *
+     * @return true if closed
+     */
+    public boolean close() {
+        open = false;
+        return true;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    private long minimumSequence(long wrapPoint) {
+        final Cursor[] current = cursors.get();
+        if (current.length == 0)
+            return wrapPoint + 1;
+        long min = Long.MAX_VALUE;
+        for (Cursor next : current)
+            min = Math.min(min, next.sequence.get());
+        return min;
+    }
+
+    /**
+     * A single subscriber's position in a BroadcastRingBuffer
+     *
+     * @author johnmcclean
+     *
+     */
+    public static class Cursor<T> {
+        private final BroadcastRingBuffer<T> ring;
+        private final AtomicLong sequence;
+        private final WaitStrategy.Takeable<T> takeable = this::poll;
+
+        private Cursor(BroadcastRingBuffer<T> ring, long sequence) {
+            this.ring = ring;
+            this.sequence = new AtomicLong(
+                                           sequence);
+        }
+
+        /**
+         * Take the next element from the ring for this Cursor, waiting (via the consumer WaitStrategy) if none is available
+         *
+         * @return next element
+         * @throws ClosedQueueException if the ring is closed and this Cursor has read all published data
+         */
+        public T next() {
+            try {
+                T result;
+                while ((result = ring.consumerWait.take(takeable)) == null)
+                    ;
+                return result == Queue.NILL ? null : result;
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        private T poll() {
+            final long next = sequence.get();
+            final int index = (int) next & ring.mask;
+            final long available = ring.published.get(index);
+            if (available == next) {
+                final Object data = ring.slots[index];
+                if (sequence.compareAndSet(next, next + 1))
+                    return (T) data;
+                return null;
+            }
+            if (available > next) { //lapped by a producer that passed the gate before this Cursor connected
+                sequence.compareAndSet(next, available);
+                return null;
+            }
+            if (!ring.open && next >= ring.claimed.get())
+                throw new ClosedQueueException();
+            return null;
+        }
+
+        /**
+         * @return Infinite (until the ring is closed) Stream of data read via this Cursor
+         */
+        public ReactiveSeq<T> stream() {
+            return stream(new AlwaysContinue());
+        }
+
+        /**
+         * @param s Subscription, closing the Subscription will close this Stream
+         * @return Infinite (until the ring or Subscription is closed) Stream of data read via this Cursor
+         */
+        public ReactiveSeq<T> stream(Continueable s) {
+            return ReactiveSeq.fromStream(StreamSupport.stream(new ClosingSpliterator<T>(
+                                                                                         Long.MAX_VALUE, () -> {
+                                                                                             if (s.closed())
+                                                                                                 throw new ClosedQueueException();
+                                                                                             return next();
+                                                                                         }, new AlwaysContinue()),
+                                                               false));
+        }
+
+        /**
+         * @return Infinite (until the ring is closed) Stream of CompletableFutures
+         */
+        public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+            return stream().map(CompletableFuture::completedFuture);
+        }
+
+    }
+}
@@ -0,0 +1,201 @@
+package com.aol.cyclops.data.async;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.async.AdaptersModule.ClosingSpliterator;
+import com.aol.cyclops.data.async.Queue.ClosedQueueException;
+import com.aol.cyclops.react.async.subscription.AlwaysContinue;
+import com.aol.cyclops.react.async.subscription.Continueable;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * A single, version stamped slot that holds only the latest value offered to it. Used as an alternative backing for a Topic
+ * (and Signal), when subscribers are only interested in the most recent value - each subscriber reads via its own Cursor,
+ * which returns the latest value published since that Cursor last read. Memory use is constant, however fast values are
+ * offered and however slowly they are read.
+ *
+ * Offering a value allocates nothing. Writers serialise on the version stamp (an odd version marks a write in progress), and
+ * readers retry if the version changes while they read the value. Threads waiting for a new value are only woken when a new value
+ * is actually published - a distinct slot ignores offers equal to its current value.
+ *
+ * <pre>
+ * {@code
+ *    Topic<Integer> topic = new Topic<>(QueueFactories.conflatingSlot());
+ *    ReactiveSeq<Integer> latest = topic.stream();
+ *
+ *    topic.offer(1);
+ *    topic.offer(2);
+ *    latest.limit(1).toList(); //[2]
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the value in the slot
+ */
+public class ConflatingSlot<T> {
+
+    private final boolean distinct;
+    private final AtomicLong version = new AtomicLong(
+                                                      0);
+    private volatile T value;
+    private volatile int waiting = 0;
+    private volatile boolean open = true;
+
+    /**
+     * Construct a slot that publishes every value offered
+     */
+    public ConflatingSlot() {
+        this(false);
+    }
+
+    /**
+     * @param distinct If true, offers equal to the current value are ignored (and no waiting subscribers are woken)
+     */
+    public ConflatingSlot(boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    /**
+     * Replace the value in this slot
+     *
+     * @param data New value
+     * @return true if the value was published, false if the slot is distinct and already held an equal value
+     */
+    public boolean offer(T data) {
+        long current;
+        for (;;) {
+            current = version.get();
+            if ((current & 1) == 0 && version.compareAndSet(current, current + 1))
+                break;
+        }
+        if (distinct && current != 0 && Objects.equals(value, data)) {
+            version.set(current); //nothing changed
+            return false;
+        }
+        value = data;
+        version.set(current + 2);
+        if (waiting > 0)
+            wake();
+        return true;
+    }
+
+    /**
+     * @return A new Cursor, which will first return the current value (if any)
+     */
+    public Cursor<T> connect() {
+        return new Cursor<>(
+                            this);
+    }
+
+    /**
+     * Close this slot, Cursors will complete once they have read the latest value
+     *
+     * @return true if closed
+     */
+    public boolean close() {
+        open = false;
+        wake();
+        return true;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    private synchronized void wake() {
+        notifyAll();
+    }
+
+    private synchronized void await(long seen) throws InterruptedException {
+        waiting++;
+        try {
+            while (version.get() == seen && open)
+                wait();
+        } finally {
+            waiting--;
+        }
+    }
+
+    /**
+     * A single subscriber's view of a ConflatingSlot - the version of the last value it read. A Cursor over a distinct slot also
+     * remembers the last value it returned, so values that changed and changed back between reads are not returned twice in a row.
+     *
+     * @author johnmcclean
+     *
+     */
+    public static class Cursor<T> {
+        private final ConflatingSlot<T> slot;
+        private long seen = 0;
+        private T last;
+        private boolean returned = false;
+
+        private Cursor(ConflatingSlot<T> slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * Take the latest value published since this Cursor last read, waiting if there is none
+         *
+         * @return latest value
+         * @throws ClosedQueueException if the slot is closed and this Cursor has read the latest value
+         */
+        public T next() {
+            try {
+                for (;;) {
+                    final long before = slot.version.get();
+                    if ((before & 1) == 0 && before != seen) {
+                        final T result = slot.value;
+                        if (slot.version.get() == before) {
+                            seen = before;
+                            if (slot.distinct && returned && Objects.equals(last, result))
+                                continue;
+                            last = result;
+                            returned = true;
+                            return result;
+                        }
+                    } else if ((before & 1) == 0) {
+                        if (!slot.open)
+                            throw new ClosedQueueException();
+                        slot.await(before);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        /**
+         * @return Infinite (until the slot is closed) Stream of the latest values read via this Cursor
+         */
+        public ReactiveSeq<T> stream() {
+            return stream(new AlwaysContinue());
+        }
+
+        /**
+         * @param s Subscription, closing the Subscription will close this Stream
+         * @return Infinite (until the slot or Subscription is closed) Stream of the latest values read via this Cursor
+         */
+        public ReactiveSeq<T> stream(Continueable s) {
+            return ReactiveSeq.fromStream(StreamSupport.stream(new ClosingSpliterator<T>(
+                                                                                         Long.MAX_VALUE, () -> {
+                                                                                             if (s.closed())
+                                                                                                 throw new ClosedQueueException();
+                                                                                             return next();
+                                                                                         }, new AlwaysContinue()),
+                                                               false));
+        }
+
+        /**
+         * @return Infinite (until the slot is closed) Stream of CompletableFutures
+         */
+        public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+            return stream().map(CompletableFuture::completedFuture);
+        }
+    }
+}
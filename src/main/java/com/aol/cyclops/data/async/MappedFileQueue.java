@@ -0,0 +1,414 @@
+package com.aol.cyclops.data.async;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.agrona.IoUtil;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * An unbounded, non-blocking java.util.Queue that stores its elements off heap in memory-mapped segment files, so a backlog
+ * larger than the heap budget can spill to local disk without blocking producers.
+ *
+ * Elements are appended as length prefixed records to the current segment, when a segment is full the producer rolls to a
+ * new (or recycled) segment. Consumers deserialize directly from the mapped segment (zero-copy), fully consumed segments are
+ * recycled for reuse by producers. Segment files are scratch space and are deleted when recycled or on {@link #close()} - they
+ * do not survive a restart. An async.Queue built by QueueFactories closes its MappedFileQueue once the Queue is closed and drained.
+ *
+ * Use via QueueFactories
+ *
+ * <pre>
+ * {@code
+ *    QueueFactory<String> factory = QueueFactories.mappedFileQueue(Paths.get("/tmp/spill"),
+ *                                                                   MappedFileQueue.javaSerializer(),
+ *                                                                   64*1024*1024);
+ *    new LazyReact().fromAdapter(factory.build())...
+ * }</pre>
+ *
+ * Producers and consumers are each serialized by their own lock, so producers never wait on consumers (or vice versa).
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Queue
+ */
+public class MappedFileQueue<T> extends AbstractQueue<T> implements AutoCloseable {
+
+    private static final int HEADER = 4;
+    private static final int MAX_SPARE_SEGMENTS = 4;
+
+    private final Path directory;
+    private final Serializer<T> serializer;
+    private final int segmentSize;
+
+    private final Object writeLock = new Object();
+    private final Object readLock = new Object();
+    private final AtomicInteger size = new AtomicInteger(
+                                                         0);
+    private final ConcurrentLinkedQueue<Segment> spare = new ConcurrentLinkedQueue<>();
+    private final CopyOnWriteArrayList<Object> references = new CopyOnWriteArrayList<>();
+
+    private Segment head;
+    private Segment tail;
+    private volatile boolean closed = false;
+
+    /**
+     * Serializes elements into, and out of, memory-mapped segments
+     *
+     * @param <T> Data type to serialize
+     */
+    public static interface Serializer<T> {
+        /**
+         * Write value to the buffer using relative puts, starting at the buffer's current position. If the value does not fit
+         * (a BufferOverflowException is thrown) the write is discarded and retried on a fresh segment.
+         *
+         * @param value To serialize
+         * @param buffer To write to
+         */
+        void write(T value, ByteBuffer buffer);
+
+        /**
+         * Read a value from the buffer. The buffer is positioned at the start of the record and limited to its end, it is a view
+         * directly onto the mapped segment and is only valid for the duration of the call.
+         *
+         * @param buffer To read from
+         * @return Deserialized value
+         */
+        T read(ByteBuffer buffer);
+    }
+
+    /**
+     * @return Serializer that uses Java serialization, for Serializable elements
+     */
+    public static <T extends Serializable> Serializer<T> javaSerializer() {
+        return new JavaSerializer<>();
+    }
+
+    /**
+     * Construct a MappedFileQueue
+     *
+     * @param directory Directory to create segment files in (created if it does not exist)
+     * @param serializer Serializer for elements
+     * @param segmentSize Size in bytes of each segment file, must be large enough to hold the largest serialized element plus a 4 byte header
+     */
+    public MappedFileQueue(Path directory, Serializer<T> serializer, int segmentSize) {
+        if (segmentSize <= HEADER)
+            throw new IllegalArgumentException(
+                                               "Segment size must be larger than " + HEADER + " bytes, was " + segmentSize);
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        this.head = this.tail = newSegment();
+    }
+
+    /*
+     * Append an element to the tail segment, rolling to a new segment if it is full
+     * @see java.util.Queue#offer(java.lang.Object)
+     */
+    @Override
+    public boolean offer(T e) {
+        Objects.requireNonNull(e);
+        synchronized (writeLock) {
+            ensureOpen();
+            if (!append(tail, e)) {
+                Segment next = nextSegment();
+                if (!append(next, e)) {
+                    recycle(next);
+                    throw new IllegalArgumentException(
+                                                       "Element does not fit in a segment of " + segmentSize + " bytes");
+                }
+                tail.next = next;
+                tail = next;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * @see java.util.Queue#poll()
+     */
+    @Override
+    public T poll() {
+        return next(true);
+    }
+
+    /*
+     * @see java.util.Queue#peek()
+     */
+    @Override
+    public T peek() {
+        return next(false);
+    }
+
+    /*
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Iterates over a snapshot of the elements currently in the Queue (deserialized when the Iterator is created). Elements can
+     * only be removed via poll.
+     *
+     * @see java.util.AbstractCollection#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        final List<T> snapshot = new ArrayList<>(
+                                                 size());
+        synchronized (readLock) {
+            if (!closed) {
+                for (Segment segment = head; segment != null; segment = segment.next) {
+                    int position = segment.readPosition;
+                    final int committed = segment.committed;
+                    while (position < committed) {
+                        snapshot.add(read(segment, position));
+                        position = end(segment, position);
+                    }
+                }
+            }
+        }
+        final Iterator<T> it = snapshot.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException(
+                                                        "MappedFileQueue elements can only be removed via poll");
+            }
+        };
+    }
+
+    /**
+     * Unmap and delete all segment files. Any elements remaining in the Queue are discarded.
+     */
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            synchronized (readLock) {
+                if (closed)
+                    return;
+                closed = true;
+                for (Segment segment = head; segment != null; segment = segment.next)
+                    segment.delete();
+                Segment next;
+                while ((next = spare.poll()) != null)
+                    next.delete();
+                size.set(0);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedFileQueue[directory=" + directory + ", size=" + size() + "]";
+    }
+
+    private boolean append(Segment segment, T e) {
+        final ByteBuffer buffer = segment.buffer;
+        final int start = segment.committed;
+        if (start + HEADER > segmentSize)
+            return false;
+        int length;
+        if (isReference(e)) {
+            references.addIfAbsent(e);
+            length = -(references.indexOf(e) + 1);
+        } else {
+            buffer.limit(segmentSize);
+            buffer.position(start + HEADER);
+            try {
+                serializer.write(e, buffer);
+            } catch (BufferOverflowException ex) {
+                return false;
+            }
+            length = buffer.position() - start - HEADER;
+        }
+        buffer.putInt(start, length);
+        size.incrementAndGet();
+        segment.committed = start + HEADER + Math.max(length, 0);
+        return true;
+    }
+
+    private T next(boolean consume) {
+        synchronized (readLock) {
+            if (closed)
+                return null;
+            Segment segment = head;
+            for (;;) {
+                final int position = segment.readPosition;
+                if (position < segment.committed) {
+                    final T result = read(segment, position);
+                    if (consume) {
+                        segment.readPosition = end(segment, position);
+                        size.decrementAndGet();
+                    }
+                    return result;
+                }
+                final Segment next = segment.next;
+                if (next == null)
+                    return null;
+                if (position < segment.committed)
+                    continue;
+                head = next;
+                recycle(segment);
+                segment = next;
+            }
+        }
+    }
+
+    private T read(Segment segment, int position) {
+        final ByteBuffer reader = segment.reader;
+        reader.clear();
+        final int length = reader.getInt(position);
+        if (length < 0)
+            return (T) references.get(-length - 1);
+        reader.limit(position + HEADER + length);
+        reader.position(position + HEADER);
+        return serializer.read(reader);
+    }
+
+    private int end(Segment segment, int position) {
+        return position + HEADER + Math.max(segment.reader.getInt(position), 0);
+    }
+
+    private boolean isReference(Object e) {
+        return e instanceof Queue.NIL || e instanceof Queue.PoisonPill;
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException(
+                                            "MappedFileQueue is closed");
+    }
+
+    private Segment nextSegment() {
+        final Segment recycled = spare.poll();
+        return recycled != null ? recycled : newSegment();
+    }
+
+    private void recycle(Segment segment) {
+        if (spare.size() < MAX_SPARE_SEGMENTS) {
+            segment.reset();
+            spare.offer(segment);
+        } else
+            segment.delete();
+    }
+
+    private Segment newSegment() {
+        try {
+            final File file = Files.createTempFile(directory, "queue-", ".segment")
+                                   .toFile();
+            return new Segment(
+                               file, IoUtil.mapNewFile(file, segmentSize));
+        } catch (IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    private static final class Segment {
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private final ByteBuffer reader;
+        private volatile int committed = 0;
+        private volatile Segment next = null;
+        private int readPosition = 0;
+
+        Segment(File file, MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+            this.reader = buffer.duplicate();
+        }
+
+        void reset() {
+            readPosition = 0;
+            next = null;
+            committed = 0;
+        }
+
+        void delete() {
+            IoUtil.unmap(buffer);
+            file.delete();
+        }
+    }
+
+    private static final class JavaSerializer<T extends Serializable> implements Serializer<T> {
+
+        @Override
+        public void write(T value, ByteBuffer buffer) {
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                                                                 new OutputStream() {
+                                                                     @Override
+                                                                     public void write(int b) {
+                                                                         buffer.put((byte) b);
+                                                                     }
+
+                                                                     @Override
+                                                                     public void write(byte[] b, int off, int len) {
+                                                                         buffer.put(b, off, len);
+                                                                     }
+                                                                 })) {
+                out.writeObject(value);
+            } catch (IOException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+
+        @Override
+        public T read(ByteBuffer buffer) {
+            try (ObjectInputStream in = new ObjectInputStream(
+                                                              new InputStream() {
+                                                                  @Override
+                                                                  public int read() {
+                                                                      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+                                                                  }
+
+                                                                  @Override
+                                                                  public int read(byte[] b, int off, int len) {
+                                                                      if (!buffer.hasRemaining())
+                                                                          return -1;
+                                                                      final int read = Math.min(len, buffer.remaining());
+                                                                      buffer.get(b, off, read);
+                                                                      return read;
+                                                                  }
+                                                              })) {
+                return (T) in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+}
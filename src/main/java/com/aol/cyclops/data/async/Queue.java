@@ -2,12 +2,15 @@ package com.aol.cyclops.data.async;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -22,6 +25,7 @@ import com.aol.cyclops.data.async.AdaptersModule.SingleContinuation;
 import com.aol.cyclops.data.async.AdaptersModule.StreamOfContinuations;
 import com.aol.cyclops.data.async.wait.DirectWaitStrategy;
 import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.react.exceptions.SimpleReactProcessingException;
 import com.aol.cyclops.react.async.subscription.AlwaysContinue;
 import com.aol.cyclops.react.async.subscription.Continueable;
@@ -56,9 +60,15 @@ public class Queue<T> implements Adapter<T> {
 
     private final static PoisonPill POISON_PILL = new PoisonPill();
     private final static PoisonPill CLEAR_PILL = new PoisonPill();
+    private final static Object BATCH_TIMEOUT = new Object();
+    private final static long BATCH_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
     private volatile boolean open = true;
     private final AtomicInteger listeningStreams = new AtomicInteger();
+    /*
+     * Pills (and anything after them) drained in bulk past the end of a batch - read before the underlying queue once closed
+     */
+    private final java.util.Queue<T> carried = new ConcurrentLinkedQueue<>();
     private final int timeout;
     private final TimeUnit timeUnit;
 
@@ -70,6 +80,10 @@ public class Queue<T> implements Adapter<T> {
     private final BlockingQueue<T> queue;
     private final WaitStrategy<T> consumerWait;
     private final WaitStrategy<T> producerWait;
+    /**
+     * Updated with the size of this Queue after every add and take, a {@link Signal#conflatingSignal()} keeps the cost of
+     * tracking a busy Queue constant
+     */
     @Getter
     @Setter
     private volatile Signal<Integer> sizeSignal;
@@ -181,6 +195,133 @@ public class Queue<T> implements Adapter<T> {
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply((timeout, timeUnit) -> ensureOpen(timeout, timeUnit)), s));
     }
 
+    /**
+     * Stream batches of data from this Queue. Each batch waits for at least one element, then drains up to max elements
+     * directly from the underlying queue, waiting no longer than maxWait (from the first element) to fill the batch.
+     * 
+     * <pre>
+     * {@code 
+     *    queue.streamBatched(1000,10,TimeUnit.MILLISECONDS)
+     *         .forEach(batch -> db.insertAll(batch));
+     * }
+     * </pre>
+     * 
+     * @param max Maximum number of elements per batch
+     * @param maxWait Maximum time to wait to fill a batch
+     * @param unit Time unit for maxWait
+     * @return Sequential Infinite (until Queue is closed) Stream of batches of data from this Queue
+     */
+    public ReactiveSeq<ListX<T>> streamBatched(int max, long maxWait, TimeUnit unit) {
+        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+        final long maxWaitNanos = unit.toNanos(maxWait);
+        return ReactiveSeq.fromStream(closingStreamBatched(() -> nextBatch(max, maxWaitNanos), new AlwaysContinue()));
+    }
+
+    private ListX<T> nextBatch(int max, long maxWaitNanos) {
+        final ListX<T> batch = ListX.fromIterable(new ArrayList<>(
+                                                                  Math.min(max, 1024)));
+        batch.add(ensureOpen(this.timeout, this.timeUnit));
+        final SimpleTimer timer = new SimpleTimer();
+        try {
+            while (batch.size() < max) {
+                if (drainAvailable(batch, max - batch.size(), true) == -1)
+                    break;
+                if (batch.size() >= max || timer.getElapsedNanoseconds() >= maxWaitNanos)
+                    break;
+                final T next = consumerWait.take(() -> pollBatched(timer, maxWaitNanos));
+                if (next == null) { //a try once strategy over a non-blocking queue, park rather than spin until the next drain
+                    LockSupport.parkNanos(Math.min(BATCH_PARK_NANOS, maxWaitNanos - timer.getElapsedNanoseconds()));
+                    continue;
+                }
+                if (next == BATCH_TIMEOUT || !acceptBatched(batch, next, Collections.emptyList(), 0, true))
+                    break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        return batch;
+    }
+
+    /**
+     * Timed poll for the remainder of a batch. Blocking queues wait here, non-blocking queues return at once and leave waiting to
+     * the consumer WaitStrategy.
+     */
+    private T pollBatched(SimpleTimer timer, long maxWaitNanos) throws InterruptedException {
+        final long remaining = maxWaitNanos - timer.getElapsedNanoseconds();
+        if (remaining <= 0)
+            return (T) BATCH_TIMEOUT;
+        return queue.poll(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Drain up to max currently available elements from this Queue into the supplied Collection, without blocking.
+     * Uses the bulk drainTo operation of the underlying queue (e.g. BlockingQueue#drainTo or Agrona's drainTo), and updates
+     * the size Signal once per call.
+     * 
+     * @param collection Collection to add data to
+     * @param max Maximum number of elements to drain
+     * @return Number of elements added to the Collection
+     * @throws ClosedQueueException if this Queue is closed and no data remains
+     */
+    public int drainTo(Collection<? super T> collection, int max) {
+        if (!open && queue.size() == 0 && carried.isEmpty()) {
+            releaseIfDrained();
+            throw new ClosedQueueException();
+        }
+        final int added = drainAvailable(collection, max, false);
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+        if (added == -1)
+            throw new ClosedQueueException();
+        return added;
+    }
+
+    /**
+     * @return elements added, or -1 if the Queue was closed before any data was drained
+     */
+    private int drainAvailable(Collection<? super T> collection, int max, boolean batchStarted) {
+        final List<T> drained = new ArrayList<>(
+                                                Math.min(max, 1024));
+        if (!open) {
+            T next;
+            while (drained.size() < max && (next = carried.poll()) != null)
+                drained.add(next);
+        }
+        queue.drainTo(drained, max - drained.size());
+        int added = 0;
+        for (int i = 0; i < drained.size(); i++) {
+            if (!acceptBatched(collection, drained.get(i), drained, i, batchStarted || added > 0))
+                return added == 0 ? -1 : added;
+            added++;
+        }
+        return added;
+    }
+
+    /**
+     * Add data to a batch, unless it is a pill. On reaching a poison pill when data has already been batched, the pill (and
+     * anything drained after it) is carried over, in order, so the next read closes the Stream. Nothing is added back to the
+     * (possibly full) underlying queue.
+     */
+    private boolean acceptBatched(Collection<? super T> collection, T data, List<T> drained, int index, boolean batchStarted) {
+        if (CLEAR_PILL == data) {
+            this.queue.clear();
+            return false;
+        }
+        if (data instanceof PoisonPill) {
+            if (batchStarted)
+                carried.add(data);
+            for (int i = index + 1; i < drained.size(); i++)
+                carried.add(drained.get(i));
+            return false;
+        }
+        collection.add((T) nillSafe(data));
+        return true;
+    }
+
     public ReactiveSeq<T> streamControl(Continueable s, Function<Supplier<T>, Supplier<T>> batcher) {
 
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
@@ -202,6 +343,15 @@ public class Queue<T> implements Adapter<T> {
         return st;
     }
 
+    private Stream<ListX<T>> closingStreamBatched(Supplier<ListX<T>> s, Continueable sub) {
+
+        Stream<ListX<T>> st = StreamSupport.stream(new ClosingSpliterator(
+                                                                          Long.MAX_VALUE, s, sub, this),
+                                                   false);
+
+        return st;
+    }
+
     private Stream<T> closingStream(Supplier<T> s, Continueable sub) {
 
         Stream<T> st = StreamSupport.stream(new ClosingSpliterator(
@@ -242,8 +392,15 @@ public class Queue<T> implements Adapter<T> {
     }
 
     private T ensureOpen(final long timeout, TimeUnit timeUnit) {
-        if (!open && queue.size() == 0)
-            throw new ClosedQueueException();
+        if (!open) {
+            final T pending = carried.poll();
+            if (pending != null)
+                return (T) nillSafe(ensureNotPoisonPill(pending));
+            if (queue.size() == 0) {
+                releaseIfDrained();
+                throw new ClosedQueueException();
+            }
+        }
         final SimpleTimer timer = new SimpleTimer();
         final long timeoutNanos = timeUnit.toNanos(timeout);
         T data = null;
@@ -306,6 +463,7 @@ public class Queue<T> implements Adapter<T> {
                 poll = ensureClear(queue.poll());
 
             this.queue.clear();
+            releaseIfDrained();
         }
 
         return poll;
@@ -313,12 +471,31 @@ public class Queue<T> implements Adapter<T> {
 
     private T ensureNotPoisonPill(T data) {
         if (data instanceof PoisonPill) {
+            releaseIfDrained();
             throw new ClosedQueueException();
 
         }
         return data;
     }
 
+    /*
+     * Once closed and drained, release the resources held by the underlying queue (e.g. a MappedFileQueue's mapped segment files)
+     */
+    private void releaseIfDrained() {
+        if (!open && queue.size() == 0 && carried.isEmpty())
+            release();
+    }
+
+    private void release() {
+        if (queue instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) queue).close();
+            } catch (Exception e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+
     /**
      * Exception thrown if Queue closed
      * 
@@ -362,7 +539,7 @@ public class Queue<T> implements Adapter<T> {
         private static final long serialVersionUID = 1L;
     }
 
-    private static class PoisonPill {
+    static class PoisonPill {
     }
 
     public T poll(long time, TimeUnit unit) throws QueueTimeoutException {
@@ -450,7 +627,8 @@ public class Queue<T> implements Adapter<T> {
     }
 
     /**
-     * Close this Queue
+     * Close this Queue. Connected Streams complete once they have read the remaining data, after which the resources held by
+     * the underlying queue (e.g. a MappedFileQueue) are released.
      * 
      * @return true if closed
      */
@@ -464,15 +642,22 @@ public class Queue<T> implements Adapter<T> {
 
             }
         }
+        releaseIfDrained();
 
         return true;
     }
 
+    /**
+     * Close this Queue and discard any data remaining in it. If no Streams are connected the resources held by the underlying
+     * queue (e.g. a MappedFileQueue) are released immediately, otherwise once a connected Stream reads the clear signal.
+     */
     public void closeAndClear() {
 
         this.open = false;
 
         add((T) CLEAR_PILL);
+        if (listeningStreams.get() == 0)
+            release();
 
     }
 
@@ -1,5 +1,6 @@
 package com.aol.cyclops.data.async;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
@@ -9,6 +10,7 @@ import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import com.aol.cyclops.data.async.wait.NoWaitRetry;
 import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.data.async.wait.YieldWait;
 
 public class QueueFactories {
 
@@ -109,6 +111,38 @@ public class QueueFactories {
 
     }
 
+    /**
+     * Creates an async.Queue backed by a MappedFileQueue, an unbounded Queue that stores elements off heap in memory-mapped
+     * segment files in the supplied directory. Large backlogs spill to local disk rather than blocking producers or exhausting the heap.
+     * Wait strategy used is NoWaitRetry by default for both Consumers and Producers 
+     * (both Consumers and Producers will repeatedly retry until successful). Use 
+     *  withConsumerWaitStrategy &amp; withProducerWaitStrategy methods on the returned queue to change the 
+     *  wait strategy
+     * <pre>
+     * {@code
+     *    QueueFactories.mappedFileQueue(Paths.get("/tmp/spill"),MappedFileQueue.javaSerializer(),64*1024*1024);
+     * }</pre>
+     * 
+     * @param directory Directory for segment files
+     * @param serializer Serializer for elements
+     * @param segmentSize Size in bytes of each segment file
+     * @return unbounded, file backed Queue
+     */
+    public static <T> QueueFactory<T> mappedFileQueue(Path directory, MappedFileQueue.Serializer<T> serializer, int segmentSize) {
+        return () -> new Queue<T>(
+                                  new MappedFileQueue<>(
+                                                        directory, serializer, segmentSize),
+                                  new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    public static <T> QueueFactory<T> mappedFileQueue(Path directory, MappedFileQueue.Serializer<T> serializer, int segmentSize,
+            WaitStrategy<T> strategy) {
+        return () -> new Queue<T>(
+                                  new MappedFileQueue<>(
+                                                        directory, serializer, segmentSize),
+                                  strategy, strategy);
+    }
+
     /**
      * @return async.Queue backed by a Synchronous Queue
      */
@@ -117,4 +151,55 @@ public class QueueFactories {
                                   new SynchronousQueue<>());
     }
 
+    /**
+     * Creates a pre-allocated, lock-free BroadcastRingBuffer for use with a Topic. All subscribers share a single ring, 
+     * rather than a Queue each, producers are gated on the slowest subscriber.
+     * Wait strategy used is YieldWait by default for both Consumers and Producers
+     * 
+     * <pre>
+     * {@code
+     *    Topic<Integer> topic = new Topic<>(QueueFactories.broadcastRingBuffer(1024));
+     * }</pre>
+     * 
+     * @param ringSize Minimum capacity of the ring (rounded up to the next power of 2)
+     * @return RingBuffer to back a Topic
+     */
+    public static <T> BroadcastRingBuffer<T> broadcastRingBuffer(int ringSize) {
+        return new BroadcastRingBuffer<T>(
+                                          ringSize, new YieldWait<>());
+    }
+
+    /**
+     * Creates a pre-allocated, lock-free BroadcastRingBuffer for use with a Topic, using the supplied WaitStrategy
+     * (e.g. SpinWait, YieldWait or ExponentialBackofWaitStrategy) for both Consumers and Producers
+     * 
+     * <pre>
+     * {@code
+     *    Topic<Integer> topic = new Topic<>(QueueFactories.broadcastRingBuffer(1024,new SpinWait<>()));
+     * }</pre>
+     * 
+     * @param ringSize Minimum capacity of the ring (rounded up to the next power of 2)
+     * @param strategy WaitStrategy for Consumers and Producers
+     * @return RingBuffer to back a Topic
+     */
+    public static <T> BroadcastRingBuffer<T> broadcastRingBuffer(int ringSize, WaitStrategy<T> strategy) {
+        return new BroadcastRingBuffer<T>(
+                                          ringSize, strategy);
+    }
+
+    /**
+     * Creates a ConflatingSlot for use with a Topic. Subscribers receive the latest value offered since they last read, older
+     * values are dropped, so memory use is constant regardless of the rate data is offered.
+     * 
+     * <pre>
+     * {@code
+     *    Topic<Integer> topic = new Topic<>(QueueFactories.conflatingSlot());
+     * }</pre>
+     * 
+     * @return ConflatingSlot to back a Topic
+     */
+    public static <T> ConflatingSlot<T> conflatingSlot() {
+        return new ConflatingSlot<T>();
+    }
+
 }
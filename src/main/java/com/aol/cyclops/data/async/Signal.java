@@ -27,6 +27,8 @@ public class Signal<T> {
     private final Adapter<T> continuous;
     @Getter
     private final Adapter<T> discrete;
+    //discrete is backed by a distinct ConflatingSlot, which detects changes itself
+    private final boolean conflating;
 
     /**
      * 
@@ -36,9 +38,13 @@ public class Signal<T> {
      * @param discrete  Adapter to handle the discrete (changed) flow
      */
     public Signal(Adapter<T> continuous, Adapter<T> discrete) {
+        this(continuous, discrete, false);
+    }
 
+    private Signal(Adapter<T> continuous, Adapter<T> discrete, boolean conflating) {
         this.continuous = continuous;
         this.discrete = discrete;
+        this.conflating = conflating;
     }
 
     /**
@@ -52,6 +58,31 @@ public class Signal<T> {
                                           new LinkedBlockingQueue<T>(), null));
     }
 
+    /**
+     * A Signal that holds only the latest value. Subscribers to both the continuous and discrete flows receive the latest value
+     * set since they last read, rather than every value. Memory use is constant however fast the Signal is set, and setting it
+     * allocates nothing. Subscribers to the discrete flow are only woken when the value changes.
+     * 
+     * <pre>
+     * {@code
+     *    Signal<Integer> size = Signal.conflatingSignal();
+     *    queue.setSizeSignal(size);
+     *    size.getDiscrete().stream().forEach(System.out::println);
+     * }
+     * </pre>
+     * 
+     * @return Signal backed by ConflatingSlots
+     */
+    public static <T> Signal<T> conflatingSignal() {
+        return new Signal<T>(
+                             new Topic<>(
+                                         new ConflatingSlot<T>()),
+                             new Topic<>(
+                                         new ConflatingSlot<T>(
+                                                               true)),
+                             true);
+    }
+
     /**
      * @return Signal backed by a topic
      */
@@ -76,15 +107,15 @@ public class Signal<T> {
     public T set(T newValue) {
         continuous.offer(newValue);
 
-        setDiscreteIfDiff(newValue);
+        if (conflating)
+            discrete.offer(newValue);
+        else
+            setDiscreteIfDiff(newValue);
         return newValue;
     }
 
     private void setDiscreteIfDiff(T newValue) {
-        T oldVal = discreteState.get();
-        while (!discreteState.compareAndSet(oldVal, newValue)) {
-            oldVal = discreteState.get();
-        }
+        final T oldVal = discreteState.getAndSet(newValue);
 
         if (!Objects.equals(oldVal, newValue))
             discrete.offer(newValue);
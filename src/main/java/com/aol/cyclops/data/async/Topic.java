@@ -14,6 +14,7 @@ import org.pcollections.PVector;
 import org.pcollections.TreePVector;
 
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.async.BroadcastRingBuffer.Cursor;
 import com.aol.cyclops.react.async.subscription.Continueable;
 
 import lombok.AccessLevel;
@@ -24,6 +25,10 @@ import lombok.Synchronized;
  * A class that can accept input streams and generate output streams where data sent in the Topic is guaranteed to be
  * provided to all Topic subsribers
  * 
+ * By default each subscriber is provided with its own Queue, alternatively a Topic can be backed by a single shared
+ * BroadcastRingBuffer where each subscriber reads via its own Cursor @see QueueFactories#broadcastRingBuffer(int, com.aol.cyclops.data.async.wait.WaitStrategy)
+ * or by a single ConflatingSlot, where each subscriber reads the latest value since its last read @see QueueFactories#conflatingSlot()
+ * 
  * @author johnmcclean
  *
  * @param <T> Data type for the Topic
@@ -34,15 +39,21 @@ public class Topic<T> implements Adapter<T> {
     private final DistributingCollection<T> distributor = new DistributingCollection<T>();
     @Getter(AccessLevel.PACKAGE)
     private volatile PMap<Seq, Queue<T>> streamToQueue = HashTreePMap.empty();
+    @Getter(AccessLevel.PACKAGE)
+    private volatile PMap<Seq, Cursor<T>> streamToCursor = HashTreePMap.empty();
     private final Object lock = new Object();
     private volatile int index = 0;
+    private final BroadcastRingBuffer<T> ring;
+    private volatile Cursor<T> initialCursor;
+    private final ConflatingSlot<T> slot;
 
     /**
      * Construct a new Topic
      */
     public Topic() {
         Queue<T> q = new Queue<T>();
-
+        this.ring = null;
+        this.slot = null;
         distributor.addQueue(q);
     }
 
@@ -51,10 +62,45 @@ public class Topic<T> implements Adapter<T> {
      * @param q Queue to back this Topic with
      */
     public Topic(Queue<T> q) {
-
+        this.ring = null;
+        this.slot = null;
         distributor.addQueue(q);
     }
 
+    /**
+     * Construct a Topic backed by a single pre-allocated ring buffer. Rather than maintaining a Queue
+     * per subscribing Stream, each Stream reads from the shared ring via its own Cursor. Publishers are gated
+     * on the slowest connected Stream.
+     * 
+     * <pre>
+     * {@code
+     *    Topic<Integer> topic = new Topic<>(QueueFactories.broadcastRingBuffer(1024,new SpinWait<>()));
+     * }</pre>
+     * 
+     * @param ring RingBuffer to back this Topic with
+     */
+    public Topic(BroadcastRingBuffer<T> ring) {
+        this.ring = ring;
+        this.slot = null;
+        this.initialCursor = ring.connect();
+    }
+
+    /**
+     * Construct a conflating Topic backed by a single slot. Each subscribing Stream receives the latest value offered since it
+     * last read (intermediate values are dropped), so memory use is constant however fast data is offered.
+     * 
+     * <pre>
+     * {@code
+     *    Topic<Integer> topic = new Topic<>(QueueFactories.conflatingSlot());
+     * }</pre>
+     * 
+     * @param slot ConflatingSlot to back this Topic with
+     */
+    public Topic(ConflatingSlot<T> slot) {
+        this.ring = null;
+        this.slot = slot;
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic 
@@ -64,7 +110,13 @@ public class Topic<T> implements Adapter<T> {
      */
     @Synchronized("lock")
     public void disconnect(Stream<T> stream) {
-
+        if (slot != null) //Cursors hold no state in the slot
+            return;
+        if (ring != null) {
+            ring.disconnect(streamToCursor.get(stream));
+            this.streamToCursor = streamToCursor.minus(stream);
+            return;
+        }
         distributor.removeQueue(streamToQueue.get(stream));
 
         this.streamToQueue = streamToQueue.minus(stream);
@@ -80,10 +132,28 @@ public class Topic<T> implements Adapter<T> {
         return stream;
     }
 
+    @Synchronized("lock")
+    private <R> ReactiveSeq<R> connectCursor(Function<Cursor<T>, ReactiveSeq<R>> streamCreator) {
+        Cursor<T> cursor = this.initialCursor != null ? this.initialCursor : ring.connect();
+        this.initialCursor = null;
+        ReactiveSeq<R> stream = streamCreator.apply(cursor);
+
+        this.streamToCursor = streamToCursor.plus(stream, cursor);
+        return stream;
+    }
+
     /**
      * @param stream Input data from provided Stream
      */
     public boolean fromStream(Stream<T> stream) {
+        if (slot != null) {
+            stream.forEach(slot::offer);
+            return true;
+        }
+        if (ring != null) {
+            stream.forEach(ring::offer);
+            return true;
+        }
         stream.collect(Collectors.toCollection(() -> distributor));
         return true;
 
@@ -96,6 +166,11 @@ public class Topic<T> implements Adapter<T> {
      * @return Stream of CompletableFutures that can be used as input into a SimpleReact concurrent dataflow
      */
     public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+        if (slot != null)
+            return slot.connect()
+                       .streamCompletableFutures();
+        if (ring != null)
+            return connectCursor(c -> c.streamCompletableFutures());
         return connect(q -> q.streamCompletableFutures());
     }
 
@@ -105,13 +180,21 @@ public class Topic<T> implements Adapter<T> {
      * @return Stream of data
      */
     public ReactiveSeq<T> stream() {
-
+        if (slot != null)
+            return slot.connect()
+                       .stream();
+        if (ring != null)
+            return connectCursor(c -> c.stream());
         return connect(q -> q.stream());
 
     }
 
     public ReactiveSeq<T> stream(Continueable s) {
-
+        if (slot != null)
+            return slot.connect()
+                       .stream(s);
+        if (ring != null)
+            return connectCursor(c -> c.stream(s));
         return connect(q -> q.stream(s));
 
     }
@@ -134,6 +217,10 @@ public class Topic<T> implements Adapter<T> {
      * @return true if closed
      */
     public boolean close() {
+        if (slot != null)
+            return slot.close();
+        if (ring != null)
+            return ring.close();
         this.distributor.getSubscribers()
                         .forEach(it -> it.close());
         return true;
@@ -141,6 +228,8 @@ public class Topic<T> implements Adapter<T> {
     }
 
     /**
+     * Not supported by ring buffer or slot backed Topics (there are no per subscriber Queues to track)
+     * 
      * @return Track changes in size in the Topic's data
      */
     public Signal<Integer> getSizeSignal(int index) {
@@ -163,6 +252,12 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(T data) {
+        if (slot != null) {
+            slot.offer(data);
+            return true;
+        }
+        if (ring != null)
+            return ring.offer(data);
         fromStream(Stream.of(data));
         return true;
 
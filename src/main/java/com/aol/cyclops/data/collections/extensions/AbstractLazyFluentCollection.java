@@ -0,0 +1,192 @@
+package com.aol.cyclops.data.collections.extensions;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.control.StreamUtils;
+
+/**
+ * Base class for lazy collection views. Transformations are recorded as a single ReactiveSeq pipeline over the source collection
+ * and fused into one pass when the view is first accessed. The result is materialized at most once, and short-circuiting
+ * operations (limit, findFirst, takeWhile) stop pulling from the source as soon as they complete.
+ *
+ * <pre>
+ * {@code
+ *  ListX<Integer> result = ListX.range(0,1_000_000)
+ *                               .lazy()
+ *                               .map(i->i*2)
+ *                               .filter(i->i%3==0)
+ *                               .limit(10)
+ *                               .get();
+ *
+ *  //one pass over the first 15 elements, no intermediate lists
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * Subclasses supply construction (via {@link #create(Supplier)}) and {@link #materialize(ReactiveSeq)}, and narrow the return
+ * types of map and flatMap - the stages themselves are defined here.
+ *
+ * @param <T> Data type of the elements in the view
+ * @param <C> Collection type produced on materialization
+ * @param <V> Type of this view
+ */
+public abstract class AbstractLazyFluentCollection<T, C extends Collection<T>, V extends AbstractLazyFluentCollection<T, C, V>>
+        implements LazyFluentCollection<T, C>, Iterable<T> {
+
+    private final Supplier<ReactiveSeq<T>> pipeline;
+    private volatile C materialized;
+
+    protected AbstractLazyFluentCollection(Supplier<ReactiveSeq<T>> pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * @param stream Fused pipeline to collect
+     * @return Collection containing the elements of the pipeline
+     */
+    protected abstract C materialize(ReactiveSeq<T> stream);
+
+    /**
+     * @param pipeline Pipeline for the new view
+     * @return A new view of the same kind as this one (materializing into the same kind of Collection)
+     */
+    protected abstract <R> AbstractLazyFluentCollection<R, ?, ?> create(Supplier<ReactiveSeq<R>> pipeline);
+
+    /**
+     * Record an additional stage on the pipeline of this view. If this view has already been materialized the new stage
+     * reads from the materialized collection instead of re-running the upstream stages.
+     *
+     * @param stage Stage to add
+     * @return Pipeline for a new view
+     */
+    protected <R> Supplier<ReactiveSeq<R>> fuse(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<R>> stage) {
+        return () -> stage.apply(stream());
+    }
+
+    @SuppressWarnings("unchecked")
+    private V stage(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<T>> stage) {
+        return (V) create(fuse(stage));
+    }
+
+    public <R> AbstractLazyFluentCollection<R, ?, ?> map(Function<? super T, ? extends R> mapper) {
+        return create(fuse(s -> s.map(mapper)));
+    }
+
+    public <R> AbstractLazyFluentCollection<R, ?, ?> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return create(fuse(s -> s.flatMap(mapper.andThen(StreamUtils::stream))));
+    }
+
+    public V filter(Predicate<? super T> pred) {
+        return stage(s -> s.filter(pred));
+    }
+
+    public V filterNot(Predicate<? super T> pred) {
+        return stage(s -> s.filter(pred.negate()));
+    }
+
+    public V notNull() {
+        return stage(s -> s.filter(Objects::nonNull));
+    }
+
+    public V peek(Consumer<? super T> c) {
+        return stage(s -> s.peek(c));
+    }
+
+    public V limit(long num) {
+        return stage(s -> s.limit(num));
+    }
+
+    public V skip(long num) {
+        return stage(s -> s.skip(num));
+    }
+
+    public V takeWhile(Predicate<? super T> p) {
+        return stage(s -> s.limitWhile(p));
+    }
+
+    public V dropWhile(Predicate<? super T> p) {
+        return stage(s -> s.skipWhile(p));
+    }
+
+    public V takeUntil(Predicate<? super T> p) {
+        return stage(s -> s.limitUntil(p));
+    }
+
+    public V dropUntil(Predicate<? super T> p) {
+        return stage(s -> s.skipUntil(p));
+    }
+
+    public V distinct() {
+        return stage(s -> s.distinct());
+    }
+
+    /*
+     * Materialize this view (at most once) into a Collection
+     * @see com.aol.cyclops.data.collections.extensions.LazyFluentCollection#get()
+     */
+    @Override
+    public C get() {
+        C result = materialized;
+        if (result == null) {
+            synchronized (this) {
+                result = materialized;
+                if (result == null)
+                    materialized = result = materialize(pipeline.get());
+            }
+        }
+        return result;
+    }
+
+    /*
+     * A Stream over this view. Runs the fused pipeline if this view has not been materialized yet, this does not
+     * materialize the view.
+     * @see com.aol.cyclops.data.collections.extensions.LazyFluentCollection#stream()
+     */
+    @Override
+    public ReactiveSeq<T> stream() {
+        C result = materialized;
+        if (result == null)
+            return pipeline.get();
+        return ReactiveSeq.fromIterable(result);
+    }
+
+    /**
+     * @return true if this view has been materialized
+     */
+    public boolean isMaterialized() {
+        return materialized != null;
+    }
+
+    /**
+     * @return First element of this view, only as much of the source as is needed to find it is processed
+     */
+    public Optional<T> findFirst() {
+        return stream().findFirst();
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return get().iterator();
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return get().toString();
+    }
+
+}
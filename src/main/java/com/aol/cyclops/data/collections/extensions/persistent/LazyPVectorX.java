@@ -0,0 +1,59 @@
+package com.aol.cyclops.data.collections.extensions.persistent;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.AbstractLazyFluentCollection;
+
+/**
+ * A lazy view over a PVectorX. Transformations are fused into a single pass that runs when the view is first accessed
+ * via {@link #get()}, the resulting PVectorX is built on the same PVector implementation (backend) as the source PVectorX.
+ *
+ * <pre>
+ * {@code
+ *  PVectorX.of(1,2,3,4)
+ *       .lazy()
+ *       .map(i->i+1)
+ *       .filter(i->i%2==0)
+ *       .get();
+ *
+ *  //PVectorX[2,4]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the elements in the view
+ */
+public class LazyPVectorX<T> extends AbstractLazyFluentCollection<T, PVectorX<T>, LazyPVectorX<T>> {
+
+    private final PVectorX<?> source;
+
+    LazyPVectorX(PVectorX<?> source, Supplier<ReactiveSeq<T>> pipeline) {
+        super(pipeline);
+        this.source = source;
+    }
+
+    @Override
+    protected PVectorX<T> materialize(ReactiveSeq<T> stream) {
+        return PVectorX.fromStream(source.<T> monoid(), stream);
+    }
+
+    @Override
+    protected <R> LazyPVectorX<R> create(Supplier<ReactiveSeq<R>> pipeline) {
+        return new LazyPVectorX<>(
+                                  source, pipeline);
+    }
+
+    @Override
+    public <R> LazyPVectorX<R> map(Function<? super T, ? extends R> mapper) {
+        return (LazyPVectorX<R>) super.map(mapper);
+    }
+
+    @Override
+    public <R> LazyPVectorX<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return (LazyPVectorX<R>) super.flatMap(mapper);
+    }
+
+}
@@ -17,6 +17,7 @@ import org.pcollections.PMap;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
+import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.Matchable.CheckValue1;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.Trampoline;
@@ -48,6 +49,36 @@ public interface PMapX<K, V>
                                    HashTreePMap.from(map));
     }
 
+    /**
+     * Construct an empty PMapX on the PMap implementation (backend) of the supplied Reducer
+     *
+     * <pre>
+     * {@code
+     *    PMapX<String,Integer> map = PMapX.empty(Reducers.toChampPMap());
+     * }
+     * </pre>
+     *
+     * @param backend Reducer whose zero is the empty PMap to build on, e.g. Reducers.toPMap() or Reducers.toChampPMap()
+     * @return an empty PMapX
+     */
+    public static <K, V> PMapX<K, V> empty(Reducer<PMap<K, V>> backend) {
+        return new PMapXImpl<K, V>(
+                                   backend.zero());
+    }
+
+    /**
+     * Construct a PMapX from the provided Map on the PMap implementation (backend) of the supplied Reducer
+     *
+     * @param backend Reducer whose zero is the empty PMap to build on
+     * @param map Entries to add to the new PMapX
+     * @return PMapX containing the entries of map
+     */
+    public static <K, V> PMapX<K, V> fromMap(Reducer<PMap<K, V>> backend, Map<? extends K, ? extends V> map) {
+        return new PMapXImpl<K, V>(
+                                   backend.zero()
+                                          .plusAll(map));
+    }
+
     default PMapX<K, V> fromStream(ReactiveSeq<Tuple2<K, V>> stream) {
         return stream.toPMapX(k -> k.v1, v -> v.v2);
     }
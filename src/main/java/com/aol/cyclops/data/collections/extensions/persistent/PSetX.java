@@ -170,6 +170,51 @@ public interface PSetX<T> extends PSet<T>, PersistentCollectionX<T>, OnEmptySwit
                        .mapReduce(stream);
     }
 
+    /**
+     * Construct an empty PSetX on the PSet implementation (backend) of the supplied Reducer
+     *
+     * <pre>
+     * {@code
+     *    PSetX<Integer> set = PSetX.empty(Reducers.toChampPSet());
+     * }
+     * </pre>
+     *
+     * PSetX instances backed by a ChampPSet keep that backend for operations that build a new PSetX (map, filter etc)
+     *
+     * @param backend Reducer whose zero is the empty PSet to build on, e.g. Reducers.toPSet() or Reducers.toChampPSet()
+     * @return an empty PSetX
+     */
+    public static <T> PSetX<T> empty(Reducer<PSet<T>> backend) {
+        return new PSetXImpl<>(
+                               backend.zero());
+    }
+
+    /**
+     * Construct a PSetX from the provided Iterable on the PSet implementation (backend) of the supplied Reducer
+     *
+     * @param backend Reducer whose zero is the empty PSet to build on
+     * @param iterable Values to add to the new PSetX
+     * @return PSetX containing values
+     */
+    public static <T> PSetX<T> fromIterable(Reducer<PSet<T>> backend, Iterable<T> iterable) {
+        Collection<T> values = iterable instanceof Collection ? (Collection<T>) iterable : ListX.fromIterable(iterable);
+        return new PSetXImpl<>(
+                               backend.zero()
+                                      .plusAll(values));
+    }
+
+    /**
+     * Reduce a Stream to a PSetX on the PSet implementation (backend) of the supplied Reducer
+     *
+     * @param backend Reducer to reduce the Stream with, e.g. Reducers.toChampPSet()
+     * @param stream to convert to a PSetX
+     * @return PSetX containing the elements of the Stream
+     */
+    public static <T> PSetX<T> fromStream(Reducer<PSet<T>> backend, Stream<T> stream) {
+        return new PSetXImpl<>(
+                               backend.mapReduce(stream));
+    }
+
     @Override
     default PSetX<T> toPSetX() {
         return this;
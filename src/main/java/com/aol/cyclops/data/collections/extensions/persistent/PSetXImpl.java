@@ -7,6 +7,10 @@ import java.util.stream.Collector;
 
 import org.pcollections.PSet;
 
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.Reducers;
+import com.aol.cyclops.data.collections.persistent.ChampPSet;
+
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -218,4 +222,46 @@ public class PSetXImpl<T> implements PSetX<T> {
         return this.size();
     }
 
+    /*
+     * PSet implementation that operations building a new PSetX from this one (map, filter etc) use
+     */
+    private <X> Reducer<PSet<X>> backend() {
+        return set instanceof ChampPSet ? Reducers.toChampPSet() : Reducers.toPSet();
+    }
+
+    @Override
+    public <X> Reducer<PSet<X>> monoid() {
+        return backend();
+    }
+
+    @Override
+    public <R> PSetX<R> unit(Collection<R> col) {
+        if (col instanceof PSet)
+            return PSetX.fromCollection(col);
+        return PSetX.fromIterable(this.<R> backend(), col);
+    }
+
+    @Override
+    public <R> PSetX<R> unit(R value) {
+        return new PSetXImpl<>(
+                               this.<R> backend()
+                                   .zero()
+                                   .plus(value));
+    }
+
+    @Override
+    public <R> PSetX<R> unitIterator(Iterator<R> it) {
+        return PSetX.fromIterable(this.<R> backend(), () -> it);
+    }
+
+    @Override
+    public <R> PSetX<R> emptyUnit() {
+        return PSetX.empty(this.<R> backend());
+    }
+
+    @Override
+    public <X> PSetX<X> from(Collection<X> col) {
+        return unit(col);
+    }
+
 }
@@ -241,6 +241,57 @@ public interface PVectorX<T> extends PVector<T>, PersistentCollectionX<T>, OnEmp
                        .mapReduce(stream);
     }
 
+    /**
+     * Construct an empty PVectorX on the PVector implementation (backend) of the supplied Reducer
+     *
+     * <pre>
+     * {@code
+     *    PVectorX<Integer> vector = PVectorX.empty(Reducers.toRRBPVector());
+     * }
+     * </pre>
+     *
+     * PVectorX instances backed by an RRBPVector keep that backend for operations that build a new PVectorX (map, filter etc)
+     *
+     * @param backend Reducer whose zero is the empty PVector to build on, e.g. Reducers.toPVector() or Reducers.toRRBPVector()
+     * @return an empty PVectorX
+     */
+    public static <T> PVectorX<T> empty(Reducer<PVector<T>> backend) {
+        return new PVectorXImpl<>(
+                                  backend.zero());
+    }
+
+    /**
+     * Construct a PVectorX from the provided Iterable on the PVector implementation (backend) of the supplied Reducer
+     *
+     * <pre>
+     * {@code
+     *    PVectorX<Integer> vector = PVectorX.fromIterable(Reducers.toRRBPVector(),ListX.of(1,2,3));
+     * }
+     * </pre>
+     *
+     * @param backend Reducer whose zero is the empty PVector to build on
+     * @param iterable Values to add to the new PVectorX
+     * @return PVectorX containing values
+     */
+    public static <T> PVectorX<T> fromIterable(Reducer<PVector<T>> backend, Iterable<T> iterable) {
+        Collection<T> values = iterable instanceof Collection ? (Collection<T>) iterable : ListX.fromIterable(iterable);
+        return new PVectorXImpl<>(
+                                  backend.zero()
+                                         .plusAll(values));
+    }
+
+    /**
+     * Reduce a Stream to a PVectorX on the PVector implementation (backend) of the supplied Reducer
+     *
+     * @param backend Reducer to reduce the Stream with, e.g. Reducers.toRRBPVector()
+     * @param stream to convert to a PVectorX
+     * @return PVectorX containing the elements of the Stream
+     */
+    public static <T> PVectorX<T> fromStream(Reducer<PVector<T>> backend, Stream<T> stream) {
+        return new PVectorXImpl<>(
+                                  backend.mapReduce(stream));
+    }
+
     /**
     * Combine two adjacent elements in a PVectorX using the supplied BinaryOperator
     * This is a stateful grouping & reduction operation. The output of a combination may in turn be combined
@@ -266,6 +317,30 @@ public interface PVectorX<T> extends PVector<T>, PersistentCollectionX<T>, OnEmp
         return this;
     }
 
+    /**
+     * Create a lazy view of this PVectorX. Transformations on the view (map, filter, flatMap, limit etc) are fused into a single pass
+     * that runs when the view is first accessed, no intermediate collections are created and short-circuiting operations such as limit
+     * stop processing as soon as they complete.
+     * 
+     * <pre>
+     * {@code 
+     *  PVectorX.of(1,2,3,4,5)
+     *       .lazy()
+     *       .map(i->i*10)
+     *       .limit(2)
+     *       .get();
+     *       
+     *  //PVectorX[10,20] (3, 4 and 5 are never mapped)
+     * }
+     * </pre>
+     * 
+     * @return LazyPVectorX view of this PVectorX
+     */
+    default LazyPVectorX<T> lazy() {
+        return new LazyPVectorX<>(
+                                  this, this::stream);
+    }
+
     default <X> PVectorX<X> from(Collection<X> col) {
         return fromCollection(col);
     }
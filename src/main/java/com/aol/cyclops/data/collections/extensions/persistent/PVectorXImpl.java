@@ -13,6 +13,10 @@ import java.util.stream.Stream;
 
 import org.pcollections.PVector;
 
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.Reducers;
+import com.aol.cyclops.data.collections.persistent.RRBPVector;
+
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -405,4 +409,46 @@ public class PVectorXImpl<T> implements PVectorX<T> {
         return stack.listIterator(index);
     }
 
+    /*
+     * PVector implementation that operations building a new PVectorX from this one (map, filter etc) use
+     */
+    private <X> Reducer<PVector<X>> backend() {
+        return stack instanceof RRBPVector ? Reducers.toRRBPVector() : Reducers.toPVector();
+    }
+
+    @Override
+    public <X> Reducer<PVector<X>> monoid() {
+        return backend();
+    }
+
+    @Override
+    public <R> PVectorX<R> unit(Collection<R> col) {
+        if (col instanceof PVector)
+            return PVectorX.fromCollection(col);
+        return PVectorX.fromIterable(this.<R> backend(), col);
+    }
+
+    @Override
+    public <R> PVectorX<R> unit(R value) {
+        return new PVectorXImpl<>(
+                                  this.<R> backend()
+                                      .zero()
+                                      .plus(value));
+    }
+
+    @Override
+    public <R> PVectorX<R> unitIterator(Iterator<R> it) {
+        return PVectorX.fromIterable(this.<R> backend(), () -> it);
+    }
+
+    @Override
+    public <R> PVectorX<R> emptyUnit() {
+        return PVectorX.empty(this.<R> backend());
+    }
+
+    @Override
+    public <X> PVectorX<X> from(Collection<X> col) {
+        return unit(col);
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.aol.cyclops.data.collections.extensions.standard;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.AbstractLazyFluentCollection;
+
+/**
+ * A lazy view over a ListX. Transformations are fused into a single pass that runs when the view is first accessed
+ * via {@link #get()}, the resulting ListX is built with the Collector of the source ListX.
+ *
+ * <pre>
+ * {@code
+ *  ListX.of(1,2,3,4)
+ *       .lazy()
+ *       .map(i->i+1)
+ *       .filter(i->i%2==0)
+ *       .get();
+ *
+ *  //ListX[2,4]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the elements in the view
+ */
+public class LazyListX<T> extends AbstractLazyFluentCollection<T, ListX<T>, LazyListX<T>> {
+
+    private final ListX<?> source;
+
+    LazyListX(ListX<?> source, Supplier<ReactiveSeq<T>> pipeline) {
+        super(pipeline);
+        this.source = source;
+    }
+
+    @Override
+    protected ListX<T> materialize(ReactiveSeq<T> stream) {
+        return source.fromStream(stream);
+    }
+
+    @Override
+    protected <R> LazyListX<R> create(Supplier<ReactiveSeq<R>> pipeline) {
+        return new LazyListX<>(
+                               source, pipeline);
+    }
+
+    @Override
+    public <R> LazyListX<R> map(Function<? super T, ? extends R> mapper) {
+        return (LazyListX<R>) super.map(mapper);
+    }
+
+    @Override
+    public <R> LazyListX<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return (LazyListX<R>) super.flatMap(mapper);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.aol.cyclops.data.collections.extensions.standard;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.AbstractLazyFluentCollection;
+
+/**
+ * A lazy view over a SetX. Transformations are fused into a single pass that runs when the view is first accessed
+ * via {@link #get()}, the resulting SetX is built with the Collector of the source SetX.
+ *
+ * <pre>
+ * {@code
+ *  SetX.of(1,2,3,4)
+ *       .lazy()
+ *       .map(i->i+1)
+ *       .filter(i->i%2==0)
+ *       .get();
+ *
+ *  //SetX[2,4]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of the elements in the view
+ */
+public class LazySetX<T> extends AbstractLazyFluentCollection<T, SetX<T>, LazySetX<T>> {
+
+    private final SetX<?> source;
+
+    LazySetX(SetX<?> source, Supplier<ReactiveSeq<T>> pipeline) {
+        super(pipeline);
+        this.source = source;
+    }
+
+    @Override
+    protected SetX<T> materialize(ReactiveSeq<T> stream) {
+        return source.fromStream(stream);
+    }
+
+    @Override
+    protected <R> LazySetX<R> create(Supplier<ReactiveSeq<R>> pipeline) {
+        return new LazySetX<>(
+                              source, pipeline);
+    }
+
+    @Override
+    public <R> LazySetX<R> map(Function<? super T, ? extends R> mapper) {
+        return (LazySetX<R>) super.map(mapper);
+    }
+
+    @Override
+    public <R> LazySetX<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
+        return (LazySetX<R>) super.flatMap(mapper);
+    }
+
+}
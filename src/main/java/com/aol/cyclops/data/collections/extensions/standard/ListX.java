@@ -223,6 +223,30 @@ public interface ListX<T> extends List<T>, MutableCollectionX<T>, MutableSequenc
         return ReactiveSeq.fromIterable(this);
     }
 
+    /**
+     * Create a lazy view of this ListX. Transformations on the view (map, filter, flatMap, limit etc) are fused into a single pass
+     * that runs when the view is first accessed, no intermediate collections are created and short-circuiting operations such as limit
+     * stop processing as soon as they complete.
+     * 
+     * <pre>
+     * {@code 
+     *  ListX.of(1,2,3,4,5)
+     *       .lazy()
+     *       .map(i->i*10)
+     *       .limit(2)
+     *       .get();
+     *       
+     *  //ListX[10,20] (3, 4 and 5 are never mapped)
+     * }
+     * </pre>
+     * 
+     * @return LazyListX view of this ListX
+     */
+    default LazyListX<T> lazy() {
+        return new LazyListX<>(
+                               this, this::stream);
+    }
+
     /**
      * @return A Collector to generate a List
      */
@@ -224,6 +224,30 @@ public interface SetX<T> extends Set<T>, MutableCollectionX<T>, OnEmptySwitch<T,
         return SetX.<T1> fromIterable(getCollector(), c);
     }
 
+    /**
+     * Create a lazy view of this SetX. Transformations on the view (map, filter, flatMap, limit etc) are fused into a single pass
+     * that runs when the view is first accessed, no intermediate collections are created and short-circuiting operations such as limit
+     * stop processing as soon as they complete.
+     * 
+     * <pre>
+     * {@code 
+     *  SetX.of(1,2,3,4,5)
+     *       .lazy()
+     *       .map(i->i*10)
+     *       .limit(2)
+     *       .get();
+     *       
+     *  //SetX[10,20] (3, 4 and 5 are never mapped)
+     * }
+     * </pre>
+     * 
+     * @return LazySetX view of this SetX
+     */
+    default LazySetX<T> lazy() {
+        return new LazySetX<>(
+                              this, this::stream);
+    }
+
     public <T> Collector<T, ?, Set<T>> getCollector();
 
     default <X> SetX<X> fromStream(Stream<X> stream) {
@@ -0,0 +1,686 @@
+package com.aol.cyclops.data.collections.persistent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.pcollections.PMap;
+
+/**
+ * A PMap backed by a compressed hash-array mapped prefix tree (CHAMP).
+ *
+ * Each node consumes 5 bits of the key hash and holds two bitmaps, one for the entries stored inline and one for its
+ * sub-nodes, over a single compact array. Lookups are at most log32(n) deep (plus one level for full hash collisions)
+ * and only touch one array per level, where HashTreePMap descends a binary tree and then scans a list of entries.
+ * Removal keeps the tree in its canonical (smallest) form, so iteration and equality do not degrade after deletes.
+ *
+ * Bulk construction should use a {@link Builder}, which edits the nodes it has already copied in place rather than
+ * copying a path from the root for every entry.
+ *
+ * <pre>
+ * {@code
+ *  ChampPMap<String,Integer> map = ChampPMap.<String,Integer>builder()
+ *                                           .put("hello", 1)
+ *                                           .put("world", 2)
+ *                                           .build();
+ *  map.plus("hello", 10);
+ *  //{hello=10, world=2}
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class ChampPMap<K, V> extends AbstractMap<K, V> implements PMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+    /*
+     * 7 bitmap levels to consume a 32 bit hash, plus a collision level
+     */
+    private static final int MAX_DEPTH = 8;
+    private static final Object NOT_FOUND = new Object();
+    private static final ChampPMap<?, ?> EMPTY = new ChampPMap<>(
+                                                                 BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private ChampPMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @return an empty ChampPMap
+     */
+    public static <K, V> ChampPMap<K, V> empty() {
+        return (ChampPMap<K, V>) EMPTY;
+    }
+
+    /**
+     * @param key Key of the single entry
+     * @param value Value of the single entry
+     * @return ChampPMap with a single entry
+     */
+    public static <K, V> ChampPMap<K, V> singleton(K key, V value) {
+        return ChampPMap.<K, V> empty()
+                        .plus(key, value);
+    }
+
+    /**
+     * @param map Entries to copy
+     * @return ChampPMap containing the entries of map
+     */
+    public static <K, V> ChampPMap<K, V> from(Map<? extends K, ? extends V> map) {
+        return ChampPMap.<K, V> empty()
+                        .plusAll(map);
+    }
+
+    /**
+     * @return A transient builder for bulk construction of a ChampPMap
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(
+                             empty());
+    }
+
+    /**
+     * @return A transient builder seeded with the entries of this ChampPMap
+     */
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(
+                             this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public V get(Object key) {
+        Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new NodeIterator<Entry<K, V>>(
+                                                     root) {
+                    @Override
+                    Entry<K, V> element(Node node, int index) {
+                        return new SimpleImmutableEntry<>(
+                                                          (K) node.key(index), (V) node.value(index));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Entry))
+                    return false;
+                Entry<?, ?> entry = (Entry<?, ?>) o;
+                Object value = root.find(entry.getKey(), hash(entry.getKey()), 0);
+                return value != NOT_FOUND && Objects.equals(value, entry.getValue());
+            }
+        };
+    }
+
+    Iterator<K> keyIterator() {
+        return new NodeIterator<K>(
+                                   root) {
+            @Override
+            K element(Node node, int index) {
+                return (K) node.key(index);
+            }
+        };
+    }
+
+    @Override
+    public ChampPMap<K, V> plus(K key, V value) {
+        Change change = new Change();
+        Node newRoot = root.put(null, key, value, hash(key), 0, change);
+        if (!change.modified)
+            return this;
+        return new ChampPMap<>(
+                               newRoot, size + change.delta);
+    }
+
+    @Override
+    public ChampPMap<K, V> plusAll(Map<? extends K, ? extends V> map) {
+        if (map.isEmpty())
+            return this;
+        if (size == 0 && map instanceof ChampPMap)
+            return (ChampPMap<K, V>) map;
+        return toBuilder().putAll(map)
+                          .build();
+    }
+
+    @Override
+    public ChampPMap<K, V> minus(Object key) {
+        Change change = new Change();
+        Node newRoot = root.remove(null, key, hash(key), 0, change);
+        if (!change.modified)
+            return this;
+        return new ChampPMap<>(
+                               newRoot, size + change.delta);
+    }
+
+    @Override
+    public ChampPMap<K, V> minusAll(Collection<?> keys) {
+        if (keys.isEmpty() || size == 0)
+            return this;
+        Builder<K, V> builder = toBuilder();
+        for (Object key : keys)
+            builder.remove(key);
+        return builder.build();
+    }
+
+    static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    /*
+     * Outcome of an update, modified is false when the update left the map unchanged
+     */
+    private static final class Change {
+        boolean modified;
+        int delta;
+
+        void reset() {
+            modified = false;
+            delta = 0;
+        }
+    }
+
+    private abstract static class Node {
+
+        /*
+         * Value mapped to key or NOT_FOUND
+         */
+        abstract Object find(Object key, int hash, int shift);
+
+        abstract Node put(Object edit, Object key, Object value, int hash, int shift, Change change);
+
+        abstract Node remove(Object edit, Object key, int hash, int shift, Change change);
+
+        abstract int dataArity();
+
+        abstract Object key(int index);
+
+        abstract Object value(int index);
+
+        abstract int nodeArity();
+
+        abstract Node node(int index);
+
+        boolean isSingleEntry() {
+            return nodeArity() == 0 && dataArity() == 1;
+        }
+    }
+
+    /*
+     * content holds the inline entries as key, value pairs in bitmap order from the front, and the sub-nodes in bitmap
+     * order from the back. Nodes whose edit matches a Builder's edit are owned by that Builder and are updated in place
+     */
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(
+                                                       null, 0, 0, new Object[0]);
+
+        final Object edit;
+        int dataMap;
+        int nodeMap;
+        Object[] content;
+
+        BitmapNode(Object edit, int dataMap, int nodeMap, Object[] content) {
+            this.edit = edit;
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * index(dataMap, bit);
+                return Objects.equals(key, content[i]) ? content[i + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0)
+                return nodeAt(bit).find(key, hash, shift + BITS);
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * index(dataMap, bit);
+                Object current = content[i];
+                if (Objects.equals(key, current)) {
+                    if (content[i + 1] == value)
+                        return this;
+                    change.modified = true;
+                    if (owns(edit)) {
+                        content[i + 1] = value;
+                        return this;
+                    }
+                    Object[] copy = content.clone();
+                    copy[i + 1] = value;
+                    return new BitmapNode(
+                                          edit, dataMap, nodeMap, copy);
+                }
+                change.modified = true;
+                change.delta = 1;
+                Node merged = merge(edit, current, content[i + 1], hash(current), key, value, hash, shift + BITS);
+                return migrateToNode(edit, bit, i, merged);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node sub = nodeAt(bit);
+                Node newSub = sub.put(edit, key, value, hash, shift + BITS, change);
+                return newSub == sub ? this : setNode(edit, bit, newSub);
+            }
+            change.modified = true;
+            change.delta = 1;
+            int i = 2 * index(dataMap, bit);
+            Object[] copy = new Object[content.length + 2];
+            System.arraycopy(content, 0, copy, 0, i);
+            copy[i] = key;
+            copy[i + 1] = value;
+            System.arraycopy(content, i, copy, i + 2, content.length - i);
+            return with(edit, dataMap | bit, nodeMap, copy);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int i = 2 * index(dataMap, bit);
+                if (!Objects.equals(key, content[i]))
+                    return this;
+                change.modified = true;
+                change.delta = -1;
+                if (nodeMap == 0 && Integer.bitCount(dataMap) == 2) {
+                    //below the root the remaining entry is inlined by the parent, keyed by its bit at shift 0
+                    int newDataMap = shift == 0 ? dataMap ^ bit : bit(hash, 0);
+                    int other = i == 0 ? 2 : 0;
+                    return new BitmapNode(
+                                          edit, newDataMap, 0, new Object[] { content[other], content[other + 1] });
+                }
+                Object[] copy = new Object[content.length - 2];
+                System.arraycopy(content, 0, copy, 0, i);
+                System.arraycopy(content, i + 2, copy, i, content.length - i - 2);
+                return with(edit, dataMap ^ bit, nodeMap, copy);
+            }
+            if ((nodeMap & bit) != 0) {
+                Node sub = nodeAt(bit);
+                Node newSub = sub.remove(edit, key, hash, shift + BITS, change);
+                if (newSub == sub)
+                    return this;
+                if (newSub.isSingleEntry()) {
+                    if (dataMap == 0 && Integer.bitCount(nodeMap) == 1)
+                        return newSub;
+                    return migrateToInline(edit, bit, newSub);
+                }
+                return setNode(edit, bit, newSub);
+            }
+            return this;
+        }
+
+        private boolean owns(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        private Node with(Object edit, int dataMap, int nodeMap, Object[] content) {
+            if (owns(edit)) {
+                this.dataMap = dataMap;
+                this.nodeMap = nodeMap;
+                this.content = content;
+                return this;
+            }
+            return new BitmapNode(
+                                  edit, dataMap, nodeMap, content);
+        }
+
+        private Node nodeAt(int bit) {
+            return (Node) content[content.length - 1 - index(nodeMap, bit)];
+        }
+
+        private Node setNode(Object edit, int bit, Node node) {
+            int i = content.length - 1 - index(nodeMap, bit);
+            if (owns(edit)) {
+                content[i] = node;
+                return this;
+            }
+            Object[] copy = content.clone();
+            copy[i] = node;
+            return new BitmapNode(
+                                  edit, dataMap, nodeMap, copy);
+        }
+
+        /*
+         * Replace the inline entry at dataIndex (for bit) with node
+         */
+        private Node migrateToNode(Object edit, int bit, int dataIndex, Node node) {
+            int nodeIndex = content.length - 2 - index(nodeMap, bit);
+            Object[] copy = new Object[content.length - 1];
+            System.arraycopy(content, 0, copy, 0, dataIndex);
+            System.arraycopy(content, dataIndex + 2, copy, dataIndex, nodeIndex - dataIndex);
+            copy[nodeIndex] = node;
+            System.arraycopy(content, nodeIndex + 2, copy, nodeIndex + 1, content.length - nodeIndex - 2);
+            return with(edit, dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        /*
+         * Replace the sub-node for bit with the single entry it holds
+         */
+        private Node migrateToInline(Object edit, int bit, Node node) {
+            int nodeIndex = content.length - 1 - index(nodeMap, bit);
+            int dataIndex = 2 * index(dataMap, bit);
+            Object[] copy = new Object[content.length + 1];
+            System.arraycopy(content, 0, copy, 0, dataIndex);
+            copy[dataIndex] = node.key(0);
+            copy[dataIndex + 1] = node.value(0);
+            System.arraycopy(content, dataIndex, copy, dataIndex + 2, nodeIndex - dataIndex);
+            System.arraycopy(content, nodeIndex + 1, copy, nodeIndex + 2, content.length - nodeIndex - 1);
+            return with(edit, dataMap | bit, nodeMap ^ bit, copy);
+        }
+
+        @Override
+        int dataArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        Object key(int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        Object value(int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        Node node(int index) {
+            return (Node) content[content.length - 1 - index];
+        }
+    }
+
+    /*
+     * Entries whose keys have identical 32 bit hashes
+     */
+    private static final class CollisionNode extends Node {
+        final Object edit;
+        final int hash;
+        Object[] content;
+
+        CollisionNode(Object edit, int hash, Object[] content) {
+            this.edit = edit;
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < content.length; i += 2)
+                if (Objects.equals(key, content[i]))
+                    return i;
+            return -1;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int i = indexOf(key);
+            return i == -1 ? NOT_FOUND : content[i + 1];
+        }
+
+        @Override
+        Node put(Object edit, Object key, Object value, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            Object[] copy;
+            if (i != -1) {
+                if (content[i + 1] == value)
+                    return this;
+                copy = content.clone();
+                copy[i + 1] = value;
+            } else {
+                copy = new Object[content.length + 2];
+                System.arraycopy(content, 0, copy, 0, content.length);
+                copy[content.length] = key;
+                copy[content.length + 1] = value;
+                change.delta = 1;
+            }
+            change.modified = true;
+            return with(edit, copy);
+        }
+
+        @Override
+        Node remove(Object edit, Object key, int hash, int shift, Change change) {
+            int i = indexOf(key);
+            if (i == -1)
+                return this;
+            change.modified = true;
+            change.delta = -1;
+            if (content.length == 4) {
+                int other = i == 0 ? 2 : 0;
+                return new BitmapNode(
+                                      edit, bit(hash, 0), 0, new Object[] { content[other], content[other + 1] });
+            }
+            Object[] copy = new Object[content.length - 2];
+            System.arraycopy(content, 0, copy, 0, i);
+            System.arraycopy(content, i + 2, copy, i, content.length - i - 2);
+            return with(edit, copy);
+        }
+
+        private Node with(Object edit, Object[] content) {
+            if (edit != null && this.edit == edit) {
+                this.content = content;
+                return this;
+            }
+            return new CollisionNode(
+                                     edit, hash, content);
+        }
+
+        @Override
+        int dataArity() {
+            return content.length / 2;
+        }
+
+        @Override
+        Object key(int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        Object value(int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        Node node(int index) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /*
+     * Node holding two entries whose hashes agree below shift
+     */
+    private static Node merge(Object edit, Object key0, Object value0, int hash0, Object key1, Object value1, int hash1,
+            int shift) {
+        if (shift >= HASH_BITS)
+            return new CollisionNode(
+                                     edit, hash0, new Object[] { key0, value0, key1, value1 });
+        int bit0 = bit(hash0, shift);
+        int bit1 = bit(hash1, shift);
+        if (bit0 != bit1) {
+            Object[] content = Integer.compareUnsigned(bit0, bit1) < 0 ? new Object[] { key0, value0, key1, value1 }
+                    : new Object[] { key1, value1, key0, value0 };
+            return new BitmapNode(
+                                  edit, bit0 | bit1, 0, content);
+        }
+        return new BitmapNode(
+                              edit, 0, bit0, new Object[] { merge(edit, key0, value0, hash0, key1, value1, hash1, shift + BITS) });
+    }
+
+    /*
+     * Depth first traversal yielding the inline entries of each node before descending into its sub-nodes
+     */
+    private abstract static class NodeIterator<R> implements Iterator<R> {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] cursors = new int[MAX_DEPTH];
+        private int depth = -1;
+        private Node current;
+        private int index;
+
+        NodeIterator(Node root) {
+            current = root;
+            if (root.nodeArity() > 0)
+                nodes[++depth] = root;
+        }
+
+        abstract R element(Node node, int index);
+
+        @Override
+        public boolean hasNext() {
+            while (index >= current.dataArity()) {
+                if (!advance())
+                    return false;
+            }
+            return true;
+        }
+
+        private boolean advance() {
+            while (depth >= 0) {
+                Node node = nodes[depth];
+                if (cursors[depth] < node.nodeArity()) {
+                    Node child = node.node(cursors[depth]++);
+                    if (child.nodeArity() > 0) {
+                        nodes[++depth] = child;
+                        cursors[depth] = 0;
+                    }
+                    current = child;
+                    index = 0;
+                    return true;
+                }
+                depth--;
+            }
+            return false;
+        }
+
+        @Override
+        public R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return element(current, index++);
+        }
+    }
+
+    /**
+     * Batch-mutable builder for a ChampPMap. The first update of a node copies it, later updates edit that copy in
+     * place. A Builder is not thread-safe, it may be reused after build (built maps are not affected).
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    public static final class Builder<K, V> {
+        private final Change change = new Change();
+        private Object edit = new Object();
+        private Node root;
+        private int size;
+
+        private Builder(ChampPMap<K, V> seed) {
+            this.root = seed.root;
+            this.size = seed.size;
+        }
+
+        /**
+         * @param key Key to add or replace
+         * @param value Value to map key to
+         * @return this Builder
+         */
+        public Builder<K, V> put(K key, V value) {
+            change.reset();
+            root = root.put(edit, key, value, hash(key), 0, change);
+            size += change.delta;
+            return this;
+        }
+
+        /**
+         * @param map Entries to add or replace
+         * @return this Builder
+         */
+        public Builder<K, V> putAll(Map<? extends K, ? extends V> map) {
+            for (Entry<? extends K, ? extends V> next : map.entrySet())
+                put(next.getKey(), next.getValue());
+            return this;
+        }
+
+        /**
+         * @param key Key to remove
+         * @return this Builder
+         */
+        public Builder<K, V> remove(Object key) {
+            change.reset();
+            root = root.remove(edit, key, hash(key), 0, change);
+            size += change.delta;
+            return this;
+        }
+
+        /**
+         * @return Number of entries in the map being built
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return ChampPMap containing the entries added so far
+         */
+        public ChampPMap<K, V> build() {
+            //nodes reachable from the built map must not be edited by later updates
+            edit = new Object();
+            return size == 0 ? empty() : new ChampPMap<>(
+                                                         root, size);
+        }
+    }
+}
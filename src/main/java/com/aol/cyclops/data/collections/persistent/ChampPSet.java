@@ -0,0 +1,182 @@
+package com.aol.cyclops.data.collections.persistent;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.pcollections.PSet;
+
+/**
+ * A PSet backed by a {@link ChampPMap} (a compressed hash-array mapped prefix tree)
+ *
+ * <pre>
+ * {@code
+ *  ChampPSet<Integer> set = ChampPSet.<Integer>builder()
+ *                                    .addAll(ListX.range(0, 1_000_000))
+ *                                    .build();
+ *  set.plus(-1).contains(-1);
+ *  //true
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <E> Element type
+ */
+public final class ChampPSet<E> extends AbstractSet<E> implements PSet<E> {
+
+    private static final Object PRESENT = Boolean.TRUE;
+    private static final ChampPSet<?> EMPTY = new ChampPSet<>(
+                                                              ChampPMap.empty());
+
+    private final ChampPMap<E, Object> map;
+
+    private ChampPSet(ChampPMap<E, Object> map) {
+        this.map = map;
+    }
+
+    /**
+     * @return an empty ChampPSet
+     */
+    public static <E> ChampPSet<E> empty() {
+        return (ChampPSet<E>) EMPTY;
+    }
+
+    /**
+     * @param value Single element
+     * @return ChampPSet containing value
+     */
+    public static <E> ChampPSet<E> singleton(E value) {
+        return ChampPSet.<E> empty()
+                        .plus(value);
+    }
+
+    /**
+     * @param values Elements to copy
+     * @return ChampPSet containing values
+     */
+    public static <E> ChampPSet<E> from(Collection<? extends E> values) {
+        return ChampPSet.<E> empty()
+                        .plusAll(values);
+    }
+
+    /**
+     * @return A transient builder for bulk construction of a ChampPSet
+     */
+    public static <E> Builder<E> builder() {
+        return new Builder<>(
+                             ChampPMap.<E, Object> empty()
+                                      .toBuilder());
+    }
+
+    /**
+     * @return A transient builder seeded with the elements of this ChampPSet
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(
+                             map.toBuilder());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return map.keyIterator();
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return map.containsKey(o);
+    }
+
+    @Override
+    public ChampPSet<E> plus(E e) {
+        ChampPMap<E, Object> newMap = map.plus(e, PRESENT);
+        return newMap == map ? this : new ChampPSet<>(
+                                                      newMap);
+    }
+
+    @Override
+    public ChampPSet<E> plusAll(Collection<? extends E> list) {
+        if (list.isEmpty())
+            return this;
+        if (map.size() == 0 && list instanceof ChampPSet)
+            return (ChampPSet<E>) list;
+        return toBuilder().addAll(list)
+                          .build();
+    }
+
+    @Override
+    public ChampPSet<E> minus(Object e) {
+        ChampPMap<E, Object> newMap = map.minus(e);
+        return newMap == map ? this : new ChampPSet<>(
+                                                      newMap);
+    }
+
+    @Override
+    public ChampPSet<E> minusAll(Collection<?> list) {
+        ChampPMap<E, Object> newMap = map.minusAll(list);
+        return newMap == map ? this : new ChampPSet<>(
+                                                      newMap);
+    }
+
+    /**
+     * Batch-mutable builder for a ChampPSet, see {@link ChampPMap.Builder}
+     *
+     * @param <E> Element type
+     */
+    public static final class Builder<E> {
+        private final ChampPMap.Builder<E, Object> map;
+
+        private Builder(ChampPMap.Builder<E, Object> map) {
+            this.map = map;
+        }
+
+        /**
+         * @param e Element to add
+         * @return this Builder
+         */
+        public Builder<E> add(E e) {
+            map.put(e, PRESENT);
+            return this;
+        }
+
+        /**
+         * @param values Elements to add
+         * @return this Builder
+         */
+        public Builder<E> addAll(Iterable<? extends E> values) {
+            for (E next : values)
+                map.put(next, PRESENT);
+            return this;
+        }
+
+        /**
+         * @param e Element to remove
+         * @return this Builder
+         */
+        public Builder<E> remove(Object e) {
+            map.remove(e);
+            return this;
+        }
+
+        /**
+         * @return Number of elements in the set being built
+         */
+        public int size() {
+            return map.size();
+        }
+
+        /**
+         * @return ChampPSet containing the elements added so far
+         */
+        public ChampPSet<E> build() {
+            ChampPMap<E, Object> built = map.build();
+            return built.isEmpty() ? empty() : new ChampPSet<>(
+                                                               built);
+        }
+    }
+}
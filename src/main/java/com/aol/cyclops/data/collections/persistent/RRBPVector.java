@@ -0,0 +1,743 @@
+package com.aol.cyclops.data.collections.persistent;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.pcollections.PVector;
+
+/**
+ * A PVector backed by a 32-way relaxed radix balanced (RRB) tree.
+ *
+ * Elements are stored in leaves of up to 32 elements, the trie is at most log32(n) deep and the last (up to) 32
+ * elements are held outside the trie in a tail, so that appending is usually a copy of the tail only. Nodes built by
+ * appending are strictly radix balanced and are indexed by bit shifting, nodes produced by concatenation and slicing
+ * carry a size table instead. This allows concatenation (plusAll of another RRBPVector), slicing (subList) and insertion
+ * or removal at an index in O(log32 n), where TreePVector is O(n log2 n) for concatenation.
+ *
+ * The leaf most recently reached through get(int) during a sequential scan is remembered (the focus), so that
+ * sequential indexed access only descends the trie once per leaf.
+ *
+ * <pre>
+ * {@code
+ *  RRBPVector<Integer> vector = RRBPVector.<Integer>builder()
+ *                                         .addAll(ListX.range(0, 1_000_000))
+ *                                         .build();
+ *  vector.plusAll(vector).subList(500_000, 1_500_000);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ */
+public final class RRBPVector<T> extends AbstractList<T> implements PVector<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    /*
+     * Number of extra nodes (over the optimum) tolerated at a level before concatenation redistributes its children
+     */
+    private static final int EXTRAS = 2;
+    private static final Object[] EMPTY_LEAF = new Object[0];
+    private static final RRBPVector<?> EMPTY = new RRBPVector<>(
+                                                                null, 0, 0, EMPTY_LEAF);
+
+    /*
+     * null (all elements are in the tail), a leaf (shift == 0) or a Node
+     */
+    private final Object root;
+    private final int shift;
+    private final int size;
+    private final Object[] tail;
+    private Focus focus;
+
+    private RRBPVector(Object root, int shift, int size, Object[] tail) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+        this.tail = tail;
+    }
+
+    /**
+     * @return an empty RRBPVector
+     */
+    public static <T> RRBPVector<T> empty() {
+        return (RRBPVector<T>) EMPTY;
+    }
+
+    /**
+     * @param value Single element
+     * @return RRBPVector containing value
+     */
+    public static <T> RRBPVector<T> singleton(T value) {
+        return new RRBPVector<>(
+                                null, 0, 1, new Object[] { value });
+    }
+
+    /**
+     * @param values Elements to copy, in iteration order
+     * @return RRBPVector containing values
+     */
+    public static <T> RRBPVector<T> from(Collection<? extends T> values) {
+        if (values instanceof RRBPVector)
+            return (RRBPVector<T>) values;
+        return RRBPVector.<T> builder()
+                         .addAll(values)
+                         .build();
+    }
+
+    /**
+     * @return A transient builder for bulk construction of an RRBPVector
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(
+                             empty());
+    }
+
+    /**
+     * @return A transient builder that appends to this RRBPVector
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(
+                             this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size);
+        int tailOffset = size - tail.length;
+        if (index >= tailOffset)
+            return (T) tail[index - tailOffset];
+        Focus f = focus;
+        if (f != null && index >= f.start && index - f.start < f.leaf.length)
+            return (T) f.leaf[index - f.start];
+        Object node = root;
+        int idx = index;
+        for (int s = shift; s > 0; s -= BITS) {
+            Node n = (Node) node;
+            int slot = slot(n, s, idx);
+            idx -= before(n, s, slot);
+            node = n.children[slot];
+        }
+        Object[] leaf = (Object[]) node;
+        //only move the focus on a sequential scan, so that random access does not allocate
+        if (f == null || index - idx == f.start + f.leaf.length)
+            focus = new Focus(
+                              index - idx, leaf);
+        return (T) leaf[idx];
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            int index = 0;
+            int offset = 0;
+            Object[] leaf = EMPTY_LEAF;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if (offset == leaf.length) {
+                    leaf = index >= size - tail.length ? tail : focusAt(index).leaf;
+                    offset = 0;
+                }
+                index++;
+                return (T) leaf[offset++];
+            }
+        };
+    }
+
+    @Override
+    public RRBPVector<T> plus(T e) {
+        if (tail.length < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new RRBPVector<>(
+                                    root, shift, size + 1, newTail);
+        }
+        return pushTail(new Object[] { e }, size + 1);
+    }
+
+    /**
+     * Append all elements of list. When list is an RRBPVector the two trees are concatenated in O(log32 n)
+     *
+     * @see org.pcollections.PVector#plusAll(java.util.Collection)
+     */
+    @Override
+    public RRBPVector<T> plusAll(Collection<? extends T> list) {
+        if (list.isEmpty())
+            return this;
+        return concat(from(list));
+    }
+
+    @Override
+    public RRBPVector<T> with(int i, T e) {
+        checkIndex(i, size);
+        int tailOffset = size - tail.length;
+        if (i >= tailOffset) {
+            Object[] newTail = tail.clone();
+            newTail[i - tailOffset] = e;
+            return new RRBPVector<>(
+                                    root, shift, size, newTail);
+        }
+        return new RRBPVector<>(
+                                update(root, shift, i, e), shift, size, tail);
+    }
+
+    @Override
+    public RRBPVector<T> plus(int i, T e) {
+        if (i < 0 || i > size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + i + ", Size: " + size);
+        if (i == size)
+            return plus(e);
+        return take(i).plus(e)
+                      .concat(drop(i));
+    }
+
+    @Override
+    public RRBPVector<T> plusAll(int i, Collection<? extends T> list) {
+        if (i < 0 || i > size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + i + ", Size: " + size);
+        if (list.isEmpty())
+            return this;
+        return take(i).plusAll(list)
+                      .concat(drop(i));
+    }
+
+    @Override
+    public RRBPVector<T> minus(Object e) {
+        int i = indexOf(e);
+        return i == -1 ? this : minus(i);
+    }
+
+    @Override
+    public RRBPVector<T> minusAll(Collection<?> list) {
+        RRBPVector<T> result = this;
+        for (Object e : list)
+            result = result.minus(e);
+        return result;
+    }
+
+    @Override
+    public RRBPVector<T> minus(int i) {
+        checkIndex(i, size);
+        return take(i).concat(drop(i + 1));
+    }
+
+    /**
+     * O(log32 n) slice of this RRBPVector
+     *
+     * @see org.pcollections.PVector#subList(int, int)
+     */
+    @Override
+    public RRBPVector<T> subList(int start, int end) {
+        if (start < 0 || end > size || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "From: " + start + ", To: " + end + ", Size: " + size);
+        return drop(start).take(end - start);
+    }
+
+    /*
+     * First n elements, the last (partial) leaf kept becomes the tail
+     */
+    private RRBPVector<T> take(int n) {
+        if (n >= size)
+            return this;
+        if (n <= 0)
+            return empty();
+        int tailOffset = size - tail.length;
+        if (n >= tailOffset)
+            return new RRBPVector<>(
+                                    root, shift, n, Arrays.copyOf(tail, n - tailOffset));
+        Focus last = focusAt(n - 1);
+        Object[] newTail = Arrays.copyOf(last.leaf, n - last.start);
+        if (last.start == 0)
+            return new RRBPVector<>(
+                                    null, 0, n, newTail);
+        return collapse(takeTrie(root, shift, last.start), shift, n, newTail);
+    }
+
+    /*
+     * All but the first n elements
+     */
+    private RRBPVector<T> drop(int n) {
+        if (n <= 0)
+            return this;
+        if (n >= size)
+            return empty();
+        int tailOffset = size - tail.length;
+        if (n >= tailOffset)
+            return new RRBPVector<>(
+                                    null, 0, size - n, Arrays.copyOfRange(tail, n - tailOffset, tail.length));
+        return collapse(dropTrie(root, shift, n), shift, size - n, tail);
+    }
+
+    private RRBPVector<T> concat(RRBPVector<T> other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return other;
+        if (other.root == null) {
+            if (tail.length + other.size <= WIDTH) {
+                Object[] newTail = Arrays.copyOf(tail, tail.length + other.size);
+                System.arraycopy(other.tail, 0, newTail, tail.length, other.size);
+                return new RRBPVector<>(
+                                        root, shift, size + other.size, newTail);
+            }
+            int fill = WIDTH - tail.length;
+            Object[] full = Arrays.copyOf(tail, WIDTH);
+            System.arraycopy(other.tail, 0, full, tail.length, fill);
+            return new RRBPVector<T>(
+                                     root, shift, size + fill, full).pushTail(Arrays.copyOfRange(other.tail, fill, other.size),
+                                                                              size + other.size);
+        }
+        RRBPVector<T> left = tail.length == 0 ? this : pushTail(EMPTY_LEAF, size);
+        Node joined = concatSubTree(left.root, left.shift, other.root, other.shift, true);
+        return collapse(joined, Math.max(left.shift, other.shift) + BITS, size + other.size, other.tail);
+    }
+
+    /*
+     * Push the current tail into the trie, replacing it with newTail
+     */
+    private RRBPVector<T> pushTail(Object[] newTail, int newSize) {
+        if (tail.length == 0)
+            return new RRBPVector<>(
+                                    root, shift, newSize, newTail);
+        if (root == null)
+            return new RRBPVector<>(
+                                    tail, 0, newSize, newTail);
+        Object pushed = pushLeaf(root, shift, tail);
+        if (pushed != null)
+            return new RRBPVector<>(
+                                    pushed, shift, newSize, newTail);
+        Object[] children = new Object[] { root, path(shift, tail) };
+        return new RRBPVector<>(
+                                node(children, shift + BITS), shift + BITS, newSize, newTail);
+    }
+
+    /*
+     * Leaf containing index (which must be in the trie) and the index of its first element
+     */
+    private Focus focusAt(int index) {
+        Object node = root;
+        int idx = index;
+        for (int s = shift; s > 0; s -= BITS) {
+            Node n = (Node) node;
+            int slot = slot(n, s, idx);
+            idx -= before(n, s, slot);
+            node = n.children[slot];
+        }
+        return new Focus(
+                         index - idx, (Object[]) node);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + index + ", Size: " + size);
+    }
+
+    private static <T> RRBPVector<T> collapse(Object root, int shift, int size, Object[] tail) {
+        while (shift > 0 && ((Node) root).children.length == 1) {
+            root = ((Node) root).children[0];
+            shift -= BITS;
+        }
+        return new RRBPVector<>(
+                                root, shift, size, tail);
+    }
+
+    /*
+     * Child of n (at shift) that contains idx
+     */
+    private static int slot(Node n, int shift, int idx) {
+        if (n.sizes == null)
+            return (idx >>> shift) & MASK;
+        int slot = idx >>> shift;
+        while (n.sizes[slot] <= idx)
+            slot++;
+        return slot;
+    }
+
+    /*
+     * Number of elements in the children of n before slot
+     */
+    private static int before(Node n, int shift, int slot) {
+        if (slot == 0)
+            return 0;
+        return n.sizes == null ? slot << shift : n.sizes[slot - 1];
+    }
+
+    private static int size(Object node, int shift) {
+        if (shift == 0)
+            return ((Object[]) node).length;
+        Node n = (Node) node;
+        if (n.sizes != null)
+            return n.sizes[n.sizes.length - 1];
+        int last = n.children.length - 1;
+        return (last << shift) + size(n.children[last], shift - BITS);
+    }
+
+    private static int slots(Object node, int shift) {
+        return shift == 0 ? ((Object[]) node).length : ((Node) node).children.length;
+    }
+
+    private static Object[] contents(Object node, int shift) {
+        return shift == 0 ? (Object[]) node : ((Node) node).children;
+    }
+
+    /*
+     * Node at shift over children, strictly balanced (no size table) if every child but the last is full and balanced
+     */
+    private static Node node(Object[] children, int shift) {
+        int[] sizes = new int[children.length];
+        boolean balanced = true;
+        int total = 0;
+        for (int i = 0; i < children.length; i++) {
+            int childSize = size(children[i], shift - BITS);
+            total += childSize;
+            sizes[i] = total;
+            if (balanced && shift > BITS && ((Node) children[i]).sizes != null)
+                balanced = false;
+            if (balanced && i < children.length - 1 && childSize != 1 << shift)
+                balanced = false;
+        }
+        return new Node(
+                        children, balanced ? null : sizes);
+    }
+
+    private static Object path(int shift, Object[] leaf) {
+        if (shift == 0)
+            return leaf;
+        return new Node(
+                        new Object[] { path(shift - BITS, leaf) }, null);
+    }
+
+    /*
+     * Append leaf as the new rightmost leaf under node, null if node has no room
+     */
+    private static Object pushLeaf(Object node, int shift, Object[] leaf) {
+        if (shift == 0)
+            return null;
+        Node n = (Node) node;
+        Object[] children = n.children;
+        int last = children.length - 1;
+        if (shift > BITS) {
+            Object child = pushLeaf(children[last], shift - BITS, leaf);
+            if (child != null) {
+                Object[] copy = children.clone();
+                copy[last] = child;
+                if (n.sizes != null) {
+                    int[] sizes = n.sizes.clone();
+                    sizes[last] += leaf.length;
+                    return new Node(
+                                    copy, sizes);
+                }
+                return ((Node) child).sizes == null ? new Node(
+                                                               copy, null)
+                        : node(copy, shift);
+            }
+        }
+        if (children.length == WIDTH)
+            return null;
+        Object[] copy = Arrays.copyOf(children, children.length + 1);
+        copy[children.length] = path(shift - BITS, leaf);
+        if (n.sizes != null) {
+            int[] sizes = Arrays.copyOf(n.sizes, copy.length);
+            sizes[children.length] = sizes[last] + leaf.length;
+            return new Node(
+                            copy, sizes);
+        }
+        return size(children[last], shift - BITS) == 1 << shift ? new Node(
+                                                                           copy, null)
+                : node(copy, shift);
+    }
+
+    private static Object update(Object node, int shift, int idx, Object e) {
+        if (shift == 0) {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[idx] = e;
+            return leaf;
+        }
+        Node n = (Node) node;
+        int slot = slot(n, shift, idx);
+        Object[] children = n.children.clone();
+        children[slot] = update(children[slot], shift - BITS, idx - before(n, shift, slot), e);
+        return new Node(
+                        children, n.sizes);
+    }
+
+    /*
+     * First count (0 < count <= size(node)) elements of node
+     */
+    private static Object takeTrie(Object node, int shift, int count) {
+        if (shift == 0) {
+            Object[] leaf = (Object[]) node;
+            return count == leaf.length ? leaf : Arrays.copyOf(leaf, count);
+        }
+        Node n = (Node) node;
+        int slot = slot(n, shift, count - 1);
+        Object[] children = Arrays.copyOf(n.children, slot + 1);
+        children[slot] = takeTrie(children[slot], shift - BITS, count - before(n, shift, slot));
+        int[] sizes = null;
+        if (n.sizes != null) {
+            sizes = Arrays.copyOf(n.sizes, slot + 1);
+            sizes[slot] = count;
+        }
+        return new Node(
+                        children, sizes);
+    }
+
+    /*
+     * All but the first count (0 < count < size(node)) elements of node
+     */
+    private static Object dropTrie(Object node, int shift, int count) {
+        if (shift == 0) {
+            Object[] leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, count, leaf.length);
+        }
+        Node n = (Node) node;
+        int slot = slot(n, shift, count);
+        int skipped = count - before(n, shift, slot);
+        Object[] children = Arrays.copyOfRange(n.children, slot, n.children.length);
+        if (skipped > 0)
+            children[0] = dropTrie(children[0], shift - BITS, skipped);
+        else if (n.sizes == null)
+            return new Node(
+                            children, null);
+        int[] sizes = new int[children.length];
+        int total = size(n, shift);
+        for (int i = 0; i < sizes.length - 1; i++)
+            sizes[i] = (n.sizes == null ? (slot + i + 1) << shift : n.sizes[slot + i]) - count;
+        sizes[sizes.length - 1] = total - count;
+        return new Node(
+                        children, sizes);
+    }
+
+    /*
+     * Concatenate the trees left and right, returns a node one level above the taller of the two
+     */
+    private static Node concatSubTree(Object left, int leftShift, Object right, int rightShift, boolean top) {
+        if (leftShift > rightShift) {
+            Node l = (Node) left;
+            Node middle = concatSubTree(l.children[l.children.length - 1], leftShift - BITS, right, rightShift, false);
+            return rebalance(l, middle, null, leftShift);
+        }
+        if (leftShift < rightShift) {
+            Node r = (Node) right;
+            Node middle = concatSubTree(left, leftShift, r.children[0], rightShift - BITS, false);
+            return rebalance(null, middle, r, rightShift);
+        }
+        if (leftShift == 0) {
+            Object[] l = (Object[]) left;
+            Object[] r = (Object[]) right;
+            if (top && l.length + r.length <= WIDTH) {
+                Object[] merged = Arrays.copyOf(l, l.length + r.length);
+                System.arraycopy(r, 0, merged, l.length, r.length);
+                return new Node(
+                                new Object[] { merged }, null);
+            }
+            return node(new Object[] { l, r }, BITS);
+        }
+        Node l = (Node) left;
+        Node r = (Node) right;
+        Node middle = concatSubTree(l.children[l.children.length - 1], leftShift - BITS, r.children[0], rightShift - BITS,
+                                    false);
+        return rebalance(l, middle, r, leftShift);
+    }
+
+    /*
+     * Merge the children of left (but its last), middle and right (but its first), all nodes at shift, redistributing
+     * their contents so that the result has at most EXTRAS more children than optimal. Returns a node at shift + BITS
+     */
+    private static Node rebalance(Node left, Node middle, Node right, int shift) {
+        int leftCount = left == null ? 0 : left.children.length - 1;
+        int rightCount = right == null ? 0 : right.children.length - 1;
+        Object[] all = new Object[leftCount + middle.children.length + rightCount];
+        if (left != null)
+            System.arraycopy(left.children, 0, all, 0, leftCount);
+        System.arraycopy(middle.children, 0, all, leftCount, middle.children.length);
+        if (right != null)
+            System.arraycopy(right.children, 1, all, leftCount + middle.children.length, rightCount);
+        Object[] merged = redistribute(all, plan(all, shift - BITS), shift - BITS);
+        if (merged.length <= WIDTH)
+            return node(new Object[] { node(merged, shift) }, shift + BITS);
+        return node(new Object[] { node(Arrays.copyOf(merged, WIDTH), shift),
+                                   node(Arrays.copyOfRange(merged, WIDTH, merged.length), shift) },
+                    shift + BITS);
+    }
+
+    /*
+     * Slot counts for the redistributed nodes
+     */
+    private static int[] plan(Object[] all, int shift) {
+        int[] counts = new int[all.length];
+        int total = 0;
+        for (int i = 0; i < all.length; i++) {
+            counts[i] = slots(all[i], shift);
+            total += counts[i];
+        }
+        int optimal = (total + WIDTH - 1) / WIDTH;
+        int length = counts.length;
+        int i = 0;
+        while (optimal + EXTRAS < length) {
+            while (counts[i] > WIDTH - EXTRAS / 2)
+                i++;
+            int remaining = counts[i];
+            do {
+                int next = Math.min(remaining + counts[i + 1], WIDTH);
+                remaining = remaining + counts[i + 1] - next;
+                counts[i] = next;
+                i++;
+            } while (remaining > 0);
+            System.arraycopy(counts, i + 1, counts, i, length - i - 1);
+            length--;
+            i--;
+        }
+        return Arrays.copyOf(counts, length);
+    }
+
+    /*
+     * Nodes at shift with the slot counts in plan, reusing the nodes in all that are unchanged
+     */
+    private static Object[] redistribute(Object[] all, int[] plan, int shift) {
+        Object[] result = new Object[plan.length];
+        int source = 0;
+        int offset = 0;
+        for (int k = 0; k < plan.length; k++) {
+            if (offset == 0 && slots(all[source], shift) == plan[k]) {
+                result[k] = all[source++];
+                continue;
+            }
+            Object[] contents = new Object[plan[k]];
+            int filled = 0;
+            while (filled < contents.length) {
+                Object[] from = contents(all[source], shift);
+                int count = Math.min(contents.length - filled, from.length - offset);
+                System.arraycopy(from, offset, contents, filled, count);
+                filled += count;
+                offset += count;
+                if (offset == from.length) {
+                    source++;
+                    offset = 0;
+                }
+            }
+            result[k] = shift == 0 ? contents : node(contents, shift);
+        }
+        return result;
+    }
+
+    private static final class Node {
+        final Object[] children;
+        /*
+         * Cumulative child sizes, null when the subtree is strictly radix balanced
+         */
+        final int[] sizes;
+
+        Node(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+    }
+
+    private static final class Focus {
+        final int start;
+        final Object[] leaf;
+
+        Focus(int start, Object[] leaf) {
+            this.start = start;
+            this.leaf = leaf;
+        }
+    }
+
+    /**
+     * Batch-mutable builder for an RRBPVector. Elements are appended into full leaves that are assembled into a balanced
+     * tree once, on build. A Builder is not thread-safe, it may be reused after build (built vectors are not affected).
+     *
+     * @param <T> Element type
+     */
+    public static final class Builder<T> {
+        private final RRBPVector<T> prefix;
+        private final List<Object[]> leaves = new ArrayList<>();
+        private Object[] tail = new Object[WIDTH];
+        private int count;
+        private int size;
+
+        private Builder(RRBPVector<T> prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * @param e Element to append
+         * @return this Builder
+         */
+        public Builder<T> add(T e) {
+            if (count == WIDTH) {
+                leaves.add(tail);
+                tail = new Object[WIDTH];
+                count = 0;
+            }
+            tail[count++] = e;
+            size++;
+            return this;
+        }
+
+        /**
+         * @param values Elements to append
+         * @return this Builder
+         */
+        public Builder<T> addAll(Iterable<? extends T> values) {
+            for (T next : values)
+                add(next);
+            return this;
+        }
+
+        /**
+         * @return Number of elements in the vector being built
+         */
+        public int size() {
+            return prefix.size + size;
+        }
+
+        /**
+         * @return RRBPVector containing all elements added so far
+         */
+        public RRBPVector<T> build() {
+            Object[] last = Arrays.copyOf(tail, count);
+            if (leaves.isEmpty())
+                return prefix.concat(new RRBPVector<>(
+                                                      null, 0, count, last));
+            Object[] level = leaves.toArray();
+            int shift = 0;
+            while (level.length > 1) {
+                shift += BITS;
+                Object[] parents = new Object[(level.length + MASK) >>> BITS];
+                for (int i = 0; i < parents.length; i++)
+                    parents[i] = new Node(
+                                          Arrays.copyOfRange(level, i << BITS, Math.min(level.length, (i + 1) << BITS)),
+                                          null);
+                level = parents;
+            }
+            return prefix.concat(new RRBPVector<>(
+                                                  level[0], shift, size, last));
+        }
+    }
+}
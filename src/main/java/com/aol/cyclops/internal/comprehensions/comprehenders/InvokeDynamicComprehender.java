@@ -1,11 +1,8 @@
 package com.aol.cyclops.internal.comprehensions.comprehenders;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -13,6 +10,7 @@ import java.util.stream.Stream;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.invokedynamic.InvokeDynamic;
+import com.aol.cyclops.internal.invokedynamic.MethodAccessor;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
 
@@ -26,64 +24,68 @@ public class InvokeDynamicComprehender implements ValueComprehender {
 
     Optional<Class> type;
 
-    private static volatile Map<Class, Method> mapMethod = new ConcurrentHashMap<>();
-    private static volatile Map<Class, Method> flatMapMethod = new ConcurrentHashMap<>();
-    private static volatile Map<Class, ListX<Method>> filterMethod = new ConcurrentHashMap<>();
+    private static final ClassValue<MethodAccessor> mapMethod = new ClassValue<MethodAccessor>() {
+        @Override
+        protected MethodAccessor computeValue(Class<?> c) {
+            return Stream.of(c.getMethods())
+                         .filter(method -> "map".equals(method.getName()) || "transform".equals(method.getName()))
+                         .filter(method -> method.getParameterCount() == 1)
+                         .findFirst()
+                         .map(MethodAccessor::of)
+                         .get();
+        }
+    };
+    private static final ClassValue<MethodAccessor> flatMapMethod = new ClassValue<MethodAccessor>() {
+        @Override
+        protected MethodAccessor computeValue(Class<?> c) {
+            return Stream.of(c.getMethods())
+                         .filter(method -> "flatMap".equals(method.getName()) || "bind".equals(method.getName())
+                                 || "transformAndConcat".equals(method.getName()))
+                         .filter(method -> method.getParameterCount() == 1)
+                         .findFirst()
+                         .map(MethodAccessor::of)
+                         .get();
+        }
+    };
+    private static final ClassValue<ListX<MethodAccessor>> filterMethod = new ClassValue<ListX<MethodAccessor>>() {
+        @Override
+        protected ListX<MethodAccessor> computeValue(Class<?> c) {
+            return ReactiveSeq.of(c.getMethods())
+                              .filter(method -> "filter".equals(method.getName()))
+                              .filter(method -> method.getParameterCount() == 1)
+                              .filter(method -> method.getParameterTypes()[0].isInterface())
+                              .map(MethodAccessor::of)
+                              .toListX();
+        }
+    };
 
     @Override
     public Object filter(Object t, Predicate p) {
-        Class clazz = t.getClass();
-        ListX<Method> m = filterMethod.computeIfAbsent(clazz, c -> ReactiveSeq.of(c.getMethods())
-                                                                              .filter(method -> "filter".equals(method.getName()))
-                                                                              .filter(method -> method.getParameterCount() == 1)
-                                                                              .toListX()
-                                                                              .map(m2 -> {
-                                                                                  m2.setAccessible(true);
-                                                                                  return m2;
-                                                                              }));
+        ListX<MethodAccessor> m = filterMethod.get(t.getClass());
         if (m.size() == 0)
             return ValueComprehender.super.filter(t, p);
-        for (Method next : m) {
-
-            Class z = next.getParameterTypes()[0];
-            if (z.isInterface()) {
-
-                Object target = p;
-                if (!z.isAssignableFrom(Predicate.class)) {
-                    target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(), new Class[] { z },
-                                                    new FunctionExecutionInvocationHandler(
-                                                                                           input -> p.test(input)));
-                }
-
-                return new InvokeDynamic().executeMethod(next, t, target);
-            }
+        MethodAccessor next = m.get(0);
+        Class z = next.getMethod()
+                      .getParameterTypes()[0];
+        Object target = p;
+        if (!z.isAssignableFrom(Predicate.class)) {
+            target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(), new Class[] { z },
+                                            new FunctionExecutionInvocationHandler(
+                                                                                   input -> p.test(input)));
         }
-        return ValueComprehender.super.filter(t, p);
+
+        return next.invoke(t, target);
 
     }
 
     @Override
     public Object map(Object t, Function fn) {
-
-        Class clazz = t.getClass();
-
-        Method m = mapMethod.computeIfAbsent(clazz, c -> Stream.of(c.getMethods())
-                                                               .filter(method -> "map".equals(method.getName())
-                                                                       || "transform".equals(method.getName()))
-                                                               .filter(method -> method.getParameterCount() == 1)
-                                                               .findFirst()
-                                                               .map(m2 -> {
-                                                                   m2.setAccessible(true);
-                                                                   return m2;
-                                                               })
-                                                               .get());
-
-        return execute(t, fn, m);
-
+        return execute(t, fn, mapMethod.get(t.getClass()));
     }
 
-    private Object execute(Object t, Function fn, Method m) {
-        Class z = m.getParameterTypes()[0];
+    private Object execute(Object t, Function fn, MethodAccessor m) {
+        Class z = m.getMethod()
+                   .getParameterTypes()[0];
         Object target = fn;
         if (!z.isAssignableFrom(Function.class)) {
             target = Proxy.newProxyInstance(InvokeDynamicComprehender.class.getClassLoader(), new Class[] { z },
@@ -91,22 +93,12 @@ public class InvokeDynamicComprehender implements ValueComprehender {
                                                                                    input -> fn.apply(input)));
         }
 
-        return new InvokeDynamic().execute(m.getName(), t, target)
-                                  .get();
+        return m.invoke(t, target);
     }
 
     @Override
     public Object flatMap(Object t, Function fn) {
-        Class clazz = t.getClass();
-        Method m = flatMapMethod.computeIfAbsent(clazz, c -> Stream.of(c.getMethods())
-                                                                   .filter(method -> "flatMap".equals(method.getName())
-                                                                           || "bind".equals(method.getName())
-                                                                           || "transformAndConcat".equals(method.getName()))
-                                                                   .filter(method -> method.getParameterCount() == 1)
-                                                                   .findFirst()
-                                                                   .get());
-
-        return execute(t, fn, m);
+        return execute(t, fn, flatMapMethod.get(t.getClass()));
     }
 
     private boolean isAssignableFrom(Class t, Object apply) {
@@ -0,0 +1,124 @@
+package com.aol.cyclops.internal.invokedynamic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * Reads the (non-static) field values of a class, in the order of {@link ReflectionCache#getFields(Class)}.
+ *
+ * Field getters are compiled once per class into a single MethodHandle that returns all of the values as an array, so
+ * decomposing an instance does not read fields reflectively or build intermediate collections.
+ *
+ * <pre>
+ * {@code
+ *   Decomposer.of(MyCase.class).unapply(new MyCase("key",10));
+ *   //["key",10]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class Decomposer {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final int MAX_COLLECTED = 250;
+
+    private static final ClassValue<Decomposer> decomposers = new ClassValue<Decomposer>() {
+        @Override
+        protected Decomposer computeValue(Class<?> type) {
+            return new Decomposer(
+                                  ReflectionCache.getFields(type));
+        }
+    };
+
+    private final List<Field> fields;
+    private final MethodHandle[] getters;
+    private final MethodHandle values;
+
+    private Decomposer(List<Field> fields) {
+        this.fields = fields;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            getters = new MethodHandle[fields.size()];
+            for (int i = 0; i < getters.length; i++)
+                getters[i] = lookup.unreflectGetter(fields.get(i))
+                                   .asType(GETTER);
+            values = getters.length > MAX_COLLECTED ? null : collect(getters);
+        } catch (IllegalAccessException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /*
+     * (Object)Object[] handle that applies every getter to its argument and collects the results
+     */
+    private static MethodHandle collect(MethodHandle[] getters) {
+        MethodHandle array = MethodHandles.identity(Object[].class)
+                                          .asCollector(Object[].class, getters.length);
+        return MethodHandles.permuteArguments(MethodHandles.filterArguments(array, 0, getters),
+                                              MethodType.methodType(Object[].class, Object.class), new int[getters.length]);
+    }
+
+    /**
+     * @param type Class to decompose
+     * @return Decomposer for type
+     */
+    public static Decomposer of(Class<?> type) {
+        return decomposers.get(type);
+    }
+
+    /**
+     * @return Fields read by this Decomposer
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * @param instance Object to decompose (must be an instance of the class this Decomposer was created for)
+     * @return Field values as a fixed size List
+     */
+    public List<Object> unapply(Object instance) {
+        return Arrays.asList(toArray(instance));
+    }
+
+    /**
+     * @param instance Object to decompose (must be an instance of the class this Decomposer was created for)
+     * @return Field values
+     */
+    public Object[] toArray(Object instance) {
+        try {
+            if (values != null)
+                return (Object[]) values.invokeExact(instance);
+            Object[] result = new Object[getters.length];
+            for (int i = 0; i < getters.length; i++)
+                result[i] = (Object) getters[i].invokeExact(instance);
+            return result;
+        } catch (Throwable t) {
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+    }
+
+    /**
+     * @param instance Object to decompose (must be an instance of the class this Decomposer was created for)
+     * @return Mutable map of field name to value
+     */
+    public Map<String, Object> toMap(Object instance) {
+        Object[] values = toArray(instance);
+        Map<String, Object> result = new HashMap<>();
+        for (int i = 0; i < values.length; i++)
+            result.put(fields.get(i)
+                             .getName(),
+                       values[i]);
+        return result;
+    }
+}
@@ -0,0 +1,289 @@
+package com.aol.cyclops.internal.invokedynamic;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.util.function.TriFunction;
+
+/**
+ * Invokes a single public method through a strongly typed functional interface generated by LambdaMetafactory, so
+ * repeated calls are plain (monomorphic, inlinable) interface calls rather than reflective or MethodHandle dispatch
+ * with boxed varargs.
+ *
+ * Methods with up to two parameters are linked to a Supplier / Function / BiFunction (static methods) or a Function /
+ * BiFunction / TriFunction taking the receiver first (instance methods). Methods a generated class could not link
+ * against (declared on, or taking, non-public or foreign class loader types, or returning void) are adapted from a
+ * MethodHandle instead. Accessors are linked on first use.
+ *
+ * @author johnmcclean
+ *
+ */
+public final class MethodAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<String, MethodAccessor[]>> byClass = new ClassValue<Map<String, MethodAccessor[]>>() {
+        @Override
+        protected Map<String, MethodAccessor[]> computeValue(Class<?> type) {
+            Map<String, MethodAccessor[]> byName = new HashMap<>();
+            for (Method m : type.getMethods()) {
+                int arity = m.getParameterCount();
+                MethodAccessor[] byArity = byName.get(m.getName());
+                if (byArity == null)
+                    byName.put(m.getName(), byArity = new MethodAccessor[arity + 1]);
+                else if (byArity.length <= arity)
+                    byName.put(m.getName(), byArity = Arrays.copyOf(byArity, arity + 1));
+                if (byArity[arity] == null) //first match wins, as with Class#getMethods order
+                    byArity[arity] = new MethodAccessor(
+                                                        m);
+            }
+            return byName;
+        }
+    };
+
+    private final Method method;
+    private final boolean isStatic;
+    private final int arity;
+    private volatile Object accessor;
+
+    private MethodAccessor(Method method) {
+        this.method = method;
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        this.arity = method.getParameterCount();
+    }
+
+    /**
+     * @param type Class to search
+     * @param name Method name
+     * @param arity Number of parameters
+     * @return Accessor for the first public method (in Class#getMethods order) with this name and arity, or null if
+     *         there is none
+     */
+    public static MethodAccessor find(Class<?> type, String name, int arity) {
+        MethodAccessor[] byArity = byClass.get(type)
+                                          .get(name);
+        return byArity == null || byArity.length <= arity ? null : byArity[arity];
+    }
+
+    /**
+     * @param method Public method
+     * @return Accessor for method
+     */
+    public static MethodAccessor of(Method method) {
+        MethodAccessor found = find(method.getDeclaringClass(), method.getName(), method.getParameterCount());
+        return found != null && found.method.equals(method) ? found : new MethodAccessor(
+                                                                                         method);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @param target Receiver (ignored for static methods)
+     * @return Result of calling a no-args method
+     */
+    public Object invoke(Object target) {
+        checkArity(0);
+        Object fn = linked();
+        return isStatic ? ((Supplier) fn).get() : ((Function) fn).apply(target);
+    }
+
+    /**
+     * @param target Receiver (ignored for static methods)
+     * @param a Argument
+     * @return Result of calling a single argument method
+     */
+    public Object invoke(Object target, Object a) {
+        checkArity(1);
+        Object fn = linked();
+        return isStatic ? ((Function) fn).apply(a) : ((BiFunction) fn).apply(target, a);
+    }
+
+    /**
+     * @param target Receiver (ignored for static methods)
+     * @param a First argument
+     * @param b Second argument
+     * @return Result of calling a two argument method
+     */
+    public Object invoke(Object target, Object a, Object b) {
+        checkArity(2);
+        Object fn = linked();
+        return isStatic ? ((BiFunction) fn).apply(a, b) : ((TriFunction) fn).apply(target, a, b);
+    }
+
+    /**
+     * @param target Receiver (ignored for static methods)
+     * @param args Arguments
+     * @return Result of calling the method
+     */
+    public Object invokeWithArguments(Object target, Object... args) {
+        switch (args.length) {
+        case 0:
+            return invoke(target);
+        case 1:
+            return invoke(target, args[0]);
+        case 2:
+            return invoke(target, args[0], args[1]);
+        default:
+            checkArity(args.length);
+            try {
+                MethodHandle mh = (MethodHandle) linked();
+                if (isStatic)
+                    return mh.invokeWithArguments(args);
+                Object[] withTarget = new Object[args.length + 1];
+                withTarget[0] = target;
+                System.arraycopy(args, 0, withTarget, 1, args.length);
+                return mh.invokeWithArguments(withTarget);
+            } catch (Throwable t) {
+                throw ExceptionSoftener.throwSoftenedException(t);
+            }
+        }
+    }
+
+    private void checkArity(int count) {
+        if (count != arity)
+            throw new IllegalArgumentException(
+                                               method + " takes " + arity + " arguments, called with " + count);
+    }
+
+    private Object linked() {
+        Object fn = accessor;
+        if (fn == null)
+            accessor = fn = link();
+        return fn;
+    }
+
+    private Object link() {
+        if (arity <= 2 && isLinkable()) {
+            try {
+                return generate();
+            } catch (Throwable t) {
+                //fall back to a MethodHandle
+            }
+        }
+        return adapt();
+    }
+
+    private Object generate() throws Throwable {
+        MethodHandle impl = LOOKUP.unreflect(method);
+        Class<?> fnType;
+        String samName = "apply";
+        switch (isStatic ? arity : arity + 1) {
+        case 0:
+            fnType = Supplier.class;
+            samName = "get";
+            break;
+        case 1:
+            fnType = Function.class;
+            break;
+        case 2:
+            fnType = BiFunction.class;
+            break;
+        default:
+            fnType = TriFunction.class;
+        }
+        return LambdaMetafactory.metafactory(LOOKUP, samName, MethodType.methodType(fnType), impl.type()
+                                                                                               .generic(),
+                                             impl, impl.type()
+                                                       .wrap())
+                                .getTarget()
+                                .invoke();
+    }
+
+    /*
+     * The generated class is defined against this class, so it can only link to public types visible from this
+     * class loader
+     */
+    private boolean isLinkable() {
+        if (method.getReturnType() == void.class || !Modifier.isPublic(method.getModifiers()))
+            return false;
+        if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType()))
+            return false;
+        for (Class<?> param : method.getParameterTypes())
+            if (!isVisible(param))
+                return false;
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray())
+            type = type.getComponentType();
+        if (type.isPrimitive())
+            return true;
+        if (!Modifier.isPublic(type.getModifiers()))
+            return false;
+        try {
+            return Class.forName(type.getName(), false, MethodAccessor.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private Object adapt() {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.publicLookup()
+                                               .unreflect(method);
+            MethodHandle mh = handle.asType(MethodType.genericMethodType(handle.type()
+                                                                               .parameterCount()));
+            switch (mh.type()
+                      .parameterCount()) {
+            case 0:
+                return (Supplier) () -> {
+                    try {
+                        return mh.invokeExact();
+                    } catch (Throwable t) {
+                        throw ExceptionSoftener.throwSoftenedException(t);
+                    }
+                };
+            case 1:
+                return (Function) a -> {
+                    try {
+                        return mh.invokeExact(a);
+                    } catch (Throwable t) {
+                        throw ExceptionSoftener.throwSoftenedException(t);
+                    }
+                };
+            case 2:
+                return (BiFunction) (a, b) -> {
+                    try {
+                        return mh.invokeExact(a, b);
+                    } catch (Throwable t) {
+                        throw ExceptionSoftener.throwSoftenedException(t);
+                    }
+                };
+            case 3:
+                if (!isStatic)
+                    return (TriFunction) (a, b, c) -> {
+                        try {
+                            return mh.invokeExact(a, b, c);
+                        } catch (Throwable t) {
+                            throw ExceptionSoftener.throwSoftenedException(t);
+                        }
+                    };
+                return mh;
+            default:
+                return mh;
+            }
+        } catch (Exception e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodAccessor[" + method + "]";
+    }
+}
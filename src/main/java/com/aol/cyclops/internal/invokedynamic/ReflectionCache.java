@@ -3,58 +3,69 @@ package com.aol.cyclops.internal.invokedynamic;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.Seq;
 
 public class ReflectionCache {
-    private final static Map<Class, List<Field>> fields = new ConcurrentHashMap<>();
+    private final static ClassValue<List<Field>> fields = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(Class<?> class1) {
+            return Collections.unmodifiableList(Seq.<Class> iterate(class1, c -> c.getSuperclass())
+                                                   .limitWhile(c -> c != Object.class)
+                                                   .reverse()
+                                                   .flatMap(c -> Stream.of(c.getDeclaredFields()))
+                                                   .filter(f -> !Modifier.isStatic(f.getModifiers()))
+                                                   .map(f -> {
+                                                       f.setAccessible(true);
+                                                       return f;
+                                                   })
+                                                   .collect(Collectors.toList()));
+        }
+    };
 
-    private final static Map<Class, Optional<Method>> unapplyMethods = new ConcurrentHashMap<>();
+    private final static ClassValue<Map<String, Field>> fieldMaps = new ClassValue<Map<String, Field>>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> class1) {
+            return Collections.unmodifiableMap(getFields(class1).stream()
+                                                                .collect(Collectors.toMap(f -> f.getName(), f -> f)));
+        }
+    };
 
-    public static List<Field> getFields(Class class1) {
-        return getFieldData(class1).stream()
-                                   .collect(Collectors.<Field> toList());
+    private final static ClassValue<Optional<Method>> unapplyMethods = new ClassValue<Optional<Method>>() {
+        @Override
+        protected Optional<Method> computeValue(Class<?> cl) {
+            try {
+                return Optional.of(cl.getMethod("unapply"));
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }
+    };
 
+    /**
+     * @param class1 Class to inspect
+     * @return Unmodifiable List of the non-static fields of class1 and its super classes, super class fields first
+     */
+    public static List<Field> getFields(Class class1) {
+        return fields.get(class1);
     }
 
+    /**
+     * @param class1 Class to inspect
+     * @return Unmodifiable Map of the non-static fields of class1 and its super classes, by name
+     */
     public static Map<String, Field> getFieldMap(Class class1) {
-        return getFieldData(class1).stream()
-                                   .collect(Collectors.toMap(f -> f.getName(), f -> f));
-
-    }
-
-    private static List<Field> getFieldData(Class class1) {
-        return fields.computeIfAbsent(class1, cl -> {
-            return Seq.iterate(class1, c -> c.getSuperclass())
-                      .limitWhile(c -> c != Object.class)
-                      .reverse()
-                      .flatMap(c -> Stream.of(c.getDeclaredFields()))
-                      .filter(f -> !Modifier.isStatic(f.getModifiers()))
-                      .map(f -> {
-                f.setAccessible(true);
-                return f;
-            })
-                      .collect(Collectors.toList());
-        });
-
+        return fieldMaps.get(class1);
     }
 
     public static Optional<Method> getUnapplyMethod(Class c) {
-
-        return unapplyMethods.computeIfAbsent(c, cl -> {
-            try {
-                return Optional.of(cl.getMethod("unapply"));
-            } catch (NoSuchMethodException e) {
-                return Optional.empty();
-            }
-        });
-
+        return unapplyMethods.get(c);
     }
 
 }
@@ -2,6 +2,7 @@ package com.aol.cyclops.internal.matcher2;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -63,10 +64,7 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
     */
     public static <T, R> Cases<T, R> ofList(List<Case<T, R>> cases) {
         return new Cases<>(
-                           cases.stream()
-                                .map(ConsPStack::singleton)
-                                .reduce(ConsPStack.empty(), (acc, next) -> acc.plus(acc.size(), next.get(0))),
-                           true);
+                           stackOf(cases), true);
     }
 
     /**
@@ -77,12 +75,20 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
      * @return New Cases instance (sequential)
      */
     public static <T, R> Cases<T, R> of(Case<T, R>... cazes) {
-        return ofPStack(Stream.of(cazes)
-                              .map(ConsPStack::singleton)
-                              .reduce(ConsPStack.empty(), (acc, next) -> acc.plus(acc.size(), next.get(0))));
+        return ofPStack(stackOf(Arrays.asList(cazes)));
 
     }
 
+    /*
+     * Linear (and, unlike ConsPStack#from, not recursive) conversion preserving order
+     */
+    private static <T, R> PStack<Case<T, R>> stackOf(List<Case<T, R>> cases) {
+        PStack<Case<T, R>> stack = ConsPStack.empty();
+        for (ListIterator<Case<T, R>> it = cases.listIterator(cases.size()); it.hasPrevious();)
+            stack = stack.plus(it.previous());
+        return stack;
+    }
+
     /**
      * Append an individual case with supplied Cases inserted at index
      * @see #merge
@@ -248,11 +254,34 @@ public class Cases<T, R> implements Function<T, Maybe<R>> {
      */
     public <R> Maybe<R> match(T t) {
 
-        return Maybe.fromOptional((Optional) stream().map(pattern -> pattern.match(t))
-                                                     .filter(Optional::isPresent)
-                                                     .map(Optional::get)
-                                                     .findFirst());
+        for (Case<T, ?> pattern : cases) {
+            Optional<?> result = pattern.match(t);
+            if (result.isPresent())
+                return Maybe.of((R) result.get());
+        }
+        return Maybe.none();
+
+    }
 
+    /**
+     * Compile these cases into a matcher that dispatches type guarded cases via a per class jump table and equality
+     * guarded cases via a hash lookup (see {@link Guards}), testing only the remaining predicates in order. Matching
+     * semantics (first matching case wins) are unchanged.
+     * 
+     * <pre>
+     * {@code
+     * CompiledCases<Object,String> compiled = Cases.of(Case.of(instanceOf(Integer.class), i -> "int"),
+     *                                                  Case.of(eq("hello"), s -> "greeting"))
+     *                                              .compile();
+     * compiled.match(10); //Maybe["int"]
+     * }
+     * </pre>
+     * 
+     * @return Compiled Cases, compile once and reuse for many inputs
+     */
+    public CompiledCases<T, R> compile() {
+        return new CompiledCases<>(
+                                   cases);
     }
 
     public Stream<Case<T, R>> stream() {
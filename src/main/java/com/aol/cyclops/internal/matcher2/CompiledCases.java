@@ -0,0 +1,132 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.util.function.Predicates;
+
+/**
+ * Cases compiled into a decision structure, with the same first-match semantics as {@link Cases#match(Object)}.
+ *
+ * Cases guarded by a type test (Predicates#instanceOf, the Predicates#__ wildcard) are resolved per runtime class of the
+ * input, once, via a ClassValue jump table. Cases guarded by equality (Predicates#eq, Predicates#in) are resolved with
+ * a single hash lookup. Only the remaining predicates are tested, in order, and only those that precede the first
+ * type or equality match. Null inputs are matched against every case in order.
+ *
+ * <pre>
+ * {@code
+ *  CompiledCases<Event,String> handler = Cases.of(Case.of(instanceOf(Click.class), e -> "click"),
+ *                                                 Case.of(instanceOf(View.class), e -> "view"),
+ *                                                 Case.of(__, e -> "other"))
+ *                                             .compile();
+ *  handler.match(new Click());
+ *  //Maybe["click"]
+ * }
+ * </pre>
+ *
+ * Equality guards assume the hashCode of the input is consistent with its equals method.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Input type
+ * @param <R> Return type
+ */
+public final class CompiledCases<T, R> implements Function<T, Maybe<R>> {
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final Case<T, R>[] cases;
+    private final Class<?>[] types;
+    private final boolean[] residual;
+    private final Map<Object, Integer> equalities = new HashMap<>();
+    private final ClassValue<int[]> plans = new ClassValue<int[]>() {
+        @Override
+        protected int[] computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    CompiledCases(List<Case<T, R>> list) {
+        cases = list.toArray(new Case[list.size()]);
+        types = new Class[cases.length];
+        residual = new boolean[cases.length];
+        for (int i = 0; i < cases.length; i++) {
+            Case<T, R> next = cases[i];
+            Predicate<?> predicate = next instanceof ActiveCase ? next.getPredicate() : null;
+            if (predicate == Predicates.__)
+                types[i] = Object.class;
+            else if (predicate instanceof Guards.InstanceOf)
+                types[i] = ((Guards.InstanceOf) predicate).type;
+            else if (predicate instanceof Guards.EqualTo) {
+                for (Object value : ((Guards.EqualTo) predicate).values)
+                    equalities.putIfAbsent(value, i);
+            } else
+                residual[i] = true;
+        }
+    }
+
+    /*
+     * Indexes, in order, of the cases that must match (type guards) or may match (residual predicates) an instance of
+     * type
+     */
+    private int[] plan(Class<?> type) {
+        List<Integer> plan = new ArrayList<>();
+        for (int i = 0; i < cases.length; i++)
+            if (residual[i] || (types[i] != null && types[i].isAssignableFrom(type)))
+                plan.add(i);
+        return plan.stream()
+                   .mapToInt(i -> i)
+                   .toArray();
+    }
+
+    /**
+     * @return Number of cases
+     */
+    public int size() {
+        return cases.length;
+    }
+
+    @Override
+    public Maybe<R> apply(T t) {
+        return match(t);
+    }
+
+    /**
+     * @param t Object to match against the compiled cases
+     * @return Value returned from the first matching case (if present) otherwise Maybe.none()
+     */
+    public Maybe<R> match(T t) {
+        if (t == null)
+            return sequential(t);
+        Integer equal = equalities.isEmpty() ? null : equalities.get(t);
+        int first = equal == null ? NONE : equal;
+        for (int i : plans.get(t.getClass())) {
+            if (i > first)
+                break;
+            if (!residual[i])
+                return Maybe.of(cases[i].getAction()
+                                        .apply(t));
+            Optional<R> result = cases[i].match(t);
+            if (result.isPresent())
+                return Maybe.of(result.get());
+        }
+        return first == NONE ? Maybe.none()
+                : Maybe.of(cases[first].getAction()
+                                       .apply(t));
+    }
+
+    private Maybe<R> sequential(T t) {
+        for (Case<T, R> next : cases) {
+            Optional<R> result = next.match(t);
+            if (result.isPresent())
+                return Maybe.of(result.get());
+        }
+        return Maybe.none();
+    }
+}
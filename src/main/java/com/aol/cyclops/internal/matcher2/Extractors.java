@@ -2,9 +2,9 @@ package com.aol.cyclops.internal.matcher2;
 
 import java.util.Optional;
 
-import com.aol.cyclops.control.FluentFunctions;
 import com.aol.cyclops.control.Maybe;
-import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
+import com.aol.cyclops.internal.invokedynamic.Decomposer;
+import com.aol.cyclops.internal.invokedynamic.MethodAccessor;
 import com.aol.cyclops.types.Decomposable;
 
 /**
@@ -45,10 +45,11 @@ public class Extractors {
                 return (R) Maybe.fromOptional((Optional) (input));
             }
 
-            return (R) ReflectionCache.getUnapplyMethod(input.getClass())
-                                      .map(FluentFunctions.ofChecked(m -> m.invoke(input)))
-                                      .orElse(AsDecomposable.asDecomposable(input)
-                                                            .unapply());
+            MethodAccessor unapply = MethodAccessor.find(input.getClass(), "unapply", 0);
+            if (unapply != null)
+                return (R) unapply.invoke(input);
+            return (R) Decomposer.of(input.getClass())
+                                 .unapply(input);
 
         };
     }
@@ -0,0 +1,58 @@
+package com.aol.cyclops.internal.matcher2;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * Predicates whose structure is visible to {@link CompiledCases}, so that cases guarded by them can be dispatched by
+ * type or by hash lookup rather than tested one by one
+ *
+ * @author johnmcclean
+ *
+ */
+public class Guards {
+
+    /**
+     * @param type Type to test for
+     * @return Predicate that tests whether its (non-null) input is an instance of type
+     */
+    public static <T> Predicate<T> instanceOf(Class<?> type) {
+        return new InstanceOf<>(
+                                type);
+    }
+
+    /**
+     * @param values Values to test for
+     * @return Predicate that tests whether its input is equal (Objects#equals) to any of the supplied values
+     */
+    public static <T> Predicate<T> equalTo(Object... values) {
+        return new EqualTo<>(
+                             values);
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class InstanceOf<T> implements Predicate<T> {
+        final Class<?> type;
+
+        @Override
+        public boolean test(T t) {
+            return type.isAssignableFrom(t.getClass());
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class EqualTo<T> implements Predicate<T> {
+        final Object[] values;
+
+        @Override
+        public boolean test(T t) {
+            for (Object next : values)
+                if (Objects.equals(t, next))
+                    return true;
+            return false;
+        }
+    }
+}
@@ -109,6 +109,14 @@ public class PatternMatcher implements Function {
 
     }
 
+    /**
+     * @see Cases#compile()
+     * @return Compiled matcher for the cases built so far
+     */
+    public <T, R> CompiledCases<T, R> compile() {
+        return cases.compile();
+    }
+
     private Function extractorAction(Extractor extractor, Function action) {
         if (extractor == null)
             return action;
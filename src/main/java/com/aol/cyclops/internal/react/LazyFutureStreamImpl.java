@@ -184,6 +184,24 @@ public class LazyFutureStreamImpl<U> implements LazyFutureStream<U> {
                           .scheduleFixedRate(rate, ex);
     }
 
+    @Override
+    public HotStream<U> schedule(String cron) {
+        return ReactiveSeq.<U> fromStream(this.toStream())
+                          .schedule(cron);
+    }
+
+    @Override
+    public HotStream<U> scheduleFixedDelay(long delay) {
+        return ReactiveSeq.<U> fromStream(this.toStream())
+                          .scheduleFixedDelay(delay);
+    }
+
+    @Override
+    public HotStream<U> scheduleFixedRate(long rate) {
+        return ReactiveSeq.<U> fromStream(this.toStream())
+                          .scheduleFixedRate(rate);
+    }
+
     @Override
     public <T> LazyFutureStream<T> unitIterator(Iterator<T> it) {
         return simpleReact.from(it);
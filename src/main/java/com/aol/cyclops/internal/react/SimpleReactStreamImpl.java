@@ -44,7 +44,7 @@ public class SimpleReactStreamImpl<U> implements SimpleReactStream<U>, EagerToQu
             log.error(e.getMessage(), e);
         });
         this.lastActive = new EagerStreamWrapper(
-                                                 s, this.errorHandler);
+                                                 s, simpleReact.getMaxActive(), this.errorHandler);
         this.queueFactory = QueueFactories.unboundedQueue();
         this.subscription = new AlwaysContinue();
 
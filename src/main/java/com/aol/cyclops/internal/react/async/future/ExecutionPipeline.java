@@ -17,6 +17,12 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 @Wither
 public class ExecutionPipeline {
+    /**
+     * Stage that follows every compose stage - by the time it is applied the composed CompletableFuture has completed,
+     * so join does not block. Any error from the composed future is rethrown here, where exceptionally / whenComplete can see it.
+     */
+    private static final Function UNWRAP = cf -> ((CompletableFuture) cf).join();
+
     private final PStack<Function> functionList;
     private final PStack<Executor> execList;
     private final PStack<Function> firstRecover;
@@ -30,11 +36,11 @@ public class ExecutionPipeline {
     }
 
     public boolean isSequential() {
-        if (execList.size() == 0)
-            return true;
-        if (execList.size() == 1 && execList.get(0) == null)
-            return true;
-        return false;
+        for (Executor next : execList) {
+            if (next != null)
+                return false;
+        }
+        return true;
     }
 
     public <T> ExecutionPipeline peek(Consumer<? super T> c) {
@@ -52,22 +58,38 @@ public class ExecutionPipeline {
 
     }
 
+    /**
+     * Add a compose stage, executed on the supplied Executor. The FastFuture resumes the remainder of the pipeline when the
+     * returned CompletableFuture completes, no thread blocks waiting for it.
+     */
     public <T, R> ExecutionPipeline thenComposeAsync(Function<Object, CompletableFuture<?>> fn, Executor exec) {
-
-        return new ExecutionPipeline(
-                                     addFn(t -> fn.apply(t)
-                                                  .join()),
-                                     addExec(exec), firstRecover, onFail);
+        ExecutionPipeline composed = new ExecutionPipeline(
+                                                           addFn(new ComposeFunction(
+                                                                                     fn)),
+                                                           addExec(exec), firstRecover, onFail);
+        return composed.unwrapComposed();
     }
 
+    /**
+     * Add a compose stage, executed on the thread completing the previous stage. The FastFuture resumes the remainder of the pipeline
+     * when the returned CompletableFuture completes, no thread blocks waiting for it.
+     */
     public <T, R> ExecutionPipeline thenCompose(Function<? super T, CompletableFuture<? extends R>> fn) {
-        Function<T, R> unpacked = t -> fn.apply(t)
-                                         .join();
-        return new ExecutionPipeline(
-                                     swapFn(unpacked), execList.size() == 0 ? execList.plus(null) : execList, firstRecover, onFail);
+        PStack<Function> fused = swapComposeFn(fn);
+        Function composed = new ComposeFunction(
+                                                fused.get(fused.size() - 1));
+        ExecutionPipeline pipeline = new ExecutionPipeline(
+                                                           fused.with(fused.size() - 1, composed), execList.size() == 0 ? execList.plus(null) : execList,
+                                                           firstRecover, onFail);
+        return pipeline.unwrapComposed();
 
     }
 
+    private ExecutionPipeline unwrapComposed() {
+        return new ExecutionPipeline(
+                                     addFn(UNWRAP), addExec(null), firstRecover, onFail);
+    }
+
     public <T, R> ExecutionPipeline thenApply(Function<T, R> fn) {
         return new ExecutionPipeline(
                                      swapComposeFn(fn), execList.size() == 0 ? execList.plus(null) : execList, firstRecover, onFail);
@@ -202,4 +224,17 @@ public class ExecutionPipeline {
     public ExecutionPipeline onFail(Consumer<Throwable> onFail) {
         return this.withOnFail(onFail);
     }
+
+    /**
+     * Marks a pipeline stage that returns a CompletableFuture to be composed (rather than joined)
+     */
+    @AllArgsConstructor
+    static class ComposeFunction implements Function {
+        private final Function fn;
+
+        @Override
+        public Object apply(Object t) {
+            return fn.apply(t);
+        }
+    }
 }
\ No newline at end of file
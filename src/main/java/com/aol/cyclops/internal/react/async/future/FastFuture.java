@@ -2,6 +2,7 @@ package com.aol.cyclops.internal.react.async.future;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
@@ -21,16 +22,18 @@ import lombok.Getter;
  * 2. only map / mapAsync/ exceptionally/ allOf and anyOf are neccessary
  * 3. For results / errors : single writer (one thread executing a task at a time, one thread sets the result or error) 
  * 						/ single reader (simple-react Stream)
- * 4. For post-hoc event listeners : single writer (simple-react Stream adds event listeners) : single reader (only one thread can read event listeners - 
+ * 4. For post-hoc event listeners : multiple writers (onComplete listeners are pushed onto a Treiber stack) : listeners are run by
  * 						either the thread that sets the result / error and eventually done,
- * 							or if done already set - the calling thread can execute post-hoc events)
+ * 							or if done already set - the registering thread. Done is always set before listeners are run, so each listener
+ * 							is run at least once
+ * 5. Threads blocking in join / await briefly spin, then park on a Treiber stack of waiters - completion unparks exactly those threads
  */
 @AllArgsConstructor
 public class FastFuture<T> {
 
     @Getter
     private volatile boolean done = false;
-    private volatile Consumer<OnComplete> forXOf;
+    private final AtomicReference<Listener> listeners = new AtomicReference<>();
     private volatile Consumer<OnComplete> essential;
     @Getter
     private volatile boolean completedExceptionally = false;
@@ -40,10 +43,33 @@ public class FastFuture<T> {
                                                                   UNSET);
     private final Consumer<FastFuture<T>> doFinally;
     private static UnSet UNSET = new UnSet();
+    private static final int SPINS = Runtime.getRuntime()
+                                            .availableProcessors() > 1 ? 1 << 7 : 0;
+
+    private final AtomicReference<Waiter> waiters = new AtomicReference<>();
 
     static class UnSet {
     }
 
+    static final class Waiter {
+        final Thread thread;
+        Waiter next;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+    static final class Listener {
+        final Consumer<OnComplete> fn;
+        final Listener next;
+
+        Listener(Consumer<OnComplete> fn, Listener next) {
+            this.fn = fn;
+            this.next = next;
+        }
+    }
+
     @Getter
     private FinalPipeline pipeline;
 
@@ -58,18 +84,23 @@ public class FastFuture<T> {
         this.pipeline = null;
     }
 
+    /*
+     * Results and errors are always set before done is, so once done is observed these reads do not wait
+     */
     private T result() {
-        Object res = UNSET;
-        while ((res = result.get()) == UNSET) {
-            Thread.yield();
+        Object res = result.get();
+        if (res == UNSET) {
+            await();
+            res = result.get();
         }
         return (T) res;
     }
 
     private Throwable exception() {
-        Object result = UNSET;
-        while ((result = exception.get()) == UNSET) {
-            Thread.yield();
+        Object result = exception.get();
+        if (result == UNSET) {
+            await();
+            result = exception.get();
         }
         return (Throwable) result;
     }
@@ -88,14 +119,36 @@ public class FastFuture<T> {
     }
 
     public void await() {
+        if (done)
+            return;
+        for (int i = 0; i < SPINS; i++) { //sub-microsecond completions are cheaper to spin for than to park
+            if (done)
+                return;
+        }
+        final Waiter waiter = new Waiter(
+                                         Thread.currentThread());
+        Waiter head;
+        do {
+            if (done)
+                return;
+            head = waiters.get();
+            waiter.next = head;
+        } while (!waiters.compareAndSet(head, waiter));
 
-        long spin = 1;
         while (!done) {
-            LockSupport.parkNanos(spin++);
+            LockSupport.park(this);
         }
 
     }
 
+    private void signalWaiters() {
+        Waiter next = waiters.getAndSet(null);
+        while (next != null) {
+            LockSupport.unpark(next.thread);
+            next = next.next;
+        }
+    }
+
     /**
      * Join which can be called exactly once!
      * 
@@ -104,10 +157,7 @@ public class FastFuture<T> {
     public T join() {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
+            await();
             if (completedExceptionally)
                 throw (new SimpleReactCompletionException(
                                                           exception()));
@@ -175,10 +225,15 @@ public class FastFuture<T> {
     private FastFuture<T> completeExceptionally(Throwable t) {
         exception.lazySet(t);
         completedExceptionally = true;
-        handleOnComplete(true);
-        if (pipeline != null && pipeline.onFail != null)
-            pipeline.onFail.accept(t);
-        done = true;
+        try {
+            if (pipeline != null && pipeline.onFail != null)
+                pipeline.onFail.accept(t);
+        } finally {
+            //as in done(), listeners registered from here on see done and run themselves
+            done = true;
+            signalWaiters();
+            handleOnComplete(true);
+        }
         return this;
     }
 
@@ -287,35 +342,56 @@ public class FastFuture<T> {
     private void set(Supplier<T> result, int index) {
         try {
 
-            Object current = result.get();
+            final Object current = result.get();
+            if (pipeline.functions[index - 1] instanceof ExecutionPipeline.ComposeFunction) {
+                //resume the pipeline when the composed future completes, rather than blocking this thread
+                ((CompletableFuture) current).whenComplete((r, t) -> proceed(current, index));
+                return;
+            }
+            proceed(current, index);
+
+        } catch (Throwable t) {
+            failed(t);
+        }
+
+    }
 
-            final Object use = current;
+    private void proceed(Object use, int index) {
+        try {
             if (index < pipeline.functions.length) {
                 Function op = pipeline.functions[index];
-                this.pipeline.executors[index].execute(() -> {
+                Executor exec = this.pipeline.executors[index];
+                if (exec == null) {
                     set(() -> (T) op.apply(use), index + 1);
-                });
+                } else {
+                    exec.execute(() -> {
+                        set(() -> (T) op.apply(use), index + 1);
+                    });
+                }
                 return;
             }
 
-            this.result.lazySet(current);
+            this.result.lazySet(use);
             done();
 
         } catch (Throwable t) {
-            if (t instanceof CompletedException) {
-                if (this.doFinally != null)
-                    doFinally.accept(this);
-            }
-
-            completeExceptionally(t);
+            failed(t);
+        }
+    }
 
+    private void failed(Throwable t) {
+        if (t instanceof CompletedException) {
+            if (this.doFinally != null)
+                doFinally.accept(this);
         }
 
+        completeExceptionally(t);
     }
 
     private boolean done() {
         this.completedExceptionally = false;
         this.done = true;
+        signalWaiters();
         handleOnComplete(true);
 
         return true;
@@ -325,11 +401,12 @@ public class FastFuture<T> {
     public void clearFast() {
         result.set(UNSET);
         exception.set(UNSET);
-        this.forXOf = null;
+        this.listeners.set(null);
         this.essential = null;
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
+        this.waiters.set(null);
         this.done = false;
     }
 
@@ -345,12 +422,15 @@ public class FastFuture<T> {
     }
 
     /**
-     * Called at least once on complete
+     * Called at least once on complete, listeners added by separate calls are all run
      * 
      */
     public void onComplete(Consumer<OnComplete> fn) {
-
-        this.forXOf = fn; //set - could also be called on a separate thread
+        Listener head;
+        do {
+            head = listeners.get();
+        } while (!listeners.compareAndSet(head, new Listener(
+                                                             fn, head)));
 
         if (done) { //can be called again
             fn.accept(buildOnComplete());
@@ -358,8 +438,12 @@ public class FastFuture<T> {
     }
 
     private void handleOnComplete(boolean force) {
-        if (forXOf != null)
-            forXOf.accept(buildOnComplete());
+        Listener next = listeners.get();
+        if (next != null) {
+            final OnComplete c = buildOnComplete();
+            for (; next != null; next = next.next)
+                next.fn.accept(c);
+        }
 
         if (this.essential != null)
             this.essential.accept(buildOnComplete());
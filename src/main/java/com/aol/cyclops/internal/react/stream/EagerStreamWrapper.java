@@ -8,10 +8,10 @@ import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops.control.SimpleReact;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
 import com.aol.cyclops.types.futurestream.BlockingStreamHelper;
 import com.aol.cyclops.types.futurestream.SimpleReactStream;
 import com.aol.cyclops.util.ExceptionSoftener;
@@ -24,35 +24,41 @@ import lombok.experimental.Wither;
 public class EagerStreamWrapper implements StreamWrapper {
     @SuppressWarnings("rawtypes")
     private final List<CompletableFuture> list;
-    private final Stream<CompletableFuture> stream;
     private final AsyncList async;
     private final Optional<Consumer<Throwable>> errorHandler;
 
     public EagerStreamWrapper(List<CompletableFuture> list, Optional<Consumer<Throwable>> errorHandler) {
         this.list = list;
-        this.stream = null;
         this.errorHandler = errorHandler;
         async = null;
     }
 
     public EagerStreamWrapper(AsyncList async, Optional<Consumer<Throwable>> errorHandler) {
         this.list = null;
-        this.stream = null;
         this.async = async;
         this.errorHandler = errorHandler;
     }
 
     public EagerStreamWrapper(Stream<CompletableFuture> stream, Optional<Consumer<Throwable>> errorHandler) {
-        this.stream = stream;
+        this(stream, (MaxActive) null, errorHandler);
+    }
 
-        list = stream.collect(Collectors.toList());
+    /**
+     * The consumed Stream is not retained, so the futures of earlier stages (referenced by the Stream pipeline) can be
+     * collected as soon as this stage has been built.
+     *
+     * @param stream Stream of futures for this stage
+     * @param maxActive Limit on the number of incomplete futures while the Stream is collected (null for unlimited)
+     * @param errorHandler Error handler for this stage
+     */
+    public EagerStreamWrapper(Stream<CompletableFuture> stream, MaxActive maxActive, Optional<Consumer<Throwable>> errorHandler) {
+        list = SegmentedFutureList.collect(stream, maxActive);
         this.errorHandler = errorHandler;
         async = null;
 
     }
 
     public EagerStreamWrapper(Stream<CompletableFuture> stream, Collector c, Optional<Consumer<Throwable>> errorHandler) {
-        this.stream = stream;
         async = null;
         this.errorHandler = errorHandler;
         list = (List) stream.collect(c);
@@ -60,33 +66,19 @@ public class EagerStreamWrapper implements StreamWrapper {
     }
 
     public void collect() {
-        if (list != null)
-            collect(list.stream(), Collectors.toList(), this.errorHandler);
-        else
-            collect(stream, Collectors.toList(), this.errorHandler);
-    }
-
-    static List<CompletableFuture> collect(Stream<CompletableFuture> stream, Collector c, Optional<Consumer<Throwable>> errorHandler) {
-
-        Function<Throwable, Object> captureFn = t -> {
+        if (!errorHandler.isPresent())
+            return;
+        final Function<Throwable, Object> captureFn = t -> {
             BlockingStreamHelper.captureUnwrap(t, errorHandler);
             throw ExceptionSoftener.throwSoftenedException(t);
         };
-        if (errorHandler.isPresent())
-            return (List<CompletableFuture>) stream.map(cf -> cf.exceptionally(captureFn))
-
-                                                   .collect(c);
-
-        return (List<CompletableFuture>) stream.filter(cf -> cf.isCompletedExceptionally())
-                                               .collect(c);
-
+        list().forEach(cf -> cf.exceptionally(captureFn));
     }
 
     public EagerStreamWrapper(CompletableFuture cf, Optional<Consumer<Throwable>> errorHandler) {
         async = null;
         list = Arrays.asList(cf);
         this.errorHandler = errorHandler;
-        stream = null;
 
     }
 
@@ -133,9 +125,9 @@ public class EagerStreamWrapper implements StreamWrapper {
         public AsyncList(Stream<CompletableFuture> stream, Executor service) {
 
             if (stream instanceof SimpleReactStream)
-                async = CompletableFuture.completedFuture(stream.collect(Collectors.toList()));
+                async = CompletableFuture.completedFuture(SegmentedFutureList.collect(stream, null));
             else
-                async = CompletableFuture.supplyAsync(() -> stream.collect(Collectors.toList()), service);
+                async = CompletableFuture.supplyAsync(() -> SegmentedFutureList.collect(stream, null), service);
 
             this.service = service;
         }
@@ -143,7 +135,7 @@ public class EagerStreamWrapper implements StreamWrapper {
         public AsyncList(CompletableFuture<Stream<CompletableFuture>> cf, Executor service) {
             // use elastic pool to execute asyn
 
-            async = cf.thenApplyAsync(st -> st.collect(Collectors.toList()), service);
+            async = cf.thenApplyAsync(st -> SegmentedFutureList.collect(st, null), service);
             this.service = service;
 
         }
@@ -0,0 +1,133 @@
+package com.aol.cyclops.internal.react.stream;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+
+/**
+ * An append only List of the CompletableFutures in a SimpleReact stage, stored in fixed size segments. Unlike an ArrayList, growing
+ * the List never copies the futures collected so far (and never holds two copies of them at once), so a stage over millions of
+ * elements costs a single reference per future.
+ *
+ * Futures can optionally be collected with a {@link MaxActive} limit, in which case the collecting thread stops pulling from the
+ * Stream of futures once maxActive are incomplete, and waits until no more than reduceTo remain incomplete.
+ *
+ * @author johnmcclean
+ *
+ */
+@SuppressWarnings("rawtypes")
+public class SegmentedFutureList extends AbstractList<CompletableFuture> implements RandomAccess {
+
+    static final int SEGMENT_SHIFT = 10;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int MASK = SEGMENT_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private CompletableFuture[][] segments = new CompletableFuture[4][];
+    private int size = 0;
+
+    /**
+     * @param stream Stream of futures to collect
+     * @param maxActive Limit on incomplete futures while collecting (null for unlimited)
+     * @return List of all the futures in the Stream
+     */
+    public static SegmentedFutureList collect(Stream<CompletableFuture> stream, MaxActive maxActive) {
+        final SegmentedFutureList list = new SegmentedFutureList();
+        if (maxActive == null)
+            stream.forEachOrdered(list::add);
+        else
+            stream.forEachOrdered(new Limiter(
+                                              list, maxActive));
+        return list;
+    }
+
+    @Override
+    public boolean add(CompletableFuture future) {
+        final int segment = size >>> SEGMENT_SHIFT;
+        final int offset = size & MASK;
+        if (segment == segments.length)
+            segments = Arrays.copyOf(segments, segment * 2);
+        CompletableFuture[] current = segments[segment];
+        if (current == null) {
+            current = segments[segment] = new CompletableFuture[segment == 0 ? INITIAL_CAPACITY : SEGMENT_SIZE];
+        } else if (offset == current.length) { //only the first segment grows, so small stages stay small
+            current = segments[segment] = Arrays.copyOf(current, Math.min(SEGMENT_SIZE, offset * 2));
+        }
+        current[offset] = future;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public CompletableFuture get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + index + ", Size: " + size);
+        return segments[index >>> SEGMENT_SHIFT][index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(Consumer<? super CompletableFuture> action) {
+        for (int i = 0; i < size; i++)
+            action.accept(segments[i >>> SEGMENT_SHIFT][i & MASK]);
+    }
+
+    /**
+     * Adds futures to the List, tracking only those that were incomplete when last checked, so each check costs at most
+     * maxActive isDone calls rather than a scan of the whole List.
+     */
+    private static final class Limiter implements Consumer<CompletableFuture> {
+        private final SegmentedFutureList list;
+        private final MaxActive maxActive;
+        private CompletableFuture[] active;
+        private int count = 0;
+
+        Limiter(SegmentedFutureList list, MaxActive maxActive) {
+            this.list = list;
+            this.maxActive = maxActive;
+            this.active = new CompletableFuture[maxActive.getMaxActive() + 1];
+        }
+
+        @Override
+        public void accept(CompletableFuture future) {
+            list.add(future);
+            if (future.isDone())
+                return;
+            if (count == active.length)
+                active = Arrays.copyOf(active, count * 2);
+            active[count++] = future;
+            if (count >= maxActive.getMaxActive())
+                reduce(maxActive.getReduceTo());
+        }
+
+        private void reduce(int target) {
+            for (;;) {
+                int remaining = 0;
+                for (int i = 0; i < count; i++) {
+                    if (!active[i].isDone())
+                        active[remaining++] = active[i];
+                }
+                Arrays.fill(active, remaining, count, null);
+                count = remaining;
+                if (count <= target)
+                    return;
+                try {
+                    active[0].join(); //oldest incomplete future
+                } catch (Throwable t) {
+                    //failures are handled by the next stage
+                }
+            }
+        }
+    }
+}
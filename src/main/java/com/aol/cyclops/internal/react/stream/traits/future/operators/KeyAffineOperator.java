@@ -0,0 +1,227 @@
+package com.aol.cyclops.internal.react.stream.traits.future.operators;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+import com.aol.cyclops.types.futurestream.LazyFutureStream;
+
+/**
+ * Processes the elements of a LazyFutureStream on a fixed number of lanes, selected by hashing a key extracted from each element.
+ * Elements with the same key are always processed on the same lane, in the order they were read from the Stream - lanes run in
+ * parallel with each other.
+ *
+ * Completed elements are routed in Stream order by a sequencer onto bounded single-producer, single-consumer lane queues (Agrona's
+ * OneToOneConcurrentArrayQueue). Each lane is drained by at most one task at a time on the supplied Executor, so a lane holds no
+ * thread while it is empty. The Stream reads ahead by the current maxActive of the LazyFutureStream (or the number of lanes, if
+ * greater), so lanes are kept busy even when the Stream is consumed one element at a time. If a lane is full the sequencer stops
+ * routing until that lane catches up.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+public class KeyAffineOperator<T> {
+
+    private final LazyFutureStream<T> stream;
+    private final MaxActive maxActive;
+
+    public KeyAffineOperator(LazyFutureStream<T> stream) {
+        this.stream = stream;
+        this.maxActive = stream.getMaxActive();
+    }
+
+    /**
+     * @param keyFn Extracts the key that selects the lane for an element
+     * @param parallelism Number of lanes
+     * @param executor Executor that lanes are drained on
+     * @param fn Function applied to each element on its lane
+     * @return LazyFutureStream of the results, merged from all lanes
+     */
+    public <K, R> LazyFutureStream<R> groupedParallel(Function<? super T, ? extends K> keyFn, int parallelism, Executor executor,
+            Function<? super T, ? extends R> fn) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException(
+                                               "Parallelism must be positive, was " + parallelism);
+        final Lanes<K, R> lanes = new Lanes<>(
+                                              keyFn, parallelism, executor, fn, Math.max(2, maxActive.getMaxActive()));
+        final Stream<FastFuture<T>> futures = (Stream) stream.getLastActive()
+                                                             .injectFutures();
+        return (LazyFutureStream<R>) stream.withLastActive(stream.getLastActive()
+                                                                 .withNewStreamFutures((Stream) lanes.readAhead(futures.iterator())));
+    }
+
+    private final class Lanes<K, R> {
+        private final Function<? super T, ? extends K> keyFn;
+        private final Function<? super T, ? extends R> fn;
+        private final List<Lane> lanes;
+
+        //elements read from the Stream, in order, that have not yet been routed to a lane
+        private final ArrayDeque<Slot> pending = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger(
+                                                            0);
+        private volatile Lane stalled;
+
+        Lanes(Function<? super T, ? extends K> keyFn, int parallelism, Executor executor, Function<? super T, ? extends R> fn,
+                int capacity) {
+            this.keyFn = keyFn;
+            this.fn = fn;
+            this.lanes = new ArrayList<>(
+                                         parallelism);
+            for (int i = 0; i < parallelism; i++)
+                lanes.add(new Lane(
+                                   executor, capacity));
+        }
+
+        Stream<CompletableFuture<R>> readAhead(Iterator<FastFuture<T>> it) {
+            return StreamUtils.stream(new Iterator<CompletableFuture<R>>() {
+                final ArrayDeque<CompletableFuture<R>> read = new ArrayDeque<>();
+
+                @Override
+                public boolean hasNext() {
+                    return !read.isEmpty() || it.hasNext();
+                }
+
+                @Override
+                public CompletableFuture<R> next() {
+                    final int limit = Math.max(lanes.size(), maxActive.getMaxActive());
+                    while (read.size() < limit && it.hasNext())
+                        read.add(submit(it.next()));
+                    return read.poll();
+                }
+            });
+        }
+
+        private CompletableFuture<R> submit(FastFuture<T> next) {
+            final Slot slot = new Slot();
+            synchronized (pending) {
+                pending.add(slot);
+            }
+            next.toCompletableFuture()
+                .whenComplete((value, error) -> {
+                    slot.value = value;
+                    slot.error = error;
+                    slot.ready = true;
+                    sequence();
+                });
+            return (CompletableFuture<R>) slot.out;
+        }
+
+        /**
+         * Route ready elements from the head of the pending list, stopping at the first element that is not ready or whose lane
+         * is full. Only one thread routes at a time, so each lane queue has a single producer.
+         */
+        void sequence() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                route();
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private void route() {
+            for (;;) {
+                final Slot head;
+                synchronized (pending) {
+                    head = pending.peek();
+                }
+                if (head == null || !head.ready)
+                    return;
+                if (head.error != null) {
+                    head.out.completeExceptionally(head.error);
+                } else {
+                    final Lane lane;
+                    try {
+                        lane = lanes.get(index(keyFn.apply(head.value)));
+                    } catch (Throwable t) {
+                        head.out.completeExceptionally(t);
+                        remove();
+                        continue;
+                    }
+                    if (!lane.queue.offer(head)) {
+                        stalled = lane;
+                        if (lane.queue.offer(head)) //lane may have drained before stalled was visible
+                            stalled = null;
+                        else
+                            return;
+                    }
+                    lane.schedule();
+                }
+                remove();
+            }
+        }
+
+        private void remove() {
+            synchronized (pending) {
+                pending.poll();
+            }
+        }
+
+        private int index(K key) {
+            final int h = key == null ? 0 : key.hashCode();
+            return ((h ^ (h >>> 16)) & Integer.MAX_VALUE) % lanes.size();
+        }
+
+        private final class Lane implements Runnable {
+            private final Executor executor;
+            private final OneToOneConcurrentArrayQueue<Slot> queue;
+            private final AtomicInteger wip = new AtomicInteger(
+                                                                0);
+
+            Lane(Executor executor, int capacity) {
+                this.executor = executor;
+                this.queue = new OneToOneConcurrentArrayQueue<>(
+                                                                capacity);
+            }
+
+            void schedule() {
+                if (wip.getAndIncrement() == 0)
+                    executor.execute(this);
+            }
+
+            @Override
+            public void run() {
+                int missed = 1;
+                for (;;) {
+                    Slot next;
+                    while ((next = queue.poll()) != null) {
+                        if (stalled == this) {
+                            stalled = null;
+                            sequence();
+                        }
+                        try {
+                            next.out.complete(fn.apply(next.value));
+                        } catch (Throwable t) {
+                            next.out.completeExceptionally(t);
+                        }
+                    }
+                    missed = wip.addAndGet(-missed);
+                    if (missed == 0)
+                        return;
+                }
+            }
+        }
+    }
+
+    private final class Slot {
+        final CompletableFuture<Object> out = new CompletableFuture<>();
+        T value;
+        Throwable error;
+        volatile boolean ready = false;
+    }
+}
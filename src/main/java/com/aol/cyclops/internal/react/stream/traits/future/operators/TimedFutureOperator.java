@@ -0,0 +1,412 @@
+package com.aol.cyclops.internal.react.stream.traits.future.operators;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.types.futurestream.LazyFutureStream;
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer;
+
+/**
+ * Time based operators for LazyFutureStream that act directly on the Stream of futures, rather than converting the
+ * LazyFutureStream to a Queue and parking the consuming thread between elements.
+ *
+ * Each upstream future is mapped to a new CompletableFuture, which is completed when the operator decides the element should be
+ * emitted. Delayed emissions are made in order from a per-operator pending list, and a single timeout on a shared
+ * {@link HashedWheelTimer} wakes the operator when the next emission is due - no thread is held while waiting. Elements the
+ * operator drops (debounce, skip and elements absorbed into a group) complete with a marker value that is filtered out of
+ * the next stage.
+ *
+ * The number of pending emissions is bounded by the maxActive setting of the LazyFutureStream, as each pending emission is an
+ * incomplete future.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+public class TimedFutureOperator<T> {
+
+    private static final Object DROPPED = new Object();
+
+    private final LazyFutureStream<T> stream;
+    private final HashedWheelTimer timer;
+
+    public TimedFutureOperator(LazyFutureStream<T> stream) {
+        this(stream, HashedWheelTimer.shared());
+    }
+
+    public TimedFutureOperator(LazyFutureStream<T> stream, HashedWheelTimer timer) {
+        this.stream = stream;
+        this.timer = timer;
+    }
+
+    /**
+     * Emit at most one element per time period
+     */
+    public LazyFutureStream<T> onePer(long time, TimeUnit unit) {
+        final long period = unit.toNanos(time);
+        final long[] last = new long[1];
+        final boolean[] first = { true };
+        return paced(now -> {
+            final long at = first[0] ? now : Math.max(now, last[0] + period);
+            first[0] = false;
+            return last[0] = at;
+        });
+    }
+
+    /**
+     * Emit at most x elements per time period
+     */
+    public LazyFutureStream<T> xPer(int x, long time, TimeUnit unit) {
+        final long period = unit.toNanos(time);
+        final long[] window = new long[x];
+        final int[] index = { 0, 0 };
+        return paced(now -> {
+            final int slot = index[0];
+            index[0] = (slot + 1) % x;
+            final long at = index[1] < x ? now : Math.max(now, window[slot] + period);
+            index[1] = Math.min(x, index[1] + 1);
+            return window[slot] = at;
+        });
+    }
+
+    /**
+     * Delay each element by a fixed time after the previous element was emitted (or arrived, if later)
+     */
+    public LazyFutureStream<T> fixedDelay(long time, TimeUnit unit) {
+        final long delay = unit.toNanos(time);
+        return delayed(() -> delay);
+    }
+
+    /**
+     * Delay each element by a random time of up to jitterInNanos after the previous element was emitted (or arrived, if later)
+     */
+    public LazyFutureStream<T> jitter(long jitterInNanos) {
+        return delayed(() -> (long) (ThreadLocalRandom.current()
+                                                      .nextDouble()
+                * jitterInNanos));
+    }
+
+    /**
+     * Emit an element only if at least the specified time has passed since the last emitted element
+     */
+    public LazyFutureStream<T> debounce(long time, TimeUnit unit) {
+        final long allowed = unit.toNanos(time);
+        final long[] last = new long[1];
+        final boolean[] first = { true };
+        return filtered(futures -> futures.map(f -> whenComplete(f, (out, value) -> {
+            final boolean emit;
+            synchronized (last) {
+                final long now = System.nanoTime();
+                emit = first[0] || now - last[0] >= allowed;
+                if (emit) {
+                    first[0] = false;
+                    last[0] = now;
+                }
+            }
+            out.complete(emit ? value : DROPPED);
+        })));
+    }
+
+    /**
+     * Read elements from the Stream for the specified time, starting when the Stream is first read from. Elements read before the
+     * time expires are emitted whenever they complete.
+     */
+    public LazyFutureStream<T> limit(long time, TimeUnit unit) {
+        final long allowed = unit.toNanos(time);
+        final Iterator<FastFuture<T>> it = ((Stream<FastFuture<T>>) (Stream) stream.getLastActive()
+                                                                                  .injectFutures()).iterator();
+        return stream.fromStreamOfFutures(StreamUtils.stream(new Iterator<FastFuture<T>>() {
+            long start = -1;
+
+            @Override
+            public boolean hasNext() {
+                if (start == -1)
+                    start = System.nanoTime();
+                return System.nanoTime() - start < allowed && it.hasNext();
+            }
+
+            @Override
+            public FastFuture<T> next() {
+                return it.next();
+            }
+        }));
+    }
+
+    /**
+     * Drop elements that complete within the specified time, starting when the Stream is first read from
+     */
+    public LazyFutureStream<T> skip(long time, TimeUnit unit) {
+        final long skipFor = unit.toNanos(time);
+        return filtered(futures -> {
+            final long[] start = { -1 };
+            return futures.peek(f -> {
+                if (start[0] == -1)
+                    start[0] = System.nanoTime();
+            })
+                          .map(f -> whenComplete(f, (out, value) -> out.complete(System.nanoTime() - start[0] < skipFor ? DROPPED : value)));
+        });
+    }
+
+    /**
+     * Group elements into collections, each collection holding the elements that completed within the specified time of the first,
+     * up to a maximum size
+     */
+    public <C extends Collection<? super T>> LazyFutureStream<C> groupedBySizeAndTime(int size, long time, TimeUnit unit,
+            Supplier<C> factory) {
+        return filtered(futures -> new Grouper<C>(
+                                                  size, unit.toNanos(time), factory).group(futures));
+    }
+
+    /**
+     * @return true if the value was emitted by a TimedFutureOperator, rather than dropped
+     */
+    public static boolean emitted(Object value) {
+        return value != DROPPED;
+    }
+
+    private LazyFutureStream<T> paced(LongUnaryOperator nextEmission) {
+        final Pacer pacer = new Pacer(
+                                      nextEmission);
+        return filtered(futures -> futures.map(f -> whenComplete(f, pacer::emit)));
+    }
+
+    private LazyFutureStream<T> delayed(LongSupplier delay) {
+        final long[] last = new long[1];
+        final boolean[] first = { true };
+        return paced(now -> {
+            final long at = (first[0] ? now : Math.max(now, last[0])) + delay.getAsLong();
+            first[0] = false;
+            return last[0] = at;
+        });
+    }
+
+    private <R> LazyFutureStream<R> filtered(Function<Stream<FastFuture<T>>, Stream<CompletableFuture<Object>>> fn) {
+        final Stream<FastFuture<T>> futures = (Stream) stream.getLastActive()
+                                                             .injectFutures();
+        final LazyFutureStream<Object> next = stream.withLastActive(stream.getLastActive()
+                                                                          .withNewStreamFutures((Stream) fn.apply(futures)));
+        return (LazyFutureStream<R>) next.filter(TimedFutureOperator::emitted);
+    }
+
+    private static <T> CompletableFuture<Object> whenComplete(FastFuture<T> f,
+            BiConsumer<CompletableFuture<Object>, T> onValue) {
+        return whenComplete(f, onValue, (out, error) -> out.completeExceptionally(error));
+    }
+
+    private static <T> CompletableFuture<Object> whenComplete(FastFuture<T> f,
+            BiConsumer<CompletableFuture<Object>, T> onValue, BiConsumer<CompletableFuture<Object>, Throwable> onError) {
+        final CompletableFuture<Object> out = new CompletableFuture<>();
+        f.toCompletableFuture()
+         .whenComplete((value, error) -> {
+             if (error != null)
+                 onError.accept(out, error);
+             else
+                 onValue.accept(out, value);
+         });
+        return out;
+    }
+
+    /**
+     * Emits values in order, each no earlier than the time assigned by the emission schedule. Due values are completed by a
+     * single draining thread at a time, a timeout on the timer drains values that are not yet due.
+     */
+    private final class Pacer {
+        private final LongUnaryOperator nextEmission;
+        private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+        private final AtomicInteger wip = new AtomicInteger(
+                                                            0);
+        private boolean wakeupScheduled = false;
+
+        Pacer(LongUnaryOperator nextEmission) {
+            this.nextEmission = nextEmission;
+        }
+
+        void emit(CompletableFuture<Object> out, Object value) {
+            synchronized (this) {
+                pending.add(new Pending(
+                                        out, value, nextEmission.applyAsLong(System.nanoTime())));
+            }
+            drain();
+        }
+
+        private void wakeup() {
+            synchronized (this) {
+                wakeupScheduled = false;
+            }
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                Pending next;
+                while ((next = due(System.nanoTime())) != null)
+                    next.out.complete(next.value);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    return;
+            }
+        }
+
+        private synchronized Pending due(long now) {
+            final Pending head = pending.peek();
+            if (head == null)
+                return null;
+            if (head.at - now <= 0)
+                return pending.poll();
+            if (!wakeupScheduled) {
+                wakeupScheduled = true;
+                timer.schedule(this::wakeup, head.at - now, TimeUnit.NANOSECONDS);
+            }
+            return null;
+        }
+    }
+
+    private static final class Pending {
+        final CompletableFuture<Object> out;
+        final Object value;
+        final long at;
+
+        Pending(CompletableFuture<Object> out, Object value, long at) {
+            this.out = out;
+            this.value = value;
+            this.at = at;
+        }
+    }
+
+    /**
+     * Collects completed values into windows. A window is emitted by the future of the element that closes it - the element that
+     * fills it, or the first element to complete after its time has passed (which opens the next window). The final window is
+     * emitted by an additional future appended to the end of the Stream. The futures of all other elements complete with the
+     * dropped marker. As with the Iterator based operators, a window that has timed out is emitted when the next element
+     * completes, so no element is ever held waiting on another.
+     */
+    private final class Grouper<C extends Collection<? super T>> {
+        private final int size;
+        private final long nanos;
+        private final Supplier<C> factory;
+
+        private C current;
+        private long start;
+        private long pulled = 0;
+        private long completed = 0;
+        private CompletableFuture<Object> last;
+
+        Grouper(int size, long nanos, Supplier<C> factory) {
+            this.size = size;
+            this.nanos = nanos;
+            this.factory = factory;
+        }
+
+        Stream<CompletableFuture<Object>> group(Stream<FastFuture<T>> futures) {
+            final Iterator<FastFuture<T>> it = futures.iterator();
+            return StreamUtils.stream(new Iterator<CompletableFuture<Object>>() {
+                boolean finished = false;
+
+                @Override
+                public boolean hasNext() {
+                    return !finished;
+                }
+
+                @Override
+                public CompletableFuture<Object> next() {
+                    if (!it.hasNext()) {
+                        finished = true;
+                        return finish();
+                    }
+                    final FastFuture<T> next = it.next();
+                    synchronized (Grouper.this) {
+                        pulled++;
+                    }
+                    return whenComplete(next, Grouper.this::add, Grouper.this::failed);
+                }
+            });
+        }
+
+        private void add(CompletableFuture<Object> out, T value) {
+            Object emit = DROPPED;
+            CompletableFuture<Object> lastOut;
+            Object remaining = null;
+            synchronized (this) {
+                final long now = System.nanoTime();
+                if (current != null && now - start >= nanos) {
+                    emit = current;
+                    current = null;
+                }
+                if (current == null) {
+                    current = factory.get();
+                    start = now;
+                }
+                current.add(value);
+                if (emit == DROPPED && current.size() >= size) {
+                    emit = current;
+                    current = null;
+                }
+                completed++;
+                lastOut = drained();
+                if (lastOut != null) {
+                    remaining = current;
+                    current = null;
+                }
+            }
+            out.complete(emit);
+            if (lastOut != null)
+                lastOut.complete(remaining != null ? remaining : DROPPED);
+        }
+
+        private void failed(CompletableFuture<Object> out, Throwable error) {
+            CompletableFuture<Object> lastOut;
+            Object remaining = null;
+            synchronized (this) {
+                completed++;
+                lastOut = drained();
+                if (lastOut != null) {
+                    remaining = current;
+                    current = null;
+                }
+            }
+            out.completeExceptionally(error);
+            if (lastOut != null)
+                lastOut.complete(remaining != null ? remaining : DROPPED);
+        }
+
+        private CompletableFuture<Object> finish() {
+            final CompletableFuture<Object> out = new CompletableFuture<>();
+            final Object remaining;
+            synchronized (this) {
+                last = out;
+                if (completed != pulled)
+                    return out;
+                remaining = current;
+                current = null;
+                last = null;
+            }
+            out.complete(remaining != null ? remaining : DROPPED);
+            return out;
+        }
+
+        //the final future, if all pulled elements have completed. The remaining window is emitted on it.
+        private CompletableFuture<Object> drained() {
+            if (last == null || completed != pulled)
+                return null;
+            final CompletableFuture<Object> result = last;
+            last = null;
+            return result;
+        }
+    }
+}
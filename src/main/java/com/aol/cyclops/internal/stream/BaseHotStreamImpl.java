@@ -12,6 +12,8 @@ import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.internal.stream.spliterators.ClosingSpliterator;
 import com.aol.cyclops.types.stream.HotStream;
+import com.aol.cyclops.types.stream.OverflowPolicy;
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer;
 
 public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implements HotStream<T> {
 
@@ -49,13 +51,33 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implement
 
     }
 
+    public HotStream<T> schedule(String cron, HashedWheelTimer timer) {
+        final Iterator<T> it = stream.iterator();
+        scheduleInternal(it, cron, timer);
+        return this;
+
+    }
+
+    public HotStream<T> scheduleFixedDelay(long delay, HashedWheelTimer timer) {
+        final Iterator<T> it = stream.iterator();
+        scheduleFixedDelayInternal(it, delay, timer);
+        return this;
+
+    }
+
+    public HotStream<T> scheduleFixedRate(long rate, HashedWheelTimer timer) {
+        final Iterator<T> it = stream.iterator();
+        scheduleFixedRate(it, rate, timer);
+        return this;
+
+    }
+
     @Override
-    public ReactiveSeq<T> connect(Queue<T> queue) {
-        connections.getAndSet(connected, queue);
-        connected++;
+    public ReactiveSeq<T> connect(Queue<T> queue, OverflowPolicy policy) {
+        HotStreamConnection<T> connection = addConnection(queue, policy);
         unpause();
-        return StreamUtils.reactiveSeq(StreamSupport.stream(new ClosingSpliterator(
-                                                                                   Long.MAX_VALUE, queue, open),
+        return StreamUtils.reactiveSeq(StreamSupport.stream(new ClosingSpliterator<T>(
+                                                                                      Long.MAX_VALUE, queue, open, connection.conflated()),
                                                             false),
                                        Optional.empty());
     }
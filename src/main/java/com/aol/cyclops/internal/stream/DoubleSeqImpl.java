@@ -0,0 +1,414 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.control.DoubleSeq;
+import com.aol.cyclops.control.IntSeq;
+import com.aol.cyclops.control.LongSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+
+public class DoubleSeqImpl implements DoubleSeq {
+
+    private final DoubleStream stream;
+
+    public DoubleSeqImpl(DoubleStream stream) {
+        this.stream = stream;
+    }
+
+    private DoubleSeq wrap(Spliterator.OfDouble split) {
+        return new DoubleSeqImpl(
+                                 StreamSupport.doubleStream(split, false)
+                                           .onClose(stream::close));
+    }
+
+    private <R> ReactiveSeq<R> wrapObj(Spliterator<R> split) {
+        return ReactiveSeq.fromStream(StreamSupport.stream(split, false)
+                                                   .onClose(stream::close));
+    }
+
+    @Override
+    public ReactiveSeq<double[]> sliding(int windowSize, int increment) {
+        if (windowSize < 1 || increment < 1)
+            throw new IllegalArgumentException(
+                                               "Window size and increment must be positive");
+        final Spliterator.OfDouble source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<double[]>(
+                                                                      Long.MAX_VALUE, Spliterator.ORDERED) {
+            final double[] window = new double[windowSize];
+            int count = 0;
+            boolean started = false;
+            boolean sourceDone = false;
+            final DoubleConsumer add = next -> window[count++] = next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super double[]> action) {
+                if (sourceDone)
+                    return false;
+                if (started) {
+                    final int drop = Math.min(increment, count);
+                    System.arraycopy(window, drop, window, 0, count - drop);
+                    count -= drop;
+                }
+                final int before = count;
+                while (count < windowSize && source.tryAdvance(add))
+                    ;
+                if (count < windowSize)
+                    sourceDone = true;
+                if (count == 0 || (started && count == before)) //nothing new to emit
+                    return false;
+                started = true;
+                action.accept(Arrays.copyOf(window, count));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public ReactiveSeq<double[]> grouped(int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Group size must be positive");
+        final Spliterator.OfDouble source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<double[]>(
+                                                                      Long.MAX_VALUE, Spliterator.ORDERED) {
+            double[] group;
+            int count;
+            final DoubleConsumer add = next -> group[count++] = next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super double[]> action) {
+                group = new double[groupSize];
+                count = 0;
+                while (count < groupSize && source.tryAdvance(add))
+                    ;
+                if (count == 0)
+                    return false;
+                action.accept(count == groupSize ? group : Arrays.copyOf(group, count));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public DoubleSeq scanLeft(double identity, DoubleBinaryOperator function) {
+        final Spliterator.OfDouble source = stream.spliterator();
+        return wrap(new Spliterators.AbstractDoubleSpliterator(
+                                                               Long.MAX_VALUE, Spliterator.ORDERED) {
+            double current = identity;
+            boolean started = false;
+
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                if (!started) {
+                    started = true;
+                    action.accept(current);
+                    return true;
+                }
+                return source.tryAdvance((double next) -> {
+                    current = function.applyAsDouble(current, next);
+                    action.accept(current);
+                });
+            }
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> zipWithIndex(IndexedDoubleFunction<? extends R> zipper) {
+        final Spliterator.OfDouble source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<R>(
+                                                               source.estimateSize(), Spliterator.ORDERED) {
+            long index = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                return source.tryAdvance((double next) -> action.accept(zipper.apply(next, index++)));
+            }
+        });
+    }
+
+    @Override
+    public DoubleSeq limitWhile(DoublePredicate predicate) {
+        final Spliterator.OfDouble source = stream.spliterator();
+        return wrap(new Spliterators.AbstractDoubleSpliterator(
+                                                               Long.MAX_VALUE, Spliterator.ORDERED) {
+            boolean stillGoing = true;
+
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                if (!stillGoing)
+                    return false;
+                final boolean found = source.tryAdvance((double next) -> {
+                    if (predicate.test(next))
+                        action.accept(next);
+                    else
+                        stillGoing = false;
+                });
+                return found && stillGoing;
+            }
+        });
+    }
+
+    @Override
+    public DoubleSeq skipWhile(DoublePredicate predicate) {
+        final Spliterator.OfDouble source = stream.spliterator();
+        return wrap(new Spliterators.AbstractDoubleSpliterator(
+                                                               Long.MAX_VALUE, Spliterator.ORDERED) {
+            boolean skipping = true;
+
+            @Override
+            public boolean tryAdvance(DoubleConsumer action) {
+                if (!skipping)
+                    return source.tryAdvance(action);
+                while (skipping && source.tryAdvance((double next) -> {
+                    if (!predicate.test(next)) {
+                        skipping = false;
+                        action.accept(next);
+                    }
+                }))
+                    ;
+                return !skipping;
+            }
+        });
+    }
+
+    @Override
+    public OptionalDouble percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException(
+                                               "Percentile must be between 0 and 100, was " + percentile);
+        final double[] sorted = stream.toArray();
+        if (sorted.length == 0)
+            return OptionalDouble.empty();
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return OptionalDouble.of(sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))]);
+    }
+
+    @Override
+    public OptionalDouble median() {
+        final double[] sorted = stream.toArray();
+        if (sorted.length == 0)
+            return OptionalDouble.empty();
+        Arrays.sort(sorted);
+        final int middle = sorted.length / 2;
+        if (sorted.length % 2 == 1)
+            return OptionalDouble.of(sorted[middle]);
+        return OptionalDouble.of(((double) sorted[middle - 1] + sorted[middle]) / 2);
+    }
+
+    @Override
+    public ReactiveSeq<Double> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    @Override
+    public <U> ReactiveSeq<U> mapToObj(DoubleFunction<? extends U> mapper) {
+        return ReactiveSeq.fromStream(stream.mapToObj(mapper));
+    }
+
+    @Override
+    public IntSeq mapToInt(DoubleToIntFunction mapper) {
+        return IntSeq.fromIntStream(stream.mapToInt(mapper));
+    }
+
+    @Override
+    public LongSeq mapToLong(DoubleToLongFunction mapper) {
+        return LongSeq.fromLongStream(stream.mapToLong(mapper));
+    }
+
+    @Override
+    public DoubleSeq filter(DoublePredicate predicate) {
+        return new DoubleSeqImpl(
+                                 stream.filter(predicate));
+    }
+
+    @Override
+    public DoubleSeq map(DoubleUnaryOperator mapper) {
+        return new DoubleSeqImpl(
+                                 stream.map(mapper));
+    }
+
+    @Override
+    public DoubleSeq flatMap(DoubleFunction<? extends DoubleStream> mapper) {
+        return new DoubleSeqImpl(
+                                 stream.flatMap(mapper));
+    }
+
+    @Override
+    public DoubleSeq distinct() {
+        return new DoubleSeqImpl(
+                                 stream.distinct());
+    }
+
+    @Override
+    public DoubleSeq sorted() {
+        return new DoubleSeqImpl(
+                                 stream.sorted());
+    }
+
+    @Override
+    public DoubleSeq peek(DoubleConsumer action) {
+        return new DoubleSeqImpl(
+                                 stream.peek(action));
+    }
+
+    @Override
+    public DoubleSeq limit(long maxSize) {
+        return new DoubleSeqImpl(
+                                 stream.limit(maxSize));
+    }
+
+    @Override
+    public DoubleSeq skip(long n) {
+        return new DoubleSeqImpl(
+                                 stream.skip(n));
+    }
+
+    @Override
+    public DoubleSeq sequential() {
+        return new DoubleSeqImpl(
+                                 stream.sequential());
+    }
+
+    @Override
+    public DoubleSeq parallel() {
+        return new DoubleSeqImpl(
+                                 stream.parallel());
+    }
+
+    @Override
+    public DoubleSeq unordered() {
+        return new DoubleSeqImpl(
+                                 stream.unordered());
+    }
+
+    @Override
+    public DoubleSeq onClose(Runnable closeHandler) {
+        return new DoubleSeqImpl(
+                                 stream.onClose(closeHandler));
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public void forEachOrdered(DoubleConsumer action) {
+        stream.forEachOrdered(action);
+    }
+
+    @Override
+    public double[] toArray() {
+        return stream.toArray();
+    }
+
+    @Override
+    public double reduce(double identity, DoubleBinaryOperator op) {
+        return stream.reduce(identity, op);
+    }
+
+    @Override
+    public OptionalDouble reduce(DoubleBinaryOperator op) {
+        return stream.reduce(op);
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+        return stream.collect(supplier, accumulator, combiner);
+    }
+
+    @Override
+    public double sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public OptionalDouble min() {
+        return stream.min();
+    }
+
+    @Override
+    public OptionalDouble max() {
+        return stream.max();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    @Override
+    public DoubleSummaryStatistics summaryStatistics() {
+        return stream.summaryStatistics();
+    }
+
+    @Override
+    public boolean anyMatch(DoublePredicate predicate) {
+        return stream.anyMatch(predicate);
+    }
+
+    @Override
+    public boolean allMatch(DoublePredicate predicate) {
+        return stream.allMatch(predicate);
+    }
+
+    @Override
+    public boolean noneMatch(DoublePredicate predicate) {
+        return stream.noneMatch(predicate);
+    }
+
+    @Override
+    public OptionalDouble findFirst() {
+        return stream.findFirst();
+    }
+
+    @Override
+    public OptionalDouble findAny() {
+        return stream.findAny();
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return stream.spliterator();
+    }
+
+    @Override
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+}
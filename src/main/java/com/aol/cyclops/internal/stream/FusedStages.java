@@ -0,0 +1,242 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * A run of adjacent stateless stages (map, filter, peek and recover) over a single source.
+ *
+ * Rather than linking a new java.util.stream stage (and Sink) per operator, each operator appends to an immutable
+ * array of stages, which is executed for each element by a single loop inside one Spliterator. Any other operator
+ * treats the fused Stream as its source, so stateful operators remain the boundary between fused runs.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the elements produced by the final stage
+ */
+final class FusedStages<T> {
+
+    private static final Object SKIP = new Object();
+
+    private static final byte MAP = 0;
+    private static final byte FILTER = 1;
+    private static final byte PEEK = 2;
+    private static final byte RECOVER = 3;
+
+    private final Spliterator<Object> source;
+    private final byte[] kinds;
+    private final Object[] fns;
+    private final boolean filters;
+    private final boolean recovers;
+
+    private FusedStages(Spliterator<Object> source, byte[] kinds, Object[] fns) {
+        this.source = source;
+        this.kinds = kinds;
+        this.fns = fns;
+        boolean filters = false;
+        boolean recovers = false;
+        for (byte kind : kinds) {
+            filters |= kind == FILTER;
+            recovers |= kind == RECOVER;
+        }
+        this.filters = filters;
+        this.recovers = recovers;
+    }
+
+    /**
+     * @param stream Source Stream, traversal of which is taken over by the fused stages
+     * @return FusedStages with no stages
+     */
+    static <T> FusedStages<T> of(Stream<T> stream) {
+        return new FusedStages<>(
+                                 (Spliterator<Object>) stream.spliterator(), new byte[0], new Object[0]);
+    }
+
+    <R> FusedStages<R> map(Function<? super T, ? extends R> fn) {
+        return add(MAP, fn);
+    }
+
+    FusedStages<T> filter(Predicate<? super T> fn) {
+        return add(FILTER, fn);
+    }
+
+    FusedStages<T> peek(Consumer<? super T> fn) {
+        return add(PEEK, fn);
+    }
+
+    <EX extends Throwable> FusedStages<T> recover(Class<EX> type, Function<EX, ? extends T> fn) {
+        return add(RECOVER, new Recovery(
+                                         type, fn));
+    }
+
+    private <R> FusedStages<R> add(byte kind, Object fn) {
+        Objects.requireNonNull(fn);
+        final byte[] nextKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        final Object[] nextFns = Arrays.copyOf(fns, fns.length + 1);
+        nextKinds[kinds.length] = kind;
+        nextFns[fns.length] = fn;
+        return new FusedStages<>(
+                                 source, nextKinds, nextFns);
+    }
+
+    /**
+     * @return Stream that executes the fused stages
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(new FusedSpliterator<>(
+                                                           source, this),
+                                    false);
+    }
+
+    private Object apply(Object value, int from) {
+        int i = from;
+        try {
+            for (; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                case MAP:
+                    value = ((Function<Object, Object>) fns[i]).apply(value);
+                    break;
+                case FILTER:
+                    if (!((Predicate<Object>) fns[i]).test(value))
+                        return SKIP;
+                    break;
+                case PEEK:
+                    ((Consumer<Object>) fns[i]).accept(value);
+                    break;
+                default: //recover stages only act on errors
+                    break;
+                }
+            }
+            return value;
+        } catch (Throwable t) {
+            if (!recovers)
+                throw ExceptionSoftener.throwSoftenedException(t);
+            return recover(t, i + 1);
+        }
+    }
+
+    /*
+     * Hand an error raised before stage 'from' to the next recover stage that accepts its type, then continue with the
+     * recovered value from the stage after it
+     */
+    private Object recover(Throwable t, int from) {
+        for (int i = from; i < kinds.length; i++) {
+            if (kinds[i] == RECOVER && ((Recovery) fns[i]).type.isAssignableFrom(t.getClass())) {
+                final Object recovered;
+                try {
+                    recovered = ((Recovery) fns[i]).fn.apply(t);
+                } catch (Throwable next) {
+                    return recover(next, i + 1);
+                }
+                return apply(recovered, i + 1);
+            }
+        }
+        throw ExceptionSoftener.throwSoftenedException(t);
+    }
+
+    private static final class Recovery {
+        final Class<? extends Throwable> type;
+        final Function<Throwable, ?> fn;
+
+        Recovery(Class<? extends Throwable> type, Function<? extends Throwable, ?> fn) {
+            this.type = type;
+            this.fn = (Function<Throwable, ?>) fn;
+        }
+    }
+
+    private static final class FusedSpliterator<T> implements Spliterator<T>, Consumer<Object> {
+
+        private final Spliterator<Object> source;
+        private final FusedStages<T> stages;
+        private Object current = SKIP;
+        private boolean inStages = false;
+
+        FusedSpliterator(Spliterator<Object> source, FusedStages<T> stages) {
+            this.source = source;
+            this.stages = stages;
+        }
+
+        /*
+         * Receives each element from the source
+         */
+        @Override
+        public void accept(Object value) {
+            inStages = true;
+            current = stages.apply(value, 0);
+            inStages = false;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            for (;;) {
+                if (!advanceSource())
+                    return false;
+                final Object next = current;
+                current = SKIP;
+                if (next != SKIP) {
+                    action.accept((T) next);
+                    return true;
+                }
+            }
+        }
+
+        private boolean advanceSource() {
+            if (!stages.recovers)
+                return source.tryAdvance(this);
+            try {
+                return source.tryAdvance(this);
+            } catch (Throwable t) {
+                if (inStages) { //not recovered by any stage
+                    inStages = false;
+                    throw ExceptionSoftener.throwSoftenedException(t);
+                }
+                current = stages.recover(t, 0);
+                return true;
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (stages.recovers) { //the source may fail and then continue
+                while (tryAdvance(action))
+                    ;
+                return;
+            }
+            source.forEachRemaining(value -> {
+                final Object next = stages.apply(value, 0);
+                if (next != SKIP)
+                    action.accept((T) next);
+            });
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<Object> prefix = source.trySplit();
+            if (prefix == null)
+                return null;
+            return new FusedSpliterator<>(
+                                          prefix, stages);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            final int sized = stages.filters ? 0 : SIZED | SUBSIZED;
+            return source.characteristics() & (ORDERED | IMMUTABLE | CONCURRENT | sized);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import com.aol.cyclops.types.stream.OverflowPolicy;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * A single connection to a HotStream. How an element is handed to the connection's Queue (blocking put, spinning
+ * offer, dropping or conflating offer) is decided once, when the connection is made, rather than for each element.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Stream
+ */
+abstract class HotStreamConnection<T> {
+
+    protected final Queue<T> queue;
+
+    HotStreamConnection(Queue<T> queue) {
+        this.queue = queue;
+    }
+
+    /**
+     * @param queue Queue the connected Stream will read from
+     * @param policy Overflow policy to apply when the Queue is full
+     * @param open Open flag for the HotStream, blocking connections stop waiting once it has closed
+     * @return Connection that applies the policy
+     */
+    static <T> HotStreamConnection<T> of(Queue<T> queue, OverflowPolicy policy, AtomicBoolean open) {
+        switch (policy) {
+        case BLOCK:
+            if (queue instanceof BlockingQueue)
+                return new Put<>(
+                                 (BlockingQueue<T>) queue);
+            return new Spin<>(
+                              queue, open);
+        case CONFLATE:
+            return new Conflate<>(
+                                  queue);
+        default:
+            return new Drop<>(
+                              queue);
+        }
+    }
+
+    /**
+     * Hand the next element to this connection, called only from the producing thread
+     */
+    abstract void offer(T next);
+
+    /**
+     * @return Latest conflated element (if any), read by the connected Stream once its Queue is empty
+     */
+    AtomicReference<T> conflated() {
+        return null;
+    }
+
+    private static final class Put<T> extends HotStreamConnection<T> {
+        private final BlockingQueue<T> blocking;
+
+        Put(BlockingQueue<T> queue) {
+            super(queue);
+            this.blocking = queue;
+        }
+
+        @Override
+        void offer(T next) {
+            try {
+                blocking.put(next);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+
+    private static final class Spin<T> extends HotStreamConnection<T> {
+        private final AtomicBoolean open;
+
+        Spin(Queue<T> queue, AtomicBoolean open) {
+            super(queue);
+            this.open = open;
+        }
+
+        @Override
+        void offer(T next) {
+            long nanos = 1l;
+            while (!queue.offer(next) && open.get()) {
+                LockSupport.parkNanos(nanos);
+                nanos = Math.min(nanos * 2, 1_000_000l);
+            }
+        }
+    }
+
+    private static final class Drop<T> extends HotStreamConnection<T> {
+        Drop(Queue<T> queue) {
+            super(queue);
+        }
+
+        @Override
+        void offer(T next) {
+            queue.offer(next);
+        }
+    }
+
+    private static final class Conflate<T> extends HotStreamConnection<T> {
+        private final AtomicReference<T> latest = new AtomicReference<>();
+
+        Conflate(Queue<T> queue) {
+            super(queue);
+        }
+
+        @Override
+        void offer(T next) {
+            //once lagging, keep overwriting the slot until the reader takes it, so elements stay in order
+            if (latest.get() == null && queue.offer(next))
+                return;
+            latest.set(next);
+        }
+
+        @Override
+        AtomicReference<T> conflated() {
+            return latest;
+        }
+    }
+}
@@ -0,0 +1,425 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.control.DoubleSeq;
+import com.aol.cyclops.control.IntSeq;
+import com.aol.cyclops.control.LongSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+
+public class IntSeqImpl implements IntSeq {
+
+    private final IntStream stream;
+
+    public IntSeqImpl(IntStream stream) {
+        this.stream = stream;
+    }
+
+    private IntSeq wrap(Spliterator.OfInt split) {
+        return new IntSeqImpl(
+                              StreamSupport.intStream(split, false)
+                                           .onClose(stream::close));
+    }
+
+    private <R> ReactiveSeq<R> wrapObj(Spliterator<R> split) {
+        return ReactiveSeq.fromStream(StreamSupport.stream(split, false)
+                                                   .onClose(stream::close));
+    }
+
+    @Override
+    public ReactiveSeq<int[]> sliding(int windowSize, int increment) {
+        if (windowSize < 1 || increment < 1)
+            throw new IllegalArgumentException(
+                                               "Window size and increment must be positive");
+        final Spliterator.OfInt source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<int[]>(
+                                                                   Long.MAX_VALUE, Spliterator.ORDERED) {
+            final int[] window = new int[windowSize];
+            int count = 0;
+            boolean started = false;
+            boolean sourceDone = false;
+            final IntConsumer add = next -> window[count++] = next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super int[]> action) {
+                if (sourceDone)
+                    return false;
+                if (started) {
+                    final int drop = Math.min(increment, count);
+                    System.arraycopy(window, drop, window, 0, count - drop);
+                    count -= drop;
+                }
+                final int before = count;
+                while (count < windowSize && source.tryAdvance(add))
+                    ;
+                if (count < windowSize)
+                    sourceDone = true;
+                if (count == 0 || (started && count == before)) //nothing new to emit
+                    return false;
+                started = true;
+                action.accept(Arrays.copyOf(window, count));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public ReactiveSeq<int[]> grouped(int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Group size must be positive");
+        final Spliterator.OfInt source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<int[]>(
+                                                                   Long.MAX_VALUE, Spliterator.ORDERED) {
+            int[] group;
+            int count;
+            final IntConsumer add = next -> group[count++] = next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super int[]> action) {
+                group = new int[groupSize];
+                count = 0;
+                while (count < groupSize && source.tryAdvance(add))
+                    ;
+                if (count == 0)
+                    return false;
+                action.accept(count == groupSize ? group : Arrays.copyOf(group, count));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public IntSeq scanLeft(int identity, IntBinaryOperator function) {
+        final Spliterator.OfInt source = stream.spliterator();
+        return wrap(new Spliterators.AbstractIntSpliterator(
+                                                            Long.MAX_VALUE, Spliterator.ORDERED) {
+            int current = identity;
+            boolean started = false;
+
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if (!started) {
+                    started = true;
+                    action.accept(current);
+                    return true;
+                }
+                return source.tryAdvance((int next) -> {
+                    current = function.applyAsInt(current, next);
+                    action.accept(current);
+                });
+            }
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> zipWithIndex(IndexedIntFunction<? extends R> zipper) {
+        final Spliterator.OfInt source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<R>(
+                                                               source.estimateSize(), Spliterator.ORDERED) {
+            long index = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                return source.tryAdvance((int next) -> action.accept(zipper.apply(next, index++)));
+            }
+        });
+    }
+
+    @Override
+    public IntSeq limitWhile(IntPredicate predicate) {
+        final Spliterator.OfInt source = stream.spliterator();
+        return wrap(new Spliterators.AbstractIntSpliterator(
+                                                            Long.MAX_VALUE, Spliterator.ORDERED) {
+            boolean stillGoing = true;
+
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if (!stillGoing)
+                    return false;
+                final boolean found = source.tryAdvance((int next) -> {
+                    if (predicate.test(next))
+                        action.accept(next);
+                    else
+                        stillGoing = false;
+                });
+                return found && stillGoing;
+            }
+        });
+    }
+
+    @Override
+    public IntSeq skipWhile(IntPredicate predicate) {
+        final Spliterator.OfInt source = stream.spliterator();
+        return wrap(new Spliterators.AbstractIntSpliterator(
+                                                            Long.MAX_VALUE, Spliterator.ORDERED) {
+            boolean skipping = true;
+
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if (!skipping)
+                    return source.tryAdvance(action);
+                while (skipping && source.tryAdvance((int next) -> {
+                    if (!predicate.test(next)) {
+                        skipping = false;
+                        action.accept(next);
+                    }
+                }))
+                    ;
+                return !skipping;
+            }
+        });
+    }
+
+    @Override
+    public OptionalInt percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException(
+                                               "Percentile must be between 0 and 100, was " + percentile);
+        final int[] sorted = stream.toArray();
+        if (sorted.length == 0)
+            return OptionalInt.empty();
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return OptionalInt.of(sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))]);
+    }
+
+    @Override
+    public OptionalDouble median() {
+        final int[] sorted = stream.toArray();
+        if (sorted.length == 0)
+            return OptionalDouble.empty();
+        Arrays.sort(sorted);
+        final int middle = sorted.length / 2;
+        if (sorted.length % 2 == 1)
+            return OptionalDouble.of(sorted[middle]);
+        return OptionalDouble.of(((double) sorted[middle - 1] + sorted[middle]) / 2);
+    }
+
+    @Override
+    public ReactiveSeq<Integer> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    @Override
+    public <U> ReactiveSeq<U> mapToObj(IntFunction<? extends U> mapper) {
+        return ReactiveSeq.fromStream(stream.mapToObj(mapper));
+    }
+
+    @Override
+    public LongSeq mapToLong(IntToLongFunction mapper) {
+        return LongSeq.fromLongStream(stream.mapToLong(mapper));
+    }
+
+    @Override
+    public DoubleSeq mapToDouble(IntToDoubleFunction mapper) {
+        return DoubleSeq.fromDoubleStream(stream.mapToDouble(mapper));
+    }
+
+    @Override
+    public LongSeq asLongStream() {
+        return LongSeq.fromLongStream(stream.asLongStream());
+    }
+
+    @Override
+    public DoubleSeq asDoubleStream() {
+        return DoubleSeq.fromDoubleStream(stream.asDoubleStream());
+    }
+
+    @Override
+    public IntSeq filter(IntPredicate predicate) {
+        return new IntSeqImpl(
+                              stream.filter(predicate));
+    }
+
+    @Override
+    public IntSeq map(IntUnaryOperator mapper) {
+        return new IntSeqImpl(
+                              stream.map(mapper));
+    }
+
+    @Override
+    public IntSeq flatMap(IntFunction<? extends IntStream> mapper) {
+        return new IntSeqImpl(
+                              stream.flatMap(mapper));
+    }
+
+    @Override
+    public IntSeq distinct() {
+        return new IntSeqImpl(
+                              stream.distinct());
+    }
+
+    @Override
+    public IntSeq sorted() {
+        return new IntSeqImpl(
+                              stream.sorted());
+    }
+
+    @Override
+    public IntSeq peek(IntConsumer action) {
+        return new IntSeqImpl(
+                              stream.peek(action));
+    }
+
+    @Override
+    public IntSeq limit(long maxSize) {
+        return new IntSeqImpl(
+                              stream.limit(maxSize));
+    }
+
+    @Override
+    public IntSeq skip(long n) {
+        return new IntSeqImpl(
+                              stream.skip(n));
+    }
+
+    @Override
+    public IntSeq sequential() {
+        return new IntSeqImpl(
+                              stream.sequential());
+    }
+
+    @Override
+    public IntSeq parallel() {
+        return new IntSeqImpl(
+                              stream.parallel());
+    }
+
+    @Override
+    public IntSeq unordered() {
+        return new IntSeqImpl(
+                              stream.unordered());
+    }
+
+    @Override
+    public IntSeq onClose(Runnable closeHandler) {
+        return new IntSeqImpl(
+                              stream.onClose(closeHandler));
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public void forEachOrdered(IntConsumer action) {
+        stream.forEachOrdered(action);
+    }
+
+    @Override
+    public int[] toArray() {
+        return stream.toArray();
+    }
+
+    @Override
+    public int reduce(int identity, IntBinaryOperator op) {
+        return stream.reduce(identity, op);
+    }
+
+    @Override
+    public OptionalInt reduce(IntBinaryOperator op) {
+        return stream.reduce(op);
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+        return stream.collect(supplier, accumulator, combiner);
+    }
+
+    @Override
+    public int sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public OptionalInt min() {
+        return stream.min();
+    }
+
+    @Override
+    public OptionalInt max() {
+        return stream.max();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    @Override
+    public IntSummaryStatistics summaryStatistics() {
+        return stream.summaryStatistics();
+    }
+
+    @Override
+    public boolean anyMatch(IntPredicate predicate) {
+        return stream.anyMatch(predicate);
+    }
+
+    @Override
+    public boolean allMatch(IntPredicate predicate) {
+        return stream.allMatch(predicate);
+    }
+
+    @Override
+    public boolean noneMatch(IntPredicate predicate) {
+        return stream.noneMatch(predicate);
+    }
+
+    @Override
+    public OptionalInt findFirst() {
+        return stream.findFirst();
+    }
+
+    @Override
+    public OptionalInt findAny() {
+        return stream.findAny();
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return stream.spliterator();
+    }
+
+    @Override
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+}
@@ -1,6 +1,6 @@
 package com.aol.cyclops.internal.stream;
 
-import java.util.Date;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -8,23 +8,62 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import com.aol.cyclops.Matchables;
-import com.aol.cyclops.control.FluentFunctions;
+import com.aol.cyclops.types.stream.OverflowPolicy;
 import com.aol.cyclops.util.ExceptionSoftener;
-import com.aol.cyclops.util.stream.scheduling.cron.CronExpression;
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer;
+import com.aol.cyclops.util.stream.scheduling.cron.CompiledCron;
 
 public class IteratorHotStream<T> {
 
-    protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(
-                                                                                            10);
+    private static final HotStreamConnection[] NONE = new HotStreamConnection[0];
+
+    /*
+     * Copy-on-write : the producer reads a snapshot per element, connecting publishes a new array
+     */
+    private volatile HotStreamConnection<T>[] connections = NONE;
+    private final Object connectLock = new Object();
     protected final AtomicBoolean open = new AtomicBoolean(
                                                            true);
-    protected volatile int connected = 0;
     protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(
                                                                                            CompletableFuture.<Void> completedFuture(null));
 
+    /**
+     * Register a new connection, elements published after this call will be delivered to it
+     *
+     * @param queue Queue the connection reads from
+     * @param policy Overflow policy for the connection
+     * @return Connection
+     */
+    protected HotStreamConnection<T> addConnection(Queue<T> queue, OverflowPolicy policy) {
+        HotStreamConnection<T> connection = HotStreamConnection.of(queue, policy, open);
+        synchronized (connectLock) {
+            HotStreamConnection<T>[] current = connections;
+            HotStreamConnection<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = connection;
+            connections = next;
+        }
+        return connection;
+    }
+
+    /**
+     * Deliver an element to every current connection
+     *
+     * @param next Element to deliver
+     */
+    protected void publish(T next) {
+        HotStreamConnection<T>[] local = connections;
+        for (int i = 0; i < local.length; i++)
+            local[i].offer(next);
+    }
+
+    private void publishNext(Iterator<T> it) {
+        if (it.hasNext())
+            publish(it.next());
+        else
+            open.set(false);
+    }
+
     public boolean isPaused() {
         return pause.get()
                     .isDone();
@@ -41,96 +80,124 @@ public class IteratorHotStream<T> {
     }
 
     protected void scheduleInternal(Iterator<T> it, String cron, ScheduledExecutorService ex) {
-        Date now = new Date();
-        Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                           cron))
-                                  .get()
-                                  .getNextValidTimeAfter(now);
-
-        long delay = d.getTime() - now.getTime();
-
-        ex.schedule(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-                    try {
-                        T next = it.next();
-
-                        int local = connected;
-
-                        for (int i = 0; i < local; i++) {
-
-                            Matchables.blocking(connections.get(i))
-                                      .visit(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
-
-                    } finally {
-
-                        scheduleInternal(it, cron, ex);
+        new CronEmitter(
+                        it, compile(cron), (task, delay) -> ex.schedule(task, delay, TimeUnit.MILLISECONDS)).next();
+    }
 
-                    }
-                } else {
-                    open.set(false);
-                }
-            }
-        } , delay, TimeUnit.MILLISECONDS);
+    protected void scheduleInternal(Iterator<T> it, String cron, HashedWheelTimer timer) {
+        new CronEmitter(
+                        it, compile(cron), (task, delay) -> timer.schedule(task, delay, TimeUnit.MILLISECONDS)).next();
+    }
 
+    private static CompiledCron compile(String cron) {
+        return ExceptionSoftener.softenSupplier(() -> CompiledCron.compile(cron))
+                                .get();
     }
 
     protected IteratorHotStream<T> scheduleFixedDelayInternal(Iterator<T> it, long delay, ScheduledExecutorService ex) {
-        ex.scheduleWithFixedDelay(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
-
-                    T next = it.next();
-
-                    int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-
-                    }
-
-                } else {
-                    open.set(false);
-                }
-            }
-        } , delay, delay, TimeUnit.MILLISECONDS);
+        ex.scheduleWithFixedDelay(() -> publishNext(it), delay, delay, TimeUnit.MILLISECONDS);
         return this;
 
     }
 
     protected IteratorHotStream<T> scheduleFixedRate(Iterator<T> it, long rate, ScheduledExecutorService ex) {
-        ex.scheduleAtFixedRate(() -> {
-            synchronized (it) {
-                if (it.hasNext()) {
+        ex.scheduleAtFixedRate(() -> publishNext(it), 0, rate, TimeUnit.MILLISECONDS);
+        return this;
 
-                    T next = it.next();
+    }
 
-                    int local = connected;
+    protected IteratorHotStream<T> scheduleFixedDelayInternal(Iterator<T> it, long delay, HashedWheelTimer timer) {
+        new PeriodicEmitter(
+                            it, timer, delay, false).start(delay);
+        return this;
+    }
 
-                    for (int i = 0; i < local; i++) {
+    protected IteratorHotStream<T> scheduleFixedRate(Iterator<T> it, long rate, HashedWheelTimer timer) {
+        new PeriodicEmitter(
+                            it, timer, rate, true).start(0);
+        return this;
+    }
 
-                        Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
+    @FunctionalInterface
+    private static interface Delayer {
+        void schedule(Runnable task, long delayMillis);
+    }
+
+    /*
+     * Emits one element per cron fire time, the cron expression is compiled once per Stream
+     */
+    private final class CronEmitter implements Runnable {
+        private final Iterator<T> it;
+        private final CompiledCron cron;
+        private final Delayer delayer;
+
+        CronEmitter(Iterator<T> it, CompiledCron cron, Delayer delayer) {
+            this.it = it;
+            this.cron = cron;
+            this.delayer = delayer;
+        }
+
+        void next() {
+            long now = System.currentTimeMillis();
+            long fireAt = cron.nextFireAfter(now);
+            if (fireAt == -1)
+                open.set(false);
+            else
+                delayer.schedule(this, fireAt - now);
+        }
+
+        @Override
+        public void run() {
+            if (!it.hasNext()) {
+                open.set(false);
+                return;
+            }
+            try {
+                publish(it.next());
+            } finally {
+                next();
+            }
+        }
+    }
 
+    /*
+     * Emits one element per period on a HashedWheelTimer, stopping once the Stream is exhausted
+     */
+    private final class PeriodicEmitter implements Runnable {
+        private final Iterator<T> it;
+        private final HashedWheelTimer timer;
+        private final long periodNanos;
+        private final boolean fixedRate;
+        private long nextNanos;
+
+        PeriodicEmitter(Iterator<T> it, HashedWheelTimer timer, long periodMillis, boolean fixedRate) {
+            this.it = it;
+            this.timer = timer;
+            this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            this.fixedRate = fixedRate;
+        }
+
+        void start(long initialDelayMillis) {
+            nextNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+            timer.schedule(this, initialDelayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void run() {
+            if (!it.hasNext()) {
+                open.set(false);
+                return;
+            }
+            try {
+                publish(it.next());
+            } finally {
+                if (fixedRate) { //measured from the previous scheduled time, so delays don't accumulate
+                    nextNanos += periodNanos;
+                    timer.schedule(this, nextNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
                 } else {
-                    open.set(false);
+                    timer.schedule(this, periodNanos, TimeUnit.NANOSECONDS);
                 }
             }
-        } , 0, rate, TimeUnit.MILLISECONDS);
-        return this;
-
+        }
     }
 }
@@ -0,0 +1,420 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.aol.cyclops.control.DoubleSeq;
+import com.aol.cyclops.control.IntSeq;
+import com.aol.cyclops.control.LongSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+
+public class LongSeqImpl implements LongSeq {
+
+    private final LongStream stream;
+
+    public LongSeqImpl(LongStream stream) {
+        this.stream = stream;
+    }
+
+    private LongSeq wrap(Spliterator.OfLong split) {
+        return new LongSeqImpl(
+                               StreamSupport.longStream(split, false)
+                                           .onClose(stream::close));
+    }
+
+    private <R> ReactiveSeq<R> wrapObj(Spliterator<R> split) {
+        return ReactiveSeq.fromStream(StreamSupport.stream(split, false)
+                                                   .onClose(stream::close));
+    }
+
+    @Override
+    public ReactiveSeq<long[]> sliding(int windowSize, int increment) {
+        if (windowSize < 1 || increment < 1)
+            throw new IllegalArgumentException(
+                                               "Window size and increment must be positive");
+        final Spliterator.OfLong source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<long[]>(
+                                                                    Long.MAX_VALUE, Spliterator.ORDERED) {
+            final long[] window = new long[windowSize];
+            int count = 0;
+            boolean started = false;
+            boolean sourceDone = false;
+            final LongConsumer add = next -> window[count++] = next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super long[]> action) {
+                if (sourceDone)
+                    return false;
+                if (started) {
+                    final int drop = Math.min(increment, count);
+                    System.arraycopy(window, drop, window, 0, count - drop);
+                    count -= drop;
+                }
+                final int before = count;
+                while (count < windowSize && source.tryAdvance(add))
+                    ;
+                if (count < windowSize)
+                    sourceDone = true;
+                if (count == 0 || (started && count == before)) //nothing new to emit
+                    return false;
+                started = true;
+                action.accept(Arrays.copyOf(window, count));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public ReactiveSeq<long[]> grouped(int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Group size must be positive");
+        final Spliterator.OfLong source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<long[]>(
+                                                                    Long.MAX_VALUE, Spliterator.ORDERED) {
+            long[] group;
+            int count;
+            final LongConsumer add = next -> group[count++] = next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super long[]> action) {
+                group = new long[groupSize];
+                count = 0;
+                while (count < groupSize && source.tryAdvance(add))
+                    ;
+                if (count == 0)
+                    return false;
+                action.accept(count == groupSize ? group : Arrays.copyOf(group, count));
+                return true;
+            }
+        });
+    }
+
+    @Override
+    public LongSeq scanLeft(long identity, LongBinaryOperator function) {
+        final Spliterator.OfLong source = stream.spliterator();
+        return wrap(new Spliterators.AbstractLongSpliterator(
+                                                             Long.MAX_VALUE, Spliterator.ORDERED) {
+            long current = identity;
+            boolean started = false;
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                if (!started) {
+                    started = true;
+                    action.accept(current);
+                    return true;
+                }
+                return source.tryAdvance((long next) -> {
+                    current = function.applyAsLong(current, next);
+                    action.accept(current);
+                });
+            }
+        });
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> zipWithIndex(IndexedLongFunction<? extends R> zipper) {
+        final Spliterator.OfLong source = stream.spliterator();
+        return wrapObj(new Spliterators.AbstractSpliterator<R>(
+                                                               source.estimateSize(), Spliterator.ORDERED) {
+            long index = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super R> action) {
+                return source.tryAdvance((long next) -> action.accept(zipper.apply(next, index++)));
+            }
+        });
+    }
+
+    @Override
+    public LongSeq limitWhile(LongPredicate predicate) {
+        final Spliterator.OfLong source = stream.spliterator();
+        return wrap(new Spliterators.AbstractLongSpliterator(
+                                                             Long.MAX_VALUE, Spliterator.ORDERED) {
+            boolean stillGoing = true;
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                if (!stillGoing)
+                    return false;
+                final boolean found = source.tryAdvance((long next) -> {
+                    if (predicate.test(next))
+                        action.accept(next);
+                    else
+                        stillGoing = false;
+                });
+                return found && stillGoing;
+            }
+        });
+    }
+
+    @Override
+    public LongSeq skipWhile(LongPredicate predicate) {
+        final Spliterator.OfLong source = stream.spliterator();
+        return wrap(new Spliterators.AbstractLongSpliterator(
+                                                             Long.MAX_VALUE, Spliterator.ORDERED) {
+            boolean skipping = true;
+
+            @Override
+            public boolean tryAdvance(LongConsumer action) {
+                if (!skipping)
+                    return source.tryAdvance(action);
+                while (skipping && source.tryAdvance((long next) -> {
+                    if (!predicate.test(next)) {
+                        skipping = false;
+                        action.accept(next);
+                    }
+                }))
+                    ;
+                return !skipping;
+            }
+        });
+    }
+
+    @Override
+    public OptionalLong percentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException(
+                                               "Percentile must be between 0 and 100, was " + percentile);
+        final long[] sorted = stream.toArray();
+        if (sorted.length == 0)
+            return OptionalLong.empty();
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return OptionalLong.of(sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))]);
+    }
+
+    @Override
+    public OptionalDouble median() {
+        final long[] sorted = stream.toArray();
+        if (sorted.length == 0)
+            return OptionalDouble.empty();
+        Arrays.sort(sorted);
+        final int middle = sorted.length / 2;
+        if (sorted.length % 2 == 1)
+            return OptionalDouble.of(sorted[middle]);
+        return OptionalDouble.of(((double) sorted[middle - 1] + sorted[middle]) / 2);
+    }
+
+    @Override
+    public ReactiveSeq<Long> boxed() {
+        return ReactiveSeq.fromStream(stream.boxed());
+    }
+
+    @Override
+    public <U> ReactiveSeq<U> mapToObj(LongFunction<? extends U> mapper) {
+        return ReactiveSeq.fromStream(stream.mapToObj(mapper));
+    }
+
+    @Override
+    public IntSeq mapToInt(LongToIntFunction mapper) {
+        return IntSeq.fromIntStream(stream.mapToInt(mapper));
+    }
+
+    @Override
+    public DoubleSeq mapToDouble(LongToDoubleFunction mapper) {
+        return DoubleSeq.fromDoubleStream(stream.mapToDouble(mapper));
+    }
+
+    @Override
+    public DoubleSeq asDoubleStream() {
+        return DoubleSeq.fromDoubleStream(stream.asDoubleStream());
+    }
+
+    @Override
+    public LongSeq filter(LongPredicate predicate) {
+        return new LongSeqImpl(
+                               stream.filter(predicate));
+    }
+
+    @Override
+    public LongSeq map(LongUnaryOperator mapper) {
+        return new LongSeqImpl(
+                               stream.map(mapper));
+    }
+
+    @Override
+    public LongSeq flatMap(LongFunction<? extends LongStream> mapper) {
+        return new LongSeqImpl(
+                               stream.flatMap(mapper));
+    }
+
+    @Override
+    public LongSeq distinct() {
+        return new LongSeqImpl(
+                               stream.distinct());
+    }
+
+    @Override
+    public LongSeq sorted() {
+        return new LongSeqImpl(
+                               stream.sorted());
+    }
+
+    @Override
+    public LongSeq peek(LongConsumer action) {
+        return new LongSeqImpl(
+                               stream.peek(action));
+    }
+
+    @Override
+    public LongSeq limit(long maxSize) {
+        return new LongSeqImpl(
+                               stream.limit(maxSize));
+    }
+
+    @Override
+    public LongSeq skip(long n) {
+        return new LongSeqImpl(
+                               stream.skip(n));
+    }
+
+    @Override
+    public LongSeq sequential() {
+        return new LongSeqImpl(
+                               stream.sequential());
+    }
+
+    @Override
+    public LongSeq parallel() {
+        return new LongSeqImpl(
+                               stream.parallel());
+    }
+
+    @Override
+    public LongSeq unordered() {
+        return new LongSeqImpl(
+                               stream.unordered());
+    }
+
+    @Override
+    public LongSeq onClose(Runnable closeHandler) {
+        return new LongSeqImpl(
+                               stream.onClose(closeHandler));
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        stream.forEach(action);
+    }
+
+    @Override
+    public void forEachOrdered(LongConsumer action) {
+        stream.forEachOrdered(action);
+    }
+
+    @Override
+    public long[] toArray() {
+        return stream.toArray();
+    }
+
+    @Override
+    public long reduce(long identity, LongBinaryOperator op) {
+        return stream.reduce(identity, op);
+    }
+
+    @Override
+    public OptionalLong reduce(LongBinaryOperator op) {
+        return stream.reduce(op);
+    }
+
+    @Override
+    public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator, BiConsumer<R, R> combiner) {
+        return stream.collect(supplier, accumulator, combiner);
+    }
+
+    @Override
+    public long sum() {
+        return stream.sum();
+    }
+
+    @Override
+    public OptionalLong min() {
+        return stream.min();
+    }
+
+    @Override
+    public OptionalLong max() {
+        return stream.max();
+    }
+
+    @Override
+    public long count() {
+        return stream.count();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return stream.average();
+    }
+
+    @Override
+    public LongSummaryStatistics summaryStatistics() {
+        return stream.summaryStatistics();
+    }
+
+    @Override
+    public boolean anyMatch(LongPredicate predicate) {
+        return stream.anyMatch(predicate);
+    }
+
+    @Override
+    public boolean allMatch(LongPredicate predicate) {
+        return stream.allMatch(predicate);
+    }
+
+    @Override
+    public boolean noneMatch(LongPredicate predicate) {
+        return stream.noneMatch(predicate);
+    }
+
+    @Override
+    public OptionalLong findFirst() {
+        return stream.findFirst();
+    }
+
+    @Override
+    public OptionalLong findAny() {
+        return stream.findAny();
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return stream.spliterator();
+    }
+
+    @Override
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+}
@@ -4,8 +4,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
-import com.aol.cyclops.Matchables;
-import com.aol.cyclops.control.FluentFunctions;
 import com.aol.cyclops.types.stream.PausableHotStream;
 
 public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T>implements PausableHotStream<T> {
@@ -19,18 +17,7 @@ public class PausableHotStreamImpl<T> extends BaseHotStreamImpl<T>implements Pau
             stream.forEach(a -> {
                 pause.get()
                      .join();
-                int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Matchables.blocking(connections.get(i))
-                              .visit(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-
-                }
-
+                publish(a);
             });
 
             open.set(false);
@@ -35,6 +35,7 @@ import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.lambda.Collectable;
 import org.jooq.lambda.Seq;
@@ -56,6 +57,8 @@ import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.MapX;
 import com.aol.cyclops.internal.monads.ComprehenderSelector;
 import com.aol.cyclops.internal.stream.spliterators.ReversableSpliterator;
+import com.aol.cyclops.internal.stream.spliterators.ReversingListSpliterator;
+import com.aol.cyclops.internal.stream.spliterators.ZippingWithIndexSpliterator;
 import com.aol.cyclops.types.Unwrapable;
 import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.stream.HeadAndTail;
@@ -66,20 +69,36 @@ import com.aol.cyclops.types.stream.future.FutureOperations;
 public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<T> {
     private final Seq<T> stream;
     private final Optional<ReversableSpliterator> reversable;
+    private final Optional<FusedStages<T>> fused;
 
     public ReactiveSeqImpl(Stream<T> stream) {
 
         this.stream = Seq.seq(stream);
         this.reversable = Optional.empty();
+        this.fused = Optional.empty();
 
     }
 
     public ReactiveSeqImpl(Stream<T> stream, ReversableSpliterator rev) {
         this.stream = Seq.seq(stream);
         this.reversable = Optional.of(rev);
+        this.fused = Optional.empty();
 
     }
 
+    private ReactiveSeqImpl(FusedStages<T> fused, Optional<ReversableSpliterator> rev) {
+        this.stream = Seq.seq(fused.stream());
+        this.reversable = rev;
+        this.fused = Optional.of(fused);
+    }
+
+    /*
+     * Stateless stages are appended to the current run of fused stages, or start a new run over this Stream
+     */
+    private FusedStages<T> fused() {
+        return fused.orElseGet(() -> FusedStages.of(stream));
+    }
+
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator) {
         return stream.foldLeft(identity, accumulator);
     }
@@ -561,14 +580,14 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
 
     
     public final <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
-        return new ReactiveSeqImpl(
-                                   stream.map(fn));
+        return new ReactiveSeqImpl<R>(
+                                      fused().map(fn), Optional.empty());
     }
 
    
     public final ReactiveSeq<T> peek(Consumer<? super T> c) {
-        return new ReactiveSeqImpl(
-                                   stream.peek(c));
+        return new ReactiveSeqImpl<T>(
+                                      fused().peek(c), Optional.empty());
     }
 
     
@@ -627,7 +646,8 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
     }
 
     public final ReactiveSeq<T> filter(Predicate<? super T> fn) {
-        return StreamUtils.reactiveSeq(stream.filter(fn), reversable);
+        return new ReactiveSeqImpl<T>(
+                                      fused().filter(fn), reversable);
     }
 
     public void forEach(Consumer<? super T> action) {
@@ -741,7 +761,17 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
             reversable.ifPresent(r -> r.invert());
             return this;
         }
-        return StreamUtils.reactiveSeq(StreamUtils.reverse(stream), reversable);
+        final ReversingListSpliterator<T> list = new ReversingListSpliterator<T>(
+                                                                                 stream.toList(), false).invert();
+        return StreamUtils.reactiveSeq(StreamSupport.stream(list, false), Optional.of(list));
+    }
+
+    @Override
+    public ReactiveSeq<Tuple2<T, Long>> zipWithIndex() {
+        return StreamUtils.reactiveSeq(StreamSupport.stream(new ZippingWithIndexSpliterator<>(
+                                                                                              stream.spliterator()),
+                                                            false),
+                                       Optional.empty());
     }
 
     @Override
@@ -1074,12 +1104,14 @@ public class ReactiveSeqImpl<T> implements Unwrapable, ReactiveSeq<T>, Iterable<
 
     @Override
     public ReactiveSeq<T> recover(Function<Throwable, ? extends T> fn) {
-        return StreamUtils.reactiveSeq(StreamUtils.recover(stream, fn), this.reversable);
+        return new ReactiveSeqImpl<T>(
+                                      fused().recover(Throwable.class, fn), this.reversable);
     }
 
     @Override
     public <EX extends Throwable> ReactiveSeq<T> recover(Class<EX> exceptionClass, Function<EX, ? extends T> fn) {
-        return StreamUtils.reactiveSeq(StreamUtils.recover(stream, exceptionClass, fn), this.reversable);
+        return new ReactiveSeqImpl<T>(
+                                      fused().recover(exceptionClass, fn), this.reversable);
     }
 
     /** 
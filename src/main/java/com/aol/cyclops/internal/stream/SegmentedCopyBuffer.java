@@ -0,0 +1,191 @@
+package com.aol.cyclops.internal.stream;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.aol.cyclops.types.stream.LagPolicy;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+/**
+ * Shares a single source Iterator between multiple copies (Cursors). Elements pulled from the source by the leading copy are
+ * appended to a chain of fixed size array segments, lagging copies read from the chain. There is no head pointer - each Cursor
+ * references only the segment it is currently reading, so segments become garbage as soon as the slowest copy has moved past them.
+ * Elements are only buffered while some other copy still needs them.
+ *
+ * Optionally the leading copy can be restricted to a maximum number of elements ahead of the slowest copy, see {@link LagPolicy}.
+ *
+ * With a bounded maxLag and the BLOCK policy Cursors are thread-safe, so copies may be consumed on different threads (and the leader
+ * waits for the slowest copy). Otherwise, as with the rest of the Stream duplication operators, Cursors are not thread-safe.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the source Iterator
+ */
+public class SegmentedCopyBuffer<T> {
+
+    static final int SEGMENT_SIZE = 64;
+
+    private final Iterator<T> source;
+    private final List<Cursor> cursors;
+    private final long maxLag;
+    private final LagPolicy policy;
+    private final boolean threadSafe;
+
+    private Segment tail = new Segment();
+    private int tailOffset = 0;
+    private long produced = 0;
+    private int waiting = 0;
+
+    /**
+     * @param source Iterator to share
+     * @param limits Maximum number of elements each copy will consume (one entry per copy, Long.MAX_VALUE for no limit)
+     * @param maxLag Maximum number of elements the leading copy may get ahead of the slowest copy (Long.MAX_VALUE for unbounded)
+     * @param policy What to do when the leading copy reaches maxLag
+     */
+    public SegmentedCopyBuffer(Iterator<T> source, long[] limits, long maxLag, LagPolicy policy) {
+        if (maxLag < 1)
+            throw new IllegalArgumentException(
+                                               "maxLag must be positive, was " + maxLag);
+        this.source = source;
+        this.maxLag = maxLag;
+        this.policy = policy;
+        this.threadSafe = maxLag != Long.MAX_VALUE && policy == LagPolicy.BLOCK;
+        this.cursors = new ArrayList<>(
+                                       limits.length);
+        for (long limit : limits)
+            cursors.add(new Cursor(
+                                   limit));
+    }
+
+    /**
+     * @return An Iterator per copy
+     */
+    public List<Iterator<T>> copies() {
+        return new ArrayList<>(
+                               cursors);
+    }
+
+    private boolean available(Cursor cursor) {
+        if (cursor.done)
+            return false;
+        if (cursor.position >= cursor.limit || (cursor.position == produced && !source.hasNext())) {
+            cursor.done = true;
+            if (waiting > 0)
+                notifyAll();
+            return false;
+        }
+        return true;
+    }
+
+    private T next(Cursor cursor) {
+        for (;;) {
+            if (!available(cursor))
+                throw new NoSuchElementException();
+            if (cursor.position < produced)
+                return cursor.read();
+            if (maxLag == Long.MAX_VALUE || produced - slowest(cursor) < maxLag)
+                break;
+            awaitLag();
+        }
+        final T next = source.next();
+        if (neededByOthers(cursor, produced))
+            append(next);
+        produced++;
+        cursor.position++;
+        cursor.segment = tail;
+        cursor.offset = tailOffset;
+        return next;
+    }
+
+    private boolean neededByOthers(Cursor leader, long index) {
+        for (Cursor cursor : cursors) {
+            if (cursor != leader && !cursor.done && cursor.limit > index)
+                return true;
+        }
+        return false;
+    }
+
+    private void append(T next) {
+        if (tailOffset == SEGMENT_SIZE) {
+            final Segment segment = new Segment();
+            tail.next = segment;
+            tail = segment;
+            tailOffset = 0;
+        }
+        tail.items[tailOffset++] = next;
+    }
+
+    private void awaitLag() {
+        if (policy == LagPolicy.FAIL)
+            throw new IllegalStateException(
+                                            "Copy is " + maxLag + " elements ahead of the slowest copy");
+        waiting++;
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            waiting--;
+        }
+    }
+
+    private long slowest(Cursor leader) {
+        long min = produced;
+        for (Cursor cursor : cursors) {
+            if (cursor != leader && !cursor.done && cursor.limit > cursor.position)
+                min = Math.min(min, cursor.position);
+        }
+        return min;
+    }
+
+    private static final class Segment {
+        final Object[] items = new Object[SEGMENT_SIZE];
+        Segment next;
+    }
+
+    private final class Cursor implements Iterator<T> {
+        private final long limit;
+        private long position = 0;
+        private Segment segment = tail;
+        private int offset = 0;
+        private boolean done = false;
+
+        Cursor(long limit) {
+            this.limit = limit;
+        }
+
+        private T read() {
+            if (offset == SEGMENT_SIZE) {
+                segment = segment.next;
+                offset = 0;
+            }
+            final T result = (T) segment.items[offset++];
+            position++;
+            if (waiting > 0)
+                SegmentedCopyBuffer.this.notifyAll();
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!threadSafe)
+                return available(this);
+            synchronized (SegmentedCopyBuffer.this) {
+                return available(this);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!threadSafe)
+                return SegmentedCopyBuffer.this.next(this);
+            synchronized (SegmentedCopyBuffer.this) {
+                return SegmentedCopyBuffer.this.next(this);
+            }
+        }
+    }
+}
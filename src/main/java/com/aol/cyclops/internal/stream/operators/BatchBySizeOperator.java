@@ -1,12 +1,16 @@
 package com.aol.cyclops.internal.stream.operators;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import com.aol.cyclops.control.StreamUtils;
 import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
+import com.aol.cyclops.internal.stream.spliterators.SlidingSpliterator;
 
 public class BatchBySizeOperator<T, C extends Collection<? super T>> {
 
@@ -27,26 +31,33 @@ public class BatchBySizeOperator<T, C extends Collection<? super T>> {
         if (groupSize < 1)
             throw new IllegalArgumentException(
                                                "Batch size must be 1 or more");
-        Iterator<T> it = stream.iterator();
-        return StreamUtils.stream(new Iterator<C>() {
+        final Spliterator<T> source = stream.spliterator();
+        final Optional<Spliterator<C>> indexed = SlidingSpliterator.randomAccess(source)
+                                                                   .<Spliterator<C>> map(list -> new SlidingSpliterator<>(
+                                                                                                         list, groupSize, groupSize, factory));
+        return StreamSupport.stream(indexed.orElseGet(() -> new Spliterators.AbstractSpliterator<C>(
+                                                                                                    batches(source.estimateSize(), groupSize),
+                                                                                                    source.characteristics() & Spliterator.ORDERED) {
 
             @Override
-            public boolean hasNext() {
-                return it.hasNext();
+            public boolean tryAdvance(Consumer<? super C> action) {
+                final C list = factory.get();
+                int count = 0;
+                while (count < groupSize && source.tryAdvance(list::add))
+                    count++;
+                if (count == 0)
+                    return false;
+                action.accept(list);
+                return true;
             }
 
-            @Override
-            public C next() {
-                C list = factory.get();
-                for (int i = 0; i < groupSize; i++) {
-                    if (it.hasNext())
-                        list.add(it.next());
-
-                }
-                return list;
-            }
+        }), false);
+    }
 
-        });
+    private static long batches(long size, int groupSize) {
+        if (size == Long.MAX_VALUE)
+            return size;
+        return (size + groupSize - 1) / groupSize;
     }
 
 }
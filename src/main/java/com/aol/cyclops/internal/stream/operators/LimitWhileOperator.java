@@ -1,10 +1,11 @@
 package com.aol.cyclops.internal.stream.operators;
 
-import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
-
-import com.aol.cyclops.control.StreamUtils;
+import java.util.stream.StreamSupport;
 
 import lombok.AllArgsConstructor;
 
@@ -14,48 +15,27 @@ public class LimitWhileOperator<U> {
     private final Stream<U> stream;
 
     public Stream<U> limitWhile(Predicate<? super U> predicate) {
-        Iterator<U> it = stream.iterator();
-        return StreamUtils.stream(new Iterator<U>() {
-            U next;
-            boolean nextSet = false;
+        final Spliterator<U> source = stream.spliterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<U>(
+                                                                            source.estimateSize(),
+                                                                            source.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL)) {
             boolean stillGoing = true;
 
             @Override
-            public boolean hasNext() {
+            public boolean tryAdvance(Consumer<? super U> action) {
                 if (!stillGoing)
                     return false;
-                if (nextSet)
-                    return stillGoing;
-
-                if (it.hasNext()) {
-                    next = it.next();
-                    nextSet = true;
-                    if (!predicate.test(next)) {
+                final boolean found = source.tryAdvance(next -> {
+                    if (predicate.test(next))
+                        action.accept(next);
+                    else
                         stillGoing = false;
-                    }
-
-                } else {
+                });
+                if (!found)
                     stillGoing = false;
-                }
                 return stillGoing;
-
-            }
-
-            @Override
-            public U next() {
-
-                if (nextSet) {
-                    nextSet = false;
-                    return next;
-                }
-
-                U local = it.next();
-                if (stillGoing) {
-                    stillGoing = !predicate.test(local);
-                }
-                return local;
             }
 
-        });
+        }, false);
     }
 }
@@ -1,10 +1,11 @@
 package com.aol.cyclops.internal.stream.operators;
 
-import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
-
-import com.aol.cyclops.control.StreamUtils;
+import java.util.stream.StreamSupport;
 
 import lombok.AllArgsConstructor;
 
@@ -14,44 +15,33 @@ public class SkipWhileOperator<U> {
     private final Stream<U> stream;
 
     public Stream<U> skipWhile(Predicate<? super U> predicate) {
-        Iterator<U> it = stream.iterator();
-        return StreamUtils.stream(new Iterator<U>() {
-            U next;
-            boolean nextSet = false;
-            boolean init = false;
+        final Spliterator<U> source = stream.spliterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<U>(
+                                                                            source.estimateSize(),
+                                                                            source.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL)) {
+            boolean skipping = true;
 
             @Override
-            public boolean hasNext() {
-                if (init)
-                    return it.hasNext();
-                try {
-                    while (it.hasNext()) {
-
-                        next = it.next();
-                        nextSet = true;
-
-                        if (!predicate.test(next))
-                            return true;
-
+            public boolean tryAdvance(Consumer<? super U> action) {
+                if (!skipping)
+                    return source.tryAdvance(action);
+                while (skipping && source.tryAdvance(next -> {
+                    if (!predicate.test(next)) {
+                        skipping = false;
+                        action.accept(next);
                     }
-                    return false;
-                } finally {
-                    init = true;
-                }
+                }))
+                    ;
+                return !skipping;
             }
 
             @Override
-            public U next() {
-                if (!init) {
-                    hasNext();
-                }
-                if (nextSet) {
-                    nextSet = false;
-                    return next;
-                }
-                return it.next();
+            public void forEachRemaining(Consumer<? super U> action) {
+                if (skipping && !tryAdvance(action))
+                    return;
+                source.forEachRemaining(action);
             }
 
-        });
+        }, false);
     }
 }
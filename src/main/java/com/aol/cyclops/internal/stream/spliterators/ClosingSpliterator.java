@@ -4,6 +4,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 
@@ -12,12 +13,35 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
 
     private final Queue<T> queue;
     private final AtomicBoolean open;
+    private final AtomicReference<T> conflated;
 
     public ClosingSpliterator(long estimate, Queue queue, AtomicBoolean open) {
+        this(estimate, queue, open, null);
+    }
+
+    /**
+     * @param estimate Size estimate
+     * @param queue Queue to read from
+     * @param open Flag that is set to false once no more data will be added
+     * @param conflated Slot holding the latest element that did not fit in the Queue (may be null)
+     */
+    public ClosingSpliterator(long estimate, Queue queue, AtomicBoolean open, AtomicReference<T> conflated) {
         this.estimate = estimate;
         this.open = open;
         this.queue = queue;
+        this.conflated = conflated;
+
+    }
+
+    private T poll() {
+        T value = queue.poll();
+        if (value == null && conflated != null)
+            return conflated.getAndSet(null);
+        return value;
+    }
 
+    private boolean hasBuffered() {
+        return queue.size() > 0 || (conflated != null && conflated.get() != null);
     }
 
     @Override
@@ -34,16 +58,16 @@ public class ClosingSpliterator<T> implements Spliterator<T> {
     public boolean tryAdvance(Consumer<? super T> action) {
         Objects.requireNonNull(action);
 
-        if (!open.get() && queue.size() == 0) {
+        if (!open.get() && !hasBuffered()) {
 
             return false;
         }
 
-        while (open.get() || queue.size() > 0) {
+        while (open.get() || hasBuffered()) {
             long nanos = 1l;
 
             T value;
-            if ((value = queue.poll()) != null) {
+            if ((value = poll()) != null) {
                 action.accept(nullSafe(value));
 
                 return true;
@@ -1,14 +1,14 @@
 package com.aol.cyclops.internal.stream.spliterators;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableSpliterator {
 
     private final Object[] array;
@@ -17,20 +17,37 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
     private boolean reverse;
 
     int index = 0;
+    //bounds (inclusive start, exclusive end) of the section of the array covered by this Spliterator
+    private int start;
+    private int end;
+
+    public ReversingArraySpliterator(Object[] array, boolean reverse, int index) {
+        this(array, reverse, index, 0, array.length);
+    }
+
+    private ReversingArraySpliterator(Object[] array, boolean reverse, int index, int start, int end) {
+        this.array = array;
+        this.reverse = reverse;
+        this.index = index;
+        this.start = start;
+        this.end = end;
+    }
 
     @Override
     public long estimateSize() {
-        return array.length;
+        if (reverse)
+            return Math.max(0, index - start + 1);
+        return Math.max(0, end - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     public ReversingArraySpliterator<T> invert() {
         setReverse(!isReverse());
-        index = array.length - 1;
+        index = reverse ? end - 1 : start;
         return this;
     }
 
@@ -39,12 +56,12 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
         Objects.requireNonNull(action);
 
         if (!reverse) {
-            if (index < array.length && index > -1) {
+            if (index < end && index >= start) {
                 action.accept((T) array[index++]);
                 return true;
             }
         } else {
-            if (index > -1 & index < array.length) {
+            if (index >= start & index < end) {
                 action.accept((T) array[index--]);
                 return true;
             }
@@ -53,16 +70,60 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     }
 
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (!reverse) {
+            final int hi = end;
+            for (int i = Math.max(index, start); i < hi; i++)
+                action.accept((T) array[i]);
+            index = hi;
+        } else {
+            final int lo = start;
+            for (int i = Math.min(index, end - 1); i >= lo; i--)
+                action.accept((T) array[i]);
+            index = lo - 1;
+        }
+    }
+
+    /*
+     * Splits off the first half of the remaining elements (in traversal order)
+     * @see java.util.Spliterator#trySplit()
+     */
     @Override
     public Spliterator<T> trySplit() {
+        final int remaining = (int) estimateSize();
+        if (remaining < 2)
+            return null;
+        if (!reverse) {
+            final int mid = index + remaining / 2;
+            final ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<>(
+                                                                                        array, false, index, index, mid);
+            start = index = mid;
+            return prefix;
+        }
+        final int mid = index - remaining / 2;
+        final ReversingArraySpliterator<T> prefix = new ReversingArraySpliterator<>(
+                                                                                    array, true, index, mid + 1, index + 1);
+        index = mid;
+        end = mid + 1;
+        return prefix;
+    }
 
-        return this;
+    /**
+     * @return The elements remaining in this Spliterator as a List, if they are traversed in array order
+     */
+    List<T> remaining() {
+        if (reverse)
+            return null;
+        return (List<T>) Arrays.asList(array)
+                               .subList(Math.max(index, start), end);
     }
 
     @Override
     public ReversableSpliterator copy() {
         return new ReversingArraySpliterator<T>(
-                                                array, reverse, index);
+                                                array, reverse, index, start, end);
     }
 
 }
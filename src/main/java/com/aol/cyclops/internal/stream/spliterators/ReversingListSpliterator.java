@@ -3,14 +3,13 @@ package com.aol.cyclops.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
-@AllArgsConstructor
 public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator {
 
     private final List<T> list;
@@ -18,40 +17,76 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
     @Getter
     @Setter
     private boolean reverse = false;
+    //bounds (inclusive start, exclusive end) of the section of the List covered by this Spliterator, only
+    //used for RandomAccess Lists, which are traversed by index and can be split. The end is bound to the List size
+    //on first use
+    private int start;
+    private int end;
+    private int index;
 
     public ReversingListSpliterator(List<T> elements, boolean reverse) {
         this.list = elements;
         this.reverse = reverse;
-        this.it = elements.listIterator();
+        this.start = 0;
+        this.end = -1;
+        if (!(elements instanceof RandomAccess))
+            this.it = elements.listIterator();
 
     }
 
+    private ReversingListSpliterator(List<T> elements, boolean reverse, int index, int start, int end) {
+        this.list = elements;
+        this.reverse = reverse;
+        this.index = index;
+        this.start = start;
+        this.end = end;
+    }
+
+    private void bind() {
+        if (end < 0) {
+            end = list.size();
+            index = reverse ? end - 1 : start;
+        }
+    }
+
     public ReversingListSpliterator<T> invert() {
         setReverse(!isReverse());
-        it = list.listIterator(list.size());
+        if (it != null)
+            it = list.listIterator(reverse ? list.size() : 0);
+        else if (end >= 0)
+            index = reverse ? end - 1 : start;
         return this;
     }
 
     public ReversableSpliterator copy() {
+        if (it != null || end < 0)
+            return new ReversingListSpliterator(
+                                                list, reverse);
         return new ReversingListSpliterator(
-                                            list, reverse);
+                                            list, reverse, index, start, end);
 
     }
 
     @Override
     public long estimateSize() {
-        return list.size();
+        if (it != null)
+            return reverse ? it.previousIndex() + 1 : list.size() - it.nextIndex();
+        bind();
+        if (reverse)
+            return Math.max(0, index - start + 1);
+        return Math.max(0, end - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
         Objects.requireNonNull(action);
-
+        if (it == null)
+            return tryAdvanceIndexed(action);
         if (!reverse) {
             if (it.hasNext()) {
                 action.accept(it.next());
@@ -69,10 +104,58 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    private boolean tryAdvanceIndexed(Consumer<? super T> action) {
+        bind();
+        if (!reverse) {
+            if (index < end && index >= start) {
+                action.accept(list.get(index++));
+                return true;
+            }
+        } else {
+            if (index >= start && index < end) {
+                action.accept(list.get(index--));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Splits off the first half of the remaining elements (in traversal order), Lists that are not RandomAccess are
+     * not split
+     * @see java.util.Spliterator#trySplit()
+     */
     @Override
     public Spliterator<T> trySplit() {
+        if (it != null)
+            return null;
+        final int remaining = (int) estimateSize();
+        if (remaining < 2)
+            return null;
+        if (!reverse) {
+            final int mid = index + remaining / 2;
+            final ReversingListSpliterator<T> prefix = new ReversingListSpliterator<>(
+                                                                                      list, false, index, index, mid);
+            start = index = mid;
+            return prefix;
+        }
+        final int mid = index - remaining / 2;
+        final ReversingListSpliterator<T> prefix = new ReversingListSpliterator<>(
+                                                                                  list, true, index, mid + 1, index + 1);
+        index = mid;
+        end = mid + 1;
+        return prefix;
+    }
 
-        return this;
+    /**
+     * @return The elements remaining in this Spliterator as a List, if they are traversed in List order and can be
+     *         accessed by index
+     */
+    List<T> remaining() {
+        if (it != null || reverse)
+            return null;
+        bind();
+        return list.subList(Math.max(index, start), end);
     }
 
 }
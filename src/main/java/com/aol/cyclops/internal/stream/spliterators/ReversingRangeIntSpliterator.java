@@ -9,14 +9,21 @@ import lombok.Setter;
 
 public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator {
 
-    private final int min;
-    private final int max;
+    private int min;
+    private int max;
     private int index;
 
     @Getter
     @Setter
     private boolean reverse;
 
+    private ReversingRangeIntSpliterator(int min, int max, int index, boolean reverse) {
+        this.min = min;
+        this.max = max;
+        this.index = index;
+        this.reverse = reverse;
+    }
+
     public ReversingRangeIntSpliterator(int min, int max, boolean reverse) {
         this.min = Math.min(min, max) - 1;
         this.max = Math.max(min, max);
@@ -26,7 +33,7 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     public ReversableSpliterator invert() {
         setReverse(!isReverse());
-        index = max - 1;
+        index = reverse ? max - 1 : min + 1;
         return this;
     }
 
@@ -50,17 +57,40 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public long estimateSize() {
-        return max;
+        if (index <= min || index >= max)
+            return 0;
+        return reverse ? index - (long) min : max - (long) index;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL;
     }
 
+    /*
+     * Splits off the first half of the remaining elements (in traversal order)
+     * @see java.util.Spliterator#trySplit()
+     */
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+        final long remaining = estimateSize();
+        if (remaining < 2)
+            return null;
+        final int mid;
+        final ReversingRangeIntSpliterator prefix;
+        if (!reverse) {
+            mid = (int) (index + remaining / 2);
+            prefix = new ReversingRangeIntSpliterator(
+                                                      index - 1, mid, index, false);
+            min = mid - 1;
+        } else {
+            mid = (int) (index - remaining / 2);
+            prefix = new ReversingRangeIntSpliterator(
+                                                      mid, index + 1, index, true);
+            max = mid + 1;
+        }
+        index = mid;
+        return prefix;
     }
 
     @Override
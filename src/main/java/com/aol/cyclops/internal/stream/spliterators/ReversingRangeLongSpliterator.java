@@ -12,8 +12,8 @@ import lombok.Setter;
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator {
 
     private long index;
-    private final long min;
-    private final long max;
+    private long min;
+    private long max;
     @Getter
     @Setter
     private boolean reverse;
@@ -27,7 +27,7 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
     public ReversableSpliterator invert() {
         setReverse(!isReverse());
-        index = max - 1;
+        index = reverse ? max - 1 : min + 1;
         return this;
     }
 
@@ -51,17 +51,40 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
     @Override
     public long estimateSize() {
-        return max;
+        if (index <= min || index >= max)
+            return 0;
+        return reverse ? index - min : max - index;
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED | DISTINCT | NONNULL;
     }
 
+    /*
+     * Splits off the first half of the remaining elements (in traversal order)
+     * @see java.util.Spliterator#trySplit()
+     */
     @Override
     public Spliterator.OfLong trySplit() {
-        return this;
+        final long remaining = estimateSize();
+        if (remaining < 2)
+            return null;
+        final long mid;
+        final ReversingRangeLongSpliterator prefix;
+        if (!reverse) {
+            mid = index + remaining / 2;
+            prefix = new ReversingRangeLongSpliterator(
+                                                       index, index - 1, mid, false);
+            min = mid - 1;
+        } else {
+            mid = index - remaining / 2;
+            prefix = new ReversingRangeLongSpliterator(
+                                                       index, mid, index + 1, true);
+            max = mid + 1;
+        }
+        index = mid;
+        return prefix;
     }
 
     @Override
@@ -0,0 +1,109 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Sliding windows (or, where the increment equals the window size, groups) over a List that can be accessed by
+ * index. The number of windows is known up front, so this Spliterator is SIZED and splits by window.
+ *
+ * Windows start every min(increment, windowSize) elements, and are emitted until one reaches the end of the List,
+ * the last window may be smaller than windowSize.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ * @param <C> Window type
+ */
+public class SlidingSpliterator<T, C extends Collection<? super T>> implements Spliterator<C> {
+
+    private final List<T> list;
+    private final int windowSize;
+    private final int step;
+    private final Supplier<C> factory;
+    //range (inclusive start, exclusive end) of the windows covered by this Spliterator
+    private long window;
+    private final long end;
+
+    public SlidingSpliterator(List<T> list, int windowSize, int increment, Supplier<C> factory) {
+        this(list, windowSize, Math.min(windowSize, increment), factory, 0, windows(list.size(), windowSize,
+                                                                                     Math.min(windowSize, increment)));
+    }
+
+    private SlidingSpliterator(List<T> list, int windowSize, int step, Supplier<C> factory, long window, long end) {
+        this.list = list;
+        this.windowSize = windowSize;
+        this.step = step;
+        this.factory = factory;
+        this.window = window;
+        this.end = end;
+    }
+
+    private static long windows(int size, int windowSize, int step) {
+        if (size == 0)
+            return 0;
+        return 1 + (Math.max(0, size - windowSize) + step - 1) / step;
+    }
+
+    /**
+     * @param split Spliterator to extract a List from
+     * @return The remaining elements of the Spliterator, if it has not been split and can be accessed by index
+     */
+    public static <T> Optional<List<T>> randomAccess(Spliterator<T> split) {
+        if (split instanceof ReversingArraySpliterator)
+            return Optional.ofNullable(((ReversingArraySpliterator<T>) split).remaining());
+        if (split instanceof ReversingListSpliterator)
+            return Optional.ofNullable(((ReversingListSpliterator<T>) split).remaining());
+        return Optional.empty();
+    }
+
+    private C window(long index) {
+        final C next = factory.get();
+        final int start = (int) (index * step);
+        next.addAll(list.subList(start, Math.min(start + windowSize, list.size())));
+        return next;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super C> action) {
+        Objects.requireNonNull(action);
+        if (window >= end)
+            return false;
+        action.accept(window(window++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super C> action) {
+        Objects.requireNonNull(action);
+        for (; window < end; window++)
+            action.accept(window(window));
+    }
+
+    @Override
+    public Spliterator<C> trySplit() {
+        final long mid = window + (end - window) / 2;
+        if (mid <= window)
+            return null;
+        final SlidingSpliterator<T, C> prefix = new SlidingSpliterator<>(
+                                                                         list, windowSize, step, factory, window, mid);
+        window = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - window;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+}
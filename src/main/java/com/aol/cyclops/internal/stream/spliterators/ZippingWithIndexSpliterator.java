@@ -0,0 +1,67 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+/**
+ * Pairs each element with its (zero based) index. If the source is SUBSIZED the index of the first element of each
+ * split is known, so splits are delegated to the source, otherwise this Spliterator is not split.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ */
+public class ZippingWithIndexSpliterator<T> implements Spliterator<Tuple2<T, Long>> {
+
+    private final Spliterator<T> source;
+    private long index;
+
+    public ZippingWithIndexSpliterator(Spliterator<T> source) {
+        this(source, 0);
+    }
+
+    private ZippingWithIndexSpliterator(Spliterator<T> source, long index) {
+        this.source = source;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Tuple2<T, Long>> action) {
+        Objects.requireNonNull(action);
+        return source.tryAdvance(next -> action.accept(Tuple.tuple(next, index++)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Tuple2<T, Long>> action) {
+        Objects.requireNonNull(action);
+        source.forEachRemaining(next -> action.accept(Tuple.tuple(next, index++)));
+    }
+
+    @Override
+    public Spliterator<Tuple2<T, Long>> trySplit() {
+        if (!source.hasCharacteristics(SUBSIZED))
+            return null;
+        final Spliterator<T> prefix = source.trySplit();
+        if (prefix == null)
+            return null;
+        final ZippingWithIndexSpliterator<T> split = new ZippingWithIndexSpliterator<>(
+                                                                                       prefix, index);
+        index += prefix.getExactSizeIfKnown();
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return (source.characteristics() & (ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT)) | NONNULL | DISTINCT;
+    }
+
+}
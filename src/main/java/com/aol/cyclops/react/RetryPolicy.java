@@ -0,0 +1,306 @@
+package com.aol.cyclops.react;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer;
+import com.nurkiewicz.asyncretry.policy.AbortRetryException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.Wither;
+
+/**
+ * An immutable description of when and how often a failed task should be re-attempted. Re-attempts are scheduled on a
+ * {@link HashedWheelTimer} (by default the shared timer) rather than by sleeping, so a task that is waiting to be retried holds
+ * no thread. Each execution allocates a single object, which is both the returned CompletableFuture and the task scheduled on the
+ * timer.
+ *
+ * <pre>
+ * {@code
+ *   CompletableFuture<String> page = RetryPolicy.decorrelatedJitter(5, 100, TimeUnit.MILLISECONDS)
+ *                                               .maxElapsed(10, TimeUnit.SECONDS)
+ *                                               .retryOn(IOException.class)
+ *                                               .execute(() -> load(url));
+ * }
+ * </pre>
+ *
+ * Failures are tested against the retry predicate after unwrapping CompletionExceptions and SimpleReactFailedStageExceptions.
+ * An AbortRetryException is never retried.
+ *
+ * @author johnmcclean
+ *
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Wither(AccessLevel.PRIVATE)
+public class RetryPolicy {
+
+    /**
+     * How the delay between attempts grows
+     */
+    public enum Backoff {
+        /**
+         * The same delay before every re-attempt
+         */
+        FIXED,
+        /**
+         * The previous delay multiplied by the policy multiplier
+         */
+        EXPONENTIAL,
+        /**
+         * A random delay between the base delay and three times the previous delay
+         */
+        DECORRELATED_JITTER
+    }
+
+    private final int maxAttempts;
+    private final Backoff backoff;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final long maxElapsedNanos;
+    private final Predicate<? super Throwable> retryIf;
+    private final HashedWheelTimer timer;
+
+    /**
+     * @param maxAttempts Maximum number of attempts (including the first)
+     * @param delay Delay before each re-attempt
+     * @param unit Unit of the delay
+     * @return RetryPolicy that waits the same time before each re-attempt
+     */
+    public static RetryPolicy fixed(int maxAttempts, long delay, TimeUnit unit) {
+        return of(maxAttempts, Backoff.FIXED, delay, unit);
+    }
+
+    /**
+     * @param maxAttempts Maximum number of attempts (including the first)
+     * @param initialDelay Delay before the first re-attempt, doubled for each subsequent re-attempt
+     * @param unit Unit of the delay
+     * @return RetryPolicy with exponential backoff
+     */
+    public static RetryPolicy exponential(int maxAttempts, long initialDelay, TimeUnit unit) {
+        return of(maxAttempts, Backoff.EXPONENTIAL, initialDelay, unit);
+    }
+
+    /**
+     * @param maxAttempts Maximum number of attempts (including the first)
+     * @param baseDelay Minimum delay before a re-attempt
+     * @param unit Unit of the delay
+     * @return RetryPolicy with decorrelated jitter backoff, which spreads out re-attempts from many concurrent callers
+     */
+    public static RetryPolicy decorrelatedJitter(int maxAttempts, long baseDelay, TimeUnit unit) {
+        return of(maxAttempts, Backoff.DECORRELATED_JITTER, baseDelay, unit);
+    }
+
+    private static RetryPolicy of(int maxAttempts, Backoff backoff, long delay, TimeUnit unit) {
+        if (maxAttempts < 1)
+            throw new IllegalArgumentException(
+                                               "maxAttempts must be positive, was " + maxAttempts);
+        if (delay < 0)
+            throw new IllegalArgumentException(
+                                               "Delay must not be negative, was " + delay);
+        return new RetryPolicy(
+                               maxAttempts, backoff, unit.toNanos(delay), Long.MAX_VALUE, 2d, Long.MAX_VALUE, t -> true, null);
+    }
+
+    /**
+     * @param multiplier Multiplier applied to the delay after each exponential re-attempt
+     * @return RetryPolicy with the new multiplier
+     */
+    public RetryPolicy multiplier(double multiplier) {
+        if (multiplier < 1)
+            throw new IllegalArgumentException(
+                                               "Multiplier must be at least 1, was " + multiplier);
+        return withMultiplier(multiplier);
+    }
+
+    /**
+     * @param maxDelay Upper bound on the delay before any single re-attempt
+     * @param unit Unit of the delay
+     * @return RetryPolicy with the delay capped
+     */
+    public RetryPolicy maxDelay(long maxDelay, TimeUnit unit) {
+        return withMaxDelayNanos(unit.toNanos(maxDelay));
+    }
+
+    /**
+     * @param maxElapsed Time after the first attempt started, after which no further re-attempts will be scheduled
+     * @param unit Unit of the time
+     * @return RetryPolicy with a bound on the total time spent retrying
+     */
+    public RetryPolicy maxElapsed(long maxElapsed, TimeUnit unit) {
+        return withMaxElapsedNanos(unit.toNanos(maxElapsed));
+    }
+
+    /**
+     * @param types Failure types to retry, other failures complete the result immediately
+     * @return RetryPolicy that only retries the specified failure types
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(Class<? extends Throwable>... types) {
+        return retryIf(t -> {
+            for (Class<? extends Throwable> type : types) {
+                if (type.isInstance(t))
+                    return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * @param predicate Predicate that decides if a failure should be retried
+     * @return RetryPolicy that only retries failures accepted by the predicate
+     */
+    public RetryPolicy retryIf(Predicate<? super Throwable> predicate) {
+        return withRetryIf(Objects.requireNonNull(predicate));
+    }
+
+    /**
+     * @param timer Timer to schedule re-attempts on
+     * @return RetryPolicy that uses the supplied timer, rather than the shared timer
+     */
+    public RetryPolicy onTimer(HashedWheelTimer timer) {
+        return withTimer(Objects.requireNonNull(timer));
+    }
+
+    /**
+     * Run the task, re-attempting it according to this policy if it fails. The first attempt runs on the calling thread, re-attempts
+     * run on the Executor of the timer.
+     *
+     * @param task Task to run
+     * @return CompletableFuture that completes with the first successful result, or the last failure
+     */
+    public <R> CompletableFuture<R> execute(Supplier<? extends R> task) {
+        return execute(task, null);
+    }
+
+    /**
+     * Run the task, re-attempting it according to this policy if it fails. The first attempt runs on the calling thread, re-attempts
+     * run on the supplied Executor - the timer only hands each re-attempt over to it, so blocking tasks stay on their own pool.
+     *
+     * @param task Task to run
+     * @param executor Executor to run re-attempts on
+     * @return CompletableFuture that completes with the first successful result, or the last failure
+     */
+    public <R> CompletableFuture<R> execute(Supplier<? extends R> task, Executor executor) {
+        final Attempt<R> attempt = new Attempt<>(
+                                                 task, null, executor);
+        attempt.run();
+        return attempt;
+    }
+
+    /**
+     * Start an asynchronous task, re-attempting it according to this policy if the CompletionStage it returns fails.
+     *
+     * @param task Task that starts an asynchronous operation
+     * @return CompletableFuture that completes with the first successful result, or the last failure
+     */
+    public <R> CompletableFuture<R> executeAsync(Supplier<? extends CompletionStage<? extends R>> task) {
+        final Attempt<R> attempt = new Attempt<>(
+                                                 null, task, null);
+        attempt.run();
+        return attempt;
+    }
+
+    /**
+     * @param attempts Number of attempts made so far
+     * @param previousNanos Delay before the previous re-attempt (0 if there was none)
+     * @return Delay before the next re-attempt, in nanoseconds
+     */
+    long nextDelayNanos(int attempts, long previousNanos) {
+        final long delay;
+        switch (backoff) {
+        case EXPONENTIAL:
+            delay = previousNanos == 0 ? baseDelayNanos : (long) Math.min(Long.MAX_VALUE, previousNanos * multiplier);
+            break;
+        case DECORRELATED_JITTER:
+            final long upper = Math.max(baseDelayNanos, previousNanos) * 3;
+            delay = upper <= baseDelayNanos || upper < 0 ? baseDelayNanos : ThreadLocalRandom.current()
+                                                                                             .nextLong(baseDelayNanos, upper);
+            break;
+        default:
+            delay = baseDelayNanos;
+        }
+        return Math.min(delay, maxDelayNanos);
+    }
+
+    private boolean retryable(Throwable t, int attempts, long elapsedNanos, long delayNanos) {
+        return attempts < maxAttempts && !(t instanceof AbortRetryException) && delayNanos <= maxElapsedNanos - elapsedNanos
+                && retryIf.test(t);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof SimpleReactFailedStageException) && t.getCause() != null)
+            t = t.getCause();
+        return t;
+    }
+
+    private final class Attempt<R> extends CompletableFuture<R> implements Runnable, BiConsumer<R, Throwable> {
+        private final Supplier<? extends R> task;
+        private final Supplier<? extends CompletionStage<? extends R>> asyncTask;
+        private final Executor executor;
+        private final long start = System.nanoTime();
+        private int attempts = 0;
+        private long delayNanos = 0;
+        private boolean dispatch = false;
+
+        Attempt(Supplier<? extends R> task, Supplier<? extends CompletionStage<? extends R>> asyncTask, Executor executor) {
+            this.task = task;
+            this.asyncTask = asyncTask;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) //cancelled
+                return;
+            if (dispatch) { //fired by the timer, hand the re-attempt over to the executor
+                dispatch = false;
+                try {
+                    executor.execute(this);
+                } catch (Throwable t) {
+                    completeExceptionally(t);
+                }
+                return;
+            }
+            attempts++;
+            try {
+                if (task != null)
+                    complete(task.get());
+                else
+                    ((CompletionStage<R>) asyncTask.get()).whenComplete(this);
+            } catch (Throwable t) {
+                failed(t);
+            }
+        }
+
+        @Override
+        public void accept(R value, Throwable error) {
+            if (error == null)
+                complete(value);
+            else
+                failed(error);
+        }
+
+        private void failed(Throwable error) {
+            if (isDone())
+                return;
+            final long next = nextDelayNanos(attempts, delayNanos);
+            if (!retryable(unwrap(error), attempts, System.nanoTime() - start, next)) {
+                completeExceptionally(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                return;
+            }
+            delayNanos = next;
+            dispatch = executor != null;
+            (timer == null ? HashedWheelTimer.shared() : timer).schedule(this, next, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * A MaxActive whose limits are tuned from the completion latency of the tasks it limits.
+ *
+ * Latency samples are aggregated over a window of roughly maxActive completions (about one round trip of the active
+ * tasks), at the end of each window the limit is recalculated by the configured Algorithm. The minimum observed latency
+ * is periodically re-probed, so the limit follows workloads whose ideal concurrency drifts over time.
+ *
+ * Calling withMaxActive / withReduceTo returns a fixed MaxActive.
+ *
+ * <pre>
+ * {@code
+ *    LazyReact react = new LazyReact().withMaxActive(MaxActive.adaptive(4, 500));
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+    public static enum Algorithm {
+        /**
+         * Additive increase (+1 per window) while latency stays within tolerance of the minimum, multiplicative
+         * decrease otherwise
+         */
+        AIMD,
+        /**
+         * Estimates the number of queued tasks from the ratio of minimum to current latency (expected vs actual
+         * throughput) and grows or shrinks the limit to keep that queue small
+         */
+        VEGAS
+    }
+
+    private static final int MIN_WINDOW = 10;
+    private static final int WINDOWS_PER_PROBE = 100;
+    private static final double AIMD_TOLERANCE = 2.0;
+    private static final double AIMD_BACKOFF = 0.9;
+
+    @Getter
+    private final Algorithm algorithm;
+    @Getter
+    private final int minLimit;
+    @Getter
+    private final int maxLimit;
+
+    private volatile int limit;
+    private volatile int peakInFlight;
+    private volatile long minLatency = Long.MAX_VALUE;
+    private int windows = 0;
+
+    private final AtomicInteger windowSamples = new AtomicInteger(
+                                                                  0);
+    private final AtomicLong windowLatency = new AtomicLong(
+                                                            0);
+    private final AtomicBoolean updating = new AtomicBoolean(
+                                                             false);
+
+    /**
+     * @param algorithm Algorithm used to recalculate the limit
+     * @param minLimit Lower bound for maxActive
+     * @param maxLimit Upper bound for maxActive
+     */
+    public AdaptiveMaxActive(Algorithm algorithm, int minLimit, int maxLimit) {
+        super(initialLimit(minLimit, maxLimit), reduceTo(initialLimit(minLimit, maxLimit)));
+        if (minLimit < 1 || maxLimit < minLimit)
+            throw new IllegalArgumentException(
+                                               "Adaptive limits must satisfy 1 <= minLimit <= maxLimit, was " + minLimit + " and " + maxLimit);
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit(minLimit, maxLimit);
+    }
+
+    private static int initialLimit(int minLimit, int maxLimit) {
+        return Math.max(minLimit, Math.min(maxLimit, Runtime.getRuntime()
+                                                            .availableProcessors()));
+    }
+
+    private static int reduceTo(int limit) {
+        return limit - Math.max(1, limit / 10);
+    }
+
+    /*
+     * @see com.aol.cyclops.react.collectors.lazy.MaxActive#getMaxActive()
+     */
+    @Override
+    public int getMaxActive() {
+        return limit;
+    }
+
+    /*
+     * @see com.aol.cyclops.react.collectors.lazy.MaxActive#getReduceTo()
+     */
+    @Override
+    public int getReduceTo() {
+        return reduceTo(limit);
+    }
+
+    /*
+     * @see com.aol.cyclops.react.collectors.lazy.MaxActive#isAdaptive()
+     */
+    @Override
+    public boolean isAdaptive() {
+        return true;
+    }
+
+    /*
+     * @see com.aol.cyclops.react.collectors.lazy.MaxActive#sample(long, int)
+     */
+    @Override
+    public void sample(long latencyNanos, int inFlight) {
+        if (inFlight > peakInFlight) //racy, only needs to be approximately right
+            peakInFlight = inFlight;
+        windowLatency.addAndGet(latencyNanos);
+        if (windowSamples.incrementAndGet() >= Math.max(MIN_WINDOW, limit) && updating.compareAndSet(false, true)) {
+            try {
+                final int samples = windowSamples.getAndSet(0);
+                final long total = windowLatency.getAndSet(0);
+                if (samples > 0)
+                    update(Math.max(1, total / samples), peakInFlight);
+                peakInFlight = 0;
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update(long latency, int peak) {
+        if (++windows % WINDOWS_PER_PROBE == 0 || latency < minLatency)
+            minLatency = latency;
+        final int current = limit;
+        final boolean limitReached = peak >= current / 2; //don't grow the limit if it isn't being used
+        final int next;
+        if (algorithm == Algorithm.AIMD) {
+            if (latency > minLatency * AIMD_TOLERANCE)
+                next = (int) (current * AIMD_BACKOFF);
+            else
+                next = limitReached ? current + 1 : current;
+        } else {
+            final double queued = current * (1 - (double) minLatency / latency);
+            final int step = Math.max(1, (int) Math.ceil(Math.log10(current)));
+            if (queued <= step)
+                next = limitReached ? current + 6 * step : current;
+            else if (queued < 3 * step)
+                next = limitReached ? current + step : current;
+            else if (queued > 6 * step)
+                next = current - step;
+            else
+                next = current;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+}
@@ -1,11 +1,7 @@
 package com.aol.cyclops.react.collectors.lazy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 import com.aol.cyclops.types.futurestream.BlockingStream;
@@ -30,7 +26,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
     @Getter
     private final Collection<FastFuture<T>> results;
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final CompletionGate<T> active = new CompletionGate<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -51,26 +47,15 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(FastFuture<T> t) {
 
-        active.add(t);
+        active.add(t, maxActive);
 
         if (active.size() > maxActive.getMaxActive()) {
 
-            while (active.size() > maxActive.getReduceTo()) {
-
-                List<FastFuture<T>> toRemove = active.stream()
-                                                     .filter(cf -> cf.isDone())
-                                                     .collect(Collectors.toList());
-                active.removeAll(toRemove);
-                results.addAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-                        promise.complete(true);
-                    } , active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
+            active.drain(results::add);
+            final int reduceTo = maxActive.getReduceTo();
+            if (active.size() > reduceTo) {
+                active.await(reduceTo);
+                active.drain(results::add);
             }
         }
 
@@ -79,10 +64,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     public void block(Function<FastFuture<T>, T> safeJoin) {
         if (active.size() == 0)
             return;
-        active.stream()
-              .peek(f -> safeJoin.apply(f))
-              .forEach(a -> {
-              });
+        active.forEach(f -> safeJoin.apply(f));
 
     }
 
@@ -99,7 +81,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      * @see com.aol.cyclops.react.collectors.lazy.LazyResultConsumer#getAllResults()
      */
     public Collection<FastFuture<T>> getAllResults() {
-        results.addAll(active);
+        active.forEach(results::add);
         active.clear();
         return results;
     }
@@ -0,0 +1,173 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.internal.react.async.future.FastFuture.OnComplete;
+
+/**
+ * Tracks the FastFutures a collector has in flight.
+ *
+ * Rather than repeatedly scanning the active futures for completed ones, each future counts itself in on completion
+ * and queues itself for removal. A collector that needs to reduce the number of active futures parks until enough
+ * completions have been counted, so the bookkeeping per future is constant time regardless of the MaxActive limits.
+ *
+ * Single consumer (the collecting thread) / multiple producer (the completing threads)
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Result type
+ */
+class CompletionGate<T> {
+
+    private final ConcurrentLinkedQueue<Completion<T>> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicLong completions = new AtomicLong(
+                                                         0);
+    private volatile long required = Long.MAX_VALUE;
+    private volatile Thread waiting;
+
+    //accessed only by the collecting thread
+    private long accepted = 0;
+    private int size = 0;
+    private Completion<T> head;
+    private Completion<T> tail;
+
+    /**
+     * Start tracking a future
+     *
+     * @param future FastFuture to track
+     * @param maxActive MaxActive to report completion latency to (if adaptive)
+     */
+    void add(FastFuture<T> future, MaxActive maxActive) {
+        final Completion<T> node = new Completion<>(
+                                                    this, future, maxActive);
+        if (tail == null) {
+            head = tail = node;
+        } else {
+            node.prev = tail;
+            tail.next = node;
+            tail = node;
+        }
+        size++;
+        accepted++;
+        future.onComplete(node);
+    }
+
+    /**
+     * @return Number of futures tracked (completed futures are tracked until drained)
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Stop tracking all completed futures, passing each to the supplied consumer
+     *
+     * @param fn Consumer for completed futures
+     */
+    void drain(Consumer<FastFuture<T>> fn) {
+        Completion<T> next;
+        while ((next = completed.poll()) != null) {
+            if (unlink(next))
+                fn.accept(next.future);
+        }
+    }
+
+    /**
+     * Block the calling thread until no more than target futures remain incomplete
+     *
+     * @param target Maximum number of incomplete futures
+     */
+    void await(int target) {
+        final long needed = accepted - target;
+        if (completions.get() >= needed)
+            return;
+        waiting = Thread.currentThread();
+        required = needed;
+        while (completions.get() < needed) {
+            LockSupport.park(this);
+        }
+        required = Long.MAX_VALUE;
+        waiting = null;
+    }
+
+    /**
+     * @param fn Consumer for every tracked future, in the order they were added
+     */
+    void forEach(Consumer<FastFuture<T>> fn) {
+        for (Completion<T> next = head; next != null; next = next.next)
+            fn.accept(next.future);
+    }
+
+    /**
+     * Stop tracking all futures
+     */
+    void clear() {
+        for (Completion<T> next = head; next != null; next = next.next)
+            next.unlinked = true;
+        completed.clear();
+        head = tail = null;
+        size = 0;
+    }
+
+    private boolean unlink(Completion<T> node) {
+        if (node.unlinked)
+            return false;
+        node.unlinked = true;
+        if (node.prev == null)
+            head = node.next;
+        else
+            node.prev.next = node.next;
+        if (node.next == null)
+            tail = node.prev;
+        else
+            node.next.prev = node.prev;
+        size--;
+        return true;
+    }
+
+    private void completed(Completion<T> node) {
+        completed.offer(node);
+        if (completions.incrementAndGet() >= required) {
+            final Thread toWake = waiting;
+            if (toWake != null)
+                LockSupport.unpark(toWake);
+        }
+    }
+
+    /*
+     * Set once the future has been counted, onComplete may be called more than once
+     */
+    private static final class Completion<T> extends AtomicBoolean implements Consumer<OnComplete> {
+
+        private static final long serialVersionUID = 1L;
+
+        final CompletionGate<T> gate;
+        final FastFuture<T> future;
+        final MaxActive maxActive;
+        final long started;
+        Completion<T> prev;
+        Completion<T> next;
+        boolean unlinked;
+
+        Completion(CompletionGate<T> gate, FastFuture<T> future, MaxActive maxActive) {
+            this.gate = gate;
+            this.future = future;
+            this.maxActive = maxActive;
+            this.started = maxActive.isAdaptive() ? System.nanoTime() : 0;
+        }
+
+        @Override
+        public void accept(OnComplete t) {
+            if (!compareAndSet(false, true))
+                return;
+            if (maxActive.isAdaptive()) //accepted is read racily, in flight is only an estimate
+                maxActive.sample(System.nanoTime() - started, (int) (gate.accepted - gate.completions.get()));
+            gate.completed(this);
+        }
+    }
+}
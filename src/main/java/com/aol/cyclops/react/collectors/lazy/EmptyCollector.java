@@ -2,10 +2,7 @@ package com.aol.cyclops.react.collectors.lazy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 
@@ -24,7 +21,7 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final CompletionGate<T> active = new CompletionGate<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -42,32 +39,22 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(FastFuture<T> t) {
 
-        active.add(t);
+        active.add(t, maxActive);
 
         if (active.size() > maxActive.getMaxActive()) {
 
-            while (active.size() > maxActive.getReduceTo()) {
-
-                List<FastFuture> toRemove = active.stream()
-                                                  .filter(cf -> cf.isDone())
-                                                  .peek(this::handleExceptions)
-                                                  .collect(Collectors.toList());
-
-                active.removeAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
+            active.drain(this::handleExceptions);
+            final int reduceTo = maxActive.getReduceTo();
+            if (active.size() > reduceTo) {
+                active.await(reduceTo);
+                active.drain(this::handleExceptions);
             }
         }
 
     }
 
     public void add(FastFuture<T> t) {
-        active.add(t);
+        active.add(t, maxActive);
     }
 
     private void handleExceptions(FastFuture cf) {
@@ -85,10 +72,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
         if (active.size() == 0)
             return;
-        active.stream()
-              .peek(cf -> safeJoin.apply(cf))
-              .forEach(a -> {
-              });
+        active.forEach(cf -> safeJoin.apply(cf));
 
     }
 
@@ -98,8 +82,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getResults() {
-        active.stream()
-              .forEach(cf -> safeJoin.apply(cf));
+        active.forEach(cf -> safeJoin.apply(cf));
         active.clear();
         return new ArrayList<>();
     }
@@ -5,6 +5,16 @@ import lombok.Getter;
 import lombok.experimental.Builder;
 import lombok.experimental.Wither;
 
+/**
+ * Limits the number of active (incomplete) tasks a LazyFutureStream will have in flight. Once more than maxActive tasks
+ * are active, the Stream waits until no more than reduceTo remain active.
+ * 
+ * The presets are fixed, use {@link #adaptive(int, int)} or {@link #aimd(int, int)} for limits that are tuned from the
+ * observed completion latency of tasks.
+ * 
+ * @author johnmcclean
+ *
+ */
 @AllArgsConstructor
 @Getter
 @Wither
@@ -24,4 +34,57 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    /**
+     * Create a MaxActive that tunes its limits from observed latency, Vegas style - the limit grows while latency stays
+     * close to the minimum observed, and shrinks as queueing inflates latency.
+     * 
+     * A new instance should be created per LazyReact builder, the limits are shared by all Streams that use it.
+     * 
+     * <pre>
+     * {@code
+     *    new LazyReact().withMaxActive(MaxActive.adaptive(4, 500))
+     * }</pre>
+     * 
+     * @param minLimit Lower bound for maxActive
+     * @param maxLimit Upper bound for maxActive
+     * @return Adaptive MaxActive
+     */
+    public static AdaptiveMaxActive adaptive(int minLimit, int maxLimit) {
+        return new AdaptiveMaxActive(
+                                     AdaptiveMaxActive.Algorithm.VEGAS, minLimit, maxLimit);
+    }
+
+    /**
+     * Create a MaxActive that tunes its limits from observed latency, using additive increase / multiplicative decrease
+     * - the limit increases by one every window in which latency stays within tolerance of the minimum observed, and is
+     * cut by 10% otherwise.
+     * 
+     * A new instance should be created per LazyReact builder, the limits are shared by all Streams that use it.
+     * 
+     * @param minLimit Lower bound for maxActive
+     * @param maxLimit Upper bound for maxActive
+     * @return Adaptive MaxActive
+     */
+    public static AdaptiveMaxActive aimd(int minLimit, int maxLimit) {
+        return new AdaptiveMaxActive(
+                                     AdaptiveMaxActive.Algorithm.AIMD, minLimit, maxLimit);
+    }
+
+    /**
+     * @return true if these limits are tuned from the samples reported via {@link #sample(long, int)}
+     */
+    public boolean isAdaptive() {
+        return false;
+    }
+
+    /**
+     * Report the latency of a completed task. Ignored by fixed limits.
+     * 
+     * @param latencyNanos Time from the task being collected to its completion
+     * @param inFlight Number of tasks active when it completed
+     */
+    public void sample(long latencyNanos, int inFlight) {
+
+    }
+
 }
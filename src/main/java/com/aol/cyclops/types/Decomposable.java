@@ -1,14 +1,11 @@
 package com.aol.cyclops.types;
 
-import java.util.stream.Collectors;
-
-import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
-import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.internal.invokedynamic.Decomposer;
 
 /**
  * trait / interface for Value Objects / Case Classes / Algebraic Data Types
  * 
- * unapply uses Reflection by default, but clients can override it if neccessary
+ * unapply reads the fields of the implementing class by default (via a per class compiled Decomposer), but clients can override it if neccessary
  * 
  * @author johnmcclean
  *
@@ -25,26 +22,11 @@ public interface Decomposable {
     @SuppressWarnings("unchecked")
     default <I extends Iterable<?>> I unapply() {
 
-        if (unwrap() instanceof Iterable)
-            return (I) unwrap();
-        try {
-
-            return (I) ReflectionCache.getFields(unwrap().getClass())
-                                      .stream()
-                                      .map(f -> {
-                                          try {
-
-                                              return f.get(unwrap());
-                                          } catch (Exception e) {
-                                              throw ExceptionSoftener.throwSoftenedException(e);
-
-                                          }
-                                      })
-                                      .collect(Collectors.toList());
-        } catch (Exception e) {
-            throw ExceptionSoftener.throwSoftenedException(e);
-
-        }
+        Object value = unwrap();
+        if (value instanceof Iterable)
+            return (I) value;
+        return (I) Decomposer.of(value.getClass())
+                             .unapply(value);
 
     }
 
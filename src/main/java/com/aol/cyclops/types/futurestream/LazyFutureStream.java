@@ -63,14 +63,18 @@ import com.aol.cyclops.data.async.QueueFactories;
 import com.aol.cyclops.data.async.QueueFactory;
 import com.aol.cyclops.data.collections.extensions.CollectionX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
 import com.aol.cyclops.internal.react.LazyFutureStreamImpl;
 import com.aol.cyclops.internal.react.async.future.FastFuture;
 import com.aol.cyclops.internal.react.stream.CloseableIterator;
 import com.aol.cyclops.internal.react.stream.LazyStreamWrapper;
+import com.aol.cyclops.internal.react.stream.traits.future.operators.KeyAffineOperator;
 import com.aol.cyclops.internal.react.stream.traits.future.operators.LazyFutureStreamUtils;
 import com.aol.cyclops.internal.react.stream.traits.future.operators.OperationsOnFuturesImpl;
+import com.aol.cyclops.internal.react.stream.traits.future.operators.TimedFutureOperator;
 import com.aol.cyclops.internal.stream.LazyFutureStreamFutureOpterationsImpl;
 import com.aol.cyclops.react.RetryBuilder;
+import com.aol.cyclops.react.RetryPolicy;
 import com.aol.cyclops.react.SimpleReactFailedStageException;
 import com.aol.cyclops.react.ThreadPools;
 import com.aol.cyclops.react.async.subscription.Continueable;
@@ -992,6 +996,51 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
         return res;
     }
 
+    /**
+     * Process elements in parallel across keys, and strictly in order within a key. Each element is routed, in Stream order, to one
+     * of parallelism lanes selected by hashing its key, and fn is applied on that lane. Lanes are drained on the common ForkJoinPool,
+     * results from all lanes are merged into the returned Stream (in completion order).
+     *
+     * <pre>
+     * {@code
+     *   new LazyReact().fromStream(events())
+     *                  .groupedParallel(Event::getAccountId, 8, this::applyToAccount)
+     *                  .forEach(this::publish);
+     *
+     *   //events for each account are applied one at a time, in order, up to 8 accounts are processed in parallel
+     * }
+     * </pre>
+     *
+     * The number of elements read ahead of the consumer (at least one per lane), and the capacity of each lane, are bounded by the
+     * maxActive setting of this Stream.
+     *
+     * @param keyFn Function to extract the key from each element
+     * @param parallelism Number of lanes
+     * @param fn Function to apply to each element on its lane
+     * @return Stream of results
+     */
+    default <K, R> LazyFutureStream<R> groupedParallel(Function<? super U, ? extends K> keyFn, int parallelism,
+            Function<? super U, ? extends R> fn) {
+        return groupedParallel(keyFn, parallelism, ThreadPools.getStandard(), fn);
+    }
+
+    /**
+     * Process elements in parallel across keys, and strictly in order within a key, draining lanes on the supplied Executor
+     *
+     * @see #groupedParallel(Function, int, Function)
+     *
+     * @param keyFn Function to extract the key from each element
+     * @param parallelism Number of lanes
+     * @param executor Executor to drain lanes on
+     * @param fn Function to apply to each element on its lane
+     * @return Stream of results
+     */
+    default <K, R> LazyFutureStream<R> groupedParallel(Function<? super U, ? extends K> keyFn, int parallelism, Executor executor,
+            Function<? super U, ? extends R> fn) {
+        return new KeyAffineOperator<>(
+                                       this).groupedParallel(keyFn, parallelism, executor, fn);
+    }
+
     /**
      * Can be used to debounce (accept a single data point from a unit of time)
      * data. This drops data. For a method that slows emissions and keeps data
@@ -1014,8 +1063,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      *         windows
      */
     default LazyFutureStream<U> debounce(long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .debounce(time, unit));
+        return new TimedFutureOperator<>(
+                                         this).debounce(time, unit);
 
     }
 
@@ -1082,8 +1131,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @see com.aol.cyclops.react.stream.traits.FutureStream#batchBySizeAndTime(int, long, java.util.concurrent.TimeUnit)
      */
     default LazyFutureStream<ListX<U>> groupedBySizeAndTime(int size, long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .groupedBySizeAndTime(size, time, unit));
+        return new TimedFutureOperator<>(
+                                         this).groupedBySizeAndTime(size, time, unit, () -> new ListXImpl<>());
         /**      Queue<U> queue = toQueue();
         Function<BiFunction<Long,TimeUnit,U>, Supplier<Collection<U>>> fn = new BatchByTimeAndSize<>(size,time,unit,()->new ListXImpl<>());
         return (LazyFutureStream)fromStream(queue.streamBatch(getSubscription(), (Function)fn)).filter(c->!((Collection)c).isEmpty());**/
@@ -1140,8 +1189,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @return Next stage in Stream with jitter applied
      */
     default LazyFutureStream<U> jitter(long jitterInNanos) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .jitter(jitterInNanos));
+        return new TimedFutureOperator<>(
+                                         this).jitter(jitterInNanos);
     }
 
     /**
@@ -1178,8 +1227,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @return Next Stage of the Stream
      */
     default LazyFutureStream<U> fixedDelay(long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .fixedDelay(time, unit));
+        return new TimedFutureOperator<>(
+                                         this).fixedDelay(time, unit);
     }
 
     /**
@@ -1202,8 +1251,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @return Stream with emissions slowed down by specified emission frequency
      */
     default LazyFutureStream<U> onePer(long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .onePer(time, unit));
+        return new TimedFutureOperator<>(
+                                         this).onePer(time, unit);
 
     }
 
@@ -1230,8 +1279,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @return Stream with emissions slowed down by specified emission frequency
      */
     default LazyFutureStream<U> xPer(int x, long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .xPer(x, time, unit));
+        return new TimedFutureOperator<>(
+                                         this).xPer(x, time, unit);
     }
 
     /**
@@ -1254,8 +1303,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @return Stream of Lists
      */
     default LazyFutureStream<ListX<U>> groupedByTime(long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .groupedByTime(time, unit));
+        return new TimedFutureOperator<>(
+                                         this).groupedBySizeAndTime(Integer.MAX_VALUE, time, unit, () -> new ListXImpl<>());
 
     }
 
@@ -1284,8 +1333,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      * @return Stream of collections
      */
     default <C extends Collection<? super U>> LazyFutureStream<C> groupedByTime(long time, TimeUnit unit, Supplier<C> factory) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .groupedByTime(time, unit, factory));
+        return new TimedFutureOperator<>(
+                                         this).groupedBySizeAndTime(Integer.MAX_VALUE, time, unit, factory);
 
     }
 
@@ -1529,6 +1578,43 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
         return fromStream(StreamUtils.flatMapCompletableFuture(toQueue().stream(getSubscription()), flatFn));
     }
 
+    /**
+     * Perform a flatMap operation where the CompletableFuture type returned is flattened from the resulting Stream
+     * If in async mode this operation is performed asyncrhonously
+     * If in sync mode this operation is performed synchronously
+     * 
+     * No thread blocks waiting for the returned CompletableFuture, the remaining stages of the pipeline resume on the thread that completes it
+     *
+     * <pre>
+     * {@code
+     * assertThat( new LazyReact()
+                                        .of(1,2,3)
+                                        .flatMapToCompletableFuture(i->CompletableFuture.supplyAsync(()->i,ioExecutor))
+                                        .map(i->i*2)
+                                        .toList(),equalTo(Arrays.asList(2,4,6)));
+     * }
+     * </pre>
+     *
+     * @param flatFn flatMap function
+     * @return Flatten Stream with flatFn applied
+     */
+    @Override
+    default <R> LazyFutureStream<R> flatMapToCompletableFuture(Function<? super U, CompletableFuture<? extends R>> flatFn) {
+        return (LazyFutureStream<R>) LazySimpleReactStream.super.flatMapToCompletableFuture(flatFn);
+    }
+
+    /**
+     * Perform a flatMap operation where the CompletableFuture type returned is flattened from the resulting Stream
+     * This operation is performed synchronously, but no thread blocks waiting for the returned CompletableFuture
+     *
+     * @param flatFn flatMap function
+     * @return Flatten Stream with flatFn applied
+     */
+    @Override
+    default <R> LazyFutureStream<R> flatMapToCompletableFutureSync(Function<? super U, CompletableFuture<? extends R>> flatFn) {
+        return (LazyFutureStream<R>) LazySimpleReactStream.super.flatMapToCompletableFutureSync(flatFn);
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -1542,6 +1628,30 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
         return (LazyFutureStream) LazySimpleReactStream.super.retry(fn);
     }
 
+    /**
+     * Execute this phase on the task executor, retrying failures according to the supplied RetryPolicy. Unlike {@link #retry(Function)}
+     * re-attempts are scheduled on a shared timer, so elements waiting to be retried hold no threads.
+     *
+     * <pre>
+     * {@code
+     *    LazyReact.parallelBuilder()
+     *             .from(urls)
+     *             .retry(RetryPolicy.decorrelatedJitter(5, 100, TimeUnit.MILLISECONDS)
+     *                               .retryOn(IOException.class), this::load)
+     *             .forEach(this::save);
+     * }
+     * </pre>
+     *
+     * @param policy RetryPolicy that determines when to re-attempt
+     * @param fn Function that will be executed and retried on failure
+     * @return Next Stage in the Stream
+     */
+    @Override
+    default <R> LazyFutureStream<R> retry(RetryPolicy policy, Function<? super U, ? extends R> fn) {
+
+        return (LazyFutureStream) LazySimpleReactStream.super.retry(policy, fn);
+    }
+
     /*
      * Convert the specified Stream to a LazyFutureStream, using the configuration
      * of this LazyFutureStream (task executors, current config settings)
@@ -2946,8 +3056,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      */
     @Override
     default LazyFutureStream<U> skip(long time, TimeUnit unit) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .skip(time, unit));
+        return new TimedFutureOperator<>(
+                                         this).skip(time, unit);
     }
 
     /*
@@ -2956,8 +3066,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
     @Override
     default LazyFutureStream<U> limit(long time, TimeUnit unit) {
         getSubscription().registerTimeLimit(unit.toNanos(time));
-        return fromStream(toQueue().stream(getSubscription())
-                                   .limit(time, unit));
+        return new TimedFutureOperator<>(
+                                         this).limit(time, unit);
     }
 
     /*
@@ -2998,8 +3108,8 @@ public interface LazyFutureStream<U> extends Functor<U>, Filterable<U>, LazySimp
      */
     @Override
     default <C extends Collection<? super U>> LazyFutureStream<C> groupedBySizeAndTime(int size, long time, TimeUnit unit, Supplier<C> factory) {
-        return fromStream(ReactiveSeq.fromStream(toQueue().stream(getSubscription()))
-                                     .groupedBySizeAndTime(size, time, unit, factory));
+        return new TimedFutureOperator<>(
+                                         this).groupedBySizeAndTime(size, time, unit, factory);
         /**         Queue<U> queue = toQueue();
             Function<BiFunction<Long,TimeUnit,U>, Supplier<Collection<U>>> fn = new BatchByTimeAndSize(size,time,unit,factory);
             return (LazyFutureStream)fromStream(queue.streamBatch(getSubscription(), (Function)fn));**/
@@ -22,6 +22,7 @@ import com.aol.cyclops.internal.react.async.future.FastFuture;
 import com.aol.cyclops.internal.react.async.future.PipelineBuilder;
 import com.aol.cyclops.internal.react.exceptions.FilteredExecutionPathException;
 import com.aol.cyclops.internal.react.stream.LazyStreamWrapper;
+import com.aol.cyclops.react.RetryPolicy;
 import com.aol.cyclops.react.SimpleReactFailedStageException;
 import com.aol.cyclops.react.async.subscription.Continueable;
 import com.nurkiewicz.asyncretry.RetryExecutor;
@@ -90,10 +91,29 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
     @SuppressWarnings("unchecked")
     default <R> LazySimpleReactStream<R> retry(final Function<? super U, ? extends R> fn) {
         Function<PipelineBuilder, PipelineBuilder> mapper = (
-                ft) -> ft.thenApplyAsync(res -> getRetrier().getWithRetry((Callable) () -> LazySimpleReactStream.<U, R> handleExceptions(fn)
-                                                                                                                .apply((U) res))
-                                                            .join(),
-                                         getTaskExecutor());
+                ft) -> ft.thenComposeAsync(res -> getRetrier().getWithRetry((Callable) () -> LazySimpleReactStream.<U, R> handleExceptions(fn)
+                                                                                                                  .apply((U) res)),
+                                           getTaskExecutor());
+
+        return this.withLastActive(getLastActive().operation(mapper));
+    }
+
+    /**
+     * Execute this phase on the task executor, retrying failures according to the supplied RetryPolicy. Re-attempts are scheduled
+     * on a timer, so no thread is held while an element waits to be retried, and then also run on the task executor.
+     *
+     * @param policy RetryPolicy that determines when to re-attempt
+     * @param fn
+     *            Function that will be executed and retried on failure
+     * @return Next Stage in the Stream
+     */
+    @SuppressWarnings("unchecked")
+    default <R> LazySimpleReactStream<R> retry(final RetryPolicy policy, final Function<? super U, ? extends R> fn) {
+        Function<PipelineBuilder, PipelineBuilder> mapper = (
+                ft) -> ft.thenComposeAsync(res -> policy.execute(() -> LazySimpleReactStream.<U, R> handleExceptions(fn)
+                                                                                            .apply((U) res),
+                                                                 getTaskExecutor()),
+                                           getTaskExecutor());
 
         return this.withLastActive(getLastActive().operation(mapper));
     }
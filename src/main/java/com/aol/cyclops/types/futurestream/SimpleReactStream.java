@@ -1,6 +1,7 @@
 package com.aol.cyclops.types.futurestream;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.ListIterator;
@@ -394,7 +395,7 @@ public interface SimpleReactStream<U> extends BaseSimpleReactStream<U>, Blocking
         Function<Exception, R2> f = (Exception e) -> {
             BlockingStreamHelper.capture(e, getErrorHandler());
             return BlockingStreamHelper.block(this, Collectors.toList(), new EagerStreamWrapper(
-                                                                                                Stream.of(array), this.getErrorHandler()));
+                                                                                                Arrays.asList(array), this.getErrorHandler()));
         };
         CompletableFuture onFail = cf.exceptionally(f);
         CompletableFuture onSuccess = onFail.thenApplyAsync((result) -> {
@@ -402,8 +403,7 @@ public interface SimpleReactStream<U> extends BaseSimpleReactStream<U>, Blocking
                                         this.getTaskExecutor(),
                                         null, result)
                                                      .submit(() -> (R2) fn.apply(BlockingStreamHelper.aggregateResultsCompletable(collector,
-                                                                                                                                  Stream.of(array)
-                                                                                                                                        .collect(Collectors.toList()),
+                                                                                                                                  Arrays.asList(array),
                                                                                                                                   getErrorHandler())));
         } , getTaskExecutor());
         return (SimpleReactStream<R2>) withLastActive(new EagerStreamWrapper(
@@ -478,7 +478,8 @@ public interface SimpleReactStream<U> extends BaseSimpleReactStream<U>, Blocking
 
     default <R> SimpleReactStream<R> fromStreamCompletableFutureReplace(Stream<CompletableFuture<R>> stream) {
         Stream noType = stream;
-        return (SimpleReactStream<R>) this.withLastActive(getLastActive().withStream(noType));
+        return (SimpleReactStream<R>) this.withLastActive(new EagerStreamWrapper(
+                                                                                 noType, this.getErrorHandler()));
     }
 
     default <R> SimpleReactStream<R> fromListCompletableFuture(List<CompletableFuture<R>> list) {
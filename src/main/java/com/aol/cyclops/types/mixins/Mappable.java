@@ -1,11 +1,8 @@
 package com.aol.cyclops.types.mixins;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
 
-import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
-import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.internal.invokedynamic.Decomposer;
 
 /**
  * Interface that represents an Object that can be converted to a map
@@ -24,16 +21,8 @@ public interface Mappable {
      * @return Map representation
      */
     default Map<String, ?> toMap() {
-        try {
-            final Object o = unwrap();
-            Map<String, Object> result = new HashMap<>();
-            for (Field f : ReflectionCache.getFields(o.getClass())) {
-                result.put(f.getName(), f.get(o));
-            }
-            return result;
-        } catch (Exception e) {
-            throw ExceptionSoftener.throwSoftenedException(e);
-
-        }
+        final Object o = unwrap();
+        return Decomposer.of(o.getClass())
+                         .toMap(o);
     }
 }
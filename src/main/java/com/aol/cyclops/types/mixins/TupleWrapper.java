@@ -1,10 +1,8 @@
 package com.aol.cyclops.types.mixins;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import com.aol.cyclops.internal.invokedynamic.ReflectionCache;
-import com.aol.cyclops.util.ExceptionSoftener;
+import com.aol.cyclops.internal.invokedynamic.Decomposer;
 
 public interface TupleWrapper {
 
@@ -13,22 +11,8 @@ public interface TupleWrapper {
     @SuppressWarnings("unchecked")
     default List<Object> values() {
 
-        try {
-            return (List) ReflectionCache.getFields(getInstance().getClass())
-                                         .stream()
-                                         .map(f -> {
-                                             try {
-
-                                                 return f.get(getInstance());
-                                             } catch (Exception e) {
-                                                 ExceptionSoftener.throwSoftenedException(e);
-                                                 return null;
-                                             }
-                                         })
-                                         .collect(Collectors.toList());
-        } catch (Exception e) {
-            throw ExceptionSoftener.throwSoftenedException(e);
-
-        }
+        Object instance = getInstance();
+        return Decomposer.of(instance.getClass())
+                         .unapply(instance);
     }
 }
\ No newline at end of file
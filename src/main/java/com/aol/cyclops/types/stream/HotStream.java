@@ -1,6 +1,7 @@
 package com.aol.cyclops.types.stream;
 
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -14,7 +15,38 @@ public interface HotStream<T> {
                                                            256));
     }
 
-    public ReactiveSeq<T> connect(Queue<T> queue);
+    /**
+     * Connect to this HotStream via the supplied Queue. When the Queue is full, a BlockingQueue blocks the producer
+     * and any other Queue drops the element.
+     *
+     * @param queue Queue the connected Stream reads from
+     * @return Connected Stream
+     */
+    public default ReactiveSeq<T> connect(Queue<T> queue) {
+        return connect(queue, queue instanceof BlockingQueue ? OverflowPolicy.BLOCK : OverflowPolicy.DROP);
+    }
+
+    /**
+     * Connect to this HotStream via a bounded Queue, with the supplied overflow policy
+     *
+     * @param policy What to do when this connection falls behind the producer
+     * @return Connected Stream
+     */
+    public default ReactiveSeq<T> connect(OverflowPolicy policy) {
+        return connect(new OneToOneConcurrentArrayQueue<T>(
+                                                           256),
+                       policy);
+    }
+
+    /**
+     * Connect to this HotStream via the supplied Queue, with the supplied overflow policy. The policy only affects
+     * this connection, e.g. a slow connection that drops or conflates does not hold up the producer.
+     *
+     * @param queue Queue the connected Stream reads from
+     * @param policy What to do when the Queue is full
+     * @return Connected Stream
+     */
+    public ReactiveSeq<T> connect(Queue<T> queue, OverflowPolicy policy);
 
     public default <R extends Stream<T>> R connectTo(Queue<T> queue, Function<ReactiveSeq<T>, R> to) {
         return to.apply(connect(queue));
@@ -0,0 +1,25 @@
+package com.aol.cyclops.types.stream;
+
+/**
+ * What a buffered copy of a Stream (duplicate, triplicate, partition etc) should do when the leading copy gets more than the
+ * configured maximum number of elements ahead of the slowest copy
+ *
+ * <pre>
+ * {@code
+ *    Tuple2<Stream<Integer>, Stream<Integer>> copies = StreamUtils.duplicate(stream, 10_000, LagPolicy.BLOCK);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public enum LagPolicy {
+    /**
+     * Wait for the slowest copy to catch up. Only useful when the copies are consumed on different threads, a single threaded
+     * consumer will wait forever.
+     */
+    BLOCK,
+    /**
+     * Throw an IllegalStateException from the leading copy
+     */
+    FAIL
+}
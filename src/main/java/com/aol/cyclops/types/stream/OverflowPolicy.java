@@ -0,0 +1,31 @@
+package com.aol.cyclops.types.stream;
+
+/**
+ * What a HotStream should do when a connection's Queue is full
+ *
+ * <pre>
+ * {@code
+ *    HotStream<Quote> quotes = ReactiveSeq.fromStream(feed)
+ *                                         .hotStream(exec);
+ *
+ *    quotes.connect(new OneToOneConcurrentArrayQueue<>(256), OverflowPolicy.CONFLATE)
+ *          .forEach(dashboard::render);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait for the connection to make space, stalling the producer (and so every other connection)
+     */
+    BLOCK,
+    /**
+     * Discard the new element, other connections are unaffected
+     */
+    DROP,
+    /**
+     * Retain only the most recent element that did not fit, it is emitted once the connection has drained its Queue
+     */
+    CONFLATE
+}
@@ -0,0 +1,175 @@
+package com.aol.cyclops.types.stream.reactive;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.internal.react.async.future.FastFuture.OnComplete;
+import com.aol.cyclops.internal.react.stream.MissingValue;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+import com.aol.cyclops.types.futurestream.BlockingStreamHelper;
+
+/**
+ * Subscription that pushes the results of a FutureStream's FastFutures directly to a Subscriber.
+ *
+ * Futures are pulled from the Stream only while there is outstanding demand (and fewer than MaxActive are incomplete),
+ * results are emitted in Stream order. All signals to the Subscriber are made from a work-in-progress drain loop, run
+ * by whichever thread requests more data or completes a future, so they are never concurrent.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type
+ */
+class FutureStreamSubscription<T> implements Subscription {
+
+    private volatile Subscriber<? super T> subscriber;
+    private final Iterator<FastFuture<T>> futures;
+    private final Optional<Consumer<Throwable>> errorHandler;
+    private final MaxActive maxActive;
+    private final Runnable onTerminate;
+    private final Runnable onCancel;
+
+    private final AtomicLong requested = new AtomicLong(
+                                                        0);
+    private final AtomicInteger wip = new AtomicInteger(
+                                                        0);
+    private final Consumer<OnComplete> onComplete = c -> drain();
+    private volatile boolean cancelled = false;
+    private volatile Throwable error;
+
+    //accessed only from the drain loop
+    private final ArrayDeque<FastFuture<T>> inFlight = new ArrayDeque<>();
+    private long emitted = 0;
+    private boolean exhausted = false;
+    private boolean terminated = false;
+
+    /**
+     * @param subscriber Subscriber to push to
+     * @param futures FastFutures from the Stream
+     * @param errorHandler Handler for failed futures
+     * @param maxActive Limit on the number of incomplete futures
+     * @param onTerminate Run once on completion, error or cancellation
+     * @param onCancel Run on cancellation
+     */
+    FutureStreamSubscription(Subscriber<? super T> subscriber, Iterator<FastFuture<T>> futures, Optional<Consumer<Throwable>> errorHandler,
+            MaxActive maxActive, Runnable onTerminate, Runnable onCancel) {
+        this.subscriber = subscriber;
+        this.futures = futures;
+        this.errorHandler = errorHandler;
+        this.maxActive = maxActive;
+        this.onTerminate = onTerminate;
+        this.onCancel = onCancel;
+    }
+
+    @Override
+    public void request(long n) {
+        if (n < 1) {
+            error = new IllegalArgumentException(
+                                                 "3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0.");
+            drain();
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            if (current == Long.MAX_VALUE)
+                break;
+            next = current + n;
+            if (next < 0)
+                next = Long.MAX_VALUE;
+        } while (!requested.compareAndSet(current, next));
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled)
+            return;
+        cancelled = true;
+        onCancel.run();
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        do {
+            if (!terminated)
+                emit();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit() {
+        final Subscriber<? super T> s = subscriber;
+        long e = emitted;
+        for (;;) {
+            if (cancelled) {
+                terminate();
+                return;
+            }
+            if (error != null) {
+                terminate();
+                s.onError(error);
+                return;
+            }
+            final long r = requested.get();
+            final FastFuture<T> head = inFlight.peek();
+            if (head != null && head.isDone()) {
+                if (e == r)
+                    break;
+                inFlight.poll();
+                final Object value = BlockingStreamHelper.getSafe(head, errorHandler);
+                if (value != MissingValue.MISSING_VALUE) {
+                    s.onNext((T) value);
+                    e++;
+                }
+                continue;
+            }
+            if (!exhausted && inFlight.size() < Math.min(r - e, maxActive.getMaxActive())) {
+                pull();
+                continue;
+            }
+            if (exhausted && inFlight.isEmpty()) {
+                terminate();
+                s.onComplete();
+                return;
+            }
+            break;
+        }
+        emitted = e;
+    }
+
+    private void pull() {
+        try {
+            if (!futures.hasNext()) {
+                exhausted = true;
+                return;
+            }
+            final FastFuture<T> next = futures.next();
+            inFlight.add(next);
+            if (!next.isDone()) //drain again once the head of the queue can be emitted - added alongside any other listeners, and
+                next.onComplete(onComplete); //run even if the future completes (or fails) while it is being registered
+        } catch (Throwable t) {
+            exhausted = true;
+            error = t;
+        }
+    }
+
+    private void terminate() {
+        terminated = true;
+        subscriber = null;
+        inFlight.clear();
+        onTerminate.run();
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.aol.cyclops.util.function;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the arguments of a multi-argument memoised function.
+ *
+ * A mutable instance per thread is used to probe the cache, so hits do not allocate a key, an immutable copy is only
+ * created to store a newly computed value.
+ *
+ * @author johnmcclean
+ *
+ */
+final class ArgsKey {
+
+    private static final ThreadLocal<ArgsKey> PROBE = ThreadLocal.withInitial(ArgsKey::new);
+
+    private int arity;
+    private Object a;
+    private Object b;
+    private Object c;
+    private Object d;
+    private int hash;
+
+    private ArgsKey() {
+    }
+
+    /**
+     * @return This thread's probe key, callers must {@link #clear()} it after the lookup
+     */
+    static ArgsKey probe() {
+        return PROBE.get();
+    }
+
+    static ArgsKey of(Object a, Object b) {
+        return new ArgsKey().set(a, b);
+    }
+
+    static ArgsKey of(Object a, Object b, Object c) {
+        return new ArgsKey().set(a, b, c);
+    }
+
+    static ArgsKey of(Object a, Object b, Object c, Object d) {
+        return new ArgsKey().set(a, b, c, d);
+    }
+
+    ArgsKey set(Object a, Object b) {
+        return set(2, a, b, null, null);
+    }
+
+    ArgsKey set(Object a, Object b, Object c) {
+        return set(3, a, b, c, null);
+    }
+
+    ArgsKey set(Object a, Object b, Object c, Object d) {
+        return set(4, a, b, c, d);
+    }
+
+    private ArgsKey set(int arity, Object a, Object b, Object c, Object d) {
+        this.arity = arity;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        int h = arity;
+        h = 31 * h + Objects.hashCode(a);
+        h = 31 * h + Objects.hashCode(b);
+        h = 31 * h + Objects.hashCode(c);
+        this.hash = 31 * h + Objects.hashCode(d);
+        return this;
+    }
+
+    /**
+     * Release references held by a probe key
+     */
+    void clear() {
+        a = b = c = d = null;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ArgsKey))
+            return false;
+        ArgsKey other = (ArgsKey) o;
+        return hash == other.hash && arity == other.arity && Objects.equals(a, other.a) && Objects.equals(b, other.b)
+                && Objects.equals(c, other.c) && Objects.equals(d, other.d);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(
+                                                  "(").append(a)
+                                                      .append(", ")
+                                                      .append(b);
+        if (arity > 2)
+            builder.append(", ")
+                   .append(c);
+        if (arity > 3)
+            builder.append(", ")
+                   .append(d);
+        return builder.append(")")
+                      .toString();
+    }
+}
@@ -41,8 +41,8 @@ public class Memoize {
      */
     public static <T> Supplier<T> memoizeSupplier(Supplier<T> s, Cacheable<T> cache) {
 
-        return () -> cache.soften()
-                          .computeIfAbsent("k", a -> s.get());
+        SoftenedCacheable<T> softened = cache.soften();
+        return () -> softened.computeIfAbsent("k", a -> s.get());
     }
 
     /**
@@ -54,13 +54,13 @@ public class Memoize {
      */
     public static <T> Callable<T> memoizeCallable(Callable<T> s, Cacheable<T> cache) {
 
-        return () -> cache.soften()
-                          .computeIfAbsent("k", a -> {
+        SoftenedCacheable<T> softened = cache.soften();
+        return () -> softened.computeIfAbsent("k", a -> {
 
-                              return ExceptionSoftener.softenCallable(s)
-                                                      .get();
+            return ExceptionSoftener.softenCallable(s)
+                                    .get();
 
-                          });
+        });
     }
 
     /**
@@ -114,8 +114,8 @@ public class Memoize {
      * @return Memoised Function
      */
     public static <T, R> Function<T, R> memoizeFunction(Function<T, R> fn, Cacheable<R> cache) {
-        return t -> (R) cache.soften()
-                             .computeIfAbsent(t, (Function) fn);
+        SoftenedCacheable<R> softened = cache.soften();
+        return t -> (R) softened.computeIfAbsent(t, (Function) fn);
     }
 
     /**
@@ -125,8 +125,12 @@ public class Memoize {
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> BiFunction<T1, T2, R> memoizeBiFunction(BiFunction<T1, T2, R> fn) {
-        val memoise2 = memoizeFunction((Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2));
-        return (t1, t2) -> memoise2.apply(tuple(t1, t2));
+        Map<ArgsKey, R> lazy = new ConcurrentHashMap<>();
+        return (t1, t2) -> {
+            R cached = lookup(lazy, ArgsKey.probe()
+                                           .set(t1, t2));
+            return cached != null ? cached : lazy.computeIfAbsent(ArgsKey.of(t1, t2), k -> fn.apply(t1, t2));
+        };
     }
 
     /**
@@ -137,6 +141,14 @@ public class Memoize {
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> BiFunction<T1, T2, R> memoizeBiFunction(BiFunction<T1, T2, R> fn, Cacheable<R> cache) {
+        if (cache instanceof MemoizeCache) {
+            MemoizeCache<R> memoizeCache = (MemoizeCache<R>) cache;
+            return (t1, t2) -> {
+                R cached = lookup(memoizeCache, ArgsKey.probe()
+                                                       .set(t1, t2));
+                return cached != null ? cached : memoizeCache.computeIfAbsent(ArgsKey.of(t1, t2), k -> fn.apply(t1, t2));
+            };
+        }
         val memoise2 = memoizeFunction((Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2), cache);
         return (t1, t2) -> memoise2.apply(tuple(t1, t2));
     }
@@ -148,8 +160,12 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> TriFunction<T1, T2, T3, R> memoizeTriFunction(TriFunction<T1, T2, T3, R> fn) {
-        val memoise2 = memoizeFunction((Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3));
-        return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
+        Map<ArgsKey, R> lazy = new ConcurrentHashMap<>();
+        return (t1, t2, t3) -> {
+            R cached = lookup(lazy, ArgsKey.probe()
+                                           .set(t1, t2, t3));
+            return cached != null ? cached : lazy.computeIfAbsent(ArgsKey.of(t1, t2, t3), k -> fn.apply(t1, t2, t3));
+        };
     }
 
     /**
@@ -160,6 +176,15 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> TriFunction<T1, T2, T3, R> memoizeTriFunction(TriFunction<T1, T2, T3, R> fn, Cacheable<R> cache) {
+        if (cache instanceof MemoizeCache) {
+            MemoizeCache<R> memoizeCache = (MemoizeCache<R>) cache;
+            return (t1, t2, t3) -> {
+                R cached = lookup(memoizeCache, ArgsKey.probe()
+                                                       .set(t1, t2, t3));
+                return cached != null ? cached
+                        : memoizeCache.computeIfAbsent(ArgsKey.of(t1, t2, t3), k -> fn.apply(t1, t2, t3));
+            };
+        }
         val memoise2 = memoizeFunction((Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3), cache);
         return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
     }
@@ -171,8 +196,13 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, T4, R> QuadFunction<T1, T2, T3, T4, R> memoizeQuadFunction(QuadFunction<T1, T2, T3, T4, R> fn) {
-        val memoise2 = memoizeFunction((Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4));
-        return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
+        Map<ArgsKey, R> lazy = new ConcurrentHashMap<>();
+        return (t1, t2, t3, t4) -> {
+            R cached = lookup(lazy, ArgsKey.probe()
+                                           .set(t1, t2, t3, t4));
+            return cached != null ? cached
+                    : lazy.computeIfAbsent(ArgsKey.of(t1, t2, t3, t4), k -> fn.apply(t1, t2, t3, t4));
+        };
     }
 
     /**
@@ -183,6 +213,15 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, T4, R> QuadFunction<T1, T2, T3, T4, R> memoizeQuadFunction(QuadFunction<T1, T2, T3, T4, R> fn, Cacheable<R> cache) {
+        if (cache instanceof MemoizeCache) {
+            MemoizeCache<R> memoizeCache = (MemoizeCache<R>) cache;
+            return (t1, t2, t3, t4) -> {
+                R cached = lookup(memoizeCache, ArgsKey.probe()
+                                                       .set(t1, t2, t3, t4));
+                return cached != null ? cached
+                        : memoizeCache.computeIfAbsent(ArgsKey.of(t1, t2, t3, t4), k -> fn.apply(t1, t2, t3, t4));
+            };
+        }
         val memoise2 = memoizeFunction((Tuple4<T1, T2, T3, T4> quad) -> fn.apply(quad.v1, quad.v2, quad.v3, quad.v4), cache);
         return (t1, t2, t3, t4) -> memoise2.apply(tuple(t1, t2, t3, t4));
     }
@@ -210,4 +249,23 @@ public class Memoize {
         return (t) -> memoised.apply(t);
     }
 
+    /*
+     * Lookup using this thread's probe key, so hits on multi-argument functions don't allocate a key
+     */
+    private static <R> R lookup(Map<ArgsKey, R> cache, ArgsKey probe) {
+        try {
+            return cache.get(probe);
+        } finally {
+            probe.clear();
+        }
+    }
+
+    private static <R> R lookup(MemoizeCache<R> cache, ArgsKey probe) {
+        try {
+            return cache.getIfPresent(probe);
+        } finally {
+            probe.clear();
+        }
+    }
+
 }
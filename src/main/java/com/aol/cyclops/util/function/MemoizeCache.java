@@ -0,0 +1,615 @@
+package com.aol.cyclops.util.function;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded, evicting Cacheable for use with {@link Memoize} and LazyReact#autoMemoizeOn.
+ *
+ * Entries can be bounded by size (LRU or W-TinyLFU eviction), expired a fixed time after they were written or last
+ * read, and have their values held by weak or soft references. Hits, misses, evictions and load times are recorded and
+ * available via {@link #stats()}.
+ *
+ * <pre>
+ * {@code
+ *    MemoizeCache<Integer> cache = MemoizeCache.<Integer> tinyLfu(10_000)
+ *                                              .withExpireAfterWrite(10, TimeUnit.MINUTES);
+ *
+ *    BiFunction<Integer, Integer, Integer> add = Memoize.memoizeBiFunction((a, b) -> a + b, cache);
+ *    add.apply(1, 2);
+ *    cache.stats().hitRate();
+ * }</pre>
+ *
+ * Reads are lock free, the eviction policy is updated under a lock that reads only try to acquire (so under heavy
+ * contention some accesses are not recorded by the policy). As with ConcurrentHashMap#computeIfAbsent, null values are
+ * not cached. Unlike it, values are computed outside of any lock, so two threads missing on the same key at once may
+ * both compute it (the first value stored is returned to both).
+ *
+ * @author johnmcclean
+ *
+ * @param <OUT> Type of cached values
+ */
+public final class MemoizeCache<OUT> implements Cacheable<OUT>, SoftenedCacheable<OUT> {
+
+    /**
+     * Size based eviction policies
+     */
+    public static enum Eviction {
+        /**
+         * Evict the least recently used entry
+         */
+        LRU,
+        /**
+         * Window TinyLFU : new entries enter a small LRU window, and are only admitted to the main (segmented LRU)
+         * region if they have been used more frequently than the entry they would evict
+         */
+        TINY_LFU
+    }
+
+    private static enum Values {
+        STRONG, WEAK, SOFT
+    }
+
+    private static final int NEW = 0;
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+    private static final int DEAD = 4;
+
+    private final long maximumSize;
+    private final Eviction eviction;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final Values values;
+
+    private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReferenceQueue<OUT> collected;
+    private final FrequencySketch sketch;
+    private final boolean tracksAccess;
+
+    //guarded by lock
+    private final AccessOrder window = new AccessOrder();
+    private final AccessOrder probation = new AccessOrder();
+    private final AccessOrder protectedRegion = new AccessOrder();
+    private final WriteOrder writeOrder = new WriteOrder();
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+    private long windowSize;
+    private long mainSize;
+    private long protectedSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+
+    private MemoizeCache(long maximumSize, Eviction eviction, long expireAfterWriteNanos, long expireAfterAccessNanos, Values values) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException(
+                                               "Maximum size must not be negative");
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.values = values;
+        this.collected = values == Values.STRONG ? null : new ReferenceQueue<>();
+        this.tracksAccess = maximumSize != Long.MAX_VALUE || expireAfterAccessNanos > 0;
+        if (eviction == Eviction.TINY_LFU && maximumSize != Long.MAX_VALUE) {
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.mainMaximum = Math.max(0, maximumSize - windowMaximum);
+            this.protectedMaximum = (long) (mainMaximum * 0.8);
+            this.sketch = new FrequencySketch(
+                                              maximumSize);
+        } else {
+            this.windowMaximum = maximumSize;
+            this.mainMaximum = 0;
+            this.protectedMaximum = 0;
+            this.sketch = null;
+        }
+    }
+
+    /**
+     * @return Cache with no size bound (configure expiry or weak / soft values with the withXXX methods)
+     */
+    public static <OUT> MemoizeCache<OUT> unbounded() {
+        return new MemoizeCache<>(
+                                  Long.MAX_VALUE, Eviction.LRU, 0, 0, Values.STRONG);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries
+     * @return Cache that evicts the least recently used entry once maximumSize is exceeded
+     */
+    public static <OUT> MemoizeCache<OUT> lru(long maximumSize) {
+        return new MemoizeCache<>(
+                                  maximumSize, Eviction.LRU, 0, 0, Values.STRONG);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries
+     * @return Cache that uses Window TinyLFU eviction once maximumSize is exceeded
+     */
+    public static <OUT> MemoizeCache<OUT> tinyLfu(long maximumSize) {
+        return new MemoizeCache<>(
+                                  maximumSize, Eviction.TINY_LFU, 0, 0, Values.STRONG);
+    }
+
+    /**
+     * @param duration Time after an entry is written that it expires
+     * @param unit Unit of duration
+     * @return New (empty) cache with this configuration, plus expire after write
+     */
+    public MemoizeCache<OUT> withExpireAfterWrite(long duration, TimeUnit unit) {
+        return new MemoizeCache<>(
+                                  maximumSize, eviction, positive(duration, unit), expireAfterAccessNanos, values);
+    }
+
+    /**
+     * @param duration Time after an entry is last read (or written) that it expires
+     * @param unit Unit of duration
+     * @return New (empty) cache with this configuration, plus expire after access
+     */
+    public MemoizeCache<OUT> withExpireAfterAccess(long duration, TimeUnit unit) {
+        return new MemoizeCache<>(
+                                  maximumSize, eviction, expireAfterWriteNanos, positive(duration, unit), values);
+    }
+
+    /**
+     * @return New (empty) cache with this configuration, that holds values by WeakReference
+     */
+    public MemoizeCache<OUT> withWeakValues() {
+        return new MemoizeCache<>(
+                                  maximumSize, eviction, expireAfterWriteNanos, expireAfterAccessNanos, Values.WEAK);
+    }
+
+    /**
+     * @return New (empty) cache with this configuration, that holds values by SoftReference
+     */
+    public MemoizeCache<OUT> withSoftValues() {
+        return new MemoizeCache<>(
+                                  maximumSize, eviction, expireAfterWriteNanos, expireAfterAccessNanos, Values.SOFT);
+    }
+
+    private static long positive(long duration, TimeUnit unit) {
+        if (duration <= 0)
+            throw new IllegalArgumentException(
+                                               "Expiry duration must be positive");
+        return unit.toNanos(duration);
+    }
+
+    /**
+     * Already unchecked
+     */
+    @Override
+    public SoftenedCacheable<OUT> soften() {
+        return this;
+    }
+
+    @Override
+    public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) {
+        OUT value = getIfPresent(key);
+        if (value != null)
+            return value;
+        misses.increment();
+        return load(key, fn);
+    }
+
+    /**
+     * @param key Key to lookup
+     * @return Cached value (recorded as a hit), or null if absent (not recorded as a miss)
+     */
+    public OUT getIfPresent(Object key) {
+        Node node = data.get(key);
+        if (node == null)
+            return null;
+        long now = ticker();
+        OUT value = value(node);
+        if (value == null || isExpired(node, now)) {
+            remove(node);
+            return null;
+        }
+        hits.increment();
+        if (tracksAccess)
+            afterRead(node, now);
+        return value;
+    }
+
+    private OUT load(Object key, Function<Object, OUT> fn) {
+        long start = System.nanoTime();
+        OUT value = fn.apply(key);
+        long end = System.nanoTime();
+        loads.increment();
+        loadTime.add(end - start);
+        if (value == null)
+            return null;
+
+        Node node = new Node(
+                             key, wrap(value, key), end);
+        Node prior = data.putIfAbsent(key, node);
+        if (prior != null) {
+            OUT existing = value(prior);
+            if (existing != null && !isExpired(prior, end))
+                return existing; //another thread loaded this key first
+            if (!data.replace(key, prior, node))
+                return value; //replaced again concurrently, return this result without caching it
+            remove(prior);
+        }
+        afterWrite(node, end);
+        return value;
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            for (Node node : data.values())
+                unlink(node);
+            data.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove expired and garbage collected entries now, rather than as part of later cache operations
+     */
+    public void cleanUp() {
+        lock.lock();
+        try {
+            maintenance(ticker());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Approximate number of cached entries
+     */
+    public long estimatedSize() {
+        return data.size();
+    }
+
+    /**
+     * @return Snapshot of the statistics recorded so far
+     */
+    public CacheStats stats() {
+        return new CacheStats(
+                              hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadTime.sum());
+    }
+
+    private long ticker() {
+        return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0 ? System.nanoTime() : 0;
+    }
+
+    private boolean isExpired(Node node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private Object wrap(OUT value, Object key) {
+        switch (values) {
+        case WEAK:
+            return new WeakValue<>(
+                                   value, key, collected);
+        case SOFT:
+            return new SoftValue<>(
+                                   value, key, collected);
+        default:
+            return value;
+        }
+    }
+
+    private OUT value(Node node) {
+        return values == Values.STRONG ? (OUT) node.value : ((Reference<OUT>) node.value).get();
+    }
+
+    private void afterRead(Node node, long now) {
+        if (expireAfterAccessNanos > 0)
+            node.accessTime = now;
+        if (lock.tryLock()) { //skip recording the access rather than block
+            try {
+                onAccess(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node node, long now) {
+        lock.lock();
+        try {
+            if (node.queue == DEAD) //removed before it was linked
+                return;
+            if (sketch != null)
+                sketch.increment(node.key);
+            if (expireAfterWriteNanos > 0)
+                writeOrder.add(node);
+            node.queue = WINDOW;
+            window.add(node);
+            windowSize++;
+            evict();
+            maintenance(now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node node) {
+        switch (node.queue) {
+        case WINDOW:
+            if (sketch != null)
+                sketch.increment(node.key);
+            window.moveToBack(node);
+            break;
+        case PROBATION:
+            sketch.increment(node.key);
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedRegion.add(node);
+            protectedSize++;
+            if (protectedSize > protectedMaximum) {
+                Node demoted = protectedRegion.first();
+                protectedRegion.remove(demoted);
+                protectedSize--;
+                demoted.queue = PROBATION;
+                probation.add(demoted);
+            }
+            break;
+        case PROTECTED:
+            sketch.increment(node.key);
+            protectedRegion.moveToBack(node);
+            break;
+        default: //not linked yet, or already removed
+            break;
+        }
+    }
+
+    private void evict() {
+        if (maximumSize == Long.MAX_VALUE)
+            return;
+        while (windowSize > windowMaximum) {
+            Node candidate = window.first();
+            if (sketch == null || mainMaximum == 0) {
+                evict(candidate);
+                continue;
+            }
+            window.remove(candidate);
+            windowSize--;
+            if (mainSize < mainMaximum) {
+                candidate.queue = PROBATION;
+                probation.add(candidate);
+                mainSize++;
+                continue;
+            }
+            Node victim = probation.first() != null ? probation.first() : protectedRegion.first();
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+                candidate.queue = PROBATION;
+                probation.add(candidate);
+                mainSize++;
+            } else {
+                candidate.queue = NEW; //already unlinked from the window
+                evictUnlinked(candidate);
+            }
+        }
+    }
+
+    private void maintenance(long now) {
+        if (collected != null) {
+            Reference<? extends OUT> next;
+            while ((next = collected.poll()) != null) {
+                Object key = ((CollectableValue) next).key();
+                Node node = data.get(key);
+                if (node != null && node.value == next)
+                    evict(node);
+            }
+        }
+        if (expireAfterWriteNanos > 0) {
+            Node next;
+            while ((next = writeOrder.first()) != null && now - next.writeTime >= expireAfterWriteNanos)
+                evict(next);
+        }
+        if (expireAfterAccessNanos > 0) {
+            expireAccessed(window, now);
+            expireAccessed(probation, now);
+            expireAccessed(protectedRegion, now);
+        }
+    }
+
+    private void expireAccessed(AccessOrder order, long now) {
+        Node next;
+        while ((next = order.first()) != null && now - next.accessTime >= expireAfterAccessNanos)
+            evict(next);
+    }
+
+    /*
+     * Remove an entry that is still linked, called with the lock held
+     */
+    private void evict(Node node) {
+        unlink(node);
+        evictUnlinked(node);
+    }
+
+    private void evictUnlinked(Node node) {
+        node.queue = DEAD;
+        writeOrder.remove(node);
+        if (data.remove(node.key, node))
+            evictions.increment();
+    }
+
+    /*
+     * Remove an entry found to be expired or collected on read
+     */
+    private void remove(Node node) {
+        if (data.remove(node.key, node))
+            evictions.increment();
+        lock.lock();
+        try {
+            unlink(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlink(Node node) {
+        switch (node.queue) {
+        case WINDOW:
+            window.remove(node);
+            windowSize--;
+            break;
+        case PROBATION:
+            probation.remove(node);
+            mainSize--;
+            break;
+        case PROTECTED:
+            protectedRegion.remove(node);
+            protectedSize--;
+            mainSize--;
+            break;
+        default:
+            break;
+        }
+        writeOrder.remove(node);
+        node.queue = DEAD;
+    }
+
+    private static final class Node {
+        final Object key;
+        final Object value;
+        final long writeTime;
+        volatile long accessTime;
+
+        //guarded by lock
+        int queue = NEW;
+        Node prev;
+        Node next;
+        Node writePrev;
+        Node writeNext;
+        boolean inWriteOrder;
+
+        Node(Object key, Object value, long now) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    private static final class AccessOrder {
+        private Node head;
+        private Node tail;
+
+        Node first() {
+            return head;
+        }
+
+        void add(Node node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null)
+                head = node;
+            else
+                tail.next = node;
+            tail = node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null)
+                head = node.next;
+            else
+                node.prev.next = node.next;
+            if (node.next == null)
+                tail = node.prev;
+            else
+                node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node node) {
+            if (node != tail) {
+                remove(node);
+                add(node);
+            }
+        }
+    }
+
+    private static final class WriteOrder {
+        private Node head;
+        private Node tail;
+
+        Node first() {
+            return head;
+        }
+
+        void add(Node node) {
+            node.inWriteOrder = true;
+            node.writePrev = tail;
+            if (tail == null)
+                head = node;
+            else
+                tail.writeNext = node;
+            tail = node;
+        }
+
+        void remove(Node node) {
+            if (!node.inWriteOrder)
+                return;
+            node.inWriteOrder = false;
+            if (node.writePrev == null)
+                head = node.writeNext;
+            else
+                node.writePrev.writeNext = node.writeNext;
+            if (node.writeNext == null)
+                tail = node.writePrev;
+            else
+                node.writeNext.writePrev = node.writePrev;
+            node.writePrev = null;
+            node.writeNext = null;
+        }
+    }
+
+    private static interface CollectableValue {
+        Object key();
+    }
+
+    private static final class WeakValue<V> extends WeakReference<V> implements CollectableValue {
+        private final Object key;
+
+        WeakValue(V value, Object key, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+
+        @Override
+        public Object key() {
+            return key;
+        }
+    }
+
+    private static final class SoftValue<V> extends SoftReference<V> implements CollectableValue {
+        private final Object key;
+
+        SoftValue(V value, Object key, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+
+        @Override
+        public Object key() {
+            return key;
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.aol.cyclops.util.function;
 
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -17,6 +15,7 @@ import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.internal.matcher2.ADTPredicateBuilder;
+import com.aol.cyclops.internal.matcher2.Guards;
 import com.aol.cyclops.types.Value;
 
 import lombok.NoArgsConstructor;
@@ -349,7 +348,7 @@ public class Predicates {
      */
     public static <V> Predicate<V> eq(V value) {
 
-        return test -> Objects.equals(test, value);
+        return Guards.equalTo(value);
     }
 
     /**
@@ -399,9 +398,8 @@ public class Predicates {
 
     @SafeVarargs
     public static <T1> Predicate<T1> in(T1... values){
-    return test -> Arrays.asList(values)
-                         .contains(test);
-}
+        return Guards.equalTo((Object[]) values);
+    }
 
 public static <T1 extends Comparable<T1>> Predicate<? super T1> greaterThan(T1 v) {
         return test -> test.compareTo(v) > 0;
@@ -462,7 +460,7 @@ public static <T1> Predicate<Iterable<? super T1>> endsWith(T1... items) {
 
 public static <T1> Predicate<? super T1> instanceOf(Class<?> clazz) {
 
-        return test -> clazz.isAssignableFrom(test.getClass());
+        return Guards.instanceOf(clazz);
     }
 
     @SafeVarargs
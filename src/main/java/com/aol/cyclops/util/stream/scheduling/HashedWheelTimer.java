@@ -0,0 +1,248 @@
+package com.aol.cyclops.util.stream.scheduling;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel : a single thread advances a fixed size wheel of buckets one tick at a time, and hands each
+ * expired task to an Executor. Scheduling is O(1), and thousands of timers cost one thread rather than one
+ * ScheduledExecutorService task queue entry each. Timing is accurate to the tick duration. When no timers are
+ * pending, the wheel thread parks until the next one is scheduled.
+ *
+ * <pre>
+ * {@code
+ *    HashedWheelTimer timer = HashedWheelTimer.shared();
+ *    ReactiveSeq.generate(this::poll)
+ *               .scheduleFixedRate(100, timer)
+ *               .connect()
+ *               .forEach(this::process);
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class HashedWheelTimer {
+
+    private static final AtomicInteger COUNT = new AtomicInteger(
+                                                                 0);
+    private static volatile HashedWheelTimer shared;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor dispatch;
+    private final ConcurrentLinkedQueue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long start;
+    private volatile boolean idle = false;
+    private volatile boolean stopped = false;
+
+    //accessed only from the wheel thread
+    private long tick = 0;
+    private int active = 0;
+
+    /**
+     * @param tickDuration Duration of one tick of the wheel
+     * @param unit Unit of the tick duration
+     * @param wheelSize Number of buckets (rounded up to a power of 2)
+     * @param dispatch Executor that expired tasks are run on
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize, Executor dispatch) {
+        if (tickDuration < 1 || wheelSize < 1)
+            throw new IllegalArgumentException(
+                                               "Tick duration and wheel size must be positive");
+        this.tickNanos = unit.toNanos(tickDuration);
+        int size = 1;
+        while (size < wheelSize)
+            size <<= 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++)
+            wheel[i] = new Bucket();
+        this.mask = size - 1;
+        this.dispatch = Objects.requireNonNull(dispatch);
+        this.start = System.nanoTime();
+        this.worker = new Thread(
+                                 this::run, "hashed-wheel-timer-" + COUNT.incrementAndGet());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * @return A shared timer with a 1 millisecond tick, that runs expired tasks on the common ForkJoinPool
+     */
+    public static HashedWheelTimer shared() {
+        HashedWheelTimer timer = shared;
+        if (timer == null) {
+            synchronized (HashedWheelTimer.class) {
+                if (shared == null)
+                    shared = new HashedWheelTimer(
+                                                  1, TimeUnit.MILLISECONDS, 512, ForkJoinPool.commonPool());
+                timer = shared;
+            }
+        }
+        return timer;
+    }
+
+    /**
+     * Run a task once, after the specified delay
+     *
+     * @param task Task to run
+     * @param delay Delay before running the task
+     * @param unit Unit of the delay
+     * @return Handle that can be used to cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task);
+        if (stopped)
+            throw new IllegalStateException(
+                                            "Timer has been stopped");
+        Timeout timeout = new Timeout(
+                                      task, System.nanoTime() - start + Math.max(0, unit.toNanos(delay)));
+        scheduled.add(timeout);
+        if (idle)
+            LockSupport.unpark(worker);
+        return timeout;
+    }
+
+    /**
+     * Stop the timer thread, pending tasks will not be run
+     */
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(worker);
+    }
+
+    private void run() {
+        while (!stopped) {
+            if (active == 0 && scheduled.isEmpty()) {
+                idle = true;
+                if (scheduled.isEmpty() && !stopped)
+                    LockSupport.park(this);
+                idle = false;
+                tick = Math.max(tick, (System.nanoTime() - start) / tickNanos); //nothing in the wheel to catch up on
+            }
+            long deadline = (tick + 1) * tickNanos;
+            long wait;
+            while ((wait = deadline - (System.nanoTime() - start)) > 0 && !stopped)
+                LockSupport.parkNanos(this, wait);
+            transferScheduled();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferScheduled() {
+        Timeout next;
+        while ((next = scheduled.poll()) != null) {
+            if (next.state.get() == Timeout.CANCELLED)
+                continue;
+            long ticks = Math.max(next.deadline / tickNanos, tick); //never schedule into a bucket already passed
+            next.rounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(next);
+            active++;
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        Timeout next = bucket.head;
+        while (next != null) {
+            Timeout following = next.next;
+            if (next.state.get() == Timeout.CANCELLED) {
+                bucket.remove(next);
+                active--;
+            } else if (next.rounds <= 0) {
+                bucket.remove(next);
+                active--;
+                if (next.state.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                    try {
+                        dispatch.execute(next.task);
+                    } catch (Throwable t) {
+                        //a rejected or failing task should not stop the wheel
+                    }
+                }
+            } else {
+                next.rounds--;
+            }
+            next = following;
+        }
+    }
+
+    /**
+     * Handle to a scheduled task
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(
+                                                              WAITING);
+        private long rounds;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task was cancelled before it was run
+         */
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        /**
+         * @return true if this task has been cancelled
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * @return true if this task has been handed to the Executor
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    /*
+     * Intrusive doubly linked list of Timeouts, accessed only from the wheel thread
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null)
+                timeout.prev.next = timeout.next;
+            if (timeout.next != null)
+                timeout.next.prev = timeout.prev;
+            if (timeout == head)
+                head = timeout.next;
+            if (timeout == tail)
+                tail = timeout.prev;
+            timeout.next = null;
+            timeout.prev = null;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.aol.cyclops.util.stream.scheduling.cron;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * A cron expression compiled to bitsets (one per field), for repeated next fire time calculations.
+ *
+ * Parsing is delegated to {@link CronExpression}, so the same syntax is accepted. Once compiled, computing the next fire
+ * time is integer arithmetic over the bitsets and does not allocate. Expressions that use the 'L', 'W' or '#' day
+ * modifiers or restrict the year fall back to {@link CronExpression#getNextValidTimeAfter(Date)}.
+ *
+ * <pre>
+ * {@code
+ *    CompiledCron everyFiveSeconds = CompiledCron.compile("0/5 * * * * ?");
+ *    long next = everyFiveSeconds.nextFireAfter(System.currentTimeMillis());
+ * }</pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class CompiledCron {
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int MAX_YEARS_AHEAD = 400;
+
+    private final CronExpression expression;
+    private final TimeZone timeZone;
+    private final boolean fallback;
+
+    private final long seconds;
+    private final long minutes;
+    private final int hours;
+    private final int daysOfMonth;
+    private final int months;
+    private final int daysOfWeek;
+    private final boolean anyDayOfMonth;
+    private final boolean anyDayOfWeek;
+
+    private CompiledCron(CronExpression expression) {
+        this.expression = expression;
+        this.timeZone = expression.getTimeZone();
+        this.fallback = expression.lastdayOfMonth || expression.lastdayOfWeek || expression.nearestWeekday
+                || expression.nthdayOfWeek != 0 || !expression.years.contains(CronExpression.ALL_SPEC);
+        this.seconds = bits(expression.seconds, 0, 59);
+        this.minutes = bits(expression.minutes, 0, 59);
+        this.hours = (int) bits(expression.hours, 0, 23);
+        this.daysOfMonth = (int) bits(expression.daysOfMonth, 1, 31);
+        this.months = (int) bits(expression.months, 1, 12);
+        this.daysOfWeek = (int) bits(expression.daysOfWeek, 1, 7);
+        this.anyDayOfMonth = expression.daysOfMonth.contains(CronExpression.NO_SPEC);
+        this.anyDayOfWeek = expression.daysOfWeek.contains(CronExpression.NO_SPEC);
+    }
+
+    private static long bits(Set<Integer> values, int min, int max) {
+        long bits = 0;
+        for (Integer value : values) {
+            if (value >= min && value <= max) //skip the '*' and '?' markers
+                bits |= 1l << value;
+        }
+        return bits;
+    }
+
+    /**
+     * Compile a cron expression, in the default TimeZone
+     *
+     * @param cron Cron expression
+     * @return Compiled cron expression
+     * @throws ParseException If the expression is invalid
+     */
+    public static CompiledCron compile(String cron) throws ParseException {
+        return new CompiledCron(
+                                new CronExpression(
+                                                   cron));
+    }
+
+    /**
+     * Compile a cron expression
+     *
+     * @param cron Cron expression
+     * @param timeZone TimeZone the expression is evaluated in
+     * @return Compiled cron expression
+     * @throws ParseException If the expression is invalid
+     */
+    public static CompiledCron compile(String cron, TimeZone timeZone) throws ParseException {
+        CronExpression expression = new CronExpression(
+                                                       cron);
+        expression.setTimeZone(timeZone);
+        return new CompiledCron(
+                                expression);
+    }
+
+    /**
+     * @return Cron expression this was compiled from
+     */
+    public String getCronExpression() {
+        return expression.getCronExpression();
+    }
+
+    /**
+     * @param date Date to search from
+     * @return Next fire time strictly after date (at second resolution), or null if there is none
+     */
+    public Date getNextValidTimeAfter(Date date) {
+        long next = nextFireAfter(date.getTime());
+        return next == -1 ? null : new Date(
+                                            next);
+    }
+
+    /**
+     * @param epochMillis Time to search from
+     * @return Next fire time (in epoch millis) strictly after epochMillis, at second resolution, or -1 if there is none
+     */
+    public long nextFireAfter(long epochMillis) {
+        if (fallback) {
+            Date next = expression.getNextValidTimeAfter(new Date(
+                                                                  epochMillis));
+            return next == null ? -1 : next.getTime();
+        }
+        long local = Math.floorDiv(epochMillis + timeZone.getOffset(epochMillis), 1000) + 1;
+        for (;;) {
+            long next = nextLocal(local);
+            if (next == -1)
+                return -1;
+            long utc = toUtcMillis(next * 1000);
+            if (utc > epochMillis)
+                return utc;
+            local = next + 1; //repeated local time as clocks go back
+        }
+    }
+
+    /*
+     * Next matching local time, in seconds since the local epoch, at or after localSeconds
+     */
+    private long nextLocal(long localSeconds) {
+        long t = localSeconds;
+        final long limit = Math.floorDiv(t, SECONDS_PER_DAY) + MAX_YEARS_AHEAD * 366l;
+        for (;;) {
+            long epochDay = Math.floorDiv(t, SECONDS_PER_DAY);
+            if (epochDay > limit)
+                return -1;
+            int secondOfDay = (int) (t - epochDay * SECONDS_PER_DAY);
+
+            long yearMonthDay = civil(epochDay);
+            int year = (int) (yearMonthDay >> 9);
+            int month = (int) (yearMonthDay >> 5) & 0xF;
+            int day = (int) yearMonthDay & 0x1F;
+
+            if ((months & (1 << month)) == 0) {
+                t = nextMonth(epochDay, year, month, day);
+                continue;
+            }
+            if (!dayMatches(epochDay, day)) {
+                t = (epochDay + 1) * SECONDS_PER_DAY;
+                continue;
+            }
+
+            int hour = secondOfDay / 3600;
+            int minute = (secondOfDay / 60) % 60;
+            int second = secondOfDay % 60;
+            long dayStart = epochDay * SECONDS_PER_DAY;
+
+            int nextHour = nextBit(hours, hour);
+            if (nextHour == -1) {
+                t = dayStart + SECONDS_PER_DAY;
+                continue;
+            }
+            if (nextHour != hour) {
+                t = dayStart + nextHour * 3600;
+                continue;
+            }
+            int nextMinute = nextBit(minutes, minute);
+            if (nextMinute == -1) {
+                t = dayStart + (hour + 1) * 3600;
+                continue;
+            }
+            if (nextMinute != minute) {
+                t = dayStart + hour * 3600 + nextMinute * 60;
+                continue;
+            }
+            int nextSecond = nextBit(seconds, second);
+            if (nextSecond == -1) {
+                t = dayStart + hour * 3600 + (minute + 1) * 60;
+                continue;
+            }
+            return dayStart + hour * 3600 + minute * 60 + nextSecond;
+        }
+    }
+
+    private boolean dayMatches(long epochDay, int day) {
+        int dayOfWeek = (int) Math.floorMod(epochDay + 4, 7) + 1; //1970-01-01 was a Thursday, Sunday is 1
+        return (anyDayOfMonth || (daysOfMonth & (1 << day)) != 0) && (anyDayOfWeek || (daysOfWeek & (1 << dayOfWeek)) != 0);
+    }
+
+    private long nextMonth(long epochDay, int year, int month, int day) {
+        long firstOfMonth = epochDay - (day - 1);
+        int y = year;
+        int m = month;
+        do {
+            firstOfMonth += lengthOfMonth(y, m);
+            if (++m > 12) {
+                m = 1;
+                y++;
+            }
+        } while ((months & (1 << m)) == 0);
+        return firstOfMonth * SECONDS_PER_DAY;
+    }
+
+    private static int nextBit(long bits, int from) {
+        long remaining = bits & (-1l << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /*
+     * Days since 1970-01-01 to a packed proleptic Gregorian year (bits 9+), month (bits 5-8) and day (bits 0-4)
+     */
+    private static long civil(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    private long toUtcMillis(long localMillis) {
+        int offset = timeZone.getOffset(localMillis - timeZone.getRawOffset());
+        long utc = localMillis - offset;
+        int actual = timeZone.getOffset(utc);
+        return actual == offset ? utc : localMillis - actual; //local time fell in a gap as clocks went forward
+    }
+
+    @Override
+    public String toString() {
+        return expression.toString();
+    }
+}
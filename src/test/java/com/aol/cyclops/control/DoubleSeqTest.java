@@ -0,0 +1,41 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+import org.junit.Test;
+
+public class DoubleSeqTest {
+
+	@Test
+	public void slidingAndGrouped() {
+		assertThat(DoubleSeq.of(1,2,3).sliding(2).map(Arrays::toString).toList(),equalTo(Arrays.asList("[1.0, 2.0]","[2.0, 3.0]")));
+		assertThat(DoubleSeq.of(1,2,3).grouped(2).map(Arrays::toString).toList(),equalTo(Arrays.asList("[1.0, 2.0]","[3.0]")));
+	}
+	@Test
+	public void scanLeftAndLimitWhile() {
+		assertArrayEquals(new double[]{0,0.5,1.5},DoubleSeq.of(0.5,1,2).scanLeft(0,(a,b)->a+b).limitWhile(d->d<2).toArray(),0);
+		assertArrayEquals(new double[]{2},DoubleSeq.of(0.5,1,2).skipUntil(d->d>1).toArray(),0);
+	}
+	@Test
+	public void zipWithIndex() {
+		assertThat(DoubleSeq.of(0.5,1.5).zipWithIndex((v,i)->v*i).toList(),equalTo(Arrays.asList(0.0,1.5)));
+	}
+	@Test
+	public void reductions() {
+		assertThat(DoubleSeq.of(1.5,2.5,3.5,4.5).percentile(50),equalTo(OptionalDouble.of(2.5)));
+		assertThat(DoubleSeq.of(1.5,2.5,3.5,4.5).median(),equalTo(OptionalDouble.of(3)));
+		assertThat(DoubleSeq.of(1,2,3).avg(),equalTo(OptionalDouble.of(2)));
+		assertThat(DoubleSeq.of(1,2,3).max(),equalTo(OptionalDouble.of(3)));
+	}
+	@Test
+	public void conversions() {
+		assertThat(DoubleSeq.of(1,2).boxed().toList(),equalTo(Arrays.asList(1.0,2.0)));
+		assertThat(DoubleSeq.of(1.2,2.7).mapToLong(d->Math.round(d)).sum(),equalTo(4l));
+		assertThat(ReactiveSeq.of("a","bb").mapToDoubleSeq(String::length).sum(),equalTo(3.0));
+	}
+}
@@ -0,0 +1,98 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class IntSeqTest {
+
+	private List<List<Integer>> lists(ReactiveSeq<int[]> windows){
+		return windows.map(a->IntStream.of(a).boxed().collect(Collectors.toList())).toList();
+	}
+	@Test
+	public void slidingMatchesReactiveSeq() {
+		assertThat(lists(IntSeq.of(1,2,3,4,5,6).sliding(2)),
+				equalTo(ReactiveSeq.of(1,2,3,4,5,6).sliding(2).map(l->(List<Integer>)l).toList()));
+	}
+	@Test
+	public void slidingIncrementMatchesReactiveSeq() {
+		assertThat(lists(IntSeq.of(1,2,3,4,5,6).sliding(3,2)),
+				equalTo(ReactiveSeq.of(1,2,3,4,5,6).sliding(3,2).map(l->(List<Integer>)l).toList()));
+	}
+	@Test
+	public void slidingShortAndEmpty() {
+		assertThat(lists(IntSeq.of(1,2).sliding(3)),equalTo(Arrays.asList(Arrays.asList(1,2))));
+		assertThat(IntSeq.empty().sliding(3).count(),equalTo(0l));
+	}
+	@Test
+	public void grouped() {
+		assertThat(lists(IntSeq.of(1,2,3,4,5,6).grouped(4)),
+				equalTo(Arrays.asList(Arrays.asList(1,2,3,4),Arrays.asList(5,6))));
+		assertThat(lists(IntSeq.of(1,2,3,4).batchBySize(2)),
+				equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4))));
+		assertThat(IntSeq.empty().grouped(3).count(),equalTo(0l));
+	}
+	@Test
+	public void scanLeft() {
+		assertArrayEquals(new int[]{0,1,3,6},IntSeq.of(1,2,3).scanLeft(0,(a,b)->a+b).toArray());
+		assertArrayEquals(new int[]{0},IntSeq.empty().scanLeft(0,(a,b)->a+b).toArray());
+	}
+	@Test
+	public void zipWithIndex() {
+		assertThat(IntSeq.of(10,20).zipWithIndex((v,i)->v+":"+i).toList(),equalTo(Arrays.asList("10:0","20:1")));
+	}
+	@Test
+	public void limitWhile() {
+		assertArrayEquals(new int[]{3,4},IntSeq.of(4,3,6,7).sorted().limitWhile(i->i<6).toArray());
+		assertArrayEquals(new int[]{3,4},IntSeq.of(4,3,6,7).sorted().limitUntil(i->i>=6).toArray());
+		assertArrayEquals(new int[]{0,1,2},IntSeq.iterate(0,i->i+1).limitWhile(i->i<3).toArray());
+	}
+	@Test
+	public void skipWhile() {
+		assertArrayEquals(new int[]{6,7},IntSeq.of(4,3,6,7).sorted().skipWhile(i->i<6).toArray());
+		assertArrayEquals(new int[]{6,7},IntSeq.of(4,3,6,7).sorted().skipUntil(i->i>=6).toArray());
+		assertArrayEquals(new int[]{},IntSeq.of(1,2).skipWhile(i->true).toArray());
+	}
+	@Test
+	public void reductions() {
+		assertThat(IntSeq.range(1,101).sum(),equalTo(5050));
+		assertThat(IntSeq.range(1,101).avg(),equalTo(OptionalDouble.of(50.5)));
+		assertThat(IntSeq.range(1,101).percentile(90),equalTo(OptionalInt.of(90)));
+		assertThat(IntSeq.range(1,101).percentile(0),equalTo(OptionalInt.of(1)));
+		assertThat(IntSeq.range(1,101).percentile(100),equalTo(OptionalInt.of(100)));
+		assertThat(IntSeq.of(5,1,3).median(),equalTo(OptionalDouble.of(3)));
+		assertThat(IntSeq.of(4,1,3,2).median(),equalTo(OptionalDouble.of(2.5)));
+		assertFalse(IntSeq.empty().percentile(50).isPresent());
+		assertFalse(IntSeq.empty().median().isPresent());
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidPercentile() {
+		IntSeq.of(1).percentile(101);
+	}
+	@Test
+	public void conversions() {
+		assertThat(IntSeq.of(1,2).boxed().toList(),equalTo(Arrays.asList(1,2)));
+		assertThat(IntSeq.of(1,2).mapToLong(i->i*10l).sum(),equalTo(30l));
+		assertArrayEquals(new double[]{1,2},IntSeq.of(1,2).asDoubleStream().toArray(),0);
+		assertTrue(IntSeq.fromIntStream(IntStream.of(1)) instanceof IntSeq);
+		assertThat(ReactiveSeq.of("a","bb","ccc").mapToIntSeq(String::length).percentile(50),equalTo(OptionalInt.of(2)));
+	}
+	@Test
+	public void onClose() {
+		boolean[] closed = {false};
+		IntSeq seq = IntSeq.fromIntStream(IntStream.of(1,2,3).onClose(()->closed[0]=true));
+		seq.scanLeft(0,(a,b)->a+b).close();
+		assertTrue(closed[0]);
+	}
+}
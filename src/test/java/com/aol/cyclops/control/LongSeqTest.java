@@ -0,0 +1,42 @@
+package com.aol.cyclops.control;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import org.junit.Test;
+
+public class LongSeqTest {
+
+	@Test
+	public void slidingAndGrouped() {
+		assertThat(LongSeq.of(1,2,3).sliding(2).map(Arrays::toString).toList(),equalTo(Arrays.asList("[1, 2]","[2, 3]")));
+		assertThat(LongSeq.range(0,5).grouped(2).map(Arrays::toString).toList(),equalTo(Arrays.asList("[0, 1]","[2, 3]","[4]")));
+	}
+	@Test
+	public void scanLeftAndLimitWhile() {
+		assertArrayEquals(new long[]{0,1,3,6},LongSeq.range(1,10).scanLeft(0,(a,b)->a+b).limitWhile(l->l<10).toArray());
+		assertArrayEquals(new long[]{4,5},LongSeq.range(1,6).skipWhile(l->l<4).toArray());
+	}
+	@Test
+	public void zipWithIndex() {
+		assertThat(LongSeq.of(Long.MAX_VALUE).zipWithIndex((v,i)->v-i).toList(),equalTo(Arrays.asList(Long.MAX_VALUE)));
+	}
+	@Test
+	public void reductions() {
+		assertThat(LongSeq.range(1,101).sum(),equalTo(5050l));
+		assertThat(LongSeq.range(1,101).percentile(99),equalTo(OptionalLong.of(99)));
+		assertThat(LongSeq.of(1,2,3,4).median(),equalTo(OptionalDouble.of(2.5)));
+		assertThat(LongSeq.of(1,2,3).avg(),equalTo(OptionalDouble.of(2)));
+	}
+	@Test
+	public void conversions() {
+		assertThat(LongSeq.of(1,2).boxed().toList(),equalTo(Arrays.asList(1l,2l)));
+		assertThat(LongSeq.of(1,2).mapToInt(l->(int)l).sum(),equalTo(3));
+		assertThat(ReactiveSeq.of("a","bb").mapToLongSeq(String::length).sum(),equalTo(3l));
+	}
+}
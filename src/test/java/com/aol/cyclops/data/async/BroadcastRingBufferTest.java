@@ -0,0 +1,78 @@
+package com.aol.cyclops.data.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.async.BroadcastRingBuffer.Cursor;
+import com.aol.cyclops.data.async.wait.ExponentialBackofWaitStrategy;
+import com.aol.cyclops.data.async.wait.SpinWait;
+import com.aol.cyclops.data.async.wait.YieldWait;
+
+public class BroadcastRingBufferTest {
+
+	@Test
+	public void capacityRoundedToPowerOf2(){
+		assertThat(new BroadcastRingBuffer<Integer>(1000,new YieldWait<>()).capacity(),equalTo(1024));
+		assertThat(new BroadcastRingBuffer<Integer>(8,new YieldWait<>()).capacity(),equalTo(8));
+	}
+	@Test
+	public void allCursorsSeeAllData(){
+		BroadcastRingBuffer<Integer> ring = new BroadcastRingBuffer<>(4,new SpinWait<>());
+		Cursor<Integer> c1 = ring.connect();
+		Cursor<Integer> c2 = ring.connect();
+		ring.offer(1);
+		ring.offer(null);
+		ring.offer(3);
+		ring.close();
+		
+		assertThat(c1.stream().toList(),equalTo(Arrays.asList(1,null,3)));
+		assertThat(c2.stream().toList(),equalTo(Arrays.asList(1,null,3)));
+	}
+	@Test
+	public void producerGatedOnSlowestCursor() throws Exception{
+		BroadcastRingBuffer<Integer> ring = new BroadcastRingBuffer<>(8,new ExponentialBackofWaitStrategy<>());
+		Cursor<Integer> fast = ring.connect();
+		Cursor<Integer> slow = ring.connect();
+		
+		CompletableFuture<List<Integer>> fastResult = CompletableFuture.supplyAsync(()->fast.stream().toList());
+		CompletableFuture<List<Integer>> slowResult = CompletableFuture.supplyAsync(()->slow.stream()
+																				.peek(i->sleep(1))
+																				.toList());
+		for(int i=0;i<100;i++)
+			ring.offer(i);
+		ring.close();
+		
+		List<Integer> expected = java.util.stream.IntStream.range(0,100).boxed().collect(Collectors.toList());
+		assertThat(fastResult.get(),equalTo(expected));
+		assertThat(slowResult.get(),equalTo(expected));
+	}
+	@Test
+	public void disconnectedCursorNoLongerGates(){
+		BroadcastRingBuffer<Integer> ring = new BroadcastRingBuffer<>(2,new YieldWait<>());
+		Cursor<Integer> c1 = ring.connect();
+		ring.disconnect(c1);
+		for(int i=0;i<10;i++)
+			ring.offer(i);
+		assertThat(ring.connections(),equalTo(0));
+	}
+	@Test(expected=Queue.ClosedQueueException.class)
+	public void closedRingRejectsOffers(){
+		BroadcastRingBuffer<Integer> ring = new BroadcastRingBuffer<>(2,new YieldWait<>());
+		ring.close();
+		ring.offer(1);
+	}
+	private void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.aol.cyclops.data.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.async.ConflatingSlot.Cursor;
+import com.aol.cyclops.data.async.Queue.ClosedQueueException;
+
+public class ConflatingSlotTest {
+
+	@Test
+	public void readsLatestSinceLastRead(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>();
+		Cursor<Integer> cursor = slot.connect();
+		slot.offer(1);
+		slot.offer(2);
+		slot.offer(3);
+		assertThat(cursor.next(),equalTo(3));
+		slot.offer(4);
+		assertThat(cursor.next(),equalTo(4));
+	}
+	@Test
+	public void newCursorReadsCurrentValue(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>();
+		slot.offer(10);
+		assertThat(slot.connect().next(),equalTo(10));
+	}
+	@Test
+	public void distinctIgnoresEqualValues(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>(true);
+		assertThat(slot.offer(1),is(true));
+		assertThat(slot.offer(1),is(false));
+		assertThat(slot.offer(2),is(true));
+	}
+	@Test
+	public void distinctCursorSkipsChangedBack(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>(true);
+		Cursor<Integer> cursor = slot.connect();
+		slot.offer(1);
+		assertThat(cursor.next(),equalTo(1));
+		slot.offer(2);
+		slot.offer(1);
+		CompletableFuture<Integer> next = CompletableFuture.supplyAsync(cursor::next);
+		sleep(50);
+		assertThat(next.isDone(),is(false));
+		slot.offer(3);
+		assertThat(next.join(),equalTo(3));
+	}
+	@Test
+	public void closeCompletesAfterLatest(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>();
+		Cursor<Integer> cursor = slot.connect();
+		slot.offer(1);
+		slot.offer(2);
+		slot.close();
+		assertThat(cursor.stream().toList(),equalTo(Arrays.asList(2)));
+	}
+	@Test(expected=ClosedQueueException.class)
+	public void closedAndRead(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>();
+		slot.close();
+		slot.connect().next();
+	}
+	@Test
+	public void waitingReaderIsWoken(){
+		ConflatingSlot<String> slot = new ConflatingSlot<>();
+		Cursor<String> cursor = slot.connect();
+		CompletableFuture<String> read = CompletableFuture.supplyAsync(cursor::next);
+		sleep(50);
+		slot.offer("hello");
+		assertThat(read.join(),equalTo("hello"));
+	}
+	@Test
+	public void concurrentReaderSeesIncreasingValues(){
+		ConflatingSlot<Integer> slot = new ConflatingSlot<>();
+		Cursor<Integer> cursor = slot.connect();
+		CompletableFuture<Boolean> reader = CompletableFuture.supplyAsync(()->{
+			int last = -1;
+			for(;;){
+				int next = cursor.next();
+				if(next<=last)
+					return false;
+				last = next;
+				if(next==100_000)
+					return true;
+			}
+		});
+		for(int i=0;i<=100_000;i++)
+			slot.offer(i);
+		assertThat(reader.join(),is(true));
+	}
+	@Test
+	public void topicBackedBySlot(){
+		Topic<Integer> topic = new Topic<>(QueueFactories.conflatingSlot());
+		topic.offer(1);
+		topic.offer(2);
+		assertThat(topic.stream().limit(1).toList(),equalTo(Arrays.asList(2)));
+		assertThat(topic.stream().limit(1).toList(),equalTo(Arrays.asList(2)));
+	}
+	@Test
+	public void signalDiscreteOnlyOnChange(){
+		Signal<Integer> signal = Signal.conflatingSignal();
+		signal.set(5);
+		CompletableFuture<Integer> next = CompletableFuture.supplyAsync(()->signal.getDiscrete().stream().skip(1).findFirst().get());
+		sleep(50);
+		signal.set(5);
+		signal.set(5);
+		sleep(50);
+		assertThat(next.isDone(),is(false));
+		signal.set(6);
+		assertThat(next.join(),equalTo(6));
+	}
+
+	private void sleep(int millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package com.aol.cyclops.data.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.data.async.MappedFileQueue.Serializer;
+
+public class MappedFileQueueTest {
+
+	static final Serializer<Integer> INTS = new Serializer<Integer>(){
+		@Override
+		public void write(Integer value, ByteBuffer buffer) {
+			buffer.putInt(value);
+		}
+		@Override
+		public Integer read(ByteBuffer buffer) {
+			return buffer.getInt();
+		}
+	};
+
+	Path dir;
+
+	@Before
+	public void setup() throws IOException{
+		dir = Files.createTempDirectory("mapped-queue");
+	}
+	@After
+	public void cleanup() throws IOException{
+		for(Path file : Files.list(dir).collect(Collectors.toList()))
+			Files.delete(file);
+		Files.delete(dir);
+	}
+	private long files() throws IOException{
+		return Files.list(dir).count();
+	}
+
+	@Test
+	public void fifoAcrossSegments() throws IOException{
+		MappedFileQueue<Integer> queue = new MappedFileQueue<>(dir,INTS,256);
+		for(int i=0;i<10_000;i++)
+			queue.offer(i);
+		assertThat(queue.size(),equalTo(10_000));
+		assertThat(queue.peek(),equalTo(0));
+		for(int i=0;i<10_000;i++)
+			assertThat(queue.poll(),equalTo(i));
+		assertThat(queue.poll(),nullValue());
+		assertThat(queue.size(),equalTo(0));
+		assertThat(files(),lessThanOrEqualTo(5l));
+		queue.close();
+	}
+	@Test
+	public void segmentsRecycled() throws IOException{
+		MappedFileQueue<Integer> queue = new MappedFileQueue<>(dir,INTS,64);
+		for(int round=0;round<1000;round++){
+			for(int i=0;i<20;i++)
+				queue.offer(i);
+			for(int i=0;i<20;i++)
+				assertThat(queue.poll(),equalTo(i));
+		}
+		assertThat(files(),lessThanOrEqualTo(5l));
+		queue.close();
+	}
+	@Test
+	public void closeDeletesSegments() throws IOException{
+		MappedFileQueue<Integer> queue = new MappedFileQueue<>(dir,INTS,64);
+		for(int i=0;i<100;i++)
+			queue.offer(i);
+		queue.close();
+		assertThat(files(),equalTo(0l));
+		assertThat(queue.poll(),nullValue());
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void elementLargerThanSegment(){
+		MappedFileQueue<String> queue = new MappedFileQueue<>(dir,MappedFileQueue.javaSerializer(),64);
+		try{
+			queue.offer("hello world, this string will not fit in a segment of 64 bytes");
+		}finally{
+			queue.close();
+		}
+	}
+	@Test
+	public void javaSerializer(){
+		MappedFileQueue<String> queue = new MappedFileQueue<>(dir,MappedFileQueue.javaSerializer(),1024);
+		queue.offer("hello");
+		queue.offer("world");
+		assertThat(queue.poll(),equalTo("hello"));
+		assertThat(queue.poll(),equalTo("world"));
+		queue.close();
+	}
+	@Test
+	public void asyncQueueWithNulls(){
+		Queue<Integer> queue = QueueFactories.mappedFileQueue(dir,INTS,128).build();
+		queue.offer(1);
+		queue.offer(null);
+		queue.offer(3);
+		queue.close();
+		assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,null,3)));
+	}
+	@Test
+	public void concurrentProducers() throws Exception{
+		Queue<Integer> queue = QueueFactories.mappedFileQueue(dir,INTS,4096).build();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->queue.stream().toList());
+		List<CompletableFuture<Void>> producers = Arrays.asList(0,1,2,3)
+														 .stream()
+														 .map(p->CompletableFuture.runAsync(()->{
+															 for(int i=0;i<10_000;i++)
+																 queue.offer(i);
+														 }))
+														 .collect(Collectors.toList());
+		CompletableFuture.allOf(producers.toArray(new CompletableFuture[0])).join();
+		queue.close();
+		List<Integer> values = result.get();
+		assertThat(values.size(),equalTo(40_000));
+		assertThat(values.stream().mapToLong(i->i).sum(),equalTo(4*(10_000l*9_999/2)));
+	}
+	@Test
+	public void lazyReactFromAdapter(){
+		Queue<Integer> queue = QueueFactories.mappedFileQueue(dir,INTS,1024).build();
+		for(int i=0;i<1000;i++)
+			queue.offer(i);
+		queue.close();
+		assertThat(new LazyReact().fromAdapter(queue)
+								  .map(i->i*2)
+								  .toList()
+								  .size(),equalTo(1000));
+	}
+	@Test
+	public void snapshotIteration(){
+		MappedFileQueue<Integer> queue = new MappedFileQueue<>(dir,INTS,64);
+		for(int i=0;i<50;i++)
+			queue.offer(i);
+		queue.poll();
+		assertThat(queue.contains(10),equalTo(true));
+		assertThat(queue.contains(0),equalTo(false));
+		assertThat(queue.toArray().length,equalTo(49));
+		assertThat(queue.stream().mapToInt(i->i).sum(),equalTo(49*50/2));
+		assertThat(queue.poll(),equalTo(1));
+		queue.close();
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void removeViaIterator(){
+		MappedFileQueue<Integer> queue = new MappedFileQueue<>(dir,INTS,64);
+		queue.offer(1);
+		try{
+			queue.remove(1);
+		}finally{
+			queue.close();
+		}
+	}
+	@Test
+	public void asyncQueueCloseReleasesSegmentsOnceDrained() throws IOException{
+		Queue<Integer> queue = QueueFactories.mappedFileQueue(dir,INTS,128).build();
+		for(int i=0;i<100;i++)
+			queue.offer(i);
+		queue.close();
+		assertThat(files(),greaterThan(0l));
+		assertThat(queue.stream().toList().size(),equalTo(100));
+		assertThat(files(),equalTo(0l));
+	}
+	@Test
+	public void asyncQueueCloseAndClearReleasesSegments() throws IOException{
+		Queue<Integer> queue = QueueFactories.mappedFileQueue(dir,INTS,128).build();
+		for(int i=0;i<100;i++)
+			queue.offer(i);
+		queue.closeAndClear();
+		assertThat(files(),equalTo(0l));
+	}
+}
@@ -9,6 +9,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -24,7 +26,10 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.SimpleReact;
+import com.aol.cyclops.data.async.wait.DirectWaitStrategy;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.types.futurestream.BaseSimpleReactStream;
 
 public class QueueTest {
@@ -367,6 +372,77 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void drainToBatch(){
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		for(int i=0;i<10;i++)
+			q.offer(i);
+		List<Integer> batch = new ArrayList<>();
+		assertThat(q.drainTo(batch,4),is(4));
+		assertThat(batch,is(Arrays.asList(0,1,2,3)));
+		assertThat(q.drainTo(batch,100),is(6));
+		assertThat(batch.size(),is(10));
+		assertThat(q.drainTo(batch,100),is(0));
+	}
+	@Test(expected=Queue.ClosedQueueException.class)
+	public void drainToClosed(){
+		Queue<Integer> q = new Queue<>();
+		q.stream();
+		q.add(1);
+		q.close();
+		List<Integer> batch = new ArrayList<>();
+		assertThat(q.drainTo(batch,100),is(1));
+		q.drainTo(batch,100);
+	}
+	@Test
+	public void streamBatched(){
+		Queue<Integer> q = new Queue<>();
+		for(int i=0;i<10;i++)
+			q.offer(i);
+		q.close();
+		List<ListX<Integer>> batches = q.streamBatched(4,10,TimeUnit.MILLISECONDS).toList();
+		assertThat(batches,is(Arrays.asList(ListX.of(0,1,2,3),ListX.of(4,5,6,7),ListX.of(8,9))));
+	}
+	@Test
+	public void streamBatchedNonBlocking(){
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		new Thread(() -> {
+			for(int i=0;i<100;i++)
+				q.offer(i);
+			q.close();
+		}).start();
+		List<Integer> result = q.streamBatched(7,1,TimeUnit.MILLISECONDS)
+								.peek(batch->assertThat(batch.size(),lessThan(8)))
+								.flatMap(ListX::stream)
+								.toList();
+		assertThat(result.size(),is(100));
+	}
+	@Test
+	public void streamBatchedCarriesPillsPastBatch(){
+		Queue<Integer> q = QueueFactories.<Integer>boundedQueue(4).build();
+		ReactiveSeq<Integer> other = q.stream();
+		ReactiveSeq<ListX<Integer>> batched = q.streamBatched(10,1,TimeUnit.MILLISECONDS);
+		q.offer(1);
+		q.offer(2);
+		q.close();
+		assertThat(batched.toList(),is(Arrays.asList(ListX.of(1,2))));
+		assertThat(other.toList().size(),is(0));
+	}
+	@Test
+	public void streamBatchedWaitsOnDirectStrategy(){
+		Queue<Integer> q = QueueFactories.<Integer>unboundedNonBlockingQueue(new DirectWaitStrategy<>()).build();
+		q.offer(1);
+		new Thread(() -> {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			q.offer(2);
+		}).start();
+		ListX<Integer> batch = q.streamBatched(2,5,TimeUnit.SECONDS).firstValue();
+		assertThat(batch,is(ListX.of(1,2)));
+	}
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
@@ -21,6 +21,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import com.aol.cyclops.control.SimpleReact;
+import com.aol.cyclops.data.async.wait.SpinWait;
 import com.aol.cyclops.types.futurestream.BaseSimpleReactStream;
 
 public class TopicTest {
@@ -228,6 +229,45 @@ public class TopicTest {
 	
 	}
 	
+	@Test
+	public void multipleSubscribersGetSameMessagesRingBuffer() {
+		Topic<String> topic = new Topic<>(QueueFactories.broadcastRingBuffer(16));
+
+		Stream<String> data1 = topic.stream();
+		Stream<String> data2 = topic.stream();
+		topic.fromStream(Stream.of("hello", "world"));
+
+		assertThat(data1.limit(1).findFirst().get(), is("hello"));
+		assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+				is(" hello world"));
+	}
+	@Test
+	public void ringBufferTopicCloses() {
+		Topic<Integer> topic = new Topic<>(QueueFactories.broadcastRingBuffer(4,new SpinWait<>()));
+
+		Stream<Integer> data1 = topic.stream();
+		Stream<Integer> data2 = topic.stream();
+		for(int i=0;i<4;i++)
+			topic.offer(i);
+		topic.close();
+
+		assertThat(data1.collect(Collectors.toList()), is(Arrays.asList(0,1,2,3)));
+		assertThat(data2.collect(Collectors.toList()), is(Arrays.asList(0,1,2,3)));
+	}
+	@Test
+	public void disconnectRingBufferStreams(){
+		Topic<Integer> topic = new Topic<>(QueueFactories.broadcastRingBuffer(4));
+		Stream s1 = topic.stream();
+		Stream s2 = topic.stream();
+		
+		topic.disconnect(s1);
+		assertThat(topic.getStreamToCursor().size(),is(1));
+		topic.disconnect(s2);
+		assertThat(topic.getStreamToCursor().size(),is(0));
+		
+		for(int i=0;i<10;i++)
+			topic.offer(i);
+	}
 	@Test
 	public void multipleQueues(){
 		Topic<Integer> topic = new Topic<>();
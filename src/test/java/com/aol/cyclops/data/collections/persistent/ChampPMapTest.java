@@ -0,0 +1,151 @@
+package com.aol.cyclops.data.collections.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.pcollections.HashTreePMap;
+
+import lombok.AllArgsConstructor;
+
+public class ChampPMapTest {
+
+	@AllArgsConstructor
+	static class Colliding {
+		final int value;
+		final int hash;
+		@Override
+		public int hashCode(){
+			return hash;
+		}
+		@Override
+		public boolean equals(Object o){
+			return o instanceof Colliding && ((Colliding)o).value==value;
+		}
+	}
+
+	@Test
+	public void plusAndGet(){
+		ChampPMap<Integer,String> map = ChampPMap.empty();
+		for(int i=0;i<100_000;i++)
+			map = map.plus(i,""+i);
+		assertThat(map.size(),equalTo(100_000));
+		for(int i=0;i<100_000;i++)
+			assertThat(map.get(i),equalTo(""+i));
+		assertThat(map.get(-1),nullValue());
+		assertThat(map.containsKey(-1),equalTo(false));
+	}
+	@Test
+	public void persistent(){
+		ChampPMap<String,Integer> map = ChampPMap.singleton("a",1);
+		ChampPMap<String,Integer> changed = map.plus("a",2).plus("b",3);
+		assertThat(map.get("a"),equalTo(1));
+		assertThat(map.size(),equalTo(1));
+		assertThat(changed.get("a"),equalTo(2));
+		assertThat(changed.minus("a").minus("b"),equalTo(ChampPMap.empty()));
+		assertThat(changed.minus("missing")==changed,equalTo(true));
+		assertThat(changed.plus("b",3)==changed,equalTo(true));
+	}
+	@Test
+	public void nullKeysAndValues(){
+		ChampPMap<String,Integer> map = ChampPMap.<String,Integer>empty().plus(null,1).plus("a",null);
+		assertThat(map.get(null),equalTo(1));
+		assertThat(map.containsKey("a"),equalTo(true));
+		assertThat(map.get("a"),nullValue());
+	}
+	@Test
+	public void hashCollisions(){
+		ChampPMap<Colliding,Integer> map = ChampPMap.empty();
+		for(int i=0;i<10;i++)
+			map = map.plus(new Colliding(i,i%3),i);
+		assertThat(map.size(),equalTo(10));
+		for(int i=0;i<10;i++)
+			assertThat(map.get(new Colliding(i,i%3)),equalTo(i));
+		for(int i=0;i<10;i+=2)
+			map = map.minus(new Colliding(i,i%3));
+		assertThat(map.size(),equalTo(5));
+		assertThat(map.get(new Colliding(1,1)),equalTo(1));
+		assertThat(map.get(new Colliding(2,2)),nullValue());
+	}
+	@Test
+	public void canonicalAfterRemoval(){
+		ChampPMap<Integer,Integer> map = ChampPMap.empty();
+		for(int i=0;i<5000;i++)
+			map = map.plus(i*31,i);
+		ChampPMap<Integer,Integer> removed = map;
+		for(int i=0;i<5000;i+=3)
+			removed = removed.minus(i*31);
+		ChampPMap<Integer,Integer> direct = ChampPMap.empty();
+		for(int i=0;i<5000;i++)
+			if(i%3!=0)
+				direct = direct.plus(i*31,i);
+		assertThat(removed,equalTo(direct));
+		assertThat(new HashSet<>(removed.keySet()),equalTo(new HashSet<>(direct.keySet())));
+	}
+	@Test
+	public void builder(){
+		ChampPMap.Builder<Integer,Integer> builder = ChampPMap.builder();
+		for(int i=0;i<10_000;i++)
+			builder.put(i,i);
+		ChampPMap<Integer,Integer> first = builder.build();
+		for(int i=0;i<10_000;i+=2)
+			builder.remove(i);
+		builder.put(1,-1);
+		ChampPMap<Integer,Integer> second = builder.build();
+		assertThat(first.size(),equalTo(10_000));
+		assertThat(first.get(1),equalTo(1));
+		assertThat(first.get(2),equalTo(2));
+		assertThat(second.size(),equalTo(5000));
+		assertThat(second.get(1),equalTo(-1));
+		assertThat(second.get(2),nullValue());
+		assertThat(first.toBuilder().put(-1,-1).build().size(),equalTo(10_001));
+		assertThat(first.size(),equalTo(10_000));
+	}
+	@Test
+	public void sameResultsAsHashMap(){
+		Random random = new Random(7);
+		ChampPMap<Object,Integer> map = ChampPMap.empty();
+		Map<Object,Integer> expected = new HashMap<>();
+		for(int step=0;step<20_000;step++){
+			int k = random.nextInt(2000);
+			Object key = k%5==0 ? new Colliding(k,k%7) : k;
+			switch(random.nextInt(4)){
+			case 0:
+				map = map.minus(key);
+				expected.remove(key);
+				break;
+			case 1:
+				Map<Object,Integer> more = new HashMap<>();
+				more.put(key,step);
+				more.put(k+2000,step);
+				map = map.plusAll(more);
+				expected.putAll(more);
+				break;
+			default:
+				map = map.plus(key,step);
+				expected.put(key,step);
+			}
+			assertThat(map.size(),equalTo(expected.size()));
+			assertThat(map.get(key),equalTo(expected.get(key)));
+		}
+		assertThat(map,equalTo(expected));
+		assertThat(map.hashCode(),equalTo(expected.hashCode()));
+		assertThat(map.minusAll(expected.keySet()).size(),equalTo(0));
+		assertThat(ChampPMap.from(expected),equalTo(HashTreePMap.from(expected)));
+	}
+	@Test
+	public void set(){
+		ChampPSet<Integer> set = ChampPSet.<Integer>builder().addAll(Arrays.asList(1,2,3,3)).build();
+		assertThat(set,equalTo(new HashSet<>(Arrays.asList(1,2,3))));
+		assertThat(set.plus(3)==set,equalTo(true));
+		assertThat(set.minus(2),equalTo(new HashSet<>(Arrays.asList(1,3))));
+		assertThat(set.minusAll(Arrays.asList(1,2,3)).isEmpty(),equalTo(true));
+	}
+}
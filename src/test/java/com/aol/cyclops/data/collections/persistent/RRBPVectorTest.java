@@ -0,0 +1,170 @@
+package com.aol.cyclops.data.collections.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+
+public class RRBPVectorTest {
+
+	private static RRBPVector<Integer> range(int start, int end){
+		RRBPVector.Builder<Integer> builder = RRBPVector.builder();
+		for(int i=start;i<end;i++)
+			builder.add(i);
+		return builder.build();
+	}
+	private static List<Integer> list(int start, int end){
+		List<Integer> list = new ArrayList<>();
+		for(int i=start;i<end;i++)
+			list.add(i);
+		return list;
+	}
+
+	@Test
+	public void appendAndGet(){
+		PVector<Integer> vector = RRBPVector.empty();
+		for(int i=0;i<100_000;i++)
+			vector = vector.plus(i);
+		assertThat(vector.size(),equalTo(100_000));
+		for(int i=0;i<100_000;i++)
+			assertThat(vector.get(i),equalTo(i));
+		assertThat(vector,equalTo(list(0,100_000)));
+	}
+	@Test
+	public void builder(){
+		assertThat(range(0,50_000),equalTo(list(0,50_000)));
+		assertThat(range(0,0),equalTo(Arrays.asList()));
+		assertThat(range(0,31),equalTo(list(0,31)));
+	}
+	@Test
+	public void builderReusable(){
+		RRBPVector.Builder<Integer> builder = RRBPVector.<Integer>builder().addAll(list(0,40));
+		RRBPVector<Integer> first = builder.build();
+		builder.addAll(list(40,100));
+		assertThat(first,equalTo(list(0,40)));
+		assertThat(builder.build(),equalTo(list(0,100)));
+		assertThat(first.toBuilder().add(40).build(),equalTo(list(0,41)));
+	}
+	@Test
+	public void persistent(){
+		RRBPVector<Integer> vector = range(0,1000);
+		RRBPVector<Integer> changed = vector.with(500,-1).plus(1000).minus(0);
+		assertThat(vector,equalTo(list(0,1000)));
+		assertThat(changed.get(499),equalTo(-1));
+		assertThat(changed.size(),equalTo(1000));
+	}
+	@Test
+	public void concat(){
+		for(int left : new int[]{0,1,31,32,33,1000,1057,33_000}){
+			for(int right : new int[]{0,1,32,45,1000,1057,40_000}){
+				RRBPVector<Integer> joined = range(0,left).plusAll(range(left,left+right));
+				assertThat(left+"+"+right,joined,equalTo(list(0,left+right)));
+				assertThat(joined.plus(-1).get(left+right),equalTo(-1));
+			}
+		}
+	}
+	@Test
+	public void repeatedConcatOfSmallVectors(){
+		RRBPVector<Integer> vector = RRBPVector.empty();
+		int size = 0;
+		Random random = new Random(0);
+		while(size<100_000){
+			int next = random.nextInt(70)+1;
+			vector = vector.plusAll(range(size,size+next));
+			size+=next;
+		}
+		assertThat(vector,equalTo(list(0,size)));
+		for(int i=0;i<size;i+=97)
+			assertThat(vector.get(i),equalTo(i));
+	}
+	@Test
+	public void subList(){
+		RRBPVector<Integer> vector = range(0,5000);
+		assertThat(vector.subList(0,5000),equalTo(list(0,5000)));
+		assertThat(vector.subList(31,33),equalTo(list(31,33)));
+		assertThat(vector.subList(1000,4321),equalTo(list(1000,4321)));
+		assertThat(vector.subList(4990,5000).plus(5000),equalTo(list(4990,5001)));
+		assertThat(vector.subList(100,100).size(),equalTo(0));
+		assertThat(vector.subList(17,3000).subList(5,2000).plusAll(vector.subList(2017,2030)),equalTo(list(22,2030)));
+	}
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void getOutOfBounds(){
+		range(0,10).get(10);
+	}
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void subListOutOfBounds(){
+		range(0,10).subList(5,11);
+	}
+	@Test
+	public void sameResultsAsArrayList(){
+		Random random = new Random(42);
+		RRBPVector<Integer> vector = RRBPVector.empty();
+		List<Integer> expected = new ArrayList<>();
+		for(int step=0;step<3000;step++){
+			int size = expected.size();
+			switch(random.nextInt(8)){
+			case 0:
+				int value = random.nextInt();
+				vector = vector.plus(value);
+				expected.add(value);
+				break;
+			case 1:
+				int index = random.nextInt(size+1);
+				vector = vector.plus(index,step);
+				expected.add(index,step);
+				break;
+			case 2:
+				if(size>0){
+					int removed = random.nextInt(size);
+					vector = vector.minus(removed);
+					expected.remove(removed);
+				}
+				break;
+			case 3:
+				if(size>0){
+					int updated = random.nextInt(size);
+					vector = vector.with(updated,-step);
+					expected.set(updated,-step);
+				}
+				break;
+			case 4:
+				int from = random.nextInt(size+1);
+				int to = from + random.nextInt(size-from+1);
+				vector = vector.subList(from,to);
+				expected = new ArrayList<>(expected.subList(from,to));
+				break;
+			case 5:
+				List<Integer> more = list(step,step+random.nextInt(300));
+				vector = vector.plusAll(random.nextBoolean() ? RRBPVector.from(more) : more);
+				expected.addAll(more);
+				break;
+			case 6:
+				int at = random.nextInt(size+1);
+				List<Integer> inserted = list(-step-100,-step);
+				vector = vector.plusAll(at,inserted);
+				expected.addAll(at,inserted);
+				break;
+			default:
+				vector = vector.plusAll(vector);
+				expected.addAll(new ArrayList<>(expected));
+				if(expected.size()>50_000){
+					vector = vector.subList(0,1000);
+					expected = new ArrayList<>(expected.subList(0,1000));
+				}
+			}
+			assertThat(vector.size(),equalTo(expected.size()));
+			if(step%50==0){
+				assertThat(vector,equalTo(expected));
+				for(int i=0;i<expected.size();i+=7)
+					assertThat(vector.get(i),equalTo(expected.get(i)));
+			}
+		}
+		assertThat(vector,equalTo(expected));
+	}
+}
@@ -0,0 +1,77 @@
+package com.aol.cyclops.functions.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.Reducers;
+import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
+import com.aol.cyclops.data.collections.extensions.persistent.PSetX;
+import com.aol.cyclops.data.collections.persistent.ChampPSet;
+import com.aol.cyclops.functions.collections.extensions.AbstractCollectionXTest;
+
+public class ChampPSetXTest extends AbstractCollectionXTest{
+
+	@Override
+	public <T> FluentCollectionX<T> of(T... values) {
+		return PSetX.fromIterable(Reducers.toChampPSet(),Arrays.asList(values));
+	}
+	@Test
+    public void onEmptySwitch(){
+            assertThat(PSetX.empty(Reducers.toChampPSet()).onEmptySwitch(()->PSetX.of(1,2,3)),equalTo(PSetX.of(1,2,3)));
+    }
+	@Test
+	public void backendRetained(){
+		PSetX<Integer> set = PSetX.fromIterable(Reducers.toChampPSet(),PSetX.range(0, 100));
+		assertThat(set.map(i->i*2).monoid().zero(),instanceOf(ChampPSet.class));
+		assertThat(set.map(i->i/2).size(),equalTo(50));
+	}
+	@Test
+	public void reducer(){
+		assertThat(Reducers.<Integer>toPSetX(Reducers.toChampPSet()).mapReduce(Stream.of(1,2,2,3)),equalTo(PSetX.of(1,2,3)));
+		assertThat(PSetX.fromStream(Reducers.toChampPSet(),Stream.of(1,2,3)),equalTo(PSetX.of(1,2,3)));
+	}
+	@Override
+	@Test
+	public void testScanLeftStringConcatMonoid() {
+		assertThat(of("a", "b", "c").scanLeft(Reducers.toString("")).toList(), containsInAnyOrder("", "a", "ab", "abc"));
+	}
+	/* (non-Javadoc)
+	 * @see com.aol.cyclops.functions.collections.extensions.AbstractCollectionXTest#empty()
+	 */
+	@Override
+	public <T> FluentCollectionX<T> empty() {
+		return PSetX.empty(Reducers.toChampPSet());
+	}
+	 @Override
+	    public FluentCollectionX<Integer> range(int start, int end) {
+	        return PSetX.fromIterable(Reducers.toChampPSet(),PSetX.range(start, end));
+	    }
+	    @Override
+	    public FluentCollectionX<Long> rangeLong(long start, long end) {
+	        return PSetX.fromIterable(Reducers.toChampPSet(),PSetX.rangeLong(start, end));
+	    }
+	    @Override
+	    public <T> FluentCollectionX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+	       return PSetX.fromIterable(Reducers.toChampPSet(),PSetX.iterate(times, seed, fn));
+	    }
+	    @Override
+	    public <T> FluentCollectionX<T> generate(int times,  Supplier<T> fn) {
+	       return PSetX.fromIterable(Reducers.toChampPSet(),PSetX.generate(times, fn));
+	    }
+	    @Override
+	    public <U, T> FluentCollectionX<T> unfold(U seed, Function<? super U, Optional<Tuple2<T, U>>> unfolder) {
+	       return PSetX.fromIterable(Reducers.toChampPSet(),PSetX.unfold(seed, unfolder));
+	    }
+}
@@ -0,0 +1,78 @@
+package com.aol.cyclops.functions.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.Reducers;
+import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.data.collections.persistent.RRBPVector;
+import com.aol.cyclops.functions.collections.extensions.CollectionXTestsWithNulls;
+
+public class RRBPVectorXTest extends CollectionXTestsWithNulls{
+
+	@Override
+	public <T> FluentCollectionX<T> of(T... values) {
+		return PVectorX.fromIterable(Reducers.toRRBPVector(),Arrays.asList(values));
+	}
+	@Test
+    public void onEmptySwitch(){
+            assertThat(PVectorX.empty(Reducers.toRRBPVector()).onEmptySwitch(()->PVectorX.of(1,2,3)),equalTo(PVectorX.of(1,2,3)));
+    }
+	@Test
+	public void backendRetained(){
+		PVectorX<Integer> vector = PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.range(0, 100));
+		assertThat(vector.map(i->i*2).filter(i->i>10).monoid().zero(),instanceOf(RRBPVector.class));
+		assertThat(vector.plus(100).get(100),equalTo(100));
+	}
+	@Test
+	public void lazyBackendRetained(){
+		PVectorX<Integer> vector = PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.range(0, 100));
+		PVectorX<Integer> result = vector.lazy().map(i->i*2).filter(i->i>10).limit(3).get();
+		assertThat(result,equalTo(PVectorX.of(12,14,16)));
+		assertThat(result.monoid().zero(),instanceOf(RRBPVector.class));
+	}
+	@Test
+	public void reducer(){
+		assertThat(Reducers.<Integer>toPVectorX(Reducers.toRRBPVector()).mapReduce(Stream.of(1,2,3)),equalTo(PVectorX.of(1,2,3)));
+		assertThat(PVectorX.fromStream(Reducers.toRRBPVector(),Stream.of(1,2,3)),equalTo(PVectorX.of(1,2,3)));
+	}
+	/* (non-Javadoc)
+	 * @see com.aol.cyclops.functions.collections.extensions.AbstractCollectionXTest#empty()
+	 */
+	@Override
+	public <T> FluentCollectionX<T> empty() {
+		return PVectorX.empty(Reducers.toRRBPVector());
+	}
+	 @Override
+	    public FluentCollectionX<Integer> range(int start, int end) {
+	        return PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.range(start, end));
+	    }
+	    @Override
+	    public FluentCollectionX<Long> rangeLong(long start, long end) {
+	        return PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.rangeLong(start, end));
+	    }
+	    @Override
+	    public <T> FluentCollectionX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+	       return PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.iterate(times, seed, fn));
+	    }
+	    @Override
+	    public <T> FluentCollectionX<T> generate(int times,  Supplier<T> fn) {
+	       return PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.generate(times, fn));
+	    }
+	    @Override
+	    public <U, T> FluentCollectionX<T> unfold(U seed, Function<? super U, Optional<Tuple2<T, U>>> unfolder) {
+	       return PVectorX.fromIterable(Reducers.toRRBPVector(),PVectorX.unfold(seed, unfolder));
+	    }
+}
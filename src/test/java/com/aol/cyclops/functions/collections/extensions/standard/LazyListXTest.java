@@ -0,0 +1,88 @@
+package com.aol.cyclops.functions.collections.extensions.standard;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class LazyListXTest {
+
+	@Test
+	public void fusedChain(){
+		ListX<Integer> result = ListX.of(1,2,3,4,5,6)
+									 .lazy()
+									 .map(i->i*10)
+									 .filter(i->i>20)
+									 .filterNot(i->i==50)
+									 .flatMap(i->ListX.of(i,i+1))
+									 .get();
+		assertThat(result,equalTo(ListX.of(30,31,40,41,60,61)));
+	}
+	@Test
+	public void nothingRunsUntilAccessed(){
+		AtomicInteger count = new AtomicInteger(0);
+		LazyListX<Integer> lazy = ListX.of(1,2,3).lazy()
+										.peek(i->count.incrementAndGet())
+										.map(i->i+1);
+		assertThat(count.get(),equalTo(0));
+		assertThat(lazy.isMaterialized(),equalTo(false));
+		assertThat(lazy.get(),equalTo(ListX.of(2,3,4)));
+		assertThat(count.get(),equalTo(3));
+	}
+	@Test
+	public void materializedOnce(){
+		AtomicInteger count = new AtomicInteger(0);
+		LazyListX<Integer> lazy = ListX.of(1,2,3).lazy()
+										.map(i->{count.incrementAndGet(); return i;});
+		ListX<Integer> first = lazy.get();
+		assertThat(lazy.get()==first,equalTo(true));
+		lazy.forEach(i->{});
+		assertThat(lazy.stream().toListX(),equalTo(ListX.of(1,2,3)));
+		assertThat(lazy.filter(i->i>1).get(),equalTo(ListX.of(2,3)));
+		assertThat(count.get(),equalTo(3));
+	}
+	@Test
+	public void limitShortCircuits(){
+		AtomicInteger count = new AtomicInteger(0);
+		ListX<Integer> result = ListX.range(0,100_000)
+									 .lazy()
+									 .map(i->{count.incrementAndGet(); return i*2;})
+									 .filter(i->i%3==0)
+									 .limit(5)
+									 .get();
+		assertThat(result,equalTo(ListX.of(0,6,12,18,24)));
+		assertThat(count.get(),equalTo(13));
+	}
+	@Test
+	public void findFirstShortCircuits(){
+		AtomicInteger count = new AtomicInteger(0);
+		LazyListX<Integer> lazy = ListX.range(0,100_000)
+									   .lazy()
+									   .peek(i->count.incrementAndGet())
+									   .dropWhile(i->i<10);
+		assertThat(lazy.findFirst(),equalTo(Optional.of(10)));
+		assertThat(count.get(),equalTo(11));
+		assertThat(lazy.isMaterialized(),equalTo(false));
+	}
+	@Test
+	public void branchesAreIndependent(){
+		LazyListX<Integer> lazy = ListX.of(1,2,3,4).lazy().map(i->i*2);
+		LazyListX<Integer> small = lazy.takeWhile(i->i<5);
+		LazyListX<Integer> large = lazy.skip(2);
+		assertThat(small.get(),equalTo(ListX.of(2,4)));
+		assertThat(large.get(),equalTo(ListX.of(6,8)));
+		assertThat(lazy.get(),equalTo(ListX.of(2,4,6,8)));
+	}
+	@Test(expected=UnsupportedOperationException.class)
+	public void sourceCollectorRetained(){
+		ListX<Integer> immutable = ListX.fromIterable(ListX.immutableCollector(),Collections.singletonList(1));
+		immutable.lazy().map(i->i+1).get().add(3);
+	}
+}
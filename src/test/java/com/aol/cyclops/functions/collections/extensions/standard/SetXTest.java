@@ -26,6 +26,11 @@ public class SetXTest extends AbstractCollectionXTest{
 	public void onEmptySwitch(){
 	        assertThat(SetX.empty().onEmptySwitch(()->SetX.of(1,2,3)),equalTo(SetX.of(1,2,3)));
 	}
+	@Test
+	public void lazy(){
+		assertThat(SetX.of(1,2,3,4).lazy().map(i->i%2).get(),equalTo(SetX.of(0,1)));
+		assertThat(SetX.of(1,2,3,4).lazy().filter(i->i>2).get(),equalTo(SetX.of(3,4)));
+	}
 	/* (non-Javadoc)
 	 * @see com.aol.cyclops.functions.collections.extensions.AbstractCollectionXTest#empty()
 	 */
@@ -0,0 +1,79 @@
+package com.aol.cyclops.internal.invokedynamic;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.aol.cyclops.internal.matcher2.Extractors;
+import com.aol.cyclops.types.Decomposable;
+import com.aol.cyclops.types.mixins.Mappable;
+
+import lombok.AllArgsConstructor;
+
+public class DecomposerTest {
+
+	@AllArgsConstructor
+	static class Parent { private final String key; }
+
+	static class Child extends Parent implements Decomposable, Mappable{
+		private final int count;
+		private final boolean flag;
+		private static final String IGNORED = "static";
+		Child(String key, int count, boolean flag){
+			super(key);
+			this.count = count;
+			this.flag = flag;
+		}
+		public Object unwrap(){
+			return this;
+		}
+	}
+	@AllArgsConstructor
+	static class Custom {
+		int value;
+		public List<Integer> unapply(){
+			return Arrays.asList(value,value);
+		}
+	}
+	static class Empty {}
+
+	@Test
+	public void superClassFieldsFirstPrimitivesBoxed(){
+		assertThat(Decomposer.of(Child.class).unapply(new Child("k",10,true)),equalTo(Arrays.asList("k",10,true)));
+	}
+	@Test
+	public void decomposable(){
+		assertThat(new Child("k",10,false).unapply(),equalTo(Arrays.asList("k",10,false)));
+	}
+	@Test
+	public void mappable(){
+		Map<String,Object> expected = new HashMap<>();
+		expected.put("key", "k");
+		expected.put("count", 10);
+		expected.put("flag", false);
+		assertThat(new Child("k",10,false).toMap(),equalTo(expected));
+	}
+	@Test
+	public void noFields(){
+		assertThat(Decomposer.of(Empty.class).unapply(new Empty()).size(),equalTo(0));
+	}
+	@Test
+	public void coercedUsesUnapplyMethod(){
+		assertThat(Extractors.decomposeCoerced().apply(new Custom(3)),equalTo(Arrays.asList(3,3)));
+	}
+	@Test
+	public void coercedReadsFields(){
+		assertThat(Extractors.decomposeCoerced().apply(new Parent("k")),equalTo(Arrays.asList("k")));
+	}
+	@Test
+	public void cached(){
+		assertThat(Decomposer.of(Child.class)==Decomposer.of(Child.class),equalTo(true));
+		assertThat(ReflectionCache.getFields(Child.class)==ReflectionCache.getFields(Child.class),equalTo(true));
+	}
+}
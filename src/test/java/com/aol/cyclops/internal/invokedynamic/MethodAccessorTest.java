@@ -0,0 +1,85 @@
+package com.aol.cyclops.internal.invokedynamic;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class MethodAccessorTest {
+
+	public static class Box {
+		private final int value;
+		public Box(int value){
+			this.value = value;
+		}
+		public static Box of(int value){
+			return new Box(value);
+		}
+		public int get(){
+			return value;
+		}
+		public Box add(Integer a, int b){
+			return new Box(value+a+b);
+		}
+		public String join(String a, String b, String c){
+			return ""+value+a+b+c;
+		}
+		public void noop(){
+		}
+		public String fail() throws IOException{
+			throw new IOException();
+		}
+	}
+	static class Hidden {
+		public String hello(String name){
+			return "hello "+name;
+		}
+	}
+	@Test
+	public void instanceMethods(){
+		Box box = new Box(1);
+		assertThat(MethodAccessor.find(Box.class, "get", 0).invoke(box),equalTo(1));
+		Box added = (Box)MethodAccessor.find(Box.class, "add", 2).invoke(box,2,3);
+		assertThat(added.get(),equalTo(6));
+	}
+	@Test
+	public void staticMethod(){
+		Box box = (Box)MethodAccessor.find(Box.class, "of", 1).invoke(null,10);
+		assertThat(box.get(),equalTo(10));
+	}
+	@Test
+	public void moreThanTwoArguments(){
+		assertThat(MethodAccessor.find(Box.class, "join", 3).invokeWithArguments(new Box(1),"a","b","c"),equalTo("1abc"));
+	}
+	@Test
+	public void voidMethod(){
+		assertThat(MethodAccessor.find(Box.class, "noop", 0).invoke(new Box(1)),nullValue());
+	}
+	@Test
+	public void nonPublicClass(){
+		assertThat(MethodAccessor.find(Hidden.class, "hello", 1).invoke(new Hidden(),"world"),equalTo("hello world"));
+	}
+	@Test
+	public void missing(){
+		assertThat(MethodAccessor.find(Box.class, "get", 1),nullValue());
+		assertThat(MethodAccessor.find(Box.class, "missing", 0),nullValue());
+	}
+	@Test(expected=IOException.class)
+	public void checkedExceptionsPropagate(){
+		MethodAccessor.find(Box.class, "fail", 0).invoke(new Box(1));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void wrongArity(){
+		MethodAccessor.find(Box.class, "get", 0).invoke(new Box(1),1);
+	}
+	@Test
+	public void invokeDynamicFirstMatchingName(){
+		Optional<Box> box = new InvokeDynamic().execute(Arrays.asList("singleton","of"), Box.class, 5);
+		assertThat(box.get().get(),equalTo(5));
+	}
+}
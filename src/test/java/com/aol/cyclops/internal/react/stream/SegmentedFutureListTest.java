@@ -0,0 +1,85 @@
+package com.aol.cyclops.internal.react.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.control.SimpleReact;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+
+public class SegmentedFutureListTest {
+
+	ExecutorService exec;
+
+	@Before
+	public void setup(){
+		exec = Executors.newFixedThreadPool(16);
+	}
+	@After
+	public void tearDown(){
+		exec.shutdown();
+	}
+
+	@Test
+	public void collectsAcrossSegments(){
+		int size = SegmentedFutureList.SEGMENT_SIZE*3+7;
+		SegmentedFutureList list = SegmentedFutureList.collect(IntStream.range(0, size)
+																		.mapToObj(CompletableFuture::completedFuture), null);
+		assertThat(list.size(),equalTo(size));
+		for(int i=0;i<size;i++)
+			assertThat(list.get(i).join(),equalTo(i));
+		assertThat(list.stream().map(CompletableFuture::join).collect(Collectors.toList()),
+				   equalTo(IntStream.range(0, size).boxed().collect(Collectors.toList())));
+	}
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void getOutOfRange(){
+		SegmentedFutureList.collect(Stream.of(CompletableFuture.completedFuture(1)), null).get(1);
+	}
+	@Test
+	public void maxActiveLimitsTasksInFlight(){
+		AtomicInteger running = new AtomicInteger(0);
+		AtomicInteger peak = new AtomicInteger(0);
+		Stream<Supplier<Integer>> tasks = IntStream.range(0, 200)
+												   .mapToObj(i->()->{
+													   peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+													   try {
+														   Thread.sleep(1);
+													   } catch (InterruptedException e) {
+														   Thread.currentThread().interrupt();
+													   }
+													   running.decrementAndGet();
+													   return i;
+												   });
+		List<Integer> result = new SimpleReact(exec).withMaxActive(new MaxActive(4,2))
+													.fromStreamAsync(tasks)
+													.then(i->i*2)
+													.block();
+		assertThat(result.size(),equalTo(200));
+		assertThat(result.stream().mapToInt(i->i).sum(),equalTo(199*200));
+		assertThat(peak.get(),lessThanOrEqualTo(4));
+	}
+	@Test
+	public void allOfSeesFullResultWithMaxActive(){
+		Stream<Supplier<Integer>> tasks = IntStream.range(0, 5000)
+												   .mapToObj(i->()->i);
+		List<List<Integer>> result = new SimpleReact(exec).withMaxActive(new MaxActive(8,4))
+														  .fromStreamAsync(tasks)
+														  .allOf(list->list)
+														  .block();
+		assertThat(result.get(0).size(),equalTo(5000));
+	}
+}
@@ -0,0 +1,120 @@
+package com.aol.cyclops.internal.react.stream.traits.future.operators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.react.collectors.lazy.MaxActive;
+
+public class KeyAffineOperatorTest {
+
+	ExecutorService lanes;
+
+	@Before
+	public void setup(){
+		lanes = Executors.newFixedThreadPool(8);
+	}
+	@After
+	public void tearDown(){
+		lanes.shutdown();
+	}
+
+	private static List<Integer> range(int end){
+		return IntStream.range(0, end).boxed().collect(Collectors.toList());
+	}
+	private static void sleep(long millis){
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void orderedWithinKey(){
+		Map<Integer,List<Integer>> seen = new ConcurrentHashMap<>();
+		List<Integer> result = new LazyReact().range(0, 10_000)
+											  .groupedParallel(i->i%16, 4, lanes, i->{
+												  seen.computeIfAbsent(i%16, k->Collections.synchronizedList(new ArrayList<>()))
+												  	  .add(i);
+												  return i;
+											  })
+											  .toList();
+		assertThat(result.size(),equalTo(10_000));
+		assertThat(result.stream().collect(Collectors.toSet()).size(),equalTo(10_000));
+		for(int key=0;key<16;key++){
+			final int k = key;
+			assertThat(seen.get(key),equalTo(range(10_000).stream().filter(i->i%16==k).collect(Collectors.toList())));
+		}
+	}
+	@Test
+	public void sameKeyNeverConcurrent(){
+		Map<Integer,AtomicInteger> active = new ConcurrentHashMap<>();
+		AtomicInteger overlaps = new AtomicInteger(0);
+		new LazyReact().range(0, 2_000)
+					   .groupedParallel(i->i%5, 3, lanes, i->{
+						   AtomicInteger count = active.computeIfAbsent(i%5, k->new AtomicInteger(0));
+						   if(count.incrementAndGet()>1)
+							   overlaps.incrementAndGet();
+						   count.decrementAndGet();
+						   return i;
+					   })
+					   .toList();
+		assertThat(overlaps.get(),equalTo(0));
+	}
+	@Test
+	public void parallelAcrossKeys(){
+		long start = System.currentTimeMillis();
+		List<Integer> result = LazyReact.sequentialBuilder()
+										.range(0, 40)
+										.groupedParallel(i->i%8, 8, lanes, i->{
+											sleep(20);
+											return i;
+										})
+										.toList();
+		assertThat(result.size(),equalTo(40));
+		assertThat(System.currentTimeMillis()-start,lessThan(500l));
+	}
+	@Test
+	public void singleHotKeyWithSmallMaxActive(){
+		List<Integer> result = new LazyReact().withMaxActive(new MaxActive(4,2))
+											  .range(0, 5_000)
+											  .groupedParallel(i->"hot", 4, lanes, i->i)
+											  .toList();
+		assertThat(result,equalTo(range(5_000)));
+	}
+	@Test
+	public void errorsPassThrough(){
+		AtomicInteger errors = new AtomicInteger(0);
+		List<Integer> result = new LazyReact().range(0, 100)
+											  .groupedParallel(i->i%3, 3, lanes, i->{
+												  if(i%10==0)
+													  throw new RuntimeException("boom");
+												  return i;
+											  })
+											  .capture(e->errors.incrementAndGet())
+											  .toList();
+		assertThat(result.size(),equalTo(90));
+		assertThat(errors.get(),equalTo(10));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void parallelismMustBePositive(){
+		new LazyReact().of(1).groupedParallel(i->i, 0, lanes, i->i);
+	}
+}
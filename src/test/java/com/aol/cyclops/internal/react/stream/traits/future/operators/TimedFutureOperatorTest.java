@@ -0,0 +1,106 @@
+package com.aol.cyclops.internal.react.stream.traits.future.operators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class TimedFutureOperatorTest {
+
+	private static List<Integer> range(int end){
+		return IntStream.range(0, end).boxed().collect(Collectors.toList());
+	}
+
+	@Test
+	public void onePerSpacesElementsInOrder(){
+		long start = System.currentTimeMillis();
+		List<Integer> result = LazyReact.sequentialBuilder()
+										.range(0, 5)
+										.onePer(20, TimeUnit.MILLISECONDS)
+										.toList();
+		assertThat(result,equalTo(range(5)));
+		assertThat(System.currentTimeMillis()-start,greaterThanOrEqualTo(80l));
+	}
+	@Test
+	public void onePerParallel(){
+		long start = System.currentTimeMillis();
+		List<Integer> result = LazyReact.parallelBuilder()
+										.range(0, 5)
+										.onePer(20, TimeUnit.MILLISECONDS)
+										.toList();
+		assertThat(result.size(),equalTo(5));
+		assertThat(System.currentTimeMillis()-start,greaterThanOrEqualTo(80l));
+	}
+	@Test
+	public void xPerAllowsBurst(){
+		long start = System.currentTimeMillis();
+		List<Integer> result = LazyReact.sequentialBuilder()
+										.range(0, 10)
+										.xPer(5, 100, TimeUnit.MILLISECONDS)
+										.toList();
+		assertThat(result,equalTo(range(10)));
+		long elapsed = System.currentTimeMillis()-start;
+		assertThat(elapsed,greaterThanOrEqualTo(100l));
+		assertThat(elapsed,lessThanOrEqualTo(2000l));
+	}
+	@Test
+	public void debounceDropsElementsWithinPeriod(){
+		assertThat(LazyReact.parallelBuilder()
+							.range(0, 1000)
+							.debounce(1, TimeUnit.HOURS)
+							.toList()
+							.size(),equalTo(1));
+	}
+	@Test
+	public void groupedByTimeKeepsEveryElement(){
+		List<ListX<Integer>> groups = LazyReact.parallelBuilder()
+											   .range(0, 10_000)
+											   .groupedByTime(1, TimeUnit.MILLISECONDS)
+											   .toList();
+		assertThat(groups.stream().mapToInt(List::size).sum(),equalTo(10_000));
+		assertThat(groups.stream().flatMap(List::stream).collect(Collectors.toSet()).size(),equalTo(10_000));
+	}
+	@Test
+	public void groupedBySizeAndTimeRespectsSize(){
+		List<ListX<Integer>> groups = LazyReact.parallelBuilder()
+											   .range(0, 1000)
+											   .groupedBySizeAndTime(7, 1, TimeUnit.SECONDS)
+											   .toList();
+		assertThat(groups.stream().mapToInt(List::size).sum(),equalTo(1000));
+		assertThat(groups.stream().mapToInt(List::size).max().getAsInt(),equalTo(7));
+	}
+	@Test
+	public void groupedByTimeSequentialSingleWindow(){
+		assertThat(LazyReact.sequentialBuilder()
+							.range(0, 100)
+							.groupedByTime(10, TimeUnit.SECONDS)
+							.toList(),equalTo(ListX.of(ListX.fromIterable(range(100)))));
+	}
+	@Test
+	public void errorsPassThrough(){
+		AtomicInteger errors = new AtomicInteger(0);
+		List<Integer> result = LazyReact.sequentialBuilder()
+										.range(0, 10)
+										.map(i->{
+											if(i%2==0)
+												throw new RuntimeException("boom");
+											return i;
+										})
+										.capture(e->errors.incrementAndGet())
+										.fixedDelay(1, TimeUnit.MILLISECONDS)
+										.toList();
+		assertThat(result,equalTo(ListX.of(1,3,5,7,9)));
+		assertThat(errors.get(),equalTo(5));
+	}
+}
@@ -0,0 +1,141 @@
+package com.aol.cyclops.internal.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+public class FusedStagesTest {
+
+	private List<Integer> ints(int size){
+		return IntStream.range(0, size).boxed().collect(Collectors.toList());
+	}
+	private Integer fail(Throwable t){
+		throw ExceptionSoftener.throwSoftenedException(t);
+	}
+
+	@Test
+	public void longChainMatchesJdk() {
+		List<Integer> peeked = new ArrayList<>();
+		List<Integer> fused = ReactiveSeq.fromList(ints(1000))
+								.map(i -> i + 1)
+								.filter(i -> i % 7 != 0)
+								.map(i -> i * 3)
+								.peek(peeked::add)
+								.filter(i -> i % 5 != 0)
+								.map(i -> i - 2)
+								.toList();
+		List<Integer> jdk = ints(1000).stream()
+								.map(i -> i + 1)
+								.filter(i -> i % 7 != 0)
+								.map(i -> i * 3)
+								.filter(i -> i % 5 != 0)
+								.map(i -> i - 2)
+								.collect(Collectors.toList());
+		assertThat(fused,equalTo(jdk));
+		assertThat(peeked.size(),equalTo(1000 - 1000/7));
+	}
+	@Test
+	public void fusedAcrossStatefulBoundary() {
+		assertThat(ReactiveSeq.of(3,1,2,1)
+							.map(i -> i * 10)
+							.distinct()
+							.sorted()
+							.map(i -> i + 1)
+							.filter(i -> i > 11)
+							.toList(),
+					equalTo(Arrays.asList(21,31)));
+	}
+	@Test
+	public void traversedByTryAdvance() {
+		assertThat(ReactiveSeq.of(1,2,3,4,5)
+							.filter(i -> i % 2 == 1)
+							.map(i -> i * 2)
+							.iterator().next(),
+					equalTo(2));
+		assertThat(ReactiveSeq.of(1,2,3,4,5).filter(i -> i > 3).map(i -> i * 2).findFirst().get(),equalTo(8));
+	}
+	@Test
+	public void recoverFromStage() {
+		assertThat(ReactiveSeq.of(1,2,3)
+							.map(i -> i == 2 ? fail(new RuntimeException()) : i)
+							.map(i -> i * 10)
+							.recover(e -> -1)
+							.map(i -> i + 1)
+							.toList(),
+					equalTo(Arrays.asList(11,0,31)));
+	}
+	@Test
+	public void recoverByType() {
+		assertThat(ReactiveSeq.of(1,2,3)
+							.map(i -> i == 2 ? fail(new IOException()) : i)
+							.recover(IllegalStateException.class, e -> -1)
+							.recover(IOException.class, e -> -2)
+							.toList(),
+					equalTo(Arrays.asList(1,-2,3)));
+	}
+	@Test
+	public void recoverFromRecovery() {
+		assertThat(ReactiveSeq.of(1,2)
+							.map(i -> i == 2 ? fail(new IOException()) : i)
+							.recover(e -> fail(new IllegalStateException()))
+							.recover(IllegalStateException.class, e -> -1)
+							.toList(),
+					equalTo(Arrays.asList(1,-1)));
+	}
+	@Test
+	public void recoverFromSource() {
+		assertThat(ReactiveSeq.fromStream(Stream.of(1,2,3).map(i -> i == 2 ? fail(new RuntimeException()) : i))
+							.map(i -> i * 10)
+							.recover(e -> -1)
+							.toList(),
+					equalTo(Arrays.asList(10,-1,30)));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void unrecoveredErrorsPropagate() {
+		ReactiveSeq.of(1,2,3)
+					.recover(e -> -1)
+					.map(i -> i == 2 ? fail(new IllegalStateException()) : i)
+					.toList();
+	}
+	@Test(expected=IllegalStateException.class)
+	public void unmatchedRecoverPropagates() {
+		ReactiveSeq.of(1,2,3)
+					.map(i -> i == 2 ? fail(new IllegalStateException()) : i)
+					.recover(IOException.class, e -> -1)
+					.toList();
+	}
+	@Test
+	public void fusedStagesSplit() {
+		Spliterator<Integer> mapped = ReactiveSeq.fromList(ints(1000)).map(i -> i * 2).peek(i -> {}).spliterator();
+		assertTrue(mapped.hasCharacteristics(Spliterator.SIZED));
+		assertThat(mapped.getExactSizeIfKnown(),equalTo(1000l));
+		assertTrue(mapped.trySplit()!=null);
+		Spliterator<Integer> filtered = ReactiveSeq.fromList(ints(1000)).map(i -> i * 2).filter(i -> i % 3 == 0).spliterator();
+		assertFalse(filtered.hasCharacteristics(Spliterator.SIZED));
+		assertThat(StreamSupport.stream(ReactiveSeq.fromList(ints(1000)).map(i -> i * 2).filter(i -> i % 3 == 0).spliterator(), true)
+								.collect(Collectors.toList()),
+					equalTo(ints(1000).stream().map(i -> i * 2).filter(i -> i % 3 == 0).collect(Collectors.toList())));
+	}
+	@Test
+	public void reverseAfterFilter() {
+		assertThat(ReactiveSeq.of(1,2,3,4).filter(i -> i % 2 == 0).reverse().toList(),equalTo(Arrays.asList(4,2)));
+		assertThat(ReactiveSeq.of(1,2,3,4).map(i -> i * 2).reverse().toList(),equalTo(Arrays.asList(8,6,4,2)));
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.aol.cyclops.internal.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.control.StreamUtils;
+import com.aol.cyclops.types.stream.LagPolicy;
+
+public class SegmentedCopyBufferTest {
+
+	private static List<Integer> range(int end){
+		return IntStream.range(0, end).boxed().collect(Collectors.toList());
+	}
+	private static <T> List<T> drain(Iterator<T> it){
+		List<T> result = new ArrayList<>();
+		while(it.hasNext())
+			result.add(it.next());
+		return result;
+	}
+	private static long[] unlimited(int copies){
+		long[] limits = new long[copies];
+		Arrays.fill(limits, Long.MAX_VALUE);
+		return limits;
+	}
+
+	@Test
+	public void everyCopySeesEveryElement(){
+		List<Iterator<Integer>> copies = new SegmentedCopyBuffer<>(range(1000).iterator(),unlimited(4),Long.MAX_VALUE,LagPolicy.FAIL).copies();
+		for(Iterator<Integer> copy : copies)
+			assertThat(drain(copy),equalTo(range(1000)));
+	}
+	@Test
+	public void interleaved(){
+		List<Iterator<Integer>> copies = new SegmentedCopyBuffer<>(range(500).iterator(),unlimited(3),Long.MAX_VALUE,LagPolicy.FAIL).copies();
+		List<List<Integer>> results = Arrays.asList(new ArrayList<>(),new ArrayList<>(),new ArrayList<>());
+		for(int step=0;step<1500;step++){
+			int copy = (step*7) % 3;
+			if(copies.get(copy).hasNext())
+				results.get(copy).add(copies.get(copy).next());
+		}
+		for(int i=0;i<3;i++){
+			results.get(i).addAll(drain(copies.get(i)));
+			assertThat(results.get(i),equalTo(range(500)));
+		}
+	}
+	@Test
+	public void nulls(){
+		Tuple2<Iterator<Integer>,Iterator<Integer>> copies = StreamUtils.toBufferingDuplicator(Arrays.asList(1,null,3).iterator());
+		assertThat(drain(copies.v1),equalTo(Arrays.asList(1,null,3)));
+		assertThat(drain(copies.v2),equalTo(Arrays.asList(1,null,3)));
+	}
+	@Test
+	public void limitedCopyStopsEarlyAndSourceNotOverRead(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		Iterator<Integer> source = Stream.iterate(0, i->i+1).peek(i->pulled.incrementAndGet()).iterator();
+		Tuple2<Iterator<Integer>,Iterator<Integer>> copies = StreamUtils.toBufferingDuplicator(source,3);
+		assertThat(drain(copies.v1),equalTo(Arrays.asList(0,1,2)));
+		assertThat(copies.v2.next(),equalTo(0));
+		assertThat(pulled.get(),equalTo(3));
+	}
+	@Test(expected=IllegalStateException.class)
+	public void failWhenLagExceeded(){
+		Tuple2<Iterator<Integer>,Iterator<Integer>> copies = StreamUtils.toBufferingDuplicator(range(100).iterator(),10,LagPolicy.FAIL);
+		drain(copies.v1);
+	}
+	@Test
+	public void lagWithinBound(){
+		Tuple2<Iterator<Integer>,Iterator<Integer>> copies = StreamUtils.toBufferingDuplicator(range(100).iterator(),10,LagPolicy.FAIL);
+		List<Integer> first = new ArrayList<>();
+		List<Integer> second = new ArrayList<>();
+		while(copies.v1.hasNext()){
+			for(int i=0;i<10 && copies.v1.hasNext();i++)
+				first.add(copies.v1.next());
+			while(second.size()<first.size())
+				second.add(copies.v2.next());
+		}
+		assertThat(first,equalTo(range(100)));
+		assertThat(second,equalTo(range(100)));
+	}
+	@Test
+	public void blockWhenLagExceeded() throws Exception{
+		Tuple2<Iterator<Integer>,Iterator<Integer>> copies = StreamUtils.toBufferingDuplicator(range(100_000).iterator(),16,LagPolicy.BLOCK);
+		CompletableFuture<List<Integer>> first = CompletableFuture.supplyAsync(()->drain(copies.v1));
+		CompletableFuture<List<Integer>> second = CompletableFuture.supplyAsync(()->drain(copies.v2));
+		assertThat(first.get(),equalTo(range(100_000)));
+		assertThat(second.get(),equalTo(range(100_000)));
+	}
+}
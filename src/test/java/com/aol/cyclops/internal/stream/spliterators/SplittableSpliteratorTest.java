@@ -0,0 +1,145 @@
+package com.aol.cyclops.internal.stream.spliterators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import com.aol.cyclops.control.IntSeq;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class SplittableSpliteratorTest {
+
+	private <T> List<T> parallel(ReactiveSeq<T> seq){
+		return StreamSupport.stream(seq.spliterator(), true).collect(Collectors.toList());
+	}
+	private List<Integer> ints(int size){
+		return IntStream.range(0, size).boxed().collect(Collectors.toList());
+	}
+	private Integer[] array(int size){
+		return ints(size).toArray(new Integer[0]);
+	}
+	private void assertSized(Spliterator<?> split, long size){
+		assertTrue(split.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(split.hasCharacteristics(Spliterator.SUBSIZED));
+		assertThat(split.getExactSizeIfKnown(),equalTo(size));
+	}
+	private void assertSplits(Spliterator<?> split){
+		long size = split.estimateSize();
+		Spliterator<?> prefix = split.trySplit();
+		assertTrue(prefix!=null);
+		assertThat(prefix.estimateSize()+split.estimateSize(),equalTo(size));
+	}
+
+	@Test
+	public void arraySplits() {
+		Spliterator<Integer> split = ReactiveSeq.of(array(1000)).spliterator();
+		assertSized(split,1000);
+		assertSplits(split);
+		assertThat(parallel(ReactiveSeq.of(array(1000))),equalTo(ints(1000)));
+	}
+	@Test
+	public void reversedArraySplits() {
+		List<Integer> expected = ints(1000);
+		Collections.reverse(expected);
+		assertThat(parallel(ReactiveSeq.of(array(1000)).reverse()),equalTo(expected));
+		assertThat(parallel(ReactiveSeq.reversedOf(array(1000))),equalTo(expected));
+		assertThat(ReactiveSeq.of(1,2,3).reverse().reverse().toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void listSplits() {
+		Spliterator<Integer> split = ReactiveSeq.fromList(ints(1000)).spliterator();
+		assertSized(split,1000);
+		assertSplits(split);
+		assertThat(parallel(ReactiveSeq.fromList(ints(1000))),equalTo(ints(1000)));
+		List<Integer> expected = ints(1000);
+		Collections.reverse(expected);
+		assertThat(parallel(ReactiveSeq.reversedListOf(ints(1000))),equalTo(expected));
+	}
+	@Test
+	public void listBindsLate() {
+		List<Integer> list = new ArrayList<>(Arrays.asList(1,2));
+		ReactiveSeq<Integer> seq = ReactiveSeq.fromList(list);
+		list.add(3);
+		assertThat(seq.toList(),equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void linkedListNotSplit() {
+		Spliterator<Integer> split = ReactiveSeq.fromList(new LinkedList<>(ints(10))).spliterator();
+		assertSized(split,10);
+		assertNull(split.trySplit());
+		assertThat(ReactiveSeq.fromList(new LinkedList<>(ints(10))).reverse().toList().get(0),equalTo(9));
+	}
+	@Test
+	public void rangeSplits() {
+		Spliterator<Integer> split = ReactiveSeq.range(0,1000).spliterator();
+		assertSized(split,1000);
+		assertSplits(split);
+		assertThat(parallel(ReactiveSeq.range(0,1000)),equalTo(ints(1000)));
+		assertThat(StreamSupport.stream(ReactiveSeq.rangeLong(0,1000).spliterator(), true).mapToLong(l->l).sum(),equalTo(499500l));
+		assertThat(IntSeq.range(0,1000).parallel().sum(),equalTo(499500));
+		assertThat(ReactiveSeq.range(0,5).reverse().toList(),equalTo(Arrays.asList(4,3,2,1,0)));
+		assertThat(ReactiveSeq.range(0,5).reverse().reverse().toList(),equalTo(Arrays.asList(0,1,2,3,4)));
+	}
+	@Test
+	public void zipWithIndexSplits() {
+		Spliterator<Tuple2<Integer,Long>> split = ReactiveSeq.of(array(1000)).zipWithIndex().spliterator();
+		assertSized(split,1000);
+		assertSplits(split);
+		List<Tuple2<Integer,Long>> zipped = parallel(ReactiveSeq.of(array(1000)).map(i->i*2).zipWithIndex());
+		for(int i=0;i<1000;i++)
+			assertThat(zipped.get(i).v2,equalTo((long)i));
+		assertThat(ReactiveSeq.iterate(0,i->i+1).zipWithIndex().limit(3).map(t->t.v2).toList(),
+				equalTo(Arrays.asList(0l,1l,2l)));
+	}
+	@Test
+	public void zipWithIndexUnsizedNotSplit() {
+		assertNull(ReactiveSeq.iterate(0,i->i+1).zipWithIndex().spliterator().trySplit());
+	}
+	@Test
+	public void slidingSplits() {
+		Spliterator<ListX<Integer>> split = ReactiveSeq.of(array(1000)).sliding(3,2).spliterator();
+		assertSized(split,500);
+		assertSplits(split);
+		assertThat(parallel(ReactiveSeq.of(array(1000)).sliding(3,2)),
+				equalTo(ReactiveSeq.iterate(0,i->i+1).limit(1000).sliding(3,2).toList()));
+		assertThat(parallel(ReactiveSeq.fromList(ints(7)).sliding(2,3)),
+				equalTo(ReactiveSeq.iterate(0,i->i+1).limit(7).sliding(2,3).toList()));
+	}
+	@Test
+	public void groupedSplits() {
+		Spliterator<ListX<Integer>> split = ReactiveSeq.of(array(1000)).grouped(3).spliterator();
+		assertSized(split,334);
+		assertSplits(split);
+		assertThat(parallel(ReactiveSeq.fromList(ints(1000)).grouped(3)),
+				equalTo(ReactiveSeq.iterate(0,i->i+1).limit(1000).grouped(3).toList()));
+		assertThat(ReactiveSeq.of().grouped(3).count(),equalTo(0l));
+	}
+	@Test
+	public void groupedEstimatesSize() {
+		assertThat(ReactiveSeq.range(0,10).map(i->i).grouped(3).spliterator().estimateSize(),equalTo(4l));
+		assertFalse(ReactiveSeq.range(0,10).map(i->i).grouped(3).spliterator().hasCharacteristics(Spliterator.SIZED));
+	}
+	@Test
+	public void limitAndSkipWhileInParallel() {
+		assertThat(parallel(ReactiveSeq.range(0,10_000).limitWhile(i->i<5_000)),equalTo(ints(5_000)));
+		assertThat(parallel(ReactiveSeq.range(0,10_000).skipWhile(i->i<5_000)).size(),equalTo(5_000));
+		assertThat(parallel(ReactiveSeq.range(0,10_000).skipWhile(i->i<5_000)).get(0),equalTo(5_000));
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.aol.cyclops.lambda.functions;
+
+import static com.aol.cyclops.util.function.Memoize.memoizeBiFunction;
+import static com.aol.cyclops.util.function.Memoize.memoizeFunction;
+import static com.aol.cyclops.util.function.Memoize.memoizeQuadFunction;
+import static com.aol.cyclops.util.function.Memoize.memoizeTriFunction;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops.util.function.CacheStats;
+import com.aol.cyclops.util.function.MemoizeCache;
+import com.aol.cyclops.util.function.QuadFunction;
+import com.aol.cyclops.util.function.TriFunction;
+
+public class MemoizeCacheTest {
+
+	int called= 0;
+	@Before
+	public void setup(){
+		called = 0;
+	}
+	@Test
+	public void sizeBounded(){
+		MemoizeCache<Integer> cache = MemoizeCache.lru(10);
+		Function<Integer,Integer> fn = memoizeFunction(i->i*2, cache);
+		for(int i=0;i<1000;i++)
+			assertThat(fn.apply(i),equalTo(i*2));
+		assertThat(cache.estimatedSize(),lessThanOrEqualTo(10l));
+		assertThat(cache.stats().getEvictionCount(),equalTo(990l));
+	}
+	@Test
+	public void lruEvictsLeastRecentlyUsed(){
+		MemoizeCache<Integer> cache = MemoizeCache.lru(2);
+		Function<Integer,Integer> fn = memoizeFunction(i->{called++; return i;}, cache);
+		fn.apply(1);
+		fn.apply(2);
+		fn.apply(1);
+		fn.apply(3);
+		assertThat(cache.getIfPresent(2),nullValue());
+		assertThat(cache.getIfPresent(1),equalTo(1));
+		assertThat(cache.getIfPresent(3),equalTo(3));
+		assertThat(called,equalTo(3));
+	}
+	@Test
+	public void tinyLfuKeepsHotKeys(){
+		MemoizeCache<Integer> cache = MemoizeCache.tinyLfu(100);
+		Function<Integer,Integer> fn = memoizeFunction(i->i, cache);
+		for(int round=0;round<10;round++)
+			for(int i=0;i<50;i++)
+				fn.apply(i);
+		for(int i=1000;i<10_000;i++)
+			fn.apply(i);
+		int retained = 0;
+		for(int i=0;i<50;i++)
+			if(cache.getIfPresent(i)!=null)
+				retained++;
+		assertThat(cache.estimatedSize(),lessThanOrEqualTo(100l));
+		assertTrue("retained "+retained, retained>=45);
+	}
+	@Test
+	public void expireAfterWrite() throws InterruptedException{
+		MemoizeCache<Integer> cache = MemoizeCache.<Integer>unbounded()
+												  .withExpireAfterWrite(50, TimeUnit.MILLISECONDS);
+		Function<Integer,Integer> fn = memoizeFunction(i->++called, cache);
+		assertThat(fn.apply(1),equalTo(1));
+		assertThat(fn.apply(1),equalTo(1));
+		Thread.sleep(100);
+		assertThat(fn.apply(1),equalTo(2));
+	}
+	@Test
+	public void expireAfterAccess() throws InterruptedException{
+		MemoizeCache<Integer> cache = MemoizeCache.<Integer>unbounded()
+												  .withExpireAfterAccess(200, TimeUnit.MILLISECONDS);
+		Function<Integer,Integer> fn = memoizeFunction(i->++called, cache);
+		fn.apply(1);
+		for(int i=0;i<5;i++){
+			Thread.sleep(50);
+			assertThat(fn.apply(1),equalTo(1));
+		}
+		Thread.sleep(400);
+		cache.cleanUp();
+		assertThat(cache.estimatedSize(),equalTo(0l));
+		assertThat(fn.apply(1),equalTo(2));
+	}
+	@Test
+	public void weakValuesCollected() throws InterruptedException{
+		MemoizeCache<Object> cache = MemoizeCache.<Object>unbounded()
+												 .withWeakValues();
+		Function<Integer,Object> fn = memoizeFunction(i->new Object(), cache);
+		for(int i=0;i<100;i++)
+			fn.apply(i);
+		for(int i=0;i<10 && cache.estimatedSize()>0;i++){
+			System.gc();
+			Thread.sleep(20);
+			cache.cleanUp();
+		}
+		assertThat(cache.estimatedSize(),equalTo(0l));
+	}
+	@Test
+	public void stats(){
+		MemoizeCache<Integer> cache = MemoizeCache.tinyLfu(100);
+		Function<Integer,Integer> fn = memoizeFunction(i->i, cache);
+		fn.apply(1);
+		fn.apply(1);
+		fn.apply(2);
+		fn.apply(1);
+		CacheStats stats = cache.stats();
+		assertThat(stats.getHitCount(),equalTo(2l));
+		assertThat(stats.getMissCount(),equalTo(2l));
+		assertThat(stats.getLoadCount(),equalTo(2l));
+		assertThat(stats.hitRate(),equalTo(0.5));
+	}
+	@Test
+	public void biFunctionHits(){
+		MemoizeCache<Integer> cache = MemoizeCache.lru(100);
+		BiFunction<Integer,Integer,Integer> fn = memoizeBiFunction((a,b)->{called++; return a+b;}, cache);
+		assertThat(fn.apply(1,2),equalTo(3));
+		assertThat(fn.apply(1,2),equalTo(3));
+		assertThat(fn.apply(2,1),equalTo(3));
+		assertThat(called,equalTo(2));
+		assertThat(cache.stats().getHitCount(),equalTo(1l));
+	}
+	@Test
+	public void triAndQuadFunctionHits(){
+		TriFunction<Integer,Integer,Integer,Integer> tri = memoizeTriFunction((a,b,c)->{called++; return a+b+c;}, MemoizeCache.lru(100));
+		QuadFunction<Integer,Integer,Integer,Integer,Integer> quad = memoizeQuadFunction((a,b,c,d)->{called++; return a+b+c+d;});
+		assertThat(tri.apply(1,2,3),equalTo(6));
+		assertThat(tri.apply(1,2,3),equalTo(6));
+		assertThat(quad.apply(1,2,3,4),equalTo(10));
+		assertThat(quad.apply(1,2,3,4),equalTo(10));
+		assertThat(called,equalTo(2));
+	}
+	@Test
+	public void nullArguments(){
+		BiFunction<Integer,Integer,String> fn = memoizeBiFunction((a,b)->{called++; return ""+a+b;});
+		assertThat(fn.apply(null,null),equalTo("nullnull"));
+		assertThat(fn.apply(null,null),equalTo("nullnull"));
+		assertThat(called,equalTo(1));
+	}
+}
@@ -0,0 +1,119 @@
+package com.aol.cyclops.matcher;
+
+import static com.aol.cyclops.util.function.Predicates.__;
+import static com.aol.cyclops.util.function.Predicates.eq;
+import static com.aol.cyclops.util.function.Predicates.in;
+import static com.aol.cyclops.util.function.Predicates.instanceOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.aol.cyclops.internal.matcher2.Case;
+import com.aol.cyclops.internal.matcher2.Cases;
+import com.aol.cyclops.internal.matcher2.CompiledCases;
+import com.aol.cyclops.internal.matcher2.PatternMatcher;
+
+public class CompiledCasesTest {
+
+	static class Event {}
+	static class Click extends Event {}
+	static class DoubleClick extends Click {}
+	static class View extends Event {}
+
+	@Test
+	public void typeDispatch(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String>of(Case.of(instanceOf(DoubleClick.class), e->"double"),
+																		Case.of(instanceOf(Click.class), e->"click"),
+																		Case.of(instanceOf(Event.class), e->"event"))
+													 .compile();
+		assertThat(compiled.match(new DoubleClick()).get(),equalTo("double"));
+		assertThat(compiled.match(new Click()).get(),equalTo("click"));
+		assertThat(compiled.match(new View()).get(),equalTo("event"));
+		assertThat(compiled.match("other").isPresent(),is(false));
+	}
+	@Test
+	public void firstMatchWinsAcrossGuardKinds(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String>of(Case.of(o->o instanceof Integer && (Integer)o > 100, o->"big"),
+																		Case.of(eq(5), o->"five"),
+																		Case.of(instanceOf(Integer.class), o->"int"),
+																		Case.of(in(1,2,3), o->"small"),
+																		Case.of(__, o->"any"))
+													 .compile();
+		assertThat(compiled.match(500).get(),equalTo("big"));
+		assertThat(compiled.match(5).get(),equalTo("five"));
+		assertThat(compiled.match(2).get(),equalTo("int"));
+		assertThat(compiled.match("hello").get(),equalTo("any"));
+	}
+	@Test
+	public void equalityBeforeType(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String>of(Case.of(in("a","b"), o->"letter"),
+																		Case.of(instanceOf(String.class), o->"string"))
+													 .compile();
+		assertThat(compiled.match("b").get(),equalTo("letter"));
+		assertThat(compiled.match("c").get(),equalTo("string"));
+	}
+	@Test
+	public void nullInput(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String>of(Case.of(eq(null), o->"null"),
+																		Case.of(instanceOf(String.class), o->"string"))
+													 .compile();
+		assertThat(compiled.match(null).get(),equalTo("null"));
+	}
+	@Test
+	public void emptyCasesSkipped(){
+		CompiledCases<Object,String> compiled = Cases.<Object,String>of(Case.empty(),
+																		Case.of(__, o->"any"))
+													 .compile();
+		assertThat(compiled.match(1).get(),equalTo("any"));
+	}
+	@Test
+	public void patternMatcher(){
+		CompiledCases<Object,String> compiled = new PatternMatcher().inCaseOf(eq("x"), o->"x")
+																	 .inCaseOf(instanceOf(String.class), o->"string")
+																	 .compile();
+		assertThat(compiled.match("x").get(),equalTo("x"));
+		assertThat(compiled.match("y").get(),equalTo("string"));
+	}
+	@Test
+	public void sameResultsAsSequential(){
+		Random random = new Random(0);
+		List<Case<Object,Integer>> list = new ArrayList<>();
+		for(int i=0;i<50;i++){
+			int index = i;
+			switch(random.nextInt(3)){
+			case 0:
+				list.add(Case.of(eq(random.nextInt(20)), o->index));
+				break;
+			case 1:
+				Class<?> type = random.nextBoolean() ? Integer.class : Number.class;
+				list.add(Case.of(instanceOf(type), o->index));
+				break;
+			default:
+				int mod = random.nextInt(5)+2;
+				list.add(Case.of(o->o instanceof Integer && (Integer)o % mod == 0, o->index));
+			}
+		}
+		Cases<Object,Integer> cases = Cases.ofList(list);
+		CompiledCases<Object,Integer> compiled = cases.compile();
+		for(Object next : new Object[]{0,1,2,3,5,7,11,13,17,19,23,1000,1l,2.0,"s"})
+			assertThat(""+next,compiled.match(next),equalTo(cases.match(next)));
+	}
+	@Test
+	public void linearConstruction(){
+		List<Case<Integer,Integer>> list = new ArrayList<>();
+		for(int i=0;i<100_000;i++){
+			int index = i;
+			list.add(Case.of(eq(i), o->index));
+		}
+		Cases<Integer,Integer> cases = Cases.ofList(list);
+		assertThat(cases.size(),equalTo(100_000));
+		assertThat(cases.stream().reduce((a,b)->b).get().getAction().apply(0),equalTo(99_999));
+		assertThat(cases.compile().match(77_777).get(),equalTo(77_777));
+	}
+}
@@ -0,0 +1,227 @@
+package com.aol.cyclops.react;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.FluentFunctions;
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+public class RetryPolicyTest {
+
+	private static Throwable failure(CompletableFuture<?> future){
+		try{
+			future.join();
+		}catch(CompletionException e){
+			return e.getCause();
+		}
+		fail("Expected failure");
+		return null;
+	}
+
+	@Test
+	public void succeedsAfterFailures(){
+		AtomicInteger count = new AtomicInteger(0);
+		CompletableFuture<String> result = RetryPolicy.fixed(5, 1, TimeUnit.MILLISECONDS)
+													  .execute(()->{
+														  if(count.incrementAndGet()<3)
+															  throw new RuntimeException("boom");
+														  return "hello";
+													  });
+		assertThat(result.join(),equalTo("hello"));
+		assertThat(count.get(),equalTo(3));
+	}
+	@Test
+	public void givesUpAfterMaxAttempts(){
+		AtomicInteger count = new AtomicInteger(0);
+		RuntimeException boom = new RuntimeException("boom");
+		CompletableFuture<String> result = RetryPolicy.exponential(4, 1, TimeUnit.MILLISECONDS)
+													  .execute(()->{
+														  count.incrementAndGet();
+														  throw boom;
+													  });
+		assertThat(failure(result),equalTo(boom));
+		assertThat(count.get(),equalTo(4));
+	}
+	@Test
+	public void onlyRetriesMatchingFailures(){
+		AtomicInteger count = new AtomicInteger(0);
+		CompletableFuture<String> result = RetryPolicy.fixed(5, 1, TimeUnit.MILLISECONDS)
+													  .retryOn(IOException.class)
+													  .execute(()->{
+														  count.incrementAndGet();
+														  throw new IllegalStateException();
+													  });
+		assertThat(failure(result),instanceOf(IllegalStateException.class));
+		assertThat(count.get(),equalTo(1));
+	}
+	@Test
+	public void maxElapsedStopsRetrying(){
+		AtomicInteger count = new AtomicInteger(0);
+		long start = System.currentTimeMillis();
+		CompletableFuture<String> result = RetryPolicy.fixed(1000, 20, TimeUnit.MILLISECONDS)
+													  .maxElapsed(100, TimeUnit.MILLISECONDS)
+													  .execute(()->{
+														  count.incrementAndGet();
+														  throw new RuntimeException("boom");
+													  });
+		failure(result);
+		assertThat(count.get(),lessThan(7));
+		assertThat(System.currentTimeMillis()-start,lessThan(1000l));
+	}
+	@Test
+	public void retriesAsyncTasks(){
+		AtomicInteger count = new AtomicInteger(0);
+		CompletableFuture<Integer> result = RetryPolicy.decorrelatedJitter(5, 1, TimeUnit.MILLISECONDS)
+													   .executeAsync(()->{
+														   CompletableFuture<Integer> f = new CompletableFuture<>();
+														   if(count.incrementAndGet()<2)
+															   f.completeExceptionally(new IOException());
+														   else
+															   f.complete(10);
+														   return f;
+													   });
+		assertThat(result.join(),equalTo(10));
+	}
+	@Test
+	public void exponentialDelaysAreCapped(){
+		RetryPolicy policy = RetryPolicy.exponential(10, 1, TimeUnit.MILLISECONDS)
+										.maxDelay(5, TimeUnit.MILLISECONDS);
+		long delay = 0;
+		long[] expected = {1,2,4,5,5};
+		for(int i=0;i<expected.length;i++){
+			delay = policy.nextDelayNanos(i+1, delay);
+			assertThat(delay,equalTo(TimeUnit.MILLISECONDS.toNanos(expected[i])));
+		}
+	}
+	@Test
+	public void decorrelatedJitterStaysInBounds(){
+		RetryPolicy policy = RetryPolicy.decorrelatedJitter(10, 10, TimeUnit.MILLISECONDS)
+										.maxDelay(1, TimeUnit.SECONDS);
+		long delay = 0;
+		for(int i=0;i<1000;i++){
+			long next = policy.nextDelayNanos(i+1, delay);
+			assertThat(next,greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10)));
+			assertThat(next,lessThan(Math.max(TimeUnit.MILLISECONDS.toNanos(10),delay)*3+1));
+			delay = next;
+		}
+	}
+	@Test
+	public void waitingRetriesHoldNoThreads(){
+		long start = System.currentTimeMillis();
+		List<CompletableFuture<Integer>> results = IntStream.range(0, 1000)
+															.mapToObj(i->{
+																AtomicInteger count = new AtomicInteger(0);
+																return RetryPolicy.fixed(3, 50, TimeUnit.MILLISECONDS)
+																				  .execute(()->{
+																					  if(count.incrementAndGet()<3)
+																						  throw new RuntimeException("boom");
+																					  return i;
+																				  });
+															})
+															.collect(Collectors.toList());
+		assertThat(results.stream().mapToInt(CompletableFuture::join).sum(),equalTo(499500));
+		assertThat(System.currentTimeMillis()-start,lessThan(2000l));
+	}
+	@Test
+	public void reattemptsRunOnSuppliedExecutor(){
+		ExecutorService exec = Executors.newSingleThreadExecutor(r->new Thread(r,"retry-pool"));
+		try{
+			List<String> threads = new CopyOnWriteArrayList<>();
+			CompletableFuture<String> result = RetryPolicy.fixed(3, 1, TimeUnit.MILLISECONDS)
+														  .execute(()->{
+															  threads.add(Thread.currentThread().getName());
+															  if(threads.size()<3)
+																  throw new RuntimeException("boom");
+															  return "hello";
+														  },exec);
+			assertThat(result.join(),equalTo("hello"));
+			assertThat(threads.subList(1, 3),equalTo(Arrays.asList("retry-pool","retry-pool")));
+		}finally{
+			exec.shutdown();
+		}
+	}
+	@Test
+	public void lazyFutureStreamRetriesOnTaskExecutor(){
+		ExecutorService exec = Executors.newFixedThreadPool(2,r->new Thread(r,"task-pool"));
+		try{
+			Set<Integer> failed = ConcurrentHashMap.newKeySet();
+			Set<String> threads = ConcurrentHashMap.newKeySet();
+			List<Integer> result = new LazyReact(exec).range(0, 10)
+													  .retry(RetryPolicy.fixed(2, 1, TimeUnit.MILLISECONDS), i->{
+														  threads.add(Thread.currentThread().getName());
+														  if(failed.add(i))
+															  throw new RuntimeException("boom");
+														  return i;
+													  })
+													  .toList();
+			assertThat(result.size(),equalTo(10));
+			assertThat(threads,equalTo(Collections.singleton("task-pool")));
+		}finally{
+			exec.shutdown();
+		}
+	}
+	@Test
+	public void fluentFunctionRetry(){
+		AtomicInteger count = new AtomicInteger(0);
+		assertThat(FluentFunctions.of((Integer i)->{
+											if(count.incrementAndGet()<2)
+												ExceptionSoftener.throwSoftenedException(new IOException());
+											return i*2;
+										})
+								  .retry(RetryPolicy.fixed(2, 1, TimeUnit.MILLISECONDS))
+								  .apply(10)
+								  .get(),equalTo(20));
+	}
+	@Test
+	public void lazyFutureStreamRetry(){
+		Set<Integer> failed = ConcurrentHashMap.newKeySet();
+		List<Integer> result = LazyReact.sequentialBuilder()
+										.range(0, 10)
+										.retry(RetryPolicy.fixed(2, 1, TimeUnit.MILLISECONDS), i->{
+											if(failed.add(i))
+												throw new RuntimeException("boom");
+											return i;
+										})
+										.toList();
+		result.sort(null);
+		assertThat(result,equalTo(IntStream.range(0, 10).boxed().collect(Collectors.toList())));
+	}
+	@Test
+	public void lazyFutureStreamRetryFailuresAreCaptured(){
+		AtomicInteger errors = new AtomicInteger(0);
+		List<Integer> result = LazyReact.sequentialBuilder()
+										.range(0, 10)
+										.retry(RetryPolicy.fixed(2, 1, TimeUnit.MILLISECONDS), i->{
+											if(i%2==0)
+												throw new RuntimeException("boom");
+											return i;
+										})
+										.capture(e->errors.incrementAndGet())
+										.toList();
+		assertThat(result.size(),equalTo(5));
+		assertThat(errors.get(),equalTo(5));
+	}
+}
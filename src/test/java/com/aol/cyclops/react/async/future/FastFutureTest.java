@@ -1,6 +1,7 @@
 package com.aol.cyclops.react.async.future;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -11,7 +12,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -521,4 +524,74 @@ public class FastFutureTest {
 		
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void awaitingThreadsUnparkedOnCompletion() throws InterruptedException {
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),0);
+		List<String> results = new CopyOnWriteArrayList<>();
+		List<Thread> waiters = new ArrayList<>();
+		for(int i=0;i<10;i++){
+			Thread t = new Thread(()->{
+				f.await();
+				results.add(f.join());
+			});
+			t.start();
+			waiters.add(t);
+		}
+		Thread.sleep(50);
+		f.set("done");
+		for(Thread t : waiters)
+			t.join(5000);
+		assertThat(results.size(),equalTo(10));
+	}
+	@Test
+	public void awaitingThreadsUnparkedOnFailure() throws InterruptedException {
+		FastFuture<String> f = future.thenApply(v -> {
+			throw new RuntimeException();
+		}).build();
+		Thread waiter = new Thread(()->f.await());
+		waiter.start();
+		Thread.sleep(50);
+		f.set("boo!");
+		assertTrue(f.isCompletedExceptionally());
+		waiter.join(5000);
+		assertFalse(waiter.isAlive());
+	}
+
+	@Test
+	public void onCompleteRegisteredWhileFailing() throws InterruptedException {
+		CountDownLatch failing = new CountDownLatch(1);
+		CountDownLatch registered = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger(0);
+		FastFuture<String> f = future.onFail(t -> {
+			failing.countDown();
+			try {
+				registered.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}).thenApply(v -> {
+			throw new RuntimeException();
+		}).build();
+		Thread t1 = new Thread(() -> f.set("boo!"));
+		t1.start();
+		failing.await();
+		f.onComplete(event -> calls.incrementAndGet());
+		registered.countDown();
+
+		t1.join(5000);
+		assertTrue(f.isCompletedExceptionally());
+		assertThat(calls.get(),greaterThanOrEqualTo(1));
+	}
+	@Test
+	public void onCompleteKeepsEveryListener() {
+		FastFuture<String> f = new FastFuture<>(FinalPipeline.empty(),0);
+		AtomicInteger first = new AtomicInteger(0);
+		AtomicInteger second = new AtomicInteger(0);
+		f.onComplete(event -> first.incrementAndGet());
+		f.onComplete(event -> second.incrementAndGet());
+		f.set("done");
+		assertThat(first.get(),equalTo(1));
+		assertThat(second.get(),equalTo(1));
+	}
+
+}
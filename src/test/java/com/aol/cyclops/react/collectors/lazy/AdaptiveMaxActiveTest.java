@@ -0,0 +1,67 @@
+package com.aol.cyclops.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class AdaptiveMaxActiveTest {
+
+	private void run(MaxActive max, long latency, int samples){
+		for(int i=0;i<samples;i++)
+			max.sample(latency, max.getMaxActive());
+	}
+	@Test
+	public void vegasGrowsWhileLatencyIsFlat() {
+		AdaptiveMaxActive max = MaxActive.adaptive(2, 200);
+		int initial = max.getMaxActive();
+		run(max,1_000_000,20_000);
+		assertThat(max.getMaxActive(),greaterThan(initial));
+		assertThat(max.getMaxActive(),is(200));
+	}
+	@Test
+	public void vegasShrinksAsLatencyRises() {
+		AdaptiveMaxActive max = MaxActive.adaptive(2, 200);
+		run(max,1_000_000,20_000);
+		run(max,10_000_000,2_000);
+		assertThat(max.getMaxActive(),lessThan(200));
+	}
+	@Test
+	public void aimdGrowsThenBacksOff() {
+		AdaptiveMaxActive max = MaxActive.aimd(2, 100);
+		run(max,1_000_000,100_000);
+		assertThat(max.getMaxActive(),is(100));
+		run(max,5_000_000,1_000);
+		assertThat(max.getMaxActive(),lessThan(100));
+	}
+	@Test
+	public void doesntGrowWhenLimitUnused() {
+		AdaptiveMaxActive max = MaxActive.adaptive(2, 200);
+		int initial = max.getMaxActive();
+		for(int i=0;i<20_000;i++)
+			max.sample(1_000_000, 0);
+		assertThat(max.getMaxActive(),is(initial));
+	}
+	@Test
+	public void reduceToBelowMaxActive() {
+		AdaptiveMaxActive max = MaxActive.adaptive(1, 200);
+		run(max,1_000_000,20_000);
+		assertThat(max.getReduceTo(),lessThan(max.getMaxActive()));
+		assertTrue(max.isAdaptive());
+		assertTrue(!MaxActive.IO.isAdaptive());
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidLimits() {
+		MaxActive.adaptive(10, 5);
+	}
+	@Test
+	public void withMaxActiveIsFixed() {
+		MaxActive fixed = MaxActive.adaptive(2, 200).withMaxActive(1000);
+		assertThat(fixed.getMaxActive(),is(1000));
+		assertTrue(!fixed.isAdaptive());
+	}
+
+}
@@ -1,13 +1,22 @@
 package com.aol.cyclops.react.collectors.lazy;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -15,6 +24,8 @@ import org.mockito.Mockito;
 
 import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.internal.react.async.future.FastFuture;
+import com.aol.cyclops.internal.react.async.future.FastFuture.OnComplete;
+import com.aol.cyclops.internal.react.async.future.FinalPipeline;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 
 public class BatchingCollectorTest {
@@ -30,67 +41,109 @@ public class BatchingCollectorTest {
 			collector.accept(FastFuture.completedFuture(10l));
 		}
 	}
-	@Test
-	public void testAcceptMock() {
+	private FastFuture completedMock(){
 		FastFuture cf = mock(FastFuture.class);
 		given(cf.isDone()).willReturn(true);
+		doAnswer(invocation->{
+			((Consumer)invocation.getArguments()[0]).accept(new OnComplete(10l,null,false));
+			return null;
+		}).when(cf).onComplete(any());
+		return cf;
+	}
+	@Test
+	public void testAcceptMock() {
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,atLeastOnce()).isDone();
+		assertThat(collector.getResults().size(),greaterThan(0));
 	}
 	@Test
 	public void testAcceptMock495() {
 		collector = new BatchingCollector(new MaxActive(500,5),LazyFutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		assertThat(collector.getResults().size(),is(501));
+		assertThat(collector.getAllResults().size(),is(1000));
 	}
 	@Test
 	public void testAcceptMock50() {
 		collector = new BatchingCollector(new MaxActive(500,450),LazyFutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		assertThat(collector.getResults().size(),is(501));
 	}
 
 	@Test
 	public void testBuilder() {
 		collector = BatchingCollector.builder().blocking(LazyFutureStream.of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(999)).isDone();
+		assertThat(collector.getResults().size(),is(999));
 	}
 
 	@Test
 	public void testWithMaxActive() {
 		collector = collector.withMaxActive(new MaxActive(10000,5));
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(0)).isDone();
+		assertThat(collector.getResults().size(),is(0));
+		verify(cf,never()).isDone();
 	}
 
 	@Test
 	public void testBatchingCollectorMaxActive() {
 		collector = new BatchingCollector(new MaxActive(10,5),LazyFutureStream.of(1)).withResults(new HashSet<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+		FastFuture cf = completedMock();
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(990)).isDone();
+		assertThat(collector.getResults().size(),is(1));
+	}
+	@Test
+	public void acceptBlocksUntilReduceToComplete() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(4,2),LazyFutureStream.of(1)).withResults(new ArrayList<>());
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for(int i=0;i<5;i++)
+			futures.add(new FastFuture<>(FinalPipeline.empty(),0));
+		for(int i=0;i<4;i++)
+			collector.accept(futures.get(i));
+		
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		AtomicInteger completed = new AtomicInteger(0);
+		exec.execute(()->{
+			for(int i=4;i>=0;i--){
+				try {
+					Thread.sleep(20);
+				} catch (InterruptedException e) {
+				}
+				completed.incrementAndGet();
+				futures.get(i).set(i);
+			}
+		});
+		collector.accept(futures.get(4));
+		exec.shutdown();
+		
+		assertThat(completed.get(),greaterThan(2));
+		assertThat(collector.getResults().size(),greaterThan(2));
+		assertThat(collector.getAllResults().size(),is(5));
+	}
+	@Test
+	public void adaptiveMaxActive() {
+		MaxActive adaptive = MaxActive.adaptive(2, 50);
+		collector = new BatchingCollector(adaptive,LazyFutureStream.of(1)).withResults(new ArrayList<>());
+		for(int i=0;i<10000;i++){
+			collector.accept(FastFuture.completedFuture(i));
+		}
+		assertThat(collector.getAllResults().size(),is(10000));
 	}
 
 
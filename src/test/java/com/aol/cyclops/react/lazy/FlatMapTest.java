@@ -4,11 +4,14 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 
 import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.types.futurestream.LazyFutureStream;
 
 public class FlatMapTest {
 
@@ -34,4 +37,44 @@ public class FlatMapTest {
 										.flatMapToCompletableFutureSync(i->CompletableFuture.completedFuture(i))
 										.block(),equalTo(Arrays.asList(1,2,3)));
 	}
+	@Test
+	public void flatMapCfKeepsPreviousStages(){
+		assertThat( new LazyReact()
+										.of(1,2,3)
+										.map(i->i*10)
+										.flatMapToCompletableFuture(i->CompletableFuture.completedFuture(i+1))
+										.map(i->i*2)
+										.toList(),equalTo(Arrays.asList(22,42,62)));
+	}
+	@Test
+	public void flatMapCfSyncKeepsPreviousStages(){
+		assertThat( LazyReact.sequentialBuilder()
+										.of(1,2,3)
+										.map(i->i*10)
+										.flatMapToCompletableFutureSync(i->CompletableFuture.completedFuture(i+1))
+										.map(i->i*2)
+										.toList(),equalTo(Arrays.asList(22,42,62)));
+	}
+	@Test
+	public void flatMapCfDoesNotBlockPoolThreads(){
+		ForkJoinPool single = new ForkJoinPool(1);
+		CompletableFuture<Integer> pending = new CompletableFuture<>();
+		LazyFutureStream<Integer> stream = new LazyReact(single)
+										.of(1,2,3)
+										.flatMapToCompletableFuture(i->i==1 ? pending : CompletableFuture.completedFuture(i));
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->stream.toList());
+		//the single pool thread must remain free to process 2 & 3 while 1 is pending
+		single.submit(()->pending.complete(1));
+		assertThat( result.join().size(),equalTo(3));
+	}
+	@Test
+	public void flatMapCfRecover(){
+		CompletableFuture<Integer> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException());
+		assertThat( new LazyReact()
+										.of(1)
+										.flatMapToCompletableFuture(i->failed)
+										.recover(e->-1)
+										.toList(),equalTo(Arrays.asList(-1)));
+	}
 }
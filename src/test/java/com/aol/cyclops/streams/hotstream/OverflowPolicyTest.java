@@ -0,0 +1,88 @@
+package com.aol.cyclops.streams.hotstream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.types.stream.HotStream;
+import com.aol.cyclops.types.stream.OverflowPolicy;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+public class OverflowPolicyTest {
+	static final Executor exec = Executors.newFixedThreadPool(5);
+
+	CountDownLatch start = new CountDownLatch(1);
+
+	private HotStream<Integer> gated(int size){
+		return ReactiveSeq.range(0, size)
+						  .peek(i->ExceptionSoftener.softenRunnable(start::await).run())
+						  .hotStream(exec);
+	}
+	private void assertIncreasing(List<Integer> received){
+		for(int i=1;i<received.size();i++)
+			assertThat(received.get(i),greaterThan(received.get(i-1)));
+	}
+	@Test
+	public void moreThanTenConnections(){
+		HotStream<Integer> hot = gated(100);
+		List<ReactiveSeq<Integer>> connections = new ArrayList<>();
+		for(int i=0;i<60;i++)
+			connections.add(hot.connect(new LinkedBlockingQueue<>()));
+		start.countDown();
+
+		for(ReactiveSeq<Integer> connection : connections)
+			assertThat(connection.toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+	}
+	@Test
+	public void dropKeepsOldest(){
+		HotStream<Integer> hot = gated(1000);
+		ReactiveSeq<Integer> connected = hot.connect(new OneToOneConcurrentArrayQueue<>(4),OverflowPolicy.DROP);
+		ReactiveSeq<Integer> complete = hot.connect(new LinkedBlockingQueue<>());
+		start.countDown();
+
+		assertThat(complete.count(),is(1000l));
+		assertThat(connected.toList(),equalTo(Arrays.asList(0,1,2,3)));
+	}
+	@Test
+	public void conflateKeepsLatest(){
+		HotStream<Integer> hot = gated(1000);
+		ReactiveSeq<Integer> connected = hot.connect(new OneToOneConcurrentArrayQueue<>(4),OverflowPolicy.CONFLATE);
+		start.countDown();
+
+		List<Integer> received = connected.toList();
+		assertThat(received.subList(0, 4),equalTo(Arrays.asList(0,1,2,3)));
+		assertThat(received.get(received.size()-1),is(999));
+		assertIncreasing(received);
+	}
+	@Test
+	public void blockOnNonBlockingQueueLosesNothing(){
+		HotStream<Integer> hot = gated(1000);
+		ReactiveSeq<Integer> connected = hot.connect(new OneToOneConcurrentArrayQueue<>(4),OverflowPolicy.BLOCK);
+		start.countDown();
+
+		assertThat(connected.toList(),equalTo(ReactiveSeq.range(0,1000).toList()));
+	}
+	@Test
+	public void slowConnectionDoesNotStallOthers(){
+		HotStream<Integer> hot = gated(1000);
+		ReactiveSeq<Integer> slow = hot.connect(new OneToOneConcurrentArrayQueue<>(4),OverflowPolicy.CONFLATE);
+		ReactiveSeq<Integer> fast = hot.connect(new LinkedBlockingQueue<>());
+		start.countDown();
+
+		assertThat(fast.count(),is(1000l));
+		assertThat(slow.toList().get(0),is(0));
+	}
+}
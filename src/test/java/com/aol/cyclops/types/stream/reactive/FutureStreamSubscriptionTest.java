@@ -0,0 +1,163 @@
+package com.aol.cyclops.types.stream.reactive;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.LazyReact;
+import com.aol.cyclops.types.futurestream.LazyFutureStream;
+
+public class FutureStreamSubscriptionTest {
+
+	List<Integer> values = new CopyOnWriteArrayList<>();
+	List<Throwable> errors = new CopyOnWriteArrayList<>();
+	AtomicBoolean complete = new AtomicBoolean(false);
+	AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+	private <T extends Integer> Subscriber<T> subscriber(){
+		return new Subscriber<T>(){
+
+			@Override
+			public void onSubscribe(Subscription s) {
+				subscription.set(s);
+			}
+
+			@Override
+			public void onNext(T t) {
+				values.add(t);
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				errors.add(t);
+			}
+
+			@Override
+			public void onComplete() {
+				complete.set(true);
+			}
+		};
+	}
+	private void await(){
+		long start = System.currentTimeMillis();
+		while(!complete.get() && System.currentTimeMillis()-start<5000)
+			Thread.yield();
+	}
+	@Test
+	public void emitsOnlyWhatIsRequested(){
+		AtomicInteger pulled = new AtomicInteger(0);
+		LazyFutureStream.iterate(0, i->i+1)
+						.peek(i->pulled.incrementAndGet())
+						.sync()
+						.subscribe(subscriber());
+
+		subscription.get().request(3);
+		assertThat(values,equalTo(Arrays.asList(0,1,2)));
+		assertThat(pulled.get(),is(3));
+
+		subscription.get().request(2);
+		assertThat(values,equalTo(Arrays.asList(0,1,2,3,4)));
+		assertTrue(!complete.get());
+	}
+	@Test
+	public void asyncResultsInStreamOrder(){
+		new LazyReact(4,4).of(5,4,3,2,1)
+						.map(i->{
+							try {
+								Thread.sleep(i*10);
+							} catch (InterruptedException e) {
+
+							}
+							return i;
+						})
+						.subscribe(subscriber());
+
+		subscription.get().request(Long.MAX_VALUE);
+		await();
+		assertThat(values,equalTo(Arrays.asList(5,4,3,2,1)));
+		assertTrue(complete.get());
+	}
+	@Test
+	public void failedElementsAreSkipped(){
+		LazyFutureStream.of(1,2,3,4)
+						.sync()
+						.map(i->{
+							if(i==2)
+								throw new RuntimeException("boo!");
+							return i;
+						})
+						.subscribe(subscriber());
+
+		subscription.get().request(10);
+		assertThat(values,equalTo(Arrays.asList(1,3,4)));
+		assertThat(errors.size(),is(1));
+		assertTrue(complete.get());
+	}
+	@Test
+	public void asyncFailuresDoNotStall(){
+		for(int run=0;run<20;run++){
+			values.clear();
+			errors.clear();
+			complete.set(false);
+			new LazyReact(4,4).range(0,200)
+							.map(i->{
+								if(i%2==0)
+									throw new RuntimeException("boo!");
+								return i;
+							})
+							.subscribe(subscriber());
+
+			subscription.get().request(Long.MAX_VALUE);
+			await();
+			assertTrue(complete.get());
+			assertThat(values.size(),is(100));
+			assertThat(errors.size(),is(100));
+		}
+	}
+	@Test
+	public void cancelStopsEmission(){
+		LazyFutureStream.iterate(0, i->i+1)
+						.sync()
+						.subscribe(subscriber());
+
+		subscription.get().request(2);
+		subscription.get().cancel();
+		subscription.get().request(2);
+		assertThat(values,equalTo(Arrays.asList(0,1)));
+		assertTrue(!complete.get());
+	}
+	@Test
+	public void invalidRequestIsAnError(){
+		LazyFutureStream.of(1,2,3)
+						.sync()
+						.subscribe(subscriber());
+
+		subscription.get().request(0);
+		assertThat(errors.size(),is(1));
+		assertTrue(errors.get(0) instanceof IllegalArgumentException);
+		subscription.get().request(3);
+		assertThat(values.size(),is(0));
+	}
+	@Test
+	public void emptyCompletes(){
+		LazyFutureStream.<Integer>of()
+						.sync()
+						.subscribe(subscriber());
+
+		subscription.get().request(1);
+		assertTrue(complete.get());
+		assertThat(values.size(),is(0));
+	}
+}
@@ -0,0 +1,97 @@
+package com.aol.cyclops.util.stream.scheduling;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.util.stream.scheduling.HashedWheelTimer.Timeout;
+
+public class HashedWheelTimerTest {
+
+	HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, Runnable::run);
+
+	@After
+	public void stop(){
+		timer.stop();
+	}
+	@Test
+	public void runsAfterDelay() throws InterruptedException{
+		CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()-start),greaterThanOrEqualTo(50l));
+	}
+	@Test
+	public void delaysLongerThanOneRotation() throws InterruptedException{
+		List<Integer> order = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(3);
+		timer.schedule(()->{order.add(3);latch.countDown();}, 60, TimeUnit.MILLISECONDS);
+		timer.schedule(()->{order.add(1);latch.countDown();}, 5, TimeUnit.MILLISECONDS);
+		timer.schedule(()->{order.add(2);latch.countDown();}, 21, TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(order,equalTo(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void cancelled() throws InterruptedException{
+		AtomicInteger count = new AtomicInteger(0);
+		CountDownLatch latch = new CountDownLatch(1);
+		Timeout timeout = timer.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+		timer.schedule(latch::countDown, 40, TimeUnit.MILLISECONDS);
+		assertTrue(timeout.cancel());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertThat(count.get(),is(0));
+		assertTrue(timeout.isCancelled());
+	}
+	@Test
+	public void manyTimersOneThread() throws InterruptedException{
+		CountDownLatch latch = new CountDownLatch(10_000);
+		for(int i=0;i<10_000;i++)
+			timer.schedule(latch::countDown, i % 100, TimeUnit.MILLISECONDS);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+	@Test
+	public void wakesAfterIdle() throws InterruptedException{
+		CountDownLatch first = new CountDownLatch(1);
+		timer.schedule(first::countDown, 1, TimeUnit.MILLISECONDS);
+		assertTrue(first.await(5, TimeUnit.SECONDS));
+		Thread.sleep(50);
+		CountDownLatch second = new CountDownLatch(1);
+		timer.schedule(second::countDown, 1, TimeUnit.MILLISECONDS);
+		assertTrue(second.await(5, TimeUnit.SECONDS));
+	}
+	@Test
+	public void fixedRateStream(){
+		assertThat(ReactiveSeq.of(1,2,3,4)
+							  .scheduleFixedRate(10)
+							  .connect()
+							  .toList().size(),greaterThanOrEqualTo(3));
+	}
+	@Test
+	public void fixedDelayStream(){
+		assertThat(ReactiveSeq.of(1,2,3,4)
+							  .scheduleFixedDelay(10)
+							  .connect()
+							  .toList().size(),greaterThanOrEqualTo(3));
+	}
+	@Test
+	public void cronStream(){
+		assertThat(ReactiveSeq.of(1,2)
+							  .schedule("* * * * * ?")
+							  .connect()
+							  .toList().size(),greaterThanOrEqualTo(1));
+	}
+}
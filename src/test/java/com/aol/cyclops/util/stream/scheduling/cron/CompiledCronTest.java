@@ -0,0 +1,61 @@
+package com.aol.cyclops.util.stream.scheduling.cron;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+public class CompiledCronTest {
+
+	String[] expressions = { "* * * * * ?", "0/5 * * * * ?", "0 0 12 * * ?", "0 15 10 ? * *",
+							"0 0/5 14,18 * * ?", "0 0-5 14 * * ?", "0 10,44 14 ? 3 WED", "0 15 10 ? * MON-FRI",
+							"0 15 10 15 * ?", "0 0 12 1/5 * ?", "0 11 11 11 11 ?", "0 0 0 29 2 ?",
+							"30 59 23 31 * ?", "0 0 22-2 ? * FRI-MON", "0 0 3 ? NOV-FEB SUN",
+							"0 15 10 L * ?", "0 15 10 ? * 6#3", "0 0 12 ? * * 2030", "0 30 1 * * ?" };
+
+	private void compareWith(TimeZone zone) throws ParseException{
+		Random random = new Random(42);
+		long base = 1_450_000_000_000l;
+		for(String cron : expressions){
+			CronExpression expected = new CronExpression(cron);
+			expected.setTimeZone(zone);
+			CompiledCron compiled = CompiledCron.compile(cron, zone);
+			for(int i=0;i<200;i++){
+				Date from = new Date(base + (long)(random.nextDouble()*400_000_000_000l));
+				assertThat(cron + " after " + from,compiled.getNextValidTimeAfter(from),equalTo(expected.getNextValidTimeAfter(from)));
+			}
+		}
+	}
+	@Test
+	public void matchesCronExpressionUtc() throws ParseException{
+		compareWith(TimeZone.getTimeZone("UTC"));
+	}
+	@Test
+	public void matchesCronExpressionWithDaylightSaving() throws ParseException{
+		compareWith(TimeZone.getTimeZone("Europe/London"));
+		compareWith(TimeZone.getTimeZone("America/New_York"));
+	}
+	@Test
+	public void successiveFireTimes() throws ParseException{
+		CompiledCron cron = CompiledCron.compile("0/15 * * * * ?", TimeZone.getTimeZone("UTC"));
+		long next = cron.nextFireAfter(0);
+		assertThat(next,is(15_000l));
+		assertThat(cron.nextFireAfter(next),is(30_000l));
+		assertThat(cron.nextFireAfter(59_999),is(60_000l));
+	}
+	@Test
+	public void noFutureFireTime() throws ParseException{
+		CompiledCron cron = CompiledCron.compile("0 0 0 30 2 ?", TimeZone.getTimeZone("UTC"));
+		assertThat(cron.nextFireAfter(0),is(-1l));
+	}
+	@Test(expected=ParseException.class)
+	public void invalid() throws ParseException{
+		CompiledCron.compile("not cron");
+	}
+}